@@ -0,0 +1,145 @@
+package com.tofumaker.cache;
+
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 키를 한 번의 왕복으로 조회/저장/삭제할 수 있는 RedisCache
+ * 키/값 직렬화는 RedisCache와 동일한 규칙(접두사, 직렬화기)을 따른다.
+ * {@link CacheGenerations}가 주어지면 clear()는 세대 번호만 올린다.
+ * TTL은 런타임에 바꿀 수 있다 ({@link #setTtl(Duration)}, 이후 저장되는 값부터 적용).
+ */
+public class BatchRedisCache extends RedisCache {
+
+    private final CountingRedisCacheWriter batchWriter;
+    private final CacheGenerations generations;
+
+    // 런타임에 변경한 TTL (null이면 설정의 TTL)
+    private volatile Duration ttlOverride;
+
+    protected BatchRedisCache(String name, CountingRedisCacheWriter cacheWriter, RedisCacheConfiguration cacheConfig) {
+        this(name, cacheWriter, cacheConfig, null);
+    }
+
+    protected BatchRedisCache(String name, CountingRedisCacheWriter cacheWriter, RedisCacheConfiguration cacheConfig,
+                              CacheGenerations generations) {
+        super(name, cacheWriter, cacheConfig);
+        this.batchWriter = cacheWriter;
+        this.generations = generations;
+    }
+
+    /**
+     * 현재 적용 중인 TTL
+     */
+    public Duration getTtl() {
+        Duration override = ttlOverride;
+        return override != null ? override : getCacheConfiguration().getTtl();
+    }
+
+    /**
+     * TTL 변경 (null이면 설정의 TTL로 되돌림)
+     */
+    public void setTtl(Duration ttl) {
+        this.ttlOverride = ttl;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (ttlOverride == null) {
+            super.put(key, value);
+            return;
+        }
+        Object cacheValue = preProcessCacheValue(value);
+        if (!isAllowNullValues() && cacheValue == null) {
+            throw new IllegalArgumentException("Cache '" + getName() + "' does not allow 'null' values");
+        }
+        batchWriter.put(getName(), binaryKey(key), serializeCacheValue(cacheValue), getTtl());
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        if (ttlOverride == null) {
+            return super.putIfAbsent(key, value);
+        }
+        Object cacheValue = preProcessCacheValue(value);
+        if (!isAllowNullValues() && cacheValue == null) {
+            return get(key);
+        }
+        byte[] existing = batchWriter.putIfAbsent(getName(), binaryKey(key), serializeCacheValue(cacheValue), getTtl());
+        return existing != null ? new SimpleValueWrapper(fromStoreValue(deserializeCacheValue(existing))) : null;
+    }
+
+    /**
+     * 세대 번호를 쓰는 경우 키 공간을 훑어 지우지 않고 세대만 올림 (이전 세대 키는 TTL로 만료)
+     */
+    @Override
+    public void clear() {
+        if (generations == null) {
+            super.clear();
+            return;
+        }
+        generations.advance(getName());
+    }
+
+    /**
+     * MGET으로 조회 - 값이 있는 키만 요청 순서대로 반환
+     */
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        List<Object> orderedKeys = new ArrayList<>(keys);
+        List<byte[]> binaryKeys = new ArrayList<>(orderedKeys.size());
+        for (Object key : orderedKeys) {
+            binaryKeys.add(binaryKey(key));
+        }
+
+        List<byte[]> values = batchWriter.getAll(getName(), binaryKeys);
+        Map<Object, Object> result = new LinkedHashMap<>();
+        for (int i = 0; i < orderedKeys.size() && i < values.size(); i++) {
+            byte[] value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            Object deserialized = fromStoreValue(deserializeCacheValue(value));
+            if (deserialized != null) {
+                result.put(orderedKeys.get(i), deserialized);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 파이프라인으로 저장 (null 값은 건너뜀)
+     */
+    public void putAll(Map<?, ?> entries) {
+        Map<byte[], byte[]> binaryEntries = new LinkedHashMap<>();
+        for (Map.Entry<?, ?> entry : entries.entrySet()) {
+            if (entry.getValue() == null) {
+                continue;
+            }
+            binaryEntries.put(binaryKey(entry.getKey()), serializeCacheValue(toStoreValue(entry.getValue())));
+        }
+        batchWriter.putAll(getName(), binaryEntries, getTtl());
+    }
+
+    /**
+     * 파이프라인으로 삭제
+     */
+    public void evictAll(Collection<?> keys) {
+        List<byte[]> binaryKeys = new ArrayList<>(keys.size());
+        for (Object key : keys) {
+            binaryKeys.add(binaryKey(key));
+        }
+        batchWriter.removeAll(getName(), binaryKeys);
+    }
+
+    private byte[] binaryKey(Object key) {
+        return serializeCacheKey(createCacheKey(key));
+    }
+}
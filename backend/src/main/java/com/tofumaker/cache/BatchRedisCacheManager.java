@@ -0,0 +1,35 @@
+package com.tofumaker.cache;
+
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+import java.util.Map;
+
+/**
+ * {@link BatchRedisCache}를 생성하는 RedisCacheManager
+ */
+public class BatchRedisCacheManager extends RedisCacheManager {
+
+    private final CountingRedisCacheWriter cacheWriter;
+    private CacheGenerations generations;
+
+    public BatchRedisCacheManager(CountingRedisCacheWriter cacheWriter,
+                                  RedisCacheConfiguration defaultCacheConfiguration,
+                                  Map<String, RedisCacheConfiguration> initialCacheConfigurations) {
+        super(cacheWriter, defaultCacheConfiguration, initialCacheConfigurations);
+        this.cacheWriter = cacheWriter;
+    }
+
+    /**
+     * 세대 번호 기반 클리어 사용 (afterPropertiesSet 전에 설정)
+     */
+    public void setGenerations(CacheGenerations generations) {
+        this.generations = generations;
+    }
+
+    @Override
+    protected RedisCache createRedisCache(String name, RedisCacheConfiguration cacheConfig) {
+        return new BatchRedisCache(name, cacheWriter, cacheConfig, generations);
+    }
+}
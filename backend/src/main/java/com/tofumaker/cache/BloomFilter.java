@@ -0,0 +1,115 @@
+package com.tofumaker.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * long ID 집합용 Bloom filter (추가만 가능, 스레드 안전)
+ *
+ * mightContain()이 false면 확실히 없는 값이고, true면 false positive일 수 있다.
+ * 비트 수와 해시 함수 개수는 예상 원소 수와 목표 오탐률로 정하며,
+ * 해시는 64비트 혼합값 하나를 두 개로 나눠 쓰는 double hashing을 사용한다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long bitCount, int hashCount) {
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (bitCount + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * 예상 원소 수와 목표 오탐률(0~1)로 생성
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1: " + falsePositiveRate);
+        }
+        long n = Math.max(1, expectedInsertions);
+        long m = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        return new BloomFilter(m, k);
+    }
+
+    public void put(long value) {
+        long hash = mix(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = indexOf(h1 + i * h2);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(long value) {
+        long hash = mix(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = indexOf(h1 + i * h2);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 채워진 비트 비율로 추정한 오탐률 ((설정된 비트 비율)^k)
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) setBitCount() / bitCount, hashCount);
+    }
+
+    /**
+     * 채워진 비트 수로 추정한 원소 수
+     */
+    public long approximateElementCount() {
+        double fill = (double) setBitCount() / bitCount;
+        if (fill >= 1) {
+            return Long.MAX_VALUE;
+        }
+        return Math.round(-Math.log(1 - fill) * bitCount / hashCount);
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    private long setBitCount() {
+        long count = 0;
+        for (int i = 0; i < bits.length(); i++) {
+            count += Long.bitCount(bits.get(i));
+        }
+        return count;
+    }
+
+    private long indexOf(int combined) {
+        // 음수 해시도 비트 범위 안으로
+        return (combined & 0xFFFFFFFFL) % bitCount;
+    }
+
+    // SplitMix64 finalizer - 연속된 ID도 비트 전체에 고르게 분산
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
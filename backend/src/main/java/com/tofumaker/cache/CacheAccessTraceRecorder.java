@@ -0,0 +1,217 @@
+package com.tofumaker.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
+
+/**
+ * 캐시 접근 기록을 로컬 파일로 저장 (오프라인 정책 시뮬레이션용)
+ *
+ * 한 줄에 하나씩 "시각(ms),캐시,연산,키 해시,크기,결과" 형식으로 기록한다.
+ * 키는 기록마다 새로 만든 salt로 해시해 원래 키를 알 수 없게 하고,
+ * 키 해시 기준으로 sampleRate만큼의 키만 골라 그 키의 모든 접근을 남긴다 (적중률이 치우치지 않음).
+ * 요청 스레드는 큐에 넣기만 하고 파일 쓰기는 백그라운드 스레드가 한다. 큐가 가득 차면 버린다.
+ */
+public class CacheAccessTraceRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheAccessTraceRecorder.class);
+
+    public static final String HEADER_PREFIX = "# tofumaker-cache-trace v1";
+
+    public static final String OP_GET = "get";
+    public static final String OP_PUT = "put";
+    public static final String OP_EVICT = "evict";
+    public static final String OP_CLEAR = "clear";
+
+    public static final String RESULT_HIT_L1 = "hit_l1";
+    public static final String RESULT_HIT_L2 = "hit_l2";
+    public static final String RESULT_MISS = "miss";
+    public static final String RESULT_NONE = "-";
+
+    private static final int SAMPLE_SCALE = 1 << 16;
+
+    private final int queueCapacity;
+    private final ToIntFunction<Object> sizer;
+
+    private volatile boolean recording;
+    private volatile long salt;
+    private volatile int sampleThreshold;
+    private BlockingQueue<String> queue;
+    private Thread writerThread;
+    private Path path;
+    private long maxBytes;
+    private long startedAt;
+
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong writtenBytes = new AtomicLong();
+
+    /**
+     * @param sizer 값의 저장 크기(바이트) 계산 - 표본으로 뽑힌 기록에만 호출된다
+     */
+    public CacheAccessTraceRecorder(int queueCapacity, ToIntFunction<Object> sizer) {
+        this.queueCapacity = queueCapacity;
+        this.sizer = sizer;
+    }
+
+    /**
+     * 기록 시작 (이미 기록 중이면 false)
+     */
+    public synchronized boolean start(Path path, double sampleRate, long maxBytes) throws IOException {
+        if (recording) {
+            return false;
+        }
+        if (sampleRate <= 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("sampleRate must be in (0, 1]: " + sampleRate);
+        }
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        String header = HEADER_PREFIX + " sample_rate=" + sampleRate + " started_at=" + System.currentTimeMillis();
+        writer.write(header);
+        writer.newLine();
+
+        this.path = path;
+        this.maxBytes = maxBytes;
+        this.salt = new SecureRandom().nextLong();
+        this.sampleThreshold = (int) Math.ceil(sampleRate * SAMPLE_SCALE);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.startedAt = System.currentTimeMillis();
+        recorded.set(0);
+        dropped.set(0);
+        writtenBytes.set(header.length() + 1);
+
+        BlockingQueue<String> lines = queue;
+        writerThread = new Thread(() -> drain(lines, writer), "cache-trace-writer");
+        writerThread.setDaemon(true);
+        recording = true;
+        writerThread.start();
+        logger.info("Started cache access trace: {} (sample rate {})", path, sampleRate);
+        return true;
+    }
+
+    /**
+     * 기록 중지 - 큐에 남은 기록을 모두 쓰고 파일을 닫는다
+     */
+    public synchronized void stop() {
+        if (!recording) {
+            return;
+        }
+        recording = false;
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Stopped cache access trace: {} ({} records, {} dropped)", path, recorded.get(), dropped.get());
+    }
+
+    public boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * 접근 기록 (기록 중이 아니거나 표본 밖의 키면 바로 반환)
+     */
+    public void record(String cacheName, String operation, String key, Object value, String result) {
+        if (!recording) {
+            return;
+        }
+        long hash = key != null ? keyHash(key) : 0;
+        if (key != null && (int) (hash >>> 48) >= sampleThreshold) {
+            return;
+        }
+        int size = value != null ? sizeOf(value) : 0;
+        String line = System.currentTimeMillis() + "," + cacheName + "," + operation + ","
+                + Long.toHexString(hash) + "," + size + "," + result;
+        BlockingQueue<String> lines = queue;
+        if (lines != null && lines.offer(line)) {
+            recorded.incrementAndGet();
+        } else {
+            dropped.incrementAndGet();
+        }
+    }
+
+    public Map<String, Object> describe() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("recording", recording);
+        if (path != null) {
+            status.put("path", path.toString());
+            status.put("sample_rate", (double) sampleThreshold / SAMPLE_SCALE);
+            status.put("started_at", startedAt);
+            status.put("records", recorded.get());
+            status.put("dropped", dropped.get());
+            status.put("written_bytes", writtenBytes.get());
+        }
+        return status;
+    }
+
+    // 키 해시 (salt를 섞은 FNV-1a + SplitMix64 finalizer) - 상위 16비트로 표본을 고른다
+    private long keyHash(String key) {
+        long h = 0xcbf29ce484222325L ^ salt;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+
+    private int sizeOf(Object value) {
+        try {
+            return sizer.applyAsInt(value);
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+
+    private void drain(BlockingQueue<String> lines, BufferedWriter writer) {
+        List<String> batch = new ArrayList<>();
+        try (BufferedWriter out = writer) {
+            while (recording || !lines.isEmpty()) {
+                String first = lines.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    out.flush();
+                    continue;
+                }
+                batch.add(first);
+                lines.drainTo(batch);
+                for (String line : batch) {
+                    out.write(line);
+                    out.newLine();
+                    writtenBytes.addAndGet(line.length() + 1);
+                }
+                batch.clear();
+                if (maxBytes > 0 && writtenBytes.get() >= maxBytes) {
+                    logger.warn("Cache access trace reached {} bytes, stopping", maxBytes);
+                    recording = false;
+                }
+            }
+        } catch (IOException e) {
+            recording = false;
+            logger.warn("Failed to write cache access trace {}: {}", path, e.getMessage());
+        } catch (InterruptedException e) {
+            recording = false;
+            Thread.currentThread().interrupt();
+        }
+    }
+}
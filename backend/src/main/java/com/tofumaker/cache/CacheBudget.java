@@ -0,0 +1,59 @@
+package com.tofumaker.cache;
+
+/**
+ * 캐시별 Redis 메모리 예산
+ *
+ * maxBytes를 넘으면 eviction 정책(lru/lfu)으로 키를 골라 지우고,
+ * maxEntryBytes보다 큰 값은 아예 저장하지 않는다. 0이면 제한 없음.
+ */
+public class CacheBudget {
+
+    public static final String EVICTION_LRU = "lru";
+    public static final String EVICTION_LFU = "lfu";
+    public static final String EVICTION_NONE = "none";
+
+    private long maxBytes;
+    private long maxEntryBytes;
+    private String eviction = EVICTION_LRU;
+
+    public CacheBudget() {}
+
+    public CacheBudget(long maxBytes, long maxEntryBytes, String eviction) {
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxEntryBytes;
+        this.eviction = eviction;
+    }
+
+    public boolean admits(long entryBytes) {
+        return maxEntryBytes <= 0 || entryBytes <= maxEntryBytes;
+    }
+
+    public boolean evicts() {
+        return maxBytes > 0 && !EVICTION_NONE.equalsIgnoreCase(eviction);
+    }
+
+    // Getters and Setters
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public void setMaxBytes(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public long getMaxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    public void setMaxEntryBytes(long maxEntryBytes) {
+        this.maxEntryBytes = maxEntryBytes;
+    }
+
+    public String getEviction() {
+        return eviction;
+    }
+
+    public void setEviction(String eviction) {
+        this.eviction = eviction;
+    }
+}
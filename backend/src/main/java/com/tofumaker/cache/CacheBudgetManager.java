@@ -0,0 +1,338 @@
+package com.tofumaker.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 캐시별 메모리 예산 관리 (런타임 변경 가능)
+ *
+ * 쓰기 시 maxEntryBytes를 넘는 값은 저장하지 않고, 캐시 사용량(서버 측 bytes 카운터)이 maxBytes를 넘으면
+ * Redis의 근사 LRU처럼 키를 표본 추출해 정책상 가장 덜 중요한 키부터 지운다.
+ * - lru: OBJECT IDLETIME이 큰 키부터
+ * - lfu: 로컬 상위 접근 키 추적기(SpaceSaving)의 빈도가 낮은 키부터, 같으면 오래 안 쓴 키부터
+ * 예산의 lowWatermark 비율까지 줄여 경계에서 매번 지우는 일을 피한다.
+ * 샤딩된 캐시는 노드마다 maxBytes / 노드 수를 기준으로 지운다.
+ * 세대 번호를 쓰면 클리어로 버려진 이전 세대 키를 정책과 관계없이 먼저 지운다.
+ */
+public class CacheBudgetManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheBudgetManager.class);
+
+    private static final String TAG_SEGMENT = "::tags::";
+
+    // 한 번의 정리에서 지울 수 있는 최대 표본 라운드 (Redis를 오래 붙잡지 않도록)
+    private static final int MAX_ROUNDS = 20;
+
+    private final CountingRedisCacheWriter cacheWriter;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CacheBudget> budgets = new ConcurrentHashMap<>();
+    private final Map<String, Long> usedBytes = new ConcurrentHashMap<>();
+    private final Map<String, Counter> evictionCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejectionCounters = new ConcurrentHashMap<>();
+    private final Map<String, AtomicBoolean> pendingEnforcement = new ConcurrentHashMap<>();
+
+    private final ExecutorService enforcer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cache-budget-enforcer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private int sampleSize = 64;
+    private double lowWatermark = 0.9;
+
+    // 지운 키 알림 (로컬 L1 제거 및 다른 노드 전파), LFU 빈도 조회용 추적기
+    private BiConsumer<String, List<String>> evictionListener = (name, keys) -> {};
+    private Function<String, HotKeyTracker> hotKeyTrackers = name -> null;
+    private CacheGenerations generations;
+
+    public CacheBudgetManager(CountingRedisCacheWriter cacheWriter, Map<String, CacheBudget> initialBudgets,
+                              MeterRegistry meterRegistry) {
+        this.cacheWriter = cacheWriter;
+        this.meterRegistry = meterRegistry;
+        initialBudgets.forEach(this::setBudget);
+    }
+
+    /**
+     * 값 크기가 예산의 항목 크기 제한 안인지 확인 (넘으면 거부 카운트)
+     */
+    public boolean admit(String name, long entryBytes) {
+        CacheBudget budget = budgets.get(name);
+        if (budget == null || budget.admits(entryBytes)) {
+            return true;
+        }
+        rejectionCounter(name).increment();
+        logger.debug("Refused {} byte value for cache {} (limit {})", entryBytes, name, budget.getMaxEntryBytes());
+        return false;
+    }
+
+    /**
+     * 쓰기 후 노드의 사용량이 노드별 예산을 넘었으면 백그라운드 정리 요청 (캐시당 하나로 합침)
+     */
+    public void onWrite(String name, long nodeBytes) {
+        CacheBudget budget = budgets.get(name);
+        if (budget == null || !budget.evicts()
+                || nodeBytes <= budget.getMaxBytes() / cacheWriter.writersFor(name).size()) {
+            return;
+        }
+        AtomicBoolean pending = pendingEnforcement.computeIfAbsent(name, key -> new AtomicBoolean());
+        if (pending.compareAndSet(false, true)) {
+            enforcer.execute(() -> {
+                pending.set(false);
+                enforce(name);
+            });
+        }
+    }
+
+    public void enforceAll(Collection<String> names) {
+        for (String name : names) {
+            enforce(name);
+        }
+    }
+
+    /**
+     * 예산을 넘은 노드에서 정책에 따라 키를 지움 (@return 확보한 바이트)
+     */
+    public synchronized long enforce(String name) {
+        CacheBudget budget = budgets.get(name);
+        List<CountingRedisCacheWriter> writers = cacheWriter.writersFor(name);
+        long total = 0;
+        long freedTotal = 0;
+        try {
+            for (CountingRedisCacheWriter writer : writers) {
+                long bytes = writer.readCounters(name).get(CountingRedisCacheWriter.FIELD_BYTES);
+                if (budget != null && budget.evicts()) {
+                    long nodeBudget = budget.getMaxBytes() / writers.size();
+                    if (bytes > nodeBudget) {
+                        long target = (long) (nodeBudget * lowWatermark);
+                        long freed = evict(writer, name, budget, bytes - target);
+                        bytes -= freed;
+                        freedTotal += freed;
+                    }
+                }
+                total += bytes;
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Cache budget enforcement failed for {}: {}", name, e.getMessage());
+        }
+        usedBytes.put(name, Math.max(0, total));
+        return freedTotal;
+    }
+
+    public void setBudget(String name, CacheBudget budget) {
+        budgets.put(name, budget);
+        usedBytes.putIfAbsent(name, 0L);
+        rejectionCounter(name);
+        if (!evictionCounters.containsKey(name)) {
+            evictionCounters.put(name, Counter.builder("cache_budget_evictions_total")
+                    .description("Keys evicted because the cache exceeded its memory budget")
+                    .tag("cache", name)
+                    .register(meterRegistry));
+            Gauge.builder("cache_budget_max_bytes", budgets, map -> map.containsKey(name) ? map.get(name).getMaxBytes() : 0)
+                    .description("Configured memory budget per cache")
+                    .tag("cache", name)
+                    .register(meterRegistry);
+            Gauge.builder("cache_budget_used_bytes", usedBytes, map -> map.getOrDefault(name, 0L))
+                    .description("Cache bytes observed at the last budget check")
+                    .tag("cache", name)
+                    .register(meterRegistry);
+        }
+    }
+
+    public CacheBudget getBudget(String name) {
+        return budgets.get(name);
+    }
+
+    /**
+     * 캐시별 예산과 마지막으로 확인한 사용량
+     */
+    public Map<String, Map<String, Object>> describe() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        for (Map.Entry<String, CacheBudget> entry : budgets.entrySet()) {
+            String name = entry.getKey();
+            CacheBudget budget = entry.getValue();
+            long used = usedBytes.getOrDefault(name, 0L);
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("max_bytes", budget.getMaxBytes());
+            status.put("max_entry_bytes", budget.getMaxEntryBytes());
+            status.put("eviction", budget.getEviction());
+            status.put("used_bytes", used);
+            status.put("usage_ratio", budget.getMaxBytes() > 0 ? (double) used / budget.getMaxBytes() : 0.0);
+            status.put("evicted_keys", (long) evictionCounters.get(name).count());
+            status.put("rejected_values", (long) rejectionCounter(name).count());
+            result.put(name, status);
+        }
+        return result;
+    }
+
+    public void setEvictionListener(BiConsumer<String, List<String>> evictionListener) {
+        this.evictionListener = evictionListener;
+    }
+
+    public void setHotKeyTrackers(Function<String, HotKeyTracker> hotKeyTrackers) {
+        this.hotKeyTrackers = hotKeyTrackers;
+    }
+
+    public void setGenerations(CacheGenerations generations) {
+        this.generations = generations;
+    }
+
+    public void setSampleSize(int sampleSize) {
+        this.sampleSize = Math.max(1, sampleSize);
+    }
+
+    public void setLowWatermark(double lowWatermark) {
+        this.lowWatermark = lowWatermark;
+    }
+
+    public void shutdown() {
+        enforcer.shutdownNow();
+    }
+
+    /**
+     * 표본 라운드마다 정책상 하위 절반을 지워 excess 바이트 이상 확보 (@return 확보한 바이트)
+     */
+    private long evict(CountingRedisCacheWriter writer, String name, CacheBudget budget, long excess) {
+        String prefix = name + "::";
+        boolean lfu = CacheBudget.EVICTION_LFU.equalsIgnoreCase(budget.getEviction());
+        HotKeyTracker tracker = lfu ? hotKeyTrackers.apply(name) : null;
+        long freed = 0;
+
+        RedisConnection scanConnection = writer.getConnectionFactory().getConnection();
+        try (Cursor<byte[]> cursor = scanConnection.scan(ScanOptions.scanOptions()
+                .match(prefix + "*")
+                .count(Math.max(sampleSize, 100))
+                .build())) {
+            for (int round = 0; round < MAX_ROUNDS && freed < excess && cursor.hasNext(); round++) {
+                List<byte[]> sample = new ArrayList<>(sampleSize);
+                while (cursor.hasNext() && sample.size() < sampleSize) {
+                    byte[] key = cursor.next();
+                    String redisKey = new String(key, StandardCharsets.UTF_8);
+                    // 태그 Set과 값 조각은 제외 (조각은 목차를 지울 때 함께 지워짐)
+                    if (!redisKey.contains(TAG_SEGMENT)
+                            && !redisKey.contains(CountingRedisCacheWriter.SEGMENT_INFIX)) {
+                        sample.add(key);
+                    }
+                }
+                List<Candidate> candidates = describeSample(writer, name, sample, prefix, tracker);
+                candidates.sort(lfu ? Candidate.LFU_ORDER : Candidate.LRU_ORDER);
+
+                List<byte[]> victims = new ArrayList<>();
+                List<String> localKeys = new ArrayList<>();
+                for (Candidate candidate : candidates.subList(0, Math.max(1, candidates.size() / 2))) {
+                    if (freed >= excess) {
+                        break;
+                    }
+                    victims.add(candidate.key);
+                    if (candidate.localKey != null) {
+                        localKeys.add(candidate.localKey);
+                    }
+                    freed += candidate.bytes;
+                }
+                if (!victims.isEmpty()) {
+                    writer.removeAll(name, victims);
+                    evictionCounters.get(name).increment(victims.size());
+                    if (!localKeys.isEmpty()) {
+                        evictionListener.accept(name, localKeys);
+                    }
+                }
+            }
+        } finally {
+            scanConnection.close();
+        }
+        logger.info("Cache {} exceeded its budget, freed {} bytes", name, freed);
+        return freed;
+    }
+
+    // 커서 연결과 분리된 연결에서 크기와 유휴 시간을 파이프라인으로 조회
+    private List<Candidate> describeSample(CountingRedisCacheWriter writer, String name, List<byte[]> sample,
+                                           String prefix, HotKeyTracker tracker) {
+        List<Candidate> candidates = new ArrayList<>(sample.size());
+        if (sample.isEmpty()) {
+            return candidates;
+        }
+        RedisConnection connection = writer.getConnectionFactory().getConnection();
+        List<Object> results;
+        try {
+            connection.openPipeline();
+            for (byte[] key : sample) {
+                connection.stringCommands().strLen(key);
+                connection.keyCommands().idletime(key);
+            }
+            results = connection.closePipeline();
+        } finally {
+            connection.close();
+        }
+        for (int i = 0; i < sample.size(); i++) {
+            Object length = results.get(i * 2);
+            Object idle = results.get(i * 2 + 1);
+            if (!(length instanceof Long) || (Long) length == 0) {
+                continue;
+            }
+            String redisKey = new String(sample.get(i), StandardCharsets.UTF_8);
+            String localKey = generations != null
+                    ? generations.localKey(name, redisKey)
+                    : redisKey.substring(prefix.length());
+            long idleSeconds = idle instanceof Duration ? ((Duration) idle).getSeconds()
+                    : idle instanceof Long ? (Long) idle : 0;
+            if (localKey == null) {
+                // 이전 세대 키는 더 이상 조회되지 않으므로 가장 먼저 지움
+                candidates.add(new Candidate(sample.get(i), null, (Long) length, Long.MAX_VALUE, -1));
+                continue;
+            }
+            long frequency = tracker != null ? tracker.estimate(localKey) : 0;
+            candidates.add(new Candidate(sample.get(i), localKey, (Long) length, idleSeconds, frequency));
+        }
+        return candidates;
+    }
+
+    private Counter rejectionCounter(String name) {
+        return rejectionCounters.computeIfAbsent(name, key -> Counter.builder("cache_budget_rejected_total")
+                .description("Values refused because they exceeded the per-entry size limit")
+                .tag("cache", key)
+                .register(meterRegistry));
+    }
+
+    private static final class Candidate {
+        // 오래 안 쓴 키부터
+        static final Comparator<Candidate> LRU_ORDER =
+                Comparator.comparingLong((Candidate c) -> c.idleSeconds).reversed();
+        // 적게 쓴 키부터, 같으면 오래 안 쓴 키부터
+        static final Comparator<Candidate> LFU_ORDER =
+                Comparator.comparingLong((Candidate c) -> c.frequency).thenComparing(LRU_ORDER);
+
+        private final byte[] key;
+        private final String localKey;
+        private final long bytes;
+        private final long idleSeconds;
+        private final long frequency;
+
+        private Candidate(byte[] key, String localKey, long bytes, long idleSeconds, long frequency) {
+            this.key = key;
+            this.localKey = localKey;
+            this.bytes = bytes;
+            this.idleSeconds = idleSeconds;
+            this.frequency = frequency;
+        }
+    }
+}
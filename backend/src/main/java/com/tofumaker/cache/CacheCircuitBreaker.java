@@ -0,0 +1,300 @@
+package com.tofumaker.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Redis 캐시 계층 회로 차단기
+ *
+ * 최근 windowSize번의 Redis 호출 중 실패 비율이나 느린 호출 비율이 임계값을 넘으면 열린다.
+ * 열린 동안에는 Redis를 호출하지 않고(L1 또는 DB로 우회) 백그라운드에서 probe로 복구를 확인한다.
+ * probe가 성공하면 반열림 상태에서 halfOpenCalls번의 실제 호출이 모두 성공해야 닫힌다.
+ * 열린 동안 Redis에 반영하지 못한 쓰기가 있던 캐시는 닫힐 때 recoveryListener로 넘겨 비우게 한다.
+ */
+public class CacheCircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheCircuitBreaker.class);
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final byte OUTCOME_SUCCESS = 0;
+    private static final byte OUTCOME_SLOW = 1;
+    private static final byte OUTCOME_FAILURE = 2;
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final int halfOpenCalls;
+    private final Duration probeInterval;
+    private final BooleanSupplier probe;
+
+    // 최근 호출 결과 (원형 버퍼)
+    private final byte[] outcomes;
+    private int position;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+
+    private volatile State state = State.CLOSED;
+    private final AtomicInteger halfOpenPermits = new AtomicInteger();
+    private final AtomicInteger halfOpenSuccesses = new AtomicInteger();
+
+    private final LongAdder bypassed = new LongAdder();
+    private final Map<String, LongAdder> bypassedByOperation = new ConcurrentHashMap<>();
+    private final LongAdder openedCount = new LongAdder();
+    private final Set<String> staleCaches = ConcurrentHashMap.newKeySet();
+    private volatile long openedAt;
+
+    private Consumer<Set<String>> recoveryListener = caches -> {};
+
+    private final ScheduledExecutorService prober = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cache-circuit-probe");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private ScheduledFuture<?> probeTask;
+
+    public CacheCircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+                               double slowCallRateThreshold, Duration slowCallDuration, int halfOpenCalls,
+                               Duration probeInterval, BooleanSupplier probe) {
+        this.windowSize = Math.max(1, windowSize);
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, this.windowSize));
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallNanos = slowCallDuration.toNanos();
+        this.halfOpenCalls = Math.max(1, halfOpenCalls);
+        this.probeInterval = probeInterval;
+        this.probe = probe;
+        this.outcomes = new byte[this.windowSize];
+    }
+
+    /**
+     * Redis를 호출해도 되는지 확인 (반열림 상태에서는 허용된 시험 호출 수만큼만)
+     */
+    public boolean allowRequest() {
+        State current = state;
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.HALF_OPEN) {
+            return halfOpenPermits.getAndDecrement() > 0;
+        }
+        return false;
+    }
+
+    public void recordSuccess(long elapsedNanos) {
+        if (state == State.HALF_OPEN) {
+            if (elapsedNanos > slowCallNanos) {
+                open("slow trial call");
+            } else if (halfOpenSuccesses.incrementAndGet() >= halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+        record(elapsedNanos > slowCallNanos ? OUTCOME_SLOW : OUTCOME_SUCCESS);
+    }
+
+    public void recordFailure() {
+        if (state == State.HALF_OPEN) {
+            open("failed trial call");
+            return;
+        }
+        record(OUTCOME_FAILURE);
+    }
+
+    /**
+     * 회로가 열려 Redis 호출을 건너뛴 횟수 기록
+     */
+    public void recordBypass(String operation) {
+        bypassed.increment();
+        bypassedByOperation.computeIfAbsent(operation, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Redis에 반영하지 못한 쓰기/삭제가 있는 캐시 (복구 시 비움)
+     */
+    public void markStale(String cacheName) {
+        staleCaches.add(cacheName);
+    }
+
+    public void setRecoveryListener(Consumer<Set<String>> recoveryListener) {
+        this.recoveryListener = recoveryListener;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public long getBypassedCount() {
+        return bypassed.sum();
+    }
+
+    public long getOpenedCount() {
+        return openedCount.sum();
+    }
+
+    public synchronized double getFailureRate() {
+        return recorded == 0 ? 0 : (double) failures / recorded;
+    }
+
+    public synchronized double getSlowCallRate() {
+        return recorded == 0 ? 0 : (double) slowCalls / recorded;
+    }
+
+    public Map<String, Object> describe() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", state.name());
+        status.put("failure_rate", getFailureRate());
+        status.put("slow_call_rate", getSlowCallRate());
+        status.put("bypassed", getBypassedCount());
+        Map<String, Long> byOperation = new LinkedHashMap<>();
+        bypassedByOperation.forEach((operation, count) -> byOperation.put(operation, count.sum()));
+        status.put("bypassed_by_operation", byOperation);
+        status.put("opened_count", getOpenedCount());
+        if (state != State.CLOSED) {
+            status.put("open_for_ms", System.currentTimeMillis() - openedAt);
+            status.put("stale_caches", new HashSet<>(staleCaches));
+        }
+        return status;
+    }
+
+    public void shutdown() {
+        prober.shutdownNow();
+    }
+
+    private synchronized void record(byte outcome) {
+        if (recorded == windowSize) {
+            forget(outcomes[position]);
+        } else {
+            recorded++;
+        }
+        outcomes[position] = outcome;
+        if (outcome == OUTCOME_FAILURE) {
+            failures++;
+        } else if (outcome == OUTCOME_SLOW) {
+            slowCalls++;
+        }
+        position = (position + 1) % windowSize;
+
+        if (state == State.CLOSED && recorded >= minimumCalls) {
+            double failureRate = (double) failures / recorded;
+            double slowRate = (double) slowCalls / recorded;
+            if (failureRate >= failureRateThreshold) {
+                open(String.format("failure rate %.2f", failureRate));
+            } else if (slowRate >= slowCallRateThreshold) {
+                open(String.format("slow call rate %.2f", slowRate));
+            }
+        }
+    }
+
+    private void forget(byte outcome) {
+        if (outcome == OUTCOME_FAILURE) {
+            failures--;
+        } else if (outcome == OUTCOME_SLOW) {
+            slowCalls--;
+        }
+    }
+
+    private synchronized void open(String reason) {
+        if (state == State.OPEN) {
+            return;
+        }
+        state = State.OPEN;
+        openedAt = System.currentTimeMillis();
+        openedCount.increment();
+        resetWindow();
+        logger.warn("Cache circuit opened ({}), bypassing Redis", reason);
+        if (probeTask == null || probeTask.isDone()) {
+            probeTask = prober.scheduleWithFixedDelay(this::runProbe,
+                    probeInterval.toMillis(), probeInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void close() {
+        Set<String> stale;
+        synchronized (this) {
+            if (state == State.CLOSED) {
+                return;
+            }
+            state = State.CLOSED;
+            resetWindow();
+            cancelProbe();
+            stale = new HashSet<>(staleCaches);
+            staleCaches.removeAll(stale);
+        }
+        logger.info("Cache circuit closed after {} ms, clearing {} stale caches",
+                System.currentTimeMillis() - openedAt, stale.size());
+        if (!stale.isEmpty()) {
+            try {
+                recoveryListener.accept(stale);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to clear stale caches {} after recovery: {}", stale, e.getMessage());
+                staleCaches.addAll(stale);
+            }
+        }
+    }
+
+    // 열린 동안 주기적으로 Redis 상태를 확인하고, 성공하면 반열림으로 전환
+    private void runProbe() {
+        State current = state;
+        if (current == State.CLOSED) {
+            cancelProbe();
+            return;
+        }
+        if (current == State.HALF_OPEN) {
+            // 시험 호출 결과가 기록되지 않고 허용 수만 소진된 경우 다시 채움
+            halfOpenPermits.set(Math.max(halfOpenPermits.get(), halfOpenCalls - halfOpenSuccesses.get()));
+            return;
+        }
+        long start = System.nanoTime();
+        boolean healthy;
+        try {
+            healthy = probe.getAsBoolean() && System.nanoTime() - start <= slowCallNanos;
+        } catch (RuntimeException e) {
+            healthy = false;
+        }
+        if (!healthy) {
+            return;
+        }
+        synchronized (this) {
+            if (state != State.OPEN) {
+                return;
+            }
+            halfOpenSuccesses.set(0);
+            halfOpenPermits.set(halfOpenCalls);
+            state = State.HALF_OPEN;
+        }
+        logger.info("Cache circuit probe succeeded, allowing {} trial calls", halfOpenCalls);
+    }
+
+    private synchronized void cancelProbe() {
+        if (probeTask != null) {
+            probeTask.cancel(false);
+            probeTask = null;
+        }
+    }
+
+    private void resetWindow() {
+        position = 0;
+        recorded = 0;
+        failures = 0;
+        slowCalls = 0;
+    }
+}
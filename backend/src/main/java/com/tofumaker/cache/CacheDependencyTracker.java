@@ -0,0 +1,87 @@
+package com.tofumaker.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 태그 -> 캐시 키 의존성 인덱스 (Redis Set)
+ *
+ * 태그별 Set({cacheName}::tags::{tag})에 의존 키를 기록해 두고,
+ * 쓰기 시 영향받는 태그의 키만 골라 무효화한다.
+ */
+public class CacheDependencyTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheDependencyTracker.class);
+
+    private static final String TAG_INFIX = "::tags::";
+
+    // KEYS=태그 Set 키 - 합집합 조회와 삭제를 한 번에 (사이에 기록된 키가 삭제된 Set에 묻히지 않음)
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> REMOVE_TAGGED_SCRIPT = new DefaultRedisScript<>(
+            "local keys = redis.call('SUNION', unpack(KEYS)) " +
+            "redis.call('DEL', unpack(KEYS)) " +
+            "return keys", List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public CacheDependencyTracker(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 키의 태그 의존성 기록 (태그 Set은 캐시 TTL만큼 유지)
+     */
+    public void record(String cacheName, String key, Collection<String> tags, Duration ttl) {
+        if (tags.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (String tag : tags) {
+                    String tagKey = tagKey(cacheName, tag);
+                    stringConnection.sAdd(tagKey, key);
+                    if (ttl != null && !ttl.isZero() && !ttl.isNegative()) {
+                        stringConnection.expire(tagKey, ttl.getSeconds());
+                    }
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            logger.warn("Failed to record cache tags {} for key: {} in cache: {}", tags, key, cacheName, e);
+        }
+    }
+
+    /**
+     * 태그에 의존하는 키를 조회하고 태그 Set을 제거 (Lua 스크립트로 원자적으로)
+     */
+    public Set<String> removeTagged(String cacheName, Collection<String> tags) {
+        if (tags.isEmpty()) {
+            return Collections.emptySet();
+        }
+        List<String> tagKeys = new ArrayList<>();
+        for (String tag : tags) {
+            tagKeys.add(tagKey(cacheName, tag));
+        }
+        @SuppressWarnings("unchecked")
+        List<String> keys = redisTemplate.execute(REMOVE_TAGGED_SCRIPT, tagKeys);
+        return keys != null ? new HashSet<>(keys) : new HashSet<>();
+    }
+
+    private String tagKey(String cacheName, String tag) {
+        return cacheName + TAG_INFIX + tag;
+    }
+}
@@ -0,0 +1,124 @@
+package com.tofumaker.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.cache.CacheKeyPrefix;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캐시별 세대(generation) 번호 - 키 접두사에 넣어 캐시 전체 삭제를 O(1)로 처리
+ *
+ * 세대 번호는 Redis Hash(cache:generations)에 두고 노드마다 로컬에 캐싱한다.
+ * 클리어는 번호만 올리고, 이전 세대 키는 더 이상 조회되지 않다가 TTL로 만료된다.
+ * 세대 0은 기존 접두사({cacheName}::)를 그대로 써서 도입 전 키와 호환된다.
+ */
+public class CacheGenerations implements CacheKeyPrefix {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheGenerations.class);
+
+    static final String GENERATIONS_KEY = "cache:generations";
+    static final String GENERATION_MARKER = "g";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+    private final Map<String, String> prefixes = new ConcurrentHashMap<>();
+
+    public CacheGenerations(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 현재 세대의 키 접두사 (RedisCache가 키마다 호출)
+     */
+    @Override
+    public String compute(String cacheName) {
+        String prefix = prefixes.get(cacheName);
+        if (prefix != null) {
+            return prefix;
+        }
+        try {
+            return update(cacheName, load(cacheName));
+        } catch (RuntimeException e) {
+            // 다음 호출에서 다시 읽도록 캐싱하지 않음
+            logger.warn("Failed to load generation for cache {}: {}", cacheName, e.getMessage());
+            return prefixFor(cacheName, 0);
+        }
+    }
+
+    public long current(String cacheName) {
+        compute(cacheName);
+        return generations.getOrDefault(cacheName, 0L);
+    }
+
+    /**
+     * 세대 번호를 올려 캐시를 비움 (@return 새 세대)
+     */
+    public long advance(String cacheName) {
+        Long generation = redisTemplate.opsForHash().increment(GENERATIONS_KEY, cacheName, 1);
+        update(cacheName, generation);
+        logger.info("Advanced cache {} to generation {}", cacheName, generation);
+        return generation;
+    }
+
+    /**
+     * 다른 노드가 올린 세대 번호 반영
+     */
+    public void refresh(String cacheName) {
+        try {
+            update(cacheName, load(cacheName));
+        } catch (RuntimeException e) {
+            logger.warn("Failed to refresh generation for cache {}: {}", cacheName, e.getMessage());
+        }
+    }
+
+    /**
+     * 사용 중인 캐시의 세대 번호를 한 번에 다시 읽음 (무효화 메시지 유실 대비)
+     */
+    public void refreshAll() {
+        if (prefixes.isEmpty()) {
+            return;
+        }
+        Map<Object, Object> stored = redisTemplate.opsForHash().entries(GENERATIONS_KEY);
+        for (String cacheName : prefixes.keySet()) {
+            update(cacheName, parse(stored.get(cacheName)));
+        }
+    }
+
+    public Map<String, Long> snapshot() {
+        return new LinkedHashMap<>(generations);
+    }
+
+    /**
+     * 키가 현재 세대의 키인지 확인하고 캐시 내부 키를 반환 (이전 세대 키면 null)
+     */
+    public String localKey(String cacheName, String redisKey) {
+        String prefix = compute(cacheName);
+        return redisKey.startsWith(prefix) ? redisKey.substring(prefix.length()) : null;
+    }
+
+    static String prefixFor(String cacheName, long generation) {
+        return generation == 0
+                ? cacheName + "::"
+                : cacheName + "::" + GENERATION_MARKER + generation + "::";
+    }
+
+    private String update(String cacheName, Long generation) {
+        long value = generation != null ? generation : 0L;
+        generations.put(cacheName, value);
+        String prefix = prefixFor(cacheName, value);
+        prefixes.put(cacheName, prefix);
+        return prefix;
+    }
+
+    private Long load(String cacheName) {
+        return parse(redisTemplate.opsForHash().get(GENERATIONS_KEY, cacheName));
+    }
+
+    private static Long parse(Object value) {
+        return value != null ? Long.valueOf(value.toString()) : null;
+    }
+}
@@ -0,0 +1,83 @@
+package com.tofumaker.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 노드 간 L1 캐시 무효화 이벤트 발행/해석 (Redis pub/sub)
+ */
+public class CacheInvalidationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationBus(RedisTemplate<String, Object> redisTemplate, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    /**
+     * 단일 키 무효화 전파
+     */
+    public void publishEvict(String cacheName, String key) {
+        publish(new CacheInvalidationMessage(nodeId, cacheName, key));
+    }
+
+    /**
+     * 여러 키 무효화를 메시지 하나로 전파
+     */
+    public void publishEvictAll(String cacheName, List<String> keys) {
+        if (!keys.isEmpty()) {
+            publish(new CacheInvalidationMessage(nodeId, cacheName, keys));
+        }
+    }
+
+    /**
+     * 캐시 전체 클리어 전파
+     */
+    public void publishClear(String cacheName) {
+        publish(new CacheInvalidationMessage(nodeId, cacheName, (String) null));
+    }
+
+    /**
+     * 수신 메시지 해석 - 자신이 발행한 메시지나 해석 불가 메시지는 null
+     */
+    public CacheInvalidationMessage decode(Message message) {
+        try {
+            Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            if (body instanceof CacheInvalidationMessage) {
+                CacheInvalidationMessage invalidation = (CacheInvalidationMessage) body;
+                return nodeId.equals(invalidation.getOrigin()) ? null : invalidation;
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to decode cache invalidation message on channel: {}", channel, e);
+        }
+        return null;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private void publish(CacheInvalidationMessage message) {
+        try {
+            redisTemplate.convertAndSend(channel, message);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드의 L1은 expireAfterWrite로 자연 만료된다
+            logger.warn("Failed to publish cache invalidation for cache: {} key: {}",
+                    message.getCacheName(), message.getKey(), e);
+        }
+    }
+}
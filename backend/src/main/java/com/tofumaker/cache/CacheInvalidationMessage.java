@@ -0,0 +1,68 @@
+package com.tofumaker.cache;
+
+import java.util.List;
+
+/**
+ * 노드 간 L1 캐시 무효화 메시지 (Redis pub/sub)
+ * key와 keys가 모두 비어 있으면 해당 캐시 전체 클리어를 의미한다.
+ */
+public class CacheInvalidationMessage {
+
+    private String origin;
+    private String cacheName;
+    private String key;
+
+    // 다건 무효화 시 키 목록
+    private List<String> keys;
+
+    public CacheInvalidationMessage() {}
+
+    public CacheInvalidationMessage(String origin, String cacheName, String key) {
+        this.origin = origin;
+        this.cacheName = cacheName;
+        this.key = key;
+    }
+
+    public CacheInvalidationMessage(String origin, String cacheName, List<String> keys) {
+        this.origin = origin;
+        this.cacheName = cacheName;
+        this.keys = keys;
+    }
+
+    public boolean isClear() {
+        return key == null && (keys == null || keys.isEmpty());
+    }
+
+    // Getters and Setters
+    public String getOrigin() {
+        return origin;
+    }
+
+    public void setOrigin(String origin) {
+        this.origin = origin;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public void setCacheName(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public List<String> getKeys() {
+        return keys;
+    }
+
+    public void setKeys(List<String> keys) {
+        this.keys = keys;
+    }
+}
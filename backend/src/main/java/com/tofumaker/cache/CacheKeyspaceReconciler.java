@@ -0,0 +1,184 @@
+package com.tofumaker.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 키 공간을 SCAN으로 조금씩 훑어 서버 측 카운터를 보정
+ *
+ * 한 번의 step에서 최대 budget개의 키만 확인하고, 커서는 다음 step까지 유지한다.
+ * 한 캐시의 SCAN이 끝나면 집계값으로 카운터를 덮어써 TTL 만료로 생긴 오차를 바로잡는다.
+ * SCAN 도중의 쓰기는 반영되지 않을 수 있으므로 보정값은 근사치다.
+ * 샤딩된 캐시는 노드별로 따로 훑고 노드별 카운터를 보정한다.
+ */
+public class CacheKeyspaceReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheKeyspaceReconciler.class);
+
+    private static final String TAG_SEGMENT = "::tags::";
+
+    private final CountingRedisCacheWriter cacheWriter;
+    private final Supplier<Collection<String>> cacheNames;
+    private final int scanCount;
+
+    private final List<Target> pending = new ArrayList<>();
+    private final Map<String, Long> lastReconciledAt = new LinkedHashMap<>();
+
+    private String currentCache;
+    private CountingRedisCacheWriter currentWriter;
+    private RedisConnection scanConnection;
+    private Cursor<byte[]> cursor;
+    private long scannedKeys;
+    private long scannedBytes;
+
+    public CacheKeyspaceReconciler(CountingRedisCacheWriter cacheWriter, Supplier<Collection<String>> cacheNames,
+                                   int scanCount) {
+        this.cacheWriter = cacheWriter;
+        this.cacheNames = cacheNames;
+        this.scanCount = scanCount;
+    }
+
+    /**
+     * 최대 budget개의 키를 확인하고 반환 (@return 이번 step에서 확인한 키 수)
+     */
+    public synchronized int step(int budget) {
+        int processed = 0;
+        try {
+            while (processed < budget) {
+                if (cursor == null && !openNextCursor()) {
+                    break;
+                }
+
+                List<byte[]> batch = new ArrayList<>(Math.min(scanCount, budget - processed));
+                List<byte[]> segments = new ArrayList<>();
+                while (cursor.hasNext() && batch.size() + segments.size() < scanCount
+                        && processed + batch.size() + segments.size() < budget) {
+                    byte[] key = cursor.next();
+                    String redisKey = new String(key, StandardCharsets.UTF_8);
+                    if (redisKey.contains(CountingRedisCacheWriter.SEGMENT_INFIX)) {
+                        segments.add(key);
+                    } else if (!redisKey.contains(TAG_SEGMENT)) {
+                        batch.add(key);
+                    }
+                }
+                processed += Math.max(batch.size() + segments.size(), 1);
+                tally(batch, true);
+                // 값 조각은 바이트만 집계 (키 수는 목차 기준)
+                tally(segments, false);
+
+                if (!cursor.hasNext()) {
+                    finishCurrent();
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Cache keyspace reconcile failed for {}: {}", currentCache, e.getMessage());
+            closeCursor();
+        }
+        return processed;
+    }
+
+    public synchronized Map<String, Long> getLastReconciledAt() {
+        return new LinkedHashMap<>(lastReconciledAt);
+    }
+
+    public synchronized String getCurrentCache() {
+        return currentCache;
+    }
+
+    private boolean openNextCursor() {
+        if (pending.isEmpty()) {
+            for (String cacheName : cacheNames.get()) {
+                for (CountingRedisCacheWriter writer : cacheWriter.writersFor(cacheName)) {
+                    pending.add(new Target(cacheName, writer));
+                }
+            }
+            if (pending.isEmpty()) {
+                return false;
+            }
+        }
+        Target target = pending.remove(0);
+        currentCache = target.cacheName;
+        currentWriter = target.writer;
+        scannedKeys = 0;
+        scannedBytes = 0;
+
+        RedisConnectionFactory connectionFactory = currentWriter.getConnectionFactory();
+        scanConnection = connectionFactory.getConnection();
+        cursor = scanConnection.scan(ScanOptions.scanOptions()
+                .match(currentCache + "::*")
+                .count(scanCount)
+                .build());
+        return true;
+    }
+
+    private void tally(List<byte[]> keys, boolean countKeys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        // 커서 연결과 분리된 연결에서 STRLEN을 파이프라인으로 조회
+        RedisConnection connection = currentWriter.getConnectionFactory().getConnection();
+        List<Object> lengths;
+        try {
+            connection.openPipeline();
+            for (byte[] key : keys) {
+                connection.stringCommands().strLen(key);
+            }
+            lengths = connection.closePipeline();
+        } finally {
+            connection.close();
+        }
+        for (Object length : lengths) {
+            if (length instanceof Long && (Long) length > 0) {
+                if (countKeys) {
+                    scannedKeys++;
+                }
+                scannedBytes += (Long) length;
+            }
+        }
+    }
+
+    private void finishCurrent() {
+        currentWriter.resetCounters(currentCache, scannedKeys, scannedBytes);
+        lastReconciledAt.put(currentCache, System.currentTimeMillis());
+        logger.debug("Reconciled cache {}: keys={}, bytes={}", currentCache, scannedKeys, scannedBytes);
+        closeCursor();
+    }
+
+    private void closeCursor() {
+        try {
+            if (cursor != null) {
+                cursor.close();
+            }
+            if (scanConnection != null) {
+                scanConnection.close();
+            }
+        } catch (RuntimeException e) {
+            logger.debug("Failed to close scan cursor: {}", e.getMessage());
+        } finally {
+            cursor = null;
+            scanConnection = null;
+        }
+    }
+
+    private static final class Target {
+        private final String cacheName;
+        private final CountingRedisCacheWriter writer;
+
+        private Target(String cacheName, CountingRedisCacheWriter writer) {
+            this.cacheName = cacheName;
+            this.writer = writer;
+        }
+    }
+}
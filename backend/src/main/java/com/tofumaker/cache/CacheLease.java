@@ -0,0 +1,35 @@
+package com.tofumaker.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 미스 시 여러 노드 중 한 노드만 값을 다시 계산하도록 Redis 임대(lease)를 잡는다
+ *
+ * {@code @Cacheable(sync = true)}와 함께 쓴다. 임대를 못 잡은 노드는 이 노드가 가진 이전 값을 바로 반환하거나,
+ * 없으면 waitMillis 동안 다른 노드가 채운 값을 기다린 뒤 그래도 없으면 직접 계산한다.
+ * 예: {@code @CacheLease(leaseMillis = 10000, waitMillis = 2000)}
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CacheLease {
+
+    /**
+     * 임대 유지 시간 - 로더가 죽어도 이 시간이 지나면 다른 노드가 잡을 수 있다
+     */
+    long leaseMillis() default 10000;
+
+    /**
+     * 임대를 못 잡은 노드가 다른 노드의 결과를 기다리는 최대 시간
+     */
+    long waitMillis() default 2000;
+
+    /**
+     * 다른 노드가 계산하는 동안 이 노드가 가진 이전 값(만료된 값)을 반환할지 여부
+     */
+    boolean serveStale() default true;
+}
@@ -0,0 +1,42 @@
+package com.tofumaker.cache;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link CacheLease} 설정을 캐시 인터셉터보다 바깥에서 현재 스레드에 걸어 둔다
+ * {@link TwoLevelCache#get(Object, java.util.concurrent.Callable)}가 미스 시 이 설정으로 임대를 잡는다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class CacheLeaseAspect {
+
+    private static final ThreadLocal<CacheLease> CURRENT = new ThreadLocal<>();
+
+    @Around("@annotation(cacheLease)")
+    public Object withLease(ProceedingJoinPoint joinPoint, CacheLease cacheLease) throws Throwable {
+        CacheLease previous = CURRENT.get();
+        CURRENT.set(cacheLease);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * 현재 호출의 임대 설정 (없으면 null)
+     */
+    static CacheLease current() {
+        return CURRENT.get();
+    }
+}
@@ -0,0 +1,93 @@
+package com.tofumaker.cache;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Collections;
+
+/**
+ * 노드 간 캐시 재계산 임대 (Redis SET NX PX + 펜싱 토큰)
+ *
+ * 임대 키 cache:lease:{cacheName}:{key}에 "{펜스 번호}:{노드}"를 저장한다.
+ * 펜스 번호는 cache:lease:fence를 INCR해 받으므로 나중에 잡은 임대일수록 크다.
+ * 로더가 오래 걸려 임대가 만료되고 다른 노드가 다시 잡았다면, 늦게 끝난 쪽의 쓰기는 펜스를 붙인 캐시 쓰기
+ * ({@link CacheWriteFence})에서 값 SET과 같은 스크립트로 거부된다.
+ */
+public class CacheLeaseManager {
+
+    static final String LEASE_KEY_PREFIX = "cache:lease:";
+    static final String FENCE_KEY = LEASE_KEY_PREFIX + "fence";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId;
+
+    public CacheLeaseManager(StringRedisTemplate redisTemplate) {
+        this(redisTemplate, ManagementFactory.getRuntimeMXBean().getName());
+    }
+
+    CacheLeaseManager(StringRedisTemplate redisTemplate, String nodeId) {
+        this.redisTemplate = redisTemplate;
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * 임대 시도 (다른 노드가 잡고 있으면 null)
+     */
+    public Lease tryAcquire(String cacheName, String key, Duration leaseTime) {
+        long fence = redisTemplate.opsForValue().increment(FENCE_KEY);
+        Lease lease = new Lease(leaseKey(cacheName, key), fence, fence + ":" + nodeId, leaseTime);
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lease.key, lease.token, leaseTime);
+        return Boolean.TRUE.equals(acquired) ? lease : null;
+    }
+
+    /**
+     * 자신이 잡은 임대만 해제
+     */
+    public void release(Lease lease) {
+        redisTemplate.execute(RELEASE_SCRIPT, Collections.singletonList(lease.key), lease.token);
+    }
+
+    /**
+     * 다른 노드가 계산 중인지 확인
+     */
+    public boolean isLeased(String cacheName, String key) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(leaseKey(cacheName, key)));
+    }
+
+    static String leaseKey(String cacheName, String key) {
+        return LEASE_KEY_PREFIX + cacheName + ":" + key;
+    }
+
+    public static final class Lease {
+        private final String key;
+        private final long fence;
+        private final String token;
+        private final Duration leaseTime;
+
+        Lease(String key, long fence, String token, Duration leaseTime) {
+            this.key = key;
+            this.fence = fence;
+            this.token = token;
+            this.leaseTime = leaseTime;
+        }
+
+        public long getFence() {
+            return fence;
+        }
+
+        public String getToken() {
+            return token;
+        }
+
+        public Duration getLeaseTime() {
+            return leaseTime;
+        }
+    }
+}
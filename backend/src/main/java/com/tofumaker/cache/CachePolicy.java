@@ -0,0 +1,120 @@
+package com.tofumaker.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 런타임에 바꿀 수 있는 캐시 정책 (TTL, L1 크기/만료, 미리 갱신)
+ *
+ * null인 항목은 바꾸지 않는다. TTL 변경은 이후 저장되는 값부터 적용된다.
+ */
+public class CachePolicy {
+
+    // Redis(L2) TTL (초)
+    private Long ttlSeconds;
+
+    // L1 최대 항목 수와 쓰기 후 만료 (초) - 기동 시 L1이 비활성인 캐시는 바꿀 수 없음
+    private Long localMaximumSize;
+    private Long localExpireSeconds;
+
+    // 미리 갱신 여부와 갱신 시점 (TTL 비율, 0~1)
+    private Boolean refreshAheadEnabled;
+    private Double refreshAfter;
+
+    public CachePolicy() {}
+
+    public CachePolicy(Long ttlSeconds, Long localMaximumSize, Long localExpireSeconds,
+                       Boolean refreshAheadEnabled, Double refreshAfter) {
+        this.ttlSeconds = ttlSeconds;
+        this.localMaximumSize = localMaximumSize;
+        this.localExpireSeconds = localExpireSeconds;
+        this.refreshAheadEnabled = refreshAheadEnabled;
+        this.refreshAfter = refreshAfter;
+    }
+
+    /**
+     * 값 범위 확인 (IllegalArgumentException)
+     */
+    public void validate() {
+        if (ttlSeconds != null && ttlSeconds <= 0) {
+            throw new IllegalArgumentException("ttlSeconds must be positive: " + ttlSeconds);
+        }
+        if (localMaximumSize != null && localMaximumSize < 0) {
+            throw new IllegalArgumentException("localMaximumSize must not be negative: " + localMaximumSize);
+        }
+        if (localExpireSeconds != null && localExpireSeconds <= 0) {
+            throw new IllegalArgumentException("localExpireSeconds must be positive: " + localExpireSeconds);
+        }
+        if (refreshAfter != null && (refreshAfter <= 0 || refreshAfter >= 1)) {
+            throw new IllegalArgumentException("refreshAfter must be in (0, 1): " + refreshAfter);
+        }
+    }
+
+    public boolean hasChanges() {
+        return ttlSeconds != null || localMaximumSize != null || localExpireSeconds != null
+                || refreshAheadEnabled != null || refreshAfter != null;
+    }
+
+    /**
+     * 이 정책 위에 changes의 null이 아닌 항목을 덮어쓴 새 정책
+     */
+    public CachePolicy merge(CachePolicy changes) {
+        return new CachePolicy(
+                changes.ttlSeconds != null ? changes.ttlSeconds : ttlSeconds,
+                changes.localMaximumSize != null ? changes.localMaximumSize : localMaximumSize,
+                changes.localExpireSeconds != null ? changes.localExpireSeconds : localExpireSeconds,
+                changes.refreshAheadEnabled != null ? changes.refreshAheadEnabled : refreshAheadEnabled,
+                changes.refreshAfter != null ? changes.refreshAfter : refreshAfter);
+    }
+
+    public Map<String, Object> describe() {
+        Map<String, Object> policy = new LinkedHashMap<>();
+        policy.put("ttl_seconds", ttlSeconds);
+        policy.put("local_maximum_size", localMaximumSize);
+        policy.put("local_expire_seconds", localExpireSeconds);
+        policy.put("refresh_ahead_enabled", refreshAheadEnabled);
+        policy.put("refresh_after", refreshAfter);
+        return policy;
+    }
+
+    // Getters and Setters
+    public Long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    public void setTtlSeconds(Long ttlSeconds) {
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    public Long getLocalMaximumSize() {
+        return localMaximumSize;
+    }
+
+    public void setLocalMaximumSize(Long localMaximumSize) {
+        this.localMaximumSize = localMaximumSize;
+    }
+
+    public Long getLocalExpireSeconds() {
+        return localExpireSeconds;
+    }
+
+    public void setLocalExpireSeconds(Long localExpireSeconds) {
+        this.localExpireSeconds = localExpireSeconds;
+    }
+
+    public Boolean getRefreshAheadEnabled() {
+        return refreshAheadEnabled;
+    }
+
+    public void setRefreshAheadEnabled(Boolean refreshAheadEnabled) {
+        this.refreshAheadEnabled = refreshAheadEnabled;
+    }
+
+    public Double getRefreshAfter() {
+        return refreshAfter;
+    }
+
+    public void setRefreshAfter(Double refreshAfter) {
+        this.refreshAfter = refreshAfter;
+    }
+}
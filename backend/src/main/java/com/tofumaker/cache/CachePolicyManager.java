@@ -0,0 +1,260 @@
+package com.tofumaker.cache;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캐시별 정책(TTL, L1 크기/만료, 미리 갱신)의 런타임 변경과 변경 전후 효과 측정
+ *
+ * 변경한 정책은 Redis Hash(cache:policies)에 저장해 재기동 후에도 유지하고,
+ * 다른 노드는 주기적으로 다시 읽어 반영한다 ({@link #reload()}).
+ * 변경마다 직전 정책이 적용된 구간과 변경 이후 구간의 적중률/평균 지연을 노드 단위로 비교한다.
+ */
+public class CachePolicyManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachePolicyManager.class);
+
+    static final String POLICIES_KEY = "cache:policies";
+
+    static final String ORIGIN_API = "api";
+    static final String ORIGIN_SYNC = "sync";
+    static final String ORIGIN_RESET = "reset";
+
+    private final TwoLevelCacheManager cacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final int historySize;
+    private final long createdAt = System.currentTimeMillis();
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+    // 캐시별 설정 파일 기준 정책 (재설정 시 되돌릴 값), 마지막으로 반영한 저장 값(JSON), 변경 이력
+    private final Map<String, CachePolicy> defaults = new ConcurrentHashMap<>();
+    private final Map<String, String> applied = new ConcurrentHashMap<>();
+    private final Map<String, Deque<Change>> history = new ConcurrentHashMap<>();
+
+    public CachePolicyManager(TwoLevelCacheManager cacheManager, StringRedisTemplate redisTemplate, int historySize) {
+        this.cacheManager = cacheManager;
+        this.redisTemplate = redisTemplate;
+        this.historySize = Math.max(1, historySize);
+    }
+
+    /**
+     * 정책 변경 - 저장된 변경 위에 덮어써 이 노드에 바로 반영하고 Redis에 저장
+     */
+    public synchronized Map<String, Object> update(String cacheName, CachePolicy changes) {
+        changes.validate();
+        if (!changes.hasChanges()) {
+            throw new IllegalArgumentException("No policy changes given");
+        }
+        // 다른 노드가 바꾼 항목을 덮어쓰지 않도록 저장된 값 기준으로 합침
+        Object stored = redisTemplate.opsForHash().get(POLICIES_KEY, cacheName);
+        CachePolicy next = (stored != null ? read(stored.toString()) : new CachePolicy()).merge(changes);
+        TwoLevelCache cache = cache(cacheName);
+        CachePolicy before = cache.currentPolicy();
+        apply(cacheName, next, ORIGIN_API);
+
+        String json = write(next);
+        try {
+            redisTemplate.opsForHash().put(POLICIES_KEY, cacheName, json);
+        } catch (DataAccessException e) {
+            // 저장하지 못한 변경은 되돌림 (노드 간 정책이 갈라지지 않도록)
+            cacheManager.applyPolicy(cacheName, before);
+            discardLastChange(cacheName);
+            throw new IllegalStateException("Failed to persist cache policy: " + e.getMessage(), e);
+        }
+        applied.put(cacheName, json);
+        logger.info("Updated cache policy for {}: {}", cacheName, json);
+        return describe(cacheName);
+    }
+
+    /**
+     * 변경한 정책을 지우고 설정 파일 기준 정책으로 되돌림
+     */
+    public synchronized Map<String, Object> reset(String cacheName) {
+        cache(cacheName);
+        Long removed = redisTemplate.opsForHash().delete(POLICIES_KEY, cacheName);
+        boolean restored = restore(cacheName);
+        if ((removed == null || removed == 0) && !restored) {
+            throw new IllegalArgumentException("No policy override for cache: " + cacheName);
+        }
+        logger.info("Reset cache policy for {}", cacheName);
+        return describe(cacheName);
+    }
+
+    /**
+     * 저장된 정책을 다시 읽어 바뀐 캐시만 반영 (기동 직후와 주기적으로 호출)
+     */
+    public synchronized void reload() {
+        Map<Object, Object> stored = redisTemplate.opsForHash().entries(POLICIES_KEY);
+        for (Map.Entry<Object, Object> entry : stored.entrySet()) {
+            String cacheName = entry.getKey().toString();
+            String json = entry.getValue().toString();
+            if (json.equals(applied.get(cacheName))) {
+                continue;
+            }
+            try {
+                apply(cacheName, read(json), ORIGIN_SYNC);
+                logger.info("Applied stored cache policy for {}: {}", cacheName, json);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to apply stored cache policy for {}: {}", cacheName, e.getMessage());
+            }
+            // 적용하지 못한 정책도 기록해 같은 경고를 반복하지 않음
+            applied.put(cacheName, json);
+        }
+        for (String cacheName : new HashSet<>(applied.keySet())) {
+            if (!stored.containsKey(cacheName)) {
+                restore(cacheName);
+            }
+        }
+    }
+
+    public synchronized Map<String, Object> describeAll() {
+        Map<String, Object> result = new TreeMap<>();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            result.put(cacheName, describe(cacheName));
+        }
+        return result;
+    }
+
+    /**
+     * 현재 정책, 변경 내용, 변경별 전후 구간 적중률/지연
+     */
+    public synchronized Map<String, Object> describe(String cacheName) {
+        TwoLevelCache cache = cache(cacheName);
+        TwoLevelCache.Measurement now = cache.measure();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("policy", cache.currentPolicy().describe());
+        String override = applied.get(cacheName);
+        result.put("override", override != null ? read(override).describe() : null);
+
+        List<Map<String, Object>> changes = new ArrayList<>();
+        Deque<Change> entries = history.get(cacheName);
+        if (entries != null) {
+            for (Change change : entries) {
+                changes.add(change.describe(now));
+            }
+        }
+        result.put("changes", changes);
+        return result;
+    }
+
+    private void apply(String cacheName, CachePolicy policy, String origin) {
+        TwoLevelCache cache = cache(cacheName);
+        CachePolicy before = cache.currentPolicy();
+        defaults.putIfAbsent(cacheName, before);
+        cacheManager.applyPolicy(cacheName, policy);
+        record(cacheName, cache, before, cache.currentPolicy(), origin);
+    }
+
+    private boolean restore(String cacheName) {
+        String previous = applied.remove(cacheName);
+        CachePolicy policy = defaults.get(cacheName);
+        if (previous == null || policy == null) {
+            return false;
+        }
+        apply(cacheName, policy, ORIGIN_RESET);
+        return true;
+    }
+
+    // 직전 변경(없으면 관리자 생성 시점) 이후 구간을 "변경 전"으로 고정하고 새 구간 시작
+    private void record(String cacheName, TwoLevelCache cache, CachePolicy before, CachePolicy after, String origin) {
+        TwoLevelCache.Measurement now = cache.measure();
+        Deque<Change> entries = history.computeIfAbsent(cacheName, name -> new ArrayDeque<>());
+        Change previous = entries.peekLast();
+        TwoLevelCache.Measurement from = previous != null
+                ? previous.start
+                : new TwoLevelCache.Measurement(createdAt, 0, 0, 0, 0, 0);
+        if (previous != null) {
+            previous.end = now;
+        }
+        entries.addLast(new Change(origin, before, after, now.since(from), now));
+        while (entries.size() > historySize) {
+            entries.pollFirst();
+        }
+    }
+
+    private void discardLastChange(String cacheName) {
+        Deque<Change> entries = history.get(cacheName);
+        entries.pollLast();
+        if (!entries.isEmpty()) {
+            entries.peekLast().end = null;
+        }
+    }
+
+    private TwoLevelCache cache(String cacheName) {
+        TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache(cacheName);
+        if (cache == null) {
+            throw new IllegalArgumentException("Unknown cache: " + cacheName);
+        }
+        return cache;
+    }
+
+    private CachePolicy read(String json) {
+        try {
+            return objectMapper.readValue(json, CachePolicy.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid stored cache policy: " + json, e);
+        }
+    }
+
+    private String write(CachePolicy policy) {
+        try {
+            return objectMapper.writeValueAsString(policy);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize cache policy", e);
+        }
+    }
+
+    private static final class Change {
+        private final long changedAt = System.currentTimeMillis();
+        private final String origin;
+        private final CachePolicy before;
+        private final CachePolicy after;
+        private final Map<String, Object> beforeWindow;
+        private final TwoLevelCache.Measurement start;
+        // 다음 변경 시점 (그 전까지는 현재까지를 "변경 후"로 봄)
+        private TwoLevelCache.Measurement end;
+
+        private Change(String origin, CachePolicy before, CachePolicy after, Map<String, Object> beforeWindow,
+                       TwoLevelCache.Measurement start) {
+            this.origin = origin;
+            this.before = before;
+            this.after = after;
+            this.beforeWindow = beforeWindow;
+            this.start = start;
+        }
+
+        private Map<String, Object> describe(TwoLevelCache.Measurement now) {
+            Map<String, Object> afterWindow = (end != null ? end : now).since(start);
+            Map<String, Object> effect = new LinkedHashMap<>();
+            for (String metric : new String[]{"hit_rate", "avg_lookup_ms", "avg_load_ms"}) {
+                effect.put(metric, (double) afterWindow.get(metric) - (double) beforeWindow.get(metric));
+            }
+            Map<String, Object> change = new LinkedHashMap<>();
+            change.put("changed_at", changedAt);
+            change.put("origin", origin);
+            change.put("before", before.describe());
+            change.put("after", after.describe());
+            change.put("before_window", beforeWindow);
+            change.put("after_window", afterWindow);
+            change.put("after_complete", end != null);
+            change.put("effect", effect);
+            return change;
+        }
+    }
+}
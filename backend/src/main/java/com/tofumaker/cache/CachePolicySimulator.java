@@ -0,0 +1,654 @@
+package com.tofumaker.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CacheAccessTraceRecorder}로 기록한 접근 기록을 다른 캐시 정책으로 재생해 적중률과 메모리를 추정
+ *
+ * 조회가 미스면 로더가 값을 채운다고 보고 바로 넣는다 (미스 직후의 채우기 put은 크기만 반영).
+ * 그 외의 put(@CachePut 등), evict, clear는 그대로 적용한다.
+ * 표본 기록(sample_rate < 1)이면 용량을 같은 비율로 줄여 재생하고 메모리는 다시 키워 보고한다.
+ *
+ * 사용 예: java -cp app.jar -Dloader.main=com.tofumaker.cache.CachePolicySimulator \
+ *   org.springframework.boot.loader.PropertiesLauncher trace.log --cache api-responses \
+ *   --policies lru,lfu,tinylfu --ttls 30s,10m --capacities 5000,64MB,unbounded
+ */
+public class CachePolicySimulator {
+
+    public static final String POLICY_LRU = "lru";
+    public static final String POLICY_LFU = "lfu";
+    public static final String POLICY_TINYLFU = "tinylfu";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("usage: CachePolicySimulator <trace> [--cache name] [--policies lru,lfu,tinylfu]"
+                    + " [--ttls 30s,10m,none] [--capacities 5000,64MB,unbounded]");
+            System.exit(1);
+        }
+        Map<String, String> options = new HashMap<>();
+        for (int i = 1; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        List<String> policies = Arrays.asList(options.getOrDefault("policies", "lru,lfu,tinylfu").split(","));
+        List<Duration> ttls = new ArrayList<>();
+        for (String ttl : options.getOrDefault("ttls", "none").split(",")) {
+            ttls.add(parseTtl(ttl));
+        }
+        List<Capacity> capacities = new ArrayList<>();
+        for (String capacity : options.getOrDefault("capacities", "unbounded").split(",")) {
+            capacities.add(Capacity.parse(capacity));
+        }
+
+        Trace trace = Trace.read(Paths.get(args[0]));
+        String cacheName = options.get("cache");
+        System.out.println(trace.describe(cacheName));
+        System.out.printf("%-20s %-8s %-10s %-12s %10s %9s %14s %14s%n",
+                "cache", "policy", "ttl", "capacity", "requests", "hit_rate", "avg_bytes", "peak_bytes");
+        for (Result result : simulate(trace, cacheName, policies, ttls, capacities)) {
+            System.out.printf("%-20s %-8s %-10s %-12s %10d %8.2f%% %14d %14d%n",
+                    result.getCacheName(), result.getPolicy(), formatTtl(result.getTtl()), result.getCapacity(),
+                    result.getRequests(), result.getHitRate() * 100, result.getAverageBytes(), result.getPeakBytes());
+        }
+    }
+
+    /**
+     * 캐시별로 정책 x TTL x 용량 조합을 모두 재생 (cacheName이 null이면 기록된 모든 캐시)
+     */
+    public static List<Result> simulate(Trace trace, String cacheName, List<String> policies,
+                                        List<Duration> ttls, List<Capacity> capacities) {
+        List<Result> results = new ArrayList<>();
+        for (String name : trace.cacheNames()) {
+            if (cacheName != null && !cacheName.equals(name)) {
+                continue;
+            }
+            for (String policy : policies) {
+                for (Duration ttl : ttls) {
+                    for (Capacity capacity : capacities) {
+                        SimulatedCache cache = create(policy.trim().toLowerCase(), ttl,
+                                capacity.scaled(trace.getSampleRate()));
+                        results.add(replay(trace, name, policy.trim().toLowerCase(), ttl, capacity, cache));
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    private static Result replay(Trace trace, String cacheName, String policy, Duration ttl, Capacity capacity,
+                                 SimulatedCache cache) {
+        Set<Long> pendingFills = new HashSet<>();
+        long requests = 0;
+        long hits = 0;
+        long bytesTotal = 0;
+        long peakBytes = 0;
+        for (Event event : trace.events) {
+            if (!event.cacheName.equals(cacheName)) {
+                continue;
+            }
+            switch (event.operation) {
+                case CacheAccessTraceRecorder.OP_GET:
+                    requests++;
+                    if (cache.get(event.keyHash, event.timestamp)) {
+                        hits++;
+                    } else {
+                        // 로더가 값을 채운 것으로 보고 넣음 (크기는 뒤따르는 put에서 반영)
+                        cache.put(event.keyHash, event.size, event.timestamp);
+                        if (event.size == 0) {
+                            pendingFills.add(event.keyHash);
+                        }
+                    }
+                    bytesTotal += cache.bytes();
+                    break;
+                case CacheAccessTraceRecorder.OP_PUT:
+                    if (pendingFills.remove(event.keyHash)) {
+                        cache.resize(event.keyHash, event.size);
+                    } else {
+                        cache.put(event.keyHash, event.size, event.timestamp);
+                    }
+                    break;
+                case CacheAccessTraceRecorder.OP_EVICT:
+                    cache.remove(event.keyHash);
+                    pendingFills.remove(event.keyHash);
+                    break;
+                case CacheAccessTraceRecorder.OP_CLEAR:
+                    cache.clear();
+                    pendingFills.clear();
+                    break;
+                default:
+                    break;
+            }
+            peakBytes = Math.max(peakBytes, cache.bytes());
+        }
+        double scale = 1 / trace.getSampleRate();
+        return new Result(cacheName, policy, ttl, capacity, requests,
+                requests == 0 ? 0 : (double) hits / requests,
+                requests == 0 ? 0 : (long) (bytesTotal / (double) requests * scale),
+                (long) (peakBytes * scale));
+    }
+
+    static SimulatedCache create(String policy, Duration ttl, Capacity capacity) {
+        long ttlMillis = ttl != null ? ttl.toMillis() : 0;
+        switch (policy) {
+            case POLICY_LRU:
+                return new LruCache(ttlMillis, capacity);
+            case POLICY_LFU:
+                return new LfuCache(ttlMillis, capacity);
+            case POLICY_TINYLFU:
+                return new TinyLfuCache(ttlMillis, capacity);
+            default:
+                throw new IllegalArgumentException("Unknown policy: " + policy);
+        }
+    }
+
+    static Duration parseTtl(String value) {
+        String trimmed = value.trim();
+        return trimmed.isEmpty() || "none".equalsIgnoreCase(trimmed) ? null : DurationStyle.detectAndParse(trimmed);
+    }
+
+    private static String formatTtl(Duration ttl) {
+        return ttl == null ? "none" : ttl.getSeconds() + "s";
+    }
+
+    /**
+     * 기록 파일 (헤더의 sample_rate와 접근 기록)
+     */
+    public static class Trace {
+
+        private final double sampleRate;
+        private final List<Event> events;
+
+        Trace(double sampleRate, List<Event> events) {
+            this.sampleRate = sampleRate;
+            this.events = events;
+        }
+
+        public static Trace read(Path path) throws IOException {
+            double sampleRate = 1.0;
+            List<Event> events = new ArrayList<>();
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.startsWith("#")) {
+                        for (String token : line.split(" ")) {
+                            if (token.startsWith("sample_rate=")) {
+                                sampleRate = Double.parseDouble(token.substring("sample_rate=".length()));
+                            }
+                        }
+                        continue;
+                    }
+                    Event event = Event.parse(line);
+                    if (event != null) {
+                        events.add(event);
+                    }
+                }
+            }
+            // 여러 스레드가 넣은 기록은 시각이 약간 뒤섞일 수 있음
+            events.sort(Comparator.comparingLong(event -> event.timestamp));
+            return new Trace(sampleRate, events);
+        }
+
+        public double getSampleRate() {
+            return sampleRate;
+        }
+
+        public Set<String> cacheNames() {
+            Set<String> names = new TreeSet<>();
+            for (Event event : events) {
+                names.add(event.cacheName);
+            }
+            return names;
+        }
+
+        /**
+         * 기록 당시의 실제 적중률 (비교 기준)
+         */
+        public String describe(String cacheName) {
+            Map<String, long[]> counts = new LinkedHashMap<>();
+            for (Event event : events) {
+                if (!CacheAccessTraceRecorder.OP_GET.equals(event.operation)
+                        || (cacheName != null && !cacheName.equals(event.cacheName))) {
+                    continue;
+                }
+                long[] count = counts.computeIfAbsent(event.cacheName, name -> new long[3]);
+                if (CacheAccessTraceRecorder.RESULT_HIT_L1.equals(event.result)) {
+                    count[0]++;
+                } else if (CacheAccessTraceRecorder.RESULT_HIT_L2.equals(event.result)) {
+                    count[1]++;
+                } else {
+                    count[2]++;
+                }
+            }
+            StringBuilder summary = new StringBuilder("# recorded (sample_rate=" + sampleRate + ")");
+            counts.forEach((name, count) -> {
+                long total = count[0] + count[1] + count[2];
+                summary.append(String.format("%n#   %s: %d gets, l1 %.2f%%, l1+l2 %.2f%%", name, total,
+                        100.0 * count[0] / total, 100.0 * (count[0] + count[1]) / total));
+            });
+            return summary.toString();
+        }
+    }
+
+    static final class Event {
+        final long timestamp;
+        final String cacheName;
+        final String operation;
+        final long keyHash;
+        final int size;
+        final String result;
+
+        Event(long timestamp, String cacheName, String operation, long keyHash, int size, String result) {
+            this.timestamp = timestamp;
+            this.cacheName = cacheName;
+            this.operation = operation;
+            this.keyHash = keyHash;
+            this.size = size;
+            this.result = result;
+        }
+
+        static Event parse(String line) {
+            String[] fields = line.split(",");
+            if (fields.length < 6) {
+                return null;
+            }
+            try {
+                return new Event(Long.parseLong(fields[0]), fields[1], fields[2],
+                        Long.parseUnsignedLong(fields[3], 16), Integer.parseInt(fields[4]), fields[5]);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 용량 - 항목 수(L1 maximumSize) 또는 바이트(Redis 예산), 0이면 무제한
+     */
+    public static final class Capacity {
+        private final long limit;
+        private final boolean bytes;
+
+        private Capacity(long limit, boolean bytes) {
+            this.limit = limit;
+            this.bytes = bytes;
+        }
+
+        public static Capacity entries(long limit) {
+            return new Capacity(limit, false);
+        }
+
+        public static Capacity bytes(long limit) {
+            return new Capacity(limit, true);
+        }
+
+        public static Capacity parse(String value) {
+            String trimmed = value.trim();
+            if ("unbounded".equalsIgnoreCase(trimmed) || "0".equals(trimmed)) {
+                return entries(0);
+            }
+            if (trimmed.chars().allMatch(Character::isDigit)) {
+                return entries(Long.parseLong(trimmed));
+            }
+            return bytes(DataSize.parse(trimmed).toBytes());
+        }
+
+        Capacity scaled(double sampleRate) {
+            return limit == 0 ? this : new Capacity(Math.max(1, Math.round(limit * sampleRate)), bytes);
+        }
+
+        boolean exceeded(long entries, long usedBytes) {
+            return limit > 0 && (bytes ? usedBytes > limit : entries > limit);
+        }
+
+        long getLimit() {
+            return limit;
+        }
+
+        boolean isBytes() {
+            return bytes;
+        }
+
+        @Override
+        public String toString() {
+            return limit == 0 ? "unbounded" : bytes ? DataSize.ofBytes(limit).toKilobytes() + "KB" : limit + "";
+        }
+    }
+
+    public static final class Result {
+        private final String cacheName;
+        private final String policy;
+        private final Duration ttl;
+        private final Capacity capacity;
+        private final long requests;
+        private final double hitRate;
+        private final long averageBytes;
+        private final long peakBytes;
+
+        Result(String cacheName, String policy, Duration ttl, Capacity capacity, long requests, double hitRate,
+               long averageBytes, long peakBytes) {
+            this.cacheName = cacheName;
+            this.policy = policy;
+            this.ttl = ttl;
+            this.capacity = capacity;
+            this.requests = requests;
+            this.hitRate = hitRate;
+            this.averageBytes = averageBytes;
+            this.peakBytes = peakBytes;
+        }
+
+        public String getCacheName() {
+            return cacheName;
+        }
+
+        public String getPolicy() {
+            return policy;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public Capacity getCapacity() {
+            return capacity;
+        }
+
+        public long getRequests() {
+            return requests;
+        }
+
+        public double getHitRate() {
+            return hitRate;
+        }
+
+        public long getAverageBytes() {
+            return averageBytes;
+        }
+
+        public long getPeakBytes() {
+            return peakBytes;
+        }
+    }
+
+    abstract static class SimulatedCache {
+        abstract boolean get(long key, long now);
+
+        abstract void put(long key, int size, long now);
+
+        abstract void resize(long key, int size);
+
+        abstract void remove(long key);
+
+        abstract void clear();
+
+        abstract long bytes();
+    }
+
+    private static final class Entry {
+        final long key;
+        int size;
+        long writtenAt;
+        long frequency;
+        long lastAccess;
+
+        Entry(long key, int size, long writtenAt) {
+            this.key = key;
+            this.size = size;
+            this.writtenAt = writtenAt;
+        }
+    }
+
+    // LRU/LFU 공통 - 쓰기 후 만료(TTL)와 용량 초과 시 victim() 제거
+    private abstract static class OrderedCache extends SimulatedCache {
+        final long ttlMillis;
+        final Capacity capacity;
+        final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>();
+        long usedBytes;
+        long tick;
+
+        OrderedCache(long ttlMillis, Capacity capacity) {
+            this.ttlMillis = ttlMillis;
+            this.capacity = capacity;
+        }
+
+        abstract void touch(Entry entry);
+
+        abstract void forget(Entry entry);
+
+        abstract Entry victim();
+
+        @Override
+        boolean get(long key, long now) {
+            expire(now);
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return false;
+            }
+            touch(entry);
+            return true;
+        }
+
+        @Override
+        void put(long key, int size, long now) {
+            expire(now);
+            Entry entry = entries.remove(key);
+            if (entry != null) {
+                forget(entry);
+                usedBytes -= entry.size;
+                entry.size = size;
+                entry.writtenAt = now;
+            } else {
+                entry = new Entry(key, size, now);
+            }
+            // entries는 쓰기 순서 유지 (만료 확인용)
+            entries.put(key, entry);
+            usedBytes += size;
+            touch(entry);
+            evictIfNeeded();
+        }
+
+        @Override
+        void resize(long key, int size) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                usedBytes += size - entry.size;
+                entry.size = size;
+                evictIfNeeded();
+            }
+        }
+
+        @Override
+        void remove(long key) {
+            Entry entry = entries.remove(key);
+            if (entry != null) {
+                forget(entry);
+                usedBytes -= entry.size;
+            }
+        }
+
+        @Override
+        void clear() {
+            for (Long key : new ArrayList<>(entries.keySet())) {
+                remove(key);
+            }
+        }
+
+        @Override
+        long bytes() {
+            return usedBytes;
+        }
+
+        // Redis처럼 만료된 항목은 조회되지 않아도 메모리에서 빠짐
+        private void expire(long now) {
+            if (ttlMillis <= 0) {
+                return;
+            }
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (now - entry.writtenAt < ttlMillis) {
+                    return;
+                }
+                iterator.remove();
+                forget(entry);
+                usedBytes -= entry.size;
+            }
+        }
+
+        private void evictIfNeeded() {
+            while (!entries.isEmpty() && capacity.exceeded(entries.size(), usedBytes)) {
+                remove(victim().key);
+            }
+        }
+    }
+
+    private static final class LruCache extends OrderedCache {
+        private final LinkedHashMap<Long, Entry> order = new LinkedHashMap<>(16, 0.75f, true);
+
+        LruCache(long ttlMillis, Capacity capacity) {
+            super(ttlMillis, capacity);
+        }
+
+        @Override
+        void touch(Entry entry) {
+            order.put(entry.key, entry);
+        }
+
+        @Override
+        void forget(Entry entry) {
+            order.remove(entry.key);
+        }
+
+        @Override
+        Entry victim() {
+            Iterator<Entry> iterator = order.values().iterator();
+            return iterator.next();
+        }
+    }
+
+    private static final class LfuCache extends OrderedCache {
+        // 적게 쓴 항목부터, 같으면 오래 안 쓴 항목부터
+        private final TreeSet<Entry> order = new TreeSet<>(Comparator.<Entry>comparingLong(entry -> entry.frequency)
+                .thenComparingLong(entry -> entry.lastAccess)
+                .thenComparingLong(entry -> entry.key));
+
+        LfuCache(long ttlMillis, Capacity capacity) {
+            super(ttlMillis, capacity);
+        }
+
+        @Override
+        void touch(Entry entry) {
+            order.remove(entry);
+            entry.frequency++;
+            entry.lastAccess = ++tick;
+            order.add(entry);
+        }
+
+        @Override
+        void forget(Entry entry) {
+            order.remove(entry);
+        }
+
+        @Override
+        Entry victim() {
+            return order.first();
+        }
+    }
+
+    // 운영 L1과 같은 Caffeine(W-TinyLFU)을 기록 시각으로 움직이는 ticker와 동기 executor로 재생
+    private static final class TinyLfuCache extends SimulatedCache {
+        private final com.github.benmanes.caffeine.cache.Cache<Long, Integer> cache;
+        private final Map<Long, Integer> sizes = new HashMap<>();
+        private long now;
+        private long usedBytes;
+
+        TinyLfuCache(long ttlMillis, Capacity capacity) {
+            Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                    .executor(Runnable::run)
+                    .ticker(new Ticker() {
+                        @Override
+                        public long read() {
+                            return TimeUnit.MILLISECONDS.toNanos(now);
+                        }
+                    });
+            if (ttlMillis > 0) {
+                builder.expireAfterWrite(Duration.ofMillis(ttlMillis));
+            }
+            Caffeine<Long, Integer> typed = builder.removalListener((Long key, Integer size, com.github.benmanes.caffeine.cache.RemovalCause cause) -> {
+                if (key != null && size != null && sizes.remove(key, size)) {
+                    usedBytes -= size;
+                }
+            });
+            if (capacity.getLimit() > 0) {
+                if (capacity.isBytes()) {
+                    typed.maximumWeight(capacity.getLimit()).weigher((Long key, Integer size) -> Math.max(1, size));
+                } else {
+                    typed.maximumSize(capacity.getLimit());
+                }
+            }
+            this.cache = typed.build();
+        }
+
+        @Override
+        boolean get(long key, long now) {
+            this.now = now;
+            return cache.getIfPresent(key) != null;
+        }
+
+        @Override
+        void put(long key, int size, long now) {
+            this.now = now;
+            Integer previous = sizes.put(key, size);
+            if (previous != null) {
+                usedBytes -= previous;
+            }
+            usedBytes += size;
+            cache.put(key, size);
+            cache.cleanUp();
+        }
+
+        @Override
+        void resize(long key, int size) {
+            if (cache.getIfPresent(key) != null) {
+                put(key, size, now);
+            }
+        }
+
+        @Override
+        void remove(long key) {
+            cache.invalidate(key);
+            cache.cleanUp();
+        }
+
+        @Override
+        void clear() {
+            cache.invalidateAll();
+            cache.cleanUp();
+        }
+
+        @Override
+        long bytes() {
+            return usedBytes;
+        }
+    }
+}
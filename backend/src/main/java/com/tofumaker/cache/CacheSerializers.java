@@ -0,0 +1,59 @@
+package com.tofumaker.cache;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Redis 값 직렬화기 생성
+ */
+public final class CacheSerializers {
+
+    public static final String CODEC_JSON = "json";
+    public static final String CODEC_COMPACT = "compact";
+
+    private CacheSerializers() {}
+
+    /**
+     * 기존 JSON 직렬화기 (클래스명 포함 default typing)
+     */
+    public static Jackson2JsonRedisSerializer<Object> json() {
+        Jackson2JsonRedisSerializer<Object> serializer = new Jackson2JsonRedisSerializer<>(Object.class);
+        serializer.setObjectMapper(objectMapper(new JsonFactory()));
+        return serializer;
+    }
+
+    /**
+     * Smile + LZ4 바이너리 직렬화기 (헤더 없는 기존 JSON 값도 읽음)
+     */
+    public static CompactRedisSerializer compact(int compressionThreshold) {
+        SmileFactory smileFactory = new SmileFactory();
+        // 반복되는 클래스명/필드명을 back-reference로 공유
+        smileFactory.enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES);
+        return new CompactRedisSerializer(objectMapper(smileFactory), json(), compressionThreshold);
+    }
+
+    /**
+     * 설정된 코덱 이름으로 캐시 값 직렬화기 선택
+     */
+    public static RedisSerializer<Object> forCodec(String codec, int compressionThreshold) {
+        if (CODEC_JSON.equalsIgnoreCase(codec)) {
+            return json();
+        }
+        return compact(compressionThreshold);
+    }
+
+    private static ObjectMapper objectMapper(JsonFactory factory) {
+        ObjectMapper objectMapper = new ObjectMapper(factory);
+        objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.activateDefaultTyping(objectMapper.getPolymorphicTypeValidator(), ObjectMapper.DefaultTyping.NON_FINAL);
+        return objectMapper;
+    }
+}
@@ -0,0 +1,29 @@
+package com.tofumaker.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드 정상 종료 후 태그에 의존하는 캐시 엔트리만 무효화
+ *
+ * tags는 "#{...}" 템플릿으로 메서드 인자(#id)나 반환값(#result)을 참조할 수 있다.
+ * 예: {@code @CacheTagEvict(value = "api-responses", tags = {"board:#{#id}", "listings:search"})}
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CacheTagEvict {
+
+    /**
+     * 대상 캐시명
+     */
+    String value();
+
+    /**
+     * 무효화할 태그 목록
+     */
+    String[] tags();
+}
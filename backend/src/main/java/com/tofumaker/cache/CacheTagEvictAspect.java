@@ -0,0 +1,75 @@
+package com.tofumaker.cache;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.ParserContext;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link CacheTagEvict} 처리
+ */
+@Aspect
+@Component
+public class CacheTagEvictAspect {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheTagEvictAspect.class);
+
+    private final CacheManager cacheManager;
+    private final ExpressionParser parser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+
+    public CacheTagEvictAspect(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @AfterReturning(pointcut = "@annotation(cacheTagEvict)", returning = "result")
+    public void evictTags(JoinPoint joinPoint, CacheTagEvict cacheTagEvict, Object result) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        EvaluationContext context = new MethodBasedEvaluationContext(
+                joinPoint.getTarget(), method, joinPoint.getArgs(), parameterNameDiscoverer);
+        context.setVariable("result", result);
+
+        Set<String> tags = new LinkedHashSet<>();
+        for (String tag : cacheTagEvict.tags()) {
+            Expression expression = expressions.computeIfAbsent(tag,
+                    template -> parser.parseExpression(template, ParserContext.TEMPLATE_EXPRESSION));
+            tags.add(expression.getValue(context, String.class));
+        }
+
+        Cache cache = cacheManager.getCache(cacheTagEvict.value());
+        if (cache == null) {
+            logger.warn("Cache not found for tag eviction: {}", cacheTagEvict.value());
+            return;
+        }
+        try {
+            if (cache instanceof TwoLevelCache) {
+                ((TwoLevelCache) cache).evictByTags(tags);
+            } else {
+                cache.clear();
+            }
+        } catch (Exception e) {
+            // 무효화 실패로 쓰기 자체를 실패시키지 않는다 (엔트리는 TTL로 만료)
+            logger.error("Failed to evict tags {} in cache: {}", tags, cacheTagEvict.value(), e);
+        }
+    }
+}
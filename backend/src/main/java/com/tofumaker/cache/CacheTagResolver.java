@@ -0,0 +1,18 @@
+package com.tofumaker.cache;
+
+import java.util.Set;
+
+/**
+ * 캐시 엔트리가 의존하는 태그(엔티티, 목록 계열 등)를 결정
+ */
+@FunctionalInterface
+public interface CacheTagResolver {
+
+    /**
+     * @param cacheName 캐시명
+     * @param key 캐시 키
+     * @param value 저장되는 값
+     * @return 엔트리가 의존하는 태그 (없으면 빈 Set)
+     */
+    Set<String> resolveTags(String cacheName, String key, Object value);
+}
@@ -0,0 +1,148 @@
+package com.tofumaker.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 캐시 값 크기 분포를 캐시/키 접두사별로 집계하고 큰 값을 경고
+ *
+ * 크기는 Redis에 저장되는 직렬화 바이트 기준이며 쓰기 시점에만 기록한다.
+ * 접두사는 {@link HotKeyTracker#prefixOf(String)}로 추출하고, 캐시당 maxPrefixes개를 넘으면 "other"로 묶는다.
+ * 경고 로그는 캐시/접두사마다 warnInterval에 한 번만 남긴다.
+ */
+public class CacheValueSizeMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheValueSizeMonitor.class);
+
+    static final String OTHER_PREFIX = "other";
+
+    // 히스토그램 구간 (1KB ~ 4MB)
+    private static final double[] BUCKETS = {1024, 16 * 1024, 64 * 1024, 256 * 1024, 1024 * 1024, 4 * 1024 * 1024};
+
+    private final MeterRegistry meterRegistry;
+    private final long warnThreshold;
+    private final long warnIntervalMillis;
+    private final int maxPrefixes;
+
+    private final Map<String, Map<String, Stats>> stats = new ConcurrentHashMap<>();
+
+    public CacheValueSizeMonitor(MeterRegistry meterRegistry, long warnThreshold, Duration warnInterval,
+                                 int maxPrefixes) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+        this.warnIntervalMillis = warnInterval.toMillis();
+        this.maxPrefixes = maxPrefixes;
+    }
+
+    /**
+     * 저장되는 값 크기 기록 (redisKey는 {cacheName}::[g{세대}::]{키} 형식)
+     */
+    public void record(String cacheName, String redisKey, int size) {
+        Stats entry = statsFor(cacheName, prefixOf(cacheName, redisKey));
+        entry.summary.record(size);
+        entry.count.increment();
+        entry.totalBytes.add(size);
+        entry.maxBytes.accumulateAndGet(size, Math::max);
+        if (warnThreshold > 0 && size >= warnThreshold) {
+            entry.oversized.increment();
+            long now = System.currentTimeMillis();
+            long last = entry.lastWarnedAt.get();
+            if (now - last >= warnIntervalMillis && entry.lastWarnedAt.compareAndSet(last, now)) {
+                logger.warn("Oversized cache value in {} (prefix {}): {} bytes, key {}",
+                        cacheName, entry.prefix, size, redisKey);
+            }
+        }
+    }
+
+    public long getWarnThreshold() {
+        return warnThreshold;
+    }
+
+    /**
+     * 캐시 -> 접두사 -> 건수, 평균/최대 바이트, 임계값 초과 건수
+     */
+    public Map<String, Map<String, Object>> describe() {
+        Map<String, Map<String, Object>> result = new TreeMap<>();
+        stats.forEach((cacheName, byPrefix) -> {
+            Map<String, Object> prefixes = new TreeMap<>();
+            byPrefix.forEach((prefix, entry) -> {
+                long count = entry.count.sum();
+                Map<String, Object> summary = new LinkedHashMap<>();
+                summary.put("count", count);
+                summary.put("avg_bytes", count == 0 ? 0 : entry.totalBytes.sum() / count);
+                summary.put("max_bytes", entry.maxBytes.get());
+                summary.put("oversized", (long) entry.oversized.count());
+                prefixes.put(prefix, summary);
+            });
+            result.put(cacheName, prefixes);
+        });
+        return result;
+    }
+
+    static String prefixOf(String cacheName, String redisKey) {
+        String key = redisKey.startsWith(cacheName + "::") ? redisKey.substring(cacheName.length() + 2) : redisKey;
+        // 세대 접두사(g{n}::) 제거
+        int separator = key.indexOf("::");
+        if (separator > 1 && key.charAt(0) == CacheGenerations.GENERATION_MARKER.charAt(0)
+                && isDigits(key, 1, separator)) {
+            key = key.substring(separator + 2);
+        }
+        return HotKeyTracker.prefixOf(key);
+    }
+
+    private static boolean isDigits(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Stats statsFor(String cacheName, String prefix) {
+        Map<String, Stats> byPrefix = stats.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>());
+        Stats entry = byPrefix.get(prefix);
+        if (entry != null) {
+            return entry;
+        }
+        String bounded = byPrefix.size() >= maxPrefixes ? OTHER_PREFIX : prefix;
+        return byPrefix.computeIfAbsent(bounded, key -> new Stats(cacheName, key));
+    }
+
+    private final class Stats {
+        private final String prefix;
+        private final DistributionSummary summary;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalBytes = new LongAdder();
+        private final AtomicLong maxBytes = new AtomicLong();
+        private final Counter oversized;
+        private final AtomicLong lastWarnedAt = new AtomicLong(Long.MIN_VALUE / 2);
+
+        private Stats(String cacheName, String prefix) {
+            this.prefix = prefix;
+            this.summary = DistributionSummary.builder("cache_value_size_bytes")
+                    .description("Serialized size of values written to Redis")
+                    .baseUnit("bytes")
+                    .tag("cache", cacheName)
+                    .tag("prefix", prefix)
+                    .serviceLevelObjectives(BUCKETS)
+                    .register(meterRegistry);
+            this.oversized = Counter.builder("cache_value_oversized_total")
+                    .description("Values written to Redis above the oversized threshold")
+                    .tag("cache", cacheName)
+                    .tag("prefix", prefix)
+                    .register(meterRegistry);
+        }
+    }
+}
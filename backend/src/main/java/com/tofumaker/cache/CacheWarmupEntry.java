@@ -0,0 +1,95 @@
+package com.tofumaker.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 워밍업 재실행 대상 - @Cacheable 로더 메서드와 인자
+ * 인자는 디스크에 저장할 수 있도록 JSON 친화적인 값으로 인코딩해 보관한다.
+ */
+public class CacheWarmupEntry {
+
+    private String cacheName;
+    private String beanType;
+    private String methodName;
+    private List<String> parameterTypes = new ArrayList<>();
+    private List<Object> arguments = new ArrayList<>();
+    private long hits;
+    private long lastAccessAt;
+
+    public CacheWarmupEntry() {
+    }
+
+    public CacheWarmupEntry(String cacheName, String beanType, String methodName,
+                            List<String> parameterTypes, List<Object> arguments) {
+        this.cacheName = cacheName;
+        this.beanType = beanType;
+        this.methodName = methodName;
+        this.parameterTypes = parameterTypes;
+        this.arguments = arguments;
+    }
+
+    /**
+     * 같은 로더 호출을 식별하는 시그니처
+     */
+    public String signature() {
+        return beanType + "#" + methodName + parameterTypes + arguments;
+    }
+
+    // Getters and Setters
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public void setCacheName(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    public String getBeanType() {
+        return beanType;
+    }
+
+    public void setBeanType(String beanType) {
+        this.beanType = beanType;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    public void setMethodName(String methodName) {
+        this.methodName = methodName;
+    }
+
+    public List<String> getParameterTypes() {
+        return parameterTypes;
+    }
+
+    public void setParameterTypes(List<String> parameterTypes) {
+        this.parameterTypes = parameterTypes;
+    }
+
+    public List<Object> getArguments() {
+        return arguments;
+    }
+
+    public void setArguments(List<Object> arguments) {
+        this.arguments = arguments;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public void setHits(long hits) {
+        this.hits = hits;
+    }
+
+    public long getLastAccessAt() {
+        return lastAccessAt;
+    }
+
+    public void setLastAccessAt(long lastAccessAt) {
+        this.lastAccessAt = lastAccessAt;
+    }
+}
@@ -0,0 +1,206 @@
+package com.tofumaker.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 자주 호출된 @Cacheable 로더 호출 목록 (최대 maxEntries개)
+ *
+ * 가득 차면 가장 적게 호출된 항목을 밀어내고, decay()로 호출 수를 절반씩 줄여
+ * 최근 트래픽 위주의 표본을 유지한다. 파일로 저장/복원할 수 있다.
+ */
+public class CacheWarmupManifest {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheWarmupManifest.class);
+
+    private static final String PAGEABLE_MARKER = "@pageable";
+
+    // 재실행할 수 없는 인자 표시
+    private static final Object UNSUPPORTED = new Object();
+
+    private final int maxEntries;
+    private final Map<String, CacheWarmupEntry> entries = new HashMap<>();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public CacheWarmupManifest(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 로더 호출 기록 (재실행할 수 없는 인자 타입이면 무시)
+     */
+    public void record(String cacheName, Class<?> beanType, String methodName,
+                       Class<?>[] parameterTypes, Object[] args) {
+        List<Object> encoded = new ArrayList<>(args.length);
+        for (Object arg : args) {
+            Object value = encode(arg);
+            if (value == UNSUPPORTED) {
+                return;
+            }
+            encoded.add(value);
+        }
+        List<String> typeNames = new ArrayList<>(parameterTypes.length);
+        for (Class<?> parameterType : parameterTypes) {
+            typeNames.add(parameterType.getName());
+        }
+
+        CacheWarmupEntry candidate = new CacheWarmupEntry(cacheName, beanType.getName(), methodName, typeNames, encoded);
+        String signature = candidate.signature();
+        synchronized (entries) {
+            CacheWarmupEntry entry = entries.get(signature);
+            if (entry == null) {
+                if (entries.size() >= maxEntries) {
+                    evictColdest();
+                }
+                entry = candidate;
+                entries.put(signature, entry);
+            }
+            entry.setHits(entry.getHits() + 1);
+            entry.setLastAccessAt(System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 호출 수 내림차순 상위 항목
+     */
+    public List<CacheWarmupEntry> top(int limit) {
+        synchronized (entries) {
+            return entries.values().stream()
+                    .sorted(Comparator.comparingLong(CacheWarmupEntry::getHits).reversed())
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public void decay() {
+        synchronized (entries) {
+            entries.values().removeIf(entry -> {
+                entry.setHits(entry.getHits() / 2);
+                return entry.getHits() == 0;
+            });
+        }
+    }
+
+    public void save(Path path) throws IOException {
+        List<CacheWarmupEntry> snapshot = top(maxEntries);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        objectMapper.writeValue(temp.toFile(), snapshot);
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public void load(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        List<CacheWarmupEntry> loaded = objectMapper.readValue(path.toFile(),
+                new TypeReference<List<CacheWarmupEntry>>() {});
+        synchronized (entries) {
+            for (CacheWarmupEntry entry : loaded) {
+                if (entries.size() >= maxEntries) {
+                    break;
+                }
+                entries.putIfAbsent(entry.signature(), entry);
+            }
+        }
+        logger.info("Loaded {} cache warmup entries from {}", loaded.size(), path);
+    }
+
+    /**
+     * 저장된 인자를 메서드 파라미터 타입으로 복원
+     */
+    public Object[] decodeArguments(CacheWarmupEntry entry, Class<?>[] parameterTypes) {
+        Object[] args = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            Object value = entry.getArguments().get(i);
+            if (value == null) {
+                continue;
+            }
+            if (Pageable.class.isAssignableFrom(parameterTypes[i])) {
+                args[i] = decodePageable(value);
+            } else {
+                args[i] = objectMapper.convertValue(value, parameterTypes[i]);
+            }
+        }
+        return args;
+    }
+
+    private void evictColdest() {
+        String coldest = null;
+        long coldestHits = Long.MAX_VALUE;
+        for (Map.Entry<String, CacheWarmupEntry> entry : entries.entrySet()) {
+            if (entry.getValue().getHits() < coldestHits) {
+                coldestHits = entry.getValue().getHits();
+                coldest = entry.getKey();
+            }
+        }
+        if (coldest != null) {
+            entries.remove(coldest);
+        }
+    }
+
+    private static Object encode(Object arg) {
+        if (arg == null || arg instanceof Number || arg instanceof String || arg instanceof Boolean) {
+            return arg;
+        }
+        if (arg instanceof Enum) {
+            return ((Enum<?>) arg).name();
+        }
+        if (arg instanceof Pageable) {
+            Pageable pageable = (Pageable) arg;
+            if (pageable.isUnpaged()) {
+                return UNSUPPORTED;
+            }
+            Map<String, Object> encoded = new LinkedHashMap<>();
+            encoded.put(PAGEABLE_MARKER, true);
+            encoded.put("page", pageable.getPageNumber());
+            encoded.put("size", pageable.getPageSize());
+            List<Map<String, String>> orders = new ArrayList<>();
+            for (Sort.Order order : pageable.getSort()) {
+                Map<String, String> encodedOrder = new LinkedHashMap<>();
+                encodedOrder.put("property", order.getProperty());
+                encodedOrder.put("direction", order.getDirection().name());
+                orders.add(encodedOrder);
+            }
+            encoded.put("sort", orders);
+            return encoded;
+        }
+        return UNSUPPORTED;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Pageable decodePageable(Object value) {
+        Map<String, Object> encoded = (Map<String, Object>) value;
+        List<Sort.Order> orders = new ArrayList<>();
+        for (Map<String, String> order : (List<Map<String, String>>) encoded.get("sort")) {
+            orders.add(new Sort.Order(Sort.Direction.valueOf(order.get("direction")), order.get("property")));
+        }
+        return PageRequest.of(((Number) encoded.get("page")).intValue(),
+                ((Number) encoded.get("size")).intValue(), Sort.by(orders));
+    }
+}
@@ -0,0 +1,63 @@
+package com.tofumaker.cache;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+/**
+ * @Cacheable 호출을 워밍업 목록에 기록
+ * 캐시 적중 여부와 무관하게 모든 호출을 보도록 캐시 인터셉터보다 바깥에서 실행한다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CacheWarmupRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheWarmupRecorder.class);
+
+    // 워밍업 재실행 중인 호출은 기록하지 않음
+    private static final ThreadLocal<Boolean> REPLAYING = ThreadLocal.withInitial(() -> false);
+
+    private final CacheWarmupManifest manifest;
+
+    public CacheWarmupRecorder(CacheWarmupManifest manifest) {
+        this.manifest = manifest;
+    }
+
+    @Around("@annotation(cacheable)")
+    public Object record(ProceedingJoinPoint joinPoint, Cacheable cacheable) throws Throwable {
+        if (!REPLAYING.get()) {
+            try {
+                Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+                String[] cacheNames = cacheable.value().length > 0 ? cacheable.value() : cacheable.cacheNames();
+                manifest.record(cacheNames.length > 0 ? cacheNames[0] : null,
+                        AopUtils.getTargetClass(joinPoint.getTarget()),
+                        method.getName(), method.getParameterTypes(), joinPoint.getArgs());
+            } catch (RuntimeException e) {
+                logger.debug("Failed to record cache warmup entry: {}", e.getMessage());
+            }
+        }
+        return joinPoint.proceed();
+    }
+
+    /**
+     * 워밍업 재실행 구간 표시
+     */
+    public static void markReplaying(boolean replaying) {
+        if (replaying) {
+            REPLAYING.set(true);
+        } else {
+            REPLAYING.remove();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.tofumaker.cache;
+
+import java.time.Duration;
+
+/**
+ * 임대 펜스 번호를 같은 스레드의 캐시 쓰기까지 전달
+ *
+ * {@link CountingRedisCacheWriter}는 펜스가 있으면 값 키 옆의 {값 키}:fence와 비교해
+ * 더 작은 펜스의 쓰기를 값 SET과 같은 Lua 스크립트 안에서 거부한다 (확인과 쓰기 사이에 끼어들 수 없음).
+ * 펜스 키는 값과 같은 노드에 있으므로 샤딩된 캐시에서도 원자적이다.
+ */
+final class CacheWriteFence implements AutoCloseable {
+
+    private static final ThreadLocal<CacheWriteFence> CURRENT = new ThreadLocal<>();
+
+    private final long fence;
+    private final Duration ttl;
+    private final CacheWriteFence previous;
+    private boolean rejected;
+
+    private CacheWriteFence(long fence, Duration ttl, CacheWriteFence previous) {
+        this.fence = fence;
+        this.ttl = ttl;
+        this.previous = previous;
+    }
+
+    /**
+     * 이 스레드의 다음 캐시 쓰기에 펜스를 붙임 (try-with-resources로 닫기)
+     *
+     * @param ttl 펜스 키 최소 유지 시간 - 이보다 늦게 끝난 로더는 막지 못함
+     */
+    static CacheWriteFence open(long fence, Duration ttl) {
+        CacheWriteFence writeFence = new CacheWriteFence(fence, ttl, CURRENT.get());
+        CURRENT.set(writeFence);
+        return writeFence;
+    }
+
+    static CacheWriteFence current() {
+        return CURRENT.get();
+    }
+
+    long getFence() {
+        return fence;
+    }
+
+    Duration getTtl() {
+        return ttl;
+    }
+
+    /**
+     * 더 큰 펜스의 값이 이미 쓰여 있어 이 쓰기가 거부됨
+     */
+    boolean isRejected() {
+        return rejected;
+    }
+
+    void reject() {
+        rejected = true;
+    }
+
+    @Override
+    public void close() {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+}
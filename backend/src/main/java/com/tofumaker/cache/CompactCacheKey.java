@@ -0,0 +1,28 @@
+package com.tofumaker.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@link CompactKeyGenerator}가 만드는 캐시 키의 계열(접두사)과 키에 포함할 인자 지정
+ *
+ * 예: {@code @CompactCacheKey(value = "board", args = 0)} -> board_42
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CompactCacheKey {
+
+    /**
+     * 키 계열 (태그 해석과 핫 키 접두사에 쓰이므로 사람이 읽을 수 있는 이름)
+     */
+    String value();
+
+    /**
+     * 키에 포함할 인자 위치 (비우면 전체 인자)
+     */
+    int[] args() default {};
+}
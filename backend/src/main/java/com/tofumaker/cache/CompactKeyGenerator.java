@@ -0,0 +1,222 @@
+package com.tofumaker.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SpEL 없이 메서드와 인자로 짧은 캐시 키를 만드는 KeyGenerator
+ *
+ * 메서드별 키 계열과 인자 인코더는 첫 호출 때 한 번만 만들어 재사용한다.
+ * - 인자가 없으면 계열 그대로 (all_boards)
+ * - 인자가 모두 정수면 계열_값 형태 (board_42) - 직접 키로 조회/삭제하는 항목과 호환
+ * - 그 외에는 인자를 타입 태그가 붙은 바이너리로 인코딩해 계열#base64url 형태로 만들고,
+ *   16바이트를 넘으면 SHA-256 앞 16바이트로 줄인다 (최대 22자)
+ * 사람이 읽을 수 있는 원래 형태는 DEBUG 로그로 남긴다.
+ */
+public class CompactKeyGenerator implements KeyGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompactKeyGenerator.class);
+
+    public static final char PAYLOAD_SEPARATOR = '#';
+
+    private static final int MAX_RAW_PAYLOAD = 16;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_NUMBER = 1;
+    private static final byte TAG_STRING = 2;
+    private static final byte TAG_PAGEABLE = 3;
+    private static final byte TAG_OTHER = 4;
+
+    private static final Base64.Encoder BASE64 = Base64.getUrlEncoder().withoutPadding();
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    private final Map<Method, KeyTemplate> templates = new ConcurrentHashMap<>();
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        KeyTemplate template = templates.computeIfAbsent(method, KeyTemplate::compile);
+        String key = template.key(params);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Cache key {} = {}", key, template.readable(params));
+        }
+        return key;
+    }
+
+    /**
+     * 메서드별로 미리 계산한 키 계열과 인자 위치
+     */
+    static final class KeyTemplate {
+        private final String family;
+        private final int[] args;
+        private final boolean integralOnly;
+
+        private KeyTemplate(String family, int[] args, boolean integralOnly) {
+            this.family = family;
+            this.args = args;
+            this.integralOnly = integralOnly;
+        }
+
+        static KeyTemplate compile(Method method) {
+            CompactCacheKey annotation = AnnotatedElementUtils.findMergedAnnotation(method, CompactCacheKey.class);
+            String family = annotation != null ? annotation.value() : method.getName();
+            int[] args = annotation != null && annotation.args().length > 0
+                    ? annotation.args()
+                    : indexes(method.getParameterCount());
+            boolean integralOnly = args.length > 0;
+            for (int index : args) {
+                integralOnly &= isIntegral(method.getParameterTypes()[index]);
+            }
+            return new KeyTemplate(family, args, integralOnly);
+        }
+
+        String key(Object[] params) {
+            if (args.length == 0) {
+                return family;
+            }
+            if (integralOnly && allPresent(params)) {
+                StringBuilder key = new StringBuilder(family.length() + 12 * args.length).append(family);
+                for (int index : args) {
+                    key.append('_').append(((Number) params[index]).longValue());
+                }
+                return key.toString();
+            }
+
+            ByteBuffer buffer = new ByteBuffer();
+            for (int index : args) {
+                encode(buffer, params[index]);
+            }
+            byte[] payload = buffer.length <= MAX_RAW_PAYLOAD
+                    ? Arrays.copyOf(buffer.bytes, buffer.length)
+                    : digest(buffer);
+            return family + PAYLOAD_SEPARATOR + BASE64.encodeToString(payload);
+        }
+
+        String readable(Object[] params) {
+            StringBuilder readable = new StringBuilder(family).append('(');
+            for (int i = 0; i < args.length; i++) {
+                if (i > 0) {
+                    readable.append(", ");
+                }
+                readable.append(params[args[i]]);
+            }
+            return readable.append(')').toString();
+        }
+
+        private boolean allPresent(Object[] params) {
+            for (int index : args) {
+                if (params[index] == null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static byte[] digest(ByteBuffer buffer) {
+            MessageDigest sha256 = SHA256.get();
+            sha256.reset();
+            sha256.update(buffer.bytes, 0, buffer.length);
+            return Arrays.copyOf(sha256.digest(), MAX_RAW_PAYLOAD);
+        }
+
+        private static int[] indexes(int count) {
+            int[] indexes = new int[count];
+            for (int i = 0; i < count; i++) {
+                indexes[i] = i;
+            }
+            return indexes;
+        }
+
+        private static boolean isIntegral(Class<?> type) {
+            return type == Long.class || type == long.class || type == Integer.class || type == int.class
+                    || type == Short.class || type == short.class;
+        }
+    }
+
+    static void encode(ByteBuffer buffer, Object arg) {
+        if (arg == null) {
+            buffer.write(TAG_NULL);
+        } else if (arg instanceof Long || arg instanceof Integer || arg instanceof Short) {
+            buffer.write(TAG_NUMBER);
+            buffer.writeVarLong(((Number) arg).longValue());
+        } else if (arg instanceof String) {
+            buffer.write(TAG_STRING);
+            buffer.writeString((String) arg);
+        } else if (arg instanceof Pageable && ((Pageable) arg).isPaged()) {
+            Pageable pageable = (Pageable) arg;
+            buffer.write(TAG_PAGEABLE);
+            buffer.writeVarLong(pageable.getPageNumber());
+            buffer.writeVarLong(pageable.getPageSize());
+            int orders = 0;
+            for (Sort.Order ignored : pageable.getSort()) {
+                orders++;
+            }
+            buffer.writeVarLong(orders);
+            for (Sort.Order order : pageable.getSort()) {
+                buffer.writeString(order.getProperty());
+                buffer.write((byte) ((order.isAscending() ? 0 : 1) | (order.isIgnoreCase() ? 2 : 0)));
+            }
+        } else {
+            buffer.write(TAG_OTHER);
+            buffer.writeString(arg.getClass().getName());
+            buffer.writeString(arg.toString());
+        }
+    }
+
+    /**
+     * 키 인코딩용 가변 길이 바이트 버퍼
+     */
+    static final class ByteBuffer {
+        private byte[] bytes = new byte[32];
+        private int length;
+
+        void write(byte value) {
+            ensure(1);
+            bytes[length++] = value;
+        }
+
+        // zigzag + varint
+        void writeVarLong(long value) {
+            long zigzag = (value << 1) ^ (value >> 63);
+            ensure(10);
+            while ((zigzag & ~0x7FL) != 0) {
+                bytes[length++] = (byte) ((zigzag & 0x7F) | 0x80);
+                zigzag >>>= 7;
+            }
+            bytes[length++] = (byte) zigzag;
+        }
+
+        void writeString(String value) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(utf8.length);
+            ensure(utf8.length);
+            System.arraycopy(utf8, 0, bytes, length, utf8.length);
+            length += utf8.length;
+        }
+
+        private void ensure(int extra) {
+            if (length + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.tofumaker.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 버전 헤더가 붙은 바이너리(Smile) 캐시 값 직렬화기
+ *
+ * 포맷: [MAGIC][VERSION][FLAGS]([원본 길이 4바이트] - 압축 시) + 본문
+ * - 본문이 임계값 이상이면 LZ4로 압축한다.
+ * - MAGIC이 없는 값은 기존(JSON) 직렬화기로 읽어 Redis를 비우지 않고 전환할 수 있다.
+ * - 모르는 VERSION은 캐시 미스로 처리해 롤링 배포 중 구버전 노드가 실패하지 않게 한다.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompactRedisSerializer.class);
+
+    static final byte MAGIC = (byte) 0xC7;
+    static final byte VERSION = 1;
+    static final byte FLAG_LZ4 = 0x01;
+
+    private static final int HEADER_SIZE = 3;
+    private static final int LENGTH_SIZE = 4;
+
+    private final ObjectMapper binaryMapper;
+    private final RedisSerializer<Object> legacySerializer;
+    private final int compressionThreshold;
+
+    private final LZ4Compressor compressor = LZ4Factory.fastestInstance().fastCompressor();
+    private final LZ4FastDecompressor decompressor = LZ4Factory.fastestInstance().fastDecompressor();
+
+    /**
+     * @param binaryMapper Smile 기반 ObjectMapper (타입 정보 포함)
+     * @param legacySerializer 헤더 없는 기존 값을 읽을 직렬화기
+     * @param compressionThreshold 이 크기(바이트) 이상인 본문을 압축
+     */
+    public CompactRedisSerializer(ObjectMapper binaryMapper, RedisSerializer<Object> legacySerializer,
+                                  int compressionThreshold) {
+        this.binaryMapper = binaryMapper;
+        this.legacySerializer = legacySerializer;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        byte[] body;
+        try {
+            body = binaryMapper.writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new SerializationException("Could not write cache value: " + e.getMessage(), e);
+        }
+
+        if (body.length < compressionThreshold) {
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + body.length);
+            buffer.put(MAGIC).put(VERSION).put((byte) 0).put(body);
+            return buffer.array();
+        }
+
+        byte[] compressed = new byte[compressor.maxCompressedLength(body.length)];
+        int compressedLength = compressor.compress(body, 0, body.length, compressed, 0, compressed.length);
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + LENGTH_SIZE + compressedLength);
+        buffer.put(MAGIC).put(VERSION).put(FLAG_LZ4).putInt(body.length).put(compressed, 0, compressedLength);
+        return buffer.array();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC || bytes.length < HEADER_SIZE) {
+            return legacySerializer.deserialize(bytes);
+        }
+        if (bytes[1] != VERSION) {
+            logger.debug("Unsupported cache value version: {}, treating as miss", bytes[1]);
+            return null;
+        }
+
+        try {
+            if ((bytes[2] & FLAG_LZ4) == 0) {
+                return binaryMapper.readValue(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE, Object.class);
+            }
+            int originalLength = ByteBuffer.wrap(bytes, HEADER_SIZE, LENGTH_SIZE).getInt();
+            byte[] body = new byte[originalLength];
+            decompressor.decompress(bytes, HEADER_SIZE + LENGTH_SIZE, body, 0, originalLength);
+            return binaryMapper.readValue(body, Object.class);
+        } catch (Exception e) {
+            throw new SerializationException("Could not read cache value: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.tofumaker.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 가상 노드 기반 일관된 해시 링 (노드 ID -> 노드)
+ *
+ * 노드마다 virtualNodes개의 점을 링에 배치하고, 키는 시계 방향으로 가장 가까운 점의 노드로 보낸다.
+ * 노드를 하나 추가하면 대략 1/(노드 수)만큼의 키만 새 노드로 옮겨 간다.
+ * 변경은 스레드 안전하지 않으므로 구성이 끝난 뒤에는 읽기 전용으로 사용한다.
+ */
+public class ConsistentHashRing<T> {
+
+    private final int virtualNodes;
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+    private final Map<String, T> nodes = new LinkedHashMap<>();
+
+    public ConsistentHashRing(int virtualNodes) {
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("virtualNodes must be positive: " + virtualNodes);
+        }
+        this.virtualNodes = virtualNodes;
+    }
+
+    public void add(String nodeId, T node) {
+        nodes.put(nodeId, node);
+        for (int i = 0; i < virtualNodes; i++) {
+            ring.put(hash(nodeId + "#" + i), nodeId);
+        }
+    }
+
+    public void remove(String nodeId) {
+        if (nodes.remove(nodeId) == null) {
+            return;
+        }
+        for (int i = 0; i < virtualNodes; i++) {
+            ring.remove(hash(nodeId + "#" + i), nodeId);
+        }
+    }
+
+    /**
+     * 키를 담당하는 노드 ID
+     */
+    public String nodeIdFor(String key) {
+        if (ring.isEmpty()) {
+            throw new IllegalStateException("Hash ring has no nodes");
+        }
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public T nodeFor(String key) {
+        return nodes.get(nodeIdFor(key));
+    }
+
+    public Map<String, T> getNodes() {
+        return Collections.unmodifiableMap(nodes);
+    }
+
+    public int getVirtualNodes() {
+        return virtualNodes;
+    }
+
+    /**
+     * 같은 가상 노드 수로 노드 하나를 더한 링 (재배치 영향 계산용)
+     */
+    public ConsistentHashRing<T> withNode(String nodeId, T node) {
+        ConsistentHashRing<T> copy = new ConsistentHashRing<>(virtualNodes);
+        for (Map.Entry<String, T> entry : nodes.entrySet()) {
+            copy.add(entry.getKey(), entry.getValue());
+        }
+        copy.add(nodeId, node);
+        return copy;
+    }
+
+    /**
+     * 두 링 사이의 재배치 영향 - 표본 키 중 담당 노드가 바뀌는 비율과 노드별 분포
+     */
+    public static Map<String, Object> rebalanceReport(ConsistentHashRing<?> before, ConsistentHashRing<?> after,
+                                                      Iterable<String> sampleKeys) {
+        Map<String, Long> beforeCounts = new LinkedHashMap<>();
+        Map<String, Long> afterCounts = new LinkedHashMap<>();
+        for (String nodeId : before.nodes.keySet()) {
+            beforeCounts.put(nodeId, 0L);
+        }
+        for (String nodeId : after.nodes.keySet()) {
+            afterCounts.put(nodeId, 0L);
+        }
+
+        long sampled = 0;
+        long moved = 0;
+        for (String key : sampleKeys) {
+            String from = before.nodeIdFor(key);
+            String to = after.nodeIdFor(key);
+            beforeCounts.merge(from, 1L, Long::sum);
+            afterCounts.merge(to, 1L, Long::sum);
+            if (!from.equals(to)) {
+                moved++;
+            }
+            sampled++;
+        }
+
+        List<String> added = new ArrayList<>(after.nodes.keySet());
+        added.removeAll(before.nodes.keySet());
+        List<String> removed = new ArrayList<>(before.nodes.keySet());
+        removed.removeAll(after.nodes.keySet());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("added_nodes", added);
+        report.put("removed_nodes", removed);
+        report.put("virtual_nodes", after.virtualNodes);
+        report.put("sampled_keys", sampled);
+        report.put("moved_keys", moved);
+        report.put("moved_ratio", sampled == 0 ? 0.0 : (double) moved / sampled);
+        // 노드 하나 추가/제거 시 이론상 최소 이동 비율
+        int largest = Math.max(before.nodes.size(), after.nodes.size());
+        report.put("ideal_moved_ratio", largest == 0 ? 0.0
+                : (double) (added.size() + removed.size()) / largest);
+        report.put("distribution_before", beforeCounts);
+        report.put("distribution_after", afterCounts);
+        return report;
+    }
+
+    // FNV-1a 64비트 + SplitMix64 finalizer
+    static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= (b & 0xff);
+            h *= 0x100000001b3L;
+        }
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+}
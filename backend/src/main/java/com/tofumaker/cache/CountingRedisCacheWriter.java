@@ -0,0 +1,621 @@
+package com.tofumaker.cache;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 캐시별 키 개수/바이트를 Redis 서버 측 카운터(cache:stats:{name})로 유지하는 RedisCacheWriter
+ *
+ * put/putIfAbsent/remove는 Lua 스크립트로 값 변경과 카운터 갱신을 원자적으로 처리한다.
+ * TTL 만료로 인한 오차는 {@link CacheKeyspaceReconciler}가 주기적으로 보정한다.
+ * clean은 KEYS 대신 SCAN + DEL 배치로 처리해 Redis를 막지 않는다.
+ * 큰 값은 조각 키로 나눠 저장하고 원래 키에는 목차만 두어, 한 번의 GET/SET이 Redis를 오래 붙잡지 않게 한다.
+ */
+public class CountingRedisCacheWriter implements RedisCacheWriter {
+
+    public static final String STATS_KEY_PREFIX = "cache:stats:";
+    public static final String FIELD_KEYS = "keys";
+    public static final String FIELD_BYTES = "bytes";
+
+    private static final int CLEAN_BATCH_SIZE = 500;
+
+    // 분할 저장된 값의 목차 (~seg~{조각 키 접두사}|{조각 수}|{전체 바이트})
+    static final String SEGMENT_MANIFEST_PREFIX = "~seg~";
+    static final String SEGMENT_INFIX = "::seg::";
+    private static final int MAX_MANIFEST_BYTES = 512;
+    private static final byte[] MANIFEST_PREFIX_BYTES = SEGMENT_MANIFEST_PREFIX.getBytes(StandardCharsets.UTF_8);
+    private static final Duration SEGMENT_TTL_GRACE = Duration.ofSeconds(30);
+
+    // 기존 값이 목차면 조각을 지우고 조각 바이트 합을 반환
+    private static final String DROP_SEGMENTS_FUNCTION =
+            "local function dropSegments(key, length) " +
+            "if length == 0 or length > " + MAX_MANIFEST_BYTES + " then return 0 end " +
+            "local prefix, count, total = string.match(redis.call('GET', key), " +
+            "'^" + SEGMENT_MANIFEST_PREFIX + "(.+)|(%d+)|(%d+)$') " +
+            "if not prefix then return 0 end " +
+            "for i = 0, tonumber(count) - 1 do redis.call('UNLINK', prefix .. i) end " +
+            "return tonumber(total) end ";
+
+    // KEYS[1]=캐시 키, KEYS[2]=통계 해시, ARGV[1]=값, ARGV[2]=TTL(ms, 0이면 무제한), ARGV[3]=조각 바이트 합,
+    // 반환=캐시 전체 바이트
+    private static final String PUT_BODY =
+            "local old = redis.call('STRLEN', KEYS[1]) " +
+            "local existed = redis.call('EXISTS', KEYS[1]) " +
+            "local freed = dropSegments(KEYS[1], old) " +
+            "if tonumber(ARGV[2]) > 0 then redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+            "else redis.call('SET', KEYS[1], ARGV[1]) end " +
+            "if existed == 0 then redis.call('HINCRBY', KEYS[2], 'keys', 1) end " +
+            "return redis.call('HINCRBY', KEYS[2], 'bytes', string.len(ARGV[1]) + tonumber(ARGV[3]) - old - freed)";
+
+    private static final String PUT_SCRIPT = DROP_SEGMENTS_FUNCTION + PUT_BODY;
+
+    // 임대 펜스가 붙은 쓰기 - KEYS[3]=펜스 키, ARGV[4]=펜스, ARGV[5]=펜스 키 TTL(ms)
+    // 더 큰 펜스가 이미 썼으면 값을 쓰지 않고 nil, 아니면 펜스를 올리고 PUT과 같이 처리
+    private static final String FENCED_PUT_SCRIPT = DROP_SEGMENTS_FUNCTION +
+            "local fence = tonumber(redis.call('GET', KEYS[3]) or '0') " +
+            "if fence > tonumber(ARGV[4]) then return false end " +
+            "redis.call('SET', KEYS[3], ARGV[4], 'PX', ARGV[5]) " +
+            PUT_BODY;
+
+    static final String FENCE_KEY_SUFFIX = ":fence";
+
+    private static final String PUT_IF_ABSENT_SCRIPT =
+            "local current = redis.call('GET', KEYS[1]) " +
+            "if current then return current end " +
+            "if tonumber(ARGV[2]) > 0 then redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+            "else redis.call('SET', KEYS[1], ARGV[1]) end " +
+            "redis.call('HINCRBY', KEYS[2], 'keys', 1) " +
+            "redis.call('HINCRBY', KEYS[2], 'bytes', string.len(ARGV[1]) + tonumber(ARGV[3])) " +
+            "return false";
+
+    private static final String REMOVE_SCRIPT = DROP_SEGMENTS_FUNCTION +
+            "local old = redis.call('STRLEN', KEYS[1]) " +
+            "local freed = dropSegments(KEYS[1], old) " +
+            "local removed = redis.call('DEL', KEYS[1]) " +
+            "if removed == 1 then " +
+            "redis.call('HINCRBY', KEYS[2], 'keys', -1) " +
+            "redis.call('HINCRBY', KEYS[2], 'bytes', -old - freed) end " +
+            "return removed";
+
+    private static final Map<String, String> SCRIPT_SHAS = new ConcurrentHashMap<>();
+
+    private final RedisConnectionFactory connectionFactory;
+    private final CacheStatisticsCollector statistics;
+
+    // 캐시별 메모리 예산 (없으면 제한 없음)
+    private CacheBudgetManager budgetManager;
+
+    // 값 크기 분포 기록 (없으면 기록 안 함)
+    private CacheValueSizeMonitor sizeMonitor;
+
+    // segmentThreshold바이트를 넘는 값은 segmentSize바이트 조각으로 나눠 저장 (0이면 분할 안 함)
+    private int segmentThreshold;
+    private int segmentSize;
+
+    public CountingRedisCacheWriter(RedisConnectionFactory connectionFactory) {
+        this(connectionFactory, CacheStatisticsCollector.none());
+    }
+
+    private CountingRedisCacheWriter(RedisConnectionFactory connectionFactory, CacheStatisticsCollector statistics) {
+        this.connectionFactory = connectionFactory;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void put(String name, byte[] key, byte[] value, Duration ttl) {
+        if (!admit(name, key, value)) {
+            return;
+        }
+        CacheWriteFence fence = CacheWriteFence.current();
+        if (fence != null) {
+            putFenced(name, key, value, ttl, fence);
+            return;
+        }
+        Long bytes = execute(connection -> {
+            if (!shouldSegment(value, ttl)) {
+                return eval(connection, PUT_SCRIPT, ReturnType.INTEGER,
+                        key, statsKey(name), value, ttlMillis(ttl), bytes("0"));
+            }
+            byte[] manifest = writeSegments(connection, name, value, ttl);
+            return eval(connection, PUT_SCRIPT, ReturnType.INTEGER,
+                    key, statsKey(name), manifest, ttlMillis(ttl), bytes(String.valueOf(value.length)));
+        });
+        statistics.incPuts(name);
+        if (budgetManager != null && bytes != null) {
+            budgetManager.onWrite(name, bytes);
+        }
+    }
+
+    /**
+     * 펜스 확인과 값 쓰기를 한 스크립트로 처리 - 더 큰 펜스가 이미 썼으면 거부 표시만 함
+     */
+    private void putFenced(String name, byte[] key, byte[] value, Duration ttl, CacheWriteFence fence) {
+        long ttlMillis = ttl == null || ttl.isNegative() ? 0 : ttl.toMillis();
+        byte[] fenceTtl = bytes(String.valueOf(Math.max(ttlMillis, fence.getTtl().toMillis())));
+        byte[] fenceKey = fenceKey(key);
+        byte[] fenceValue = bytes(String.valueOf(fence.getFence()));
+        Long bytes = execute(connection -> {
+            if (!shouldSegment(value, ttl)) {
+                return eval(connection, FENCED_PUT_SCRIPT, ReturnType.INTEGER, 3,
+                        key, statsKey(name), fenceKey, value, ttlMillis(ttl), bytes("0"), fenceValue, fenceTtl);
+            }
+            byte[] manifest = writeSegments(connection, name, value, ttl);
+            Long total = eval(connection, FENCED_PUT_SCRIPT, ReturnType.INTEGER, 3,
+                    key, statsKey(name), fenceKey, manifest, ttlMillis(ttl), bytes(String.valueOf(value.length)),
+                    fenceValue, fenceTtl);
+            if (total == null) {
+                // 거부되면 방금 쓴 조각은 버림
+                dropSegments(connection, manifest);
+            }
+            return total;
+        });
+        if (bytes == null) {
+            fence.reject();
+            return;
+        }
+        statistics.incPuts(name);
+        if (budgetManager != null) {
+            budgetManager.onWrite(name, bytes);
+        }
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key) {
+        byte[] value = execute(connection -> readSegments(connection, connection.get(key)));
+        statistics.incGets(name);
+        if (value != null) {
+            statistics.incHits(name);
+        } else {
+            statistics.incMisses(name);
+        }
+        return value;
+    }
+
+    @Override
+    public byte[] putIfAbsent(String name, byte[] key, byte[] value, Duration ttl) {
+        if (!admit(name, key, value)) {
+            return null;
+        }
+        byte[] existing = execute(connection -> {
+            if (!shouldSegment(value, ttl)) {
+                return readSegments(connection, eval(connection, PUT_IF_ABSENT_SCRIPT, ReturnType.VALUE,
+                        key, statsKey(name), value, ttlMillis(ttl), bytes("0")));
+            }
+            byte[] manifest = writeSegments(connection, name, value, ttl);
+            byte[] current = eval(connection, PUT_IF_ABSENT_SCRIPT, ReturnType.VALUE,
+                    key, statsKey(name), manifest, ttlMillis(ttl), bytes(String.valueOf(value.length)));
+            if (current != null) {
+                // 이미 값이 있으면 방금 쓴 조각은 버림
+                dropSegments(connection, manifest);
+            }
+            return readSegments(connection, current);
+        });
+        if (existing == null) {
+            statistics.incPuts(name);
+        }
+        return existing;
+    }
+
+    @Override
+    public void remove(String name, byte[] key) {
+        execute(connection -> eval(connection, REMOVE_SCRIPT, ReturnType.INTEGER, key, statsKey(name)));
+        statistics.incDeletes(name);
+    }
+
+    /**
+     * 여러 키를 MGET 한 번으로 조회 (없는 키는 null)
+     */
+    public List<byte[]> getAll(String name, List<byte[]> keys) {
+        if (keys.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<byte[]> values = execute(connection -> {
+            List<byte[]> stored = connection.mGet(keys.toArray(new byte[0][]));
+            for (int i = 0; i < stored.size(); i++) {
+                stored.set(i, readSegments(connection, stored.get(i)));
+            }
+            return stored;
+        });
+        for (byte[] value : values) {
+            statistics.incGets(name);
+            if (value != null) {
+                statistics.incHits(name);
+            } else {
+                statistics.incMisses(name);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * 여러 키를 파이프라인 한 번으로 저장 (카운터 갱신 스크립트 포함)
+     */
+    public void putAll(String name, Map<byte[], byte[]> entries, Duration ttl) {
+        Map<byte[], byte[]> admitted = new LinkedHashMap<>();
+        entries.forEach((key, value) -> {
+            if (!admit(name, key, value)) {
+                return;
+            }
+            if (shouldSegment(value, ttl)) {
+                // 큰 값은 조각을 먼저 써야 하므로 파이프라인에서 빼고 개별 저장
+                put(name, key, value, ttl);
+            } else {
+                admitted.put(key, value);
+            }
+        });
+        entries = admitted;
+        if (entries.isEmpty()) {
+            return;
+        }
+        Map<byte[], byte[]> toWrite = entries;
+        byte[] statsKey = statsKey(name);
+        byte[] ttlMillis = ttlMillis(ttl);
+        byte[] noSegments = bytes("0");
+        List<Object> results = executePipelined(connection -> {
+            for (Map.Entry<byte[], byte[]> entry : toWrite.entrySet()) {
+                connection.evalSha(sha1(PUT_SCRIPT), ReturnType.INTEGER, 2,
+                        entry.getKey(), statsKey, entry.getValue(), ttlMillis, noSegments);
+            }
+        });
+        for (int i = 0; i < toWrite.size(); i++) {
+            statistics.incPuts(name);
+        }
+        // 마지막 스크립트 결과가 저장 후 캐시 전체 바이트
+        if (budgetManager != null && results != null && !results.isEmpty()
+                && results.get(results.size() - 1) instanceof Long) {
+            budgetManager.onWrite(name, (Long) results.get(results.size() - 1));
+        }
+    }
+
+    /**
+     * 여러 키를 파이프라인 한 번으로 삭제 (카운터 갱신 스크립트 포함)
+     */
+    public void removeAll(String name, List<byte[]> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        byte[] statsKey = statsKey(name);
+        executePipelined(connection -> {
+            for (byte[] key : keys) {
+                connection.evalSha(sha1(REMOVE_SCRIPT), ReturnType.INTEGER, 2, key, statsKey);
+            }
+        });
+        statistics.incDeletesBy(name, keys.size());
+    }
+
+    @Override
+    public void clean(String name, byte[] pattern) {
+        long deleted = execute(connection -> {
+            long count = 0;
+            List<byte[]> batch = new ArrayList<>(CLEAN_BATCH_SIZE);
+            ScanOptions options = ScanOptions.scanOptions().match(pattern).count(CLEAN_BATCH_SIZE).build();
+            try (Cursor<byte[]> cursor = connection.scan(options)) {
+                while (cursor.hasNext()) {
+                    batch.add(cursor.next());
+                    if (batch.size() >= CLEAN_BATCH_SIZE) {
+                        count += deleteBatch(connection, batch);
+                    }
+                }
+            }
+            count += deleteBatch(connection, batch);
+            // 네임스페이스 전체가 지워졌으므로 카운터 초기화
+            connection.del(statsKey(name));
+            return count;
+        });
+        statistics.incDeletesBy(name, (int) deleted);
+    }
+
+    @Override
+    public void clearStatistics(String name) {
+        statistics.reset(name);
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+        return new CountingRedisCacheWriter(connectionFactory, cacheStatisticsCollector);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName) {
+        return statistics.getCacheStatistics(cacheName);
+    }
+
+    /**
+     * 서버 측 카운터 조회 (keys, bytes)
+     */
+    public Map<String, Long> readCounters(String name) {
+        Map<byte[], byte[]> raw = execute(connection -> connection.hGetAll(statsKey(name)));
+        Map<String, Long> counters = new HashMap<>();
+        counters.put(FIELD_KEYS, 0L);
+        counters.put(FIELD_BYTES, 0L);
+        if (raw != null) {
+            for (Map.Entry<byte[], byte[]> entry : raw.entrySet()) {
+                counters.put(new String(entry.getKey(), StandardCharsets.UTF_8),
+                        Long.parseLong(new String(entry.getValue(), StandardCharsets.UTF_8)));
+            }
+        }
+        return counters;
+    }
+
+    /**
+     * SCAN 재집계 결과로 카운터 보정
+     */
+    public void resetCounters(String name, long keys, long bytes) {
+        Map<byte[], byte[]> counters = new HashMap<>();
+        counters.put(bytes(FIELD_KEYS), bytes(String.valueOf(keys)));
+        counters.put(bytes(FIELD_BYTES), bytes(String.valueOf(bytes)));
+        execute(connection -> {
+            connection.hMSet(statsKey(name), counters);
+            return null;
+        });
+    }
+
+    public RedisConnectionFactory getConnectionFactory() {
+        return connectionFactory;
+    }
+
+    /**
+     * 캐시 값을 실제로 저장하는 writer 목록 (샤딩 시 노드별 writer)
+     */
+    public List<CountingRedisCacheWriter> writersFor(String name) {
+        return Collections.singletonList(this);
+    }
+
+    public void setBudgetManager(CacheBudgetManager budgetManager) {
+        this.budgetManager = budgetManager;
+    }
+
+    public void setSizeMonitor(CacheValueSizeMonitor sizeMonitor) {
+        this.sizeMonitor = sizeMonitor;
+    }
+
+    public void setSegmentation(int segmentThreshold, int segmentSize) {
+        if (segmentThreshold > 0 && segmentSize <= 0) {
+            throw new IllegalArgumentException("segmentSize must be positive: " + segmentSize);
+        }
+        this.segmentThreshold = segmentThreshold;
+        this.segmentSize = segmentSize;
+    }
+
+    // 값 크기 기록 후 예산의 항목 크기 제한을 넘는 값은 저장하지 않음
+    private boolean admit(String name, byte[] key, byte[] value) {
+        if (sizeMonitor != null) {
+            sizeMonitor.record(name, new String(key, StandardCharsets.UTF_8), value.length);
+        }
+        return budgetManager == null || budgetManager.admit(name, value.length);
+    }
+
+    // TTL 없는 캐시는 남은 조각을 정리할 수 없으므로 분할하지 않음
+    private boolean shouldSegment(byte[] value, Duration ttl) {
+        return segmentThreshold > 0 && value.length > segmentThreshold
+                && ttl != null && !ttl.isNegative() && !ttl.isZero();
+    }
+
+    /**
+     * 값을 조각 키({cacheName}::seg::{id}:{i})에 나눠 쓰고 목차를 반환
+     * 조각은 목차보다 조금 늦게 만료되도록 TTL에 여유를 둔다.
+     */
+    private byte[] writeSegments(RedisConnection connection, String name, byte[] value, Duration ttl) {
+        String prefix = name + SEGMENT_INFIX + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ":";
+        int count = (value.length + segmentSize - 1) / segmentSize;
+        Expiration expiration = Expiration.milliseconds(ttl.toMillis() + SEGMENT_TTL_GRACE.toMillis());
+        runPipeline(connection, pipeline -> {
+            for (int i = 0; i < count; i++) {
+                int from = i * segmentSize;
+                byte[] segment = Arrays.copyOfRange(value, from, Math.min(value.length, from + segmentSize));
+                pipeline.stringCommands().set(bytes(prefix + i), segment, expiration,
+                        RedisStringCommands.SetOption.upsert());
+            }
+        });
+        return bytes(SEGMENT_MANIFEST_PREFIX + prefix + "|" + count + "|" + value.length);
+    }
+
+    /**
+     * 목차면 조각을 파이프라인으로 모아 원래 값으로 합침 (조각이 하나라도 없으면 null)
+     */
+    private byte[] readSegments(RedisConnection connection, byte[] value) {
+        Manifest manifest = Manifest.parse(value);
+        if (manifest == null) {
+            return value;
+        }
+        List<Object> segments = runPipeline(connection, pipeline -> {
+            for (int i = 0; i < manifest.count; i++) {
+                pipeline.stringCommands().get(bytes(manifest.prefix + i));
+            }
+        });
+        byte[] assembled = new byte[manifest.totalBytes];
+        int offset = 0;
+        for (Object segment : segments) {
+            if (!(segment instanceof byte[]) || offset + ((byte[]) segment).length > assembled.length) {
+                return null;
+            }
+            byte[] bytes = (byte[]) segment;
+            System.arraycopy(bytes, 0, assembled, offset, bytes.length);
+            offset += bytes.length;
+        }
+        return offset == assembled.length ? assembled : null;
+    }
+
+    private void dropSegments(RedisConnection connection, byte[] manifestValue) {
+        Manifest manifest = Manifest.parse(manifestValue);
+        if (manifest == null) {
+            return;
+        }
+        byte[][] keys = new byte[manifest.count][];
+        for (int i = 0; i < manifest.count; i++) {
+            keys[i] = bytes(manifest.prefix + i);
+        }
+        connection.keyCommands().unlink(keys);
+    }
+
+    private long deleteBatch(RedisConnection connection, List<byte[]> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        Long removed = connection.del(batch.toArray(new byte[0][]));
+        batch.clear();
+        return removed != null ? removed : 0;
+    }
+
+    /**
+     * EVALSHA 우선 실행, 서버에 스크립트가 없으면 EVAL로 등록
+     */
+    private <T> T eval(RedisConnection connection, String script, ReturnType returnType, byte[]... keysAndArgs) {
+        return eval(connection, script, returnType, 2, keysAndArgs);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T eval(RedisConnection connection, String script, ReturnType returnType, int numKeys,
+                       byte[]... keysAndArgs) {
+        try {
+            return (T) connection.evalSha(sha1(script), returnType, numKeys, keysAndArgs);
+        } catch (DataAccessException e) {
+            if (!isNoScript(e)) {
+                throw e;
+            }
+            return (T) connection.eval(bytes(script), returnType, numKeys, keysAndArgs);
+        }
+    }
+
+    private boolean isNoScript(Throwable e) {
+        while (e != null) {
+            if (e.getMessage() != null && e.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+            e = e.getCause();
+        }
+        return false;
+    }
+
+    /**
+     * 파이프라인 실행 - 서버에 스크립트가 없으면(NOSCRIPT) 스크립트를 등록하고 한 번 더 실행
+     */
+    private List<Object> executePipelined(Consumer<RedisConnection> commands) {
+        return execute(connection -> {
+            try {
+                return runPipeline(connection, commands);
+            } catch (DataAccessException e) {
+                if (!isNoScript(e)) {
+                    throw e;
+                }
+                connection.scriptingCommands().scriptLoad(bytes(PUT_SCRIPT));
+                connection.scriptingCommands().scriptLoad(bytes(REMOVE_SCRIPT));
+                return runPipeline(connection, commands);
+            }
+        });
+    }
+
+    private List<Object> runPipeline(RedisConnection connection, Consumer<RedisConnection> commands) {
+        connection.openPipeline();
+        try {
+            commands.accept(connection);
+        } catch (RuntimeException e) {
+            connection.closePipeline();
+            throw e;
+        }
+        // 실패한 명령이 있으면 RedisPipelineException
+        return connection.closePipeline();
+    }
+
+    private static final class Manifest {
+        private final String prefix;
+        private final int count;
+        private final int totalBytes;
+
+        private Manifest(String prefix, int count, int totalBytes) {
+            this.prefix = prefix;
+            this.count = count;
+            this.totalBytes = totalBytes;
+        }
+
+        static Manifest parse(byte[] value) {
+            if (value == null || value.length > MAX_MANIFEST_BYTES || value.length <= MANIFEST_PREFIX_BYTES.length) {
+                return null;
+            }
+            for (int i = 0; i < MANIFEST_PREFIX_BYTES.length; i++) {
+                if (value[i] != MANIFEST_PREFIX_BYTES[i]) {
+                    return null;
+                }
+            }
+            String[] parts = new String(value, StandardCharsets.UTF_8)
+                    .substring(SEGMENT_MANIFEST_PREFIX.length()).split("\\|");
+            if (parts.length != 3) {
+                return null;
+            }
+            try {
+                return new Manifest(parts[0], Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+
+    private <T> T execute(Function<RedisConnection, T> callback) {
+        RedisConnection connection = connectionFactory.getConnection();
+        try {
+            return callback.apply(connection);
+        } finally {
+            connection.close();
+        }
+    }
+
+    private static String sha1(String script) {
+        return SCRIPT_SHAS.computeIfAbsent(script, s -> {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-1");
+                StringBuilder hex = new StringBuilder();
+                for (byte b : digest.digest(bytes(s))) {
+                    hex.append(String.format("%02x", b));
+                }
+                return hex.toString();
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private static byte[] statsKey(String name) {
+        return bytes(STATS_KEY_PREFIX + name);
+    }
+
+    private static byte[] ttlMillis(Duration ttl) {
+        long millis = ttl == null || ttl.isNegative() ? 0 : ttl.toMillis();
+        return bytes(String.valueOf(millis));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] fenceKey(byte[] key) {
+        byte[] suffix = bytes(FENCE_KEY_SUFFIX);
+        byte[] fenceKey = Arrays.copyOf(key, key.length + suffix.length);
+        System.arraycopy(suffix, 0, fenceKey, key.length, suffix.length);
+        return fenceKey;
+    }
+}
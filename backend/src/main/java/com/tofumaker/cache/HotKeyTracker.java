@@ -0,0 +1,172 @@
+package com.tofumaker.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캐시 키/키 접두사별 상위 접근 빈도 추적 (SpaceSaving, 메모리 상한 고정)
+ *
+ * 캐시당 최대 capacity개의 항목만 유지한다. 추적 중이 아닌 키가 들어오면
+ * 가장 적게 본 항목을 교체하고, 교체된 항목의 카운트를 오차(error)로 물려받는다.
+ * 따라서 count는 실제 빈도의 상한이고 count - error는 하한이다.
+ * decay()로 주기적으로 카운트를 절반으로 줄여 최근 트래픽 위주로 유지한다.
+ */
+public class HotKeyTracker {
+
+    private final SpaceSaving keys;
+    private final SpaceSaving prefixes;
+
+    public HotKeyTracker(int capacity) {
+        this.keys = new SpaceSaving(capacity);
+        this.prefixes = new SpaceSaving(capacity);
+    }
+
+    public void record(String key) {
+        keys.offer(key);
+        prefixes.offer(prefixOf(key));
+    }
+
+    public List<Map<String, Object>> topKeys(int limit) {
+        return keys.top(limit);
+    }
+
+    public List<Map<String, Object>> topPrefixes(int limit) {
+        return prefixes.top(limit);
+    }
+
+    public long getTotal() {
+        return keys.getTotal();
+    }
+
+    /**
+     * 키의 추정 접근 수 (추적 중이 아니면 0)
+     */
+    public long estimate(String key) {
+        return keys.estimate(key);
+    }
+
+    /**
+     * 상위 n개 키가 차지하는 접근 비율 (0~1)
+     */
+    public double topShare(int n) {
+        return keys.share(n);
+    }
+
+    public void decay() {
+        keys.decay();
+        prefixes.decay();
+    }
+
+    /**
+     * 키 접두사 추출 - 숫자로 시작하는 첫 구간 또는 압축 키 페이로드 앞까지
+     * 예) board_42 -> board, all_boards_0_10_createdAt_desc -> all_boards, search_title#AbC -> search_title
+     */
+    static String prefixOf(String key) {
+        for (int i = 0; i < key.length() - 1; i++) {
+            char c = key.charAt(i);
+            if (c == CompactKeyGenerator.PAYLOAD_SEPARATOR) {
+                return key.substring(0, i);
+            }
+            if ((c == '_' || c == ':') && Character.isDigit(key.charAt(i + 1))) {
+                return key.substring(0, i);
+            }
+        }
+        return key;
+    }
+
+    private static final class Counter {
+        private final String item;
+        private long count;
+        private long error;
+
+        private Counter(String item, long count, long error) {
+            this.item = item;
+            this.count = count;
+            this.error = error;
+        }
+    }
+
+    private static final class SpaceSaving {
+
+        private final int capacity;
+        private final Map<String, Counter> counters;
+        private long total;
+
+        private SpaceSaving(int capacity) {
+            this.capacity = capacity;
+            this.counters = new HashMap<>(capacity * 2);
+        }
+
+        synchronized void offer(String item) {
+            total++;
+            Counter counter = counters.get(item);
+            if (counter != null) {
+                counter.count++;
+                return;
+            }
+            if (counters.size() < capacity) {
+                counters.put(item, new Counter(item, 1, 0));
+                return;
+            }
+            Counter min = null;
+            for (Counter candidate : counters.values()) {
+                if (min == null || candidate.count < min.count) {
+                    min = candidate;
+                }
+            }
+            counters.remove(min.item);
+            counters.put(item, new Counter(item, min.count + 1, min.count));
+        }
+
+        synchronized long estimate(String item) {
+            Counter counter = counters.get(item);
+            return counter != null ? counter.count : 0;
+        }
+
+        synchronized List<Map<String, Object>> top(int limit) {
+            List<Counter> sorted = new ArrayList<>(counters.values());
+            sorted.sort(Comparator.comparingLong((Counter c) -> c.count).reversed());
+            List<Map<String, Object>> result = new ArrayList<>();
+            for (Counter counter : sorted.subList(0, Math.min(limit, sorted.size()))) {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("key", counter.item);
+                entry.put("count", counter.count);
+                entry.put("error", counter.error);
+                entry.put("share", total > 0 ? (double) counter.count / total : 0.0);
+                result.add(entry);
+            }
+            return result;
+        }
+
+        synchronized double share(int n) {
+            if (total == 0) {
+                return 0.0;
+            }
+            long sum = counters.values().stream()
+                    .mapToLong(c -> c.count)
+                    .boxed()
+                    .sorted(Comparator.reverseOrder())
+                    .limit(n)
+                    .mapToLong(Long::longValue)
+                    .sum();
+            return Math.min(1.0, (double) sum / total);
+        }
+
+        synchronized long getTotal() {
+            return total;
+        }
+
+        synchronized void decay() {
+            total /= 2;
+            counters.values().removeIf(counter -> {
+                counter.count /= 2;
+                counter.error /= 2;
+                return counter.count == 0;
+            });
+        }
+    }
+}
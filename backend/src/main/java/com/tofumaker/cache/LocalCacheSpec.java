@@ -0,0 +1,46 @@
+package com.tofumaker.cache;
+
+import java.time.Duration;
+
+/**
+ * 캐시별 로컬(L1) 캐시 설정
+ */
+public class LocalCacheSpec {
+
+    private boolean enabled = true;
+    private long maximumSize = 10_000;
+    private Duration expireAfterWrite = Duration.ofMinutes(1);
+
+    public LocalCacheSpec() {}
+
+    public LocalCacheSpec(boolean enabled, long maximumSize, Duration expireAfterWrite) {
+        this.enabled = enabled;
+        this.maximumSize = maximumSize;
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Duration getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    public void setExpireAfterWrite(Duration expireAfterWrite) {
+        this.expireAfterWrite = expireAfterWrite;
+    }
+}
@@ -0,0 +1,36 @@
+package com.tofumaker.cache;
+
+/**
+ * 캐시별 미리 갱신(refresh-ahead) 설정
+ */
+public class RefreshAheadSpec {
+
+    private boolean enabled = true;
+
+    // TTL 중 이 비율이 지나면 갱신 후보가 된다 (0~1)
+    private double refreshAfter = 0.8;
+
+    public RefreshAheadSpec() {}
+
+    public RefreshAheadSpec(boolean enabled, double refreshAfter) {
+        this.enabled = enabled;
+        this.refreshAfter = refreshAfter;
+    }
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getRefreshAfter() {
+        return refreshAfter;
+    }
+
+    public void setRefreshAfter(double refreshAfter) {
+        this.refreshAfter = refreshAfter;
+    }
+}
@@ -0,0 +1,50 @@
+package com.tofumaker.cache;
+
+/**
+ * 미리 갱신 대상 캐시에 저장되는 값 (저장 시각과 TTL 포함)
+ */
+public class RefreshAheadValue {
+
+    private Object value;
+    private long writtenAt;
+    private long ttlMillis;
+
+    public RefreshAheadValue() {}
+
+    public RefreshAheadValue(Object value, long writtenAt, long ttlMillis) {
+        this.value = value;
+        this.writtenAt = writtenAt;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 갱신 여부 판단
+     * TTL의 refreshAfter 비율이 지난 뒤부터 만료 시점까지 갱신 확률을 0에서 1로 선형으로 올린다.
+     * 노드마다 갱신 시점이 흩어져 동시에 같은 키를 다시 읽는 일을 줄인다.
+     */
+    public boolean shouldRefresh(double refreshAfter, long now, double random) {
+        if (ttlMillis <= 0) {
+            return false;
+        }
+        long age = now - writtenAt;
+        double windowStart = ttlMillis * refreshAfter;
+        if (age < windowStart) {
+            return false;
+        }
+        double probability = (age - windowStart) / Math.max(1.0, ttlMillis - windowStart);
+        return random < probability;
+    }
+
+    // Getters
+    public Object getValue() {
+        return value;
+    }
+
+    public long getWrittenAt() {
+        return writtenAt;
+    }
+
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+}
@@ -0,0 +1,274 @@
+package com.tofumaker.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 여러 Redis 노드에 캐시 값을 나눠 저장하는 writer (클라이언트 측 일관된 해시)
+ *
+ * shardedCaches에 속한 캐시의 키만 링으로 노드를 골라 해당 노드의 {@link CountingRedisCacheWriter}로 보내고,
+ * 나머지 캐시는 기본(primary) 연결을 그대로 쓴다. 키 개수/바이트 카운터는 노드마다 따로 유지하고
+ * 조회 시 합산한다. 다건 조회/저장은 노드별로 묶어 노드당 한 번씩 보낸다.
+ */
+public class ShardedRedisCacheWriter extends CountingRedisCacheWriter implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardedRedisCacheWriter.class);
+
+    private final CountingRedisCacheWriter primary;
+    private final ConsistentHashRing<CountingRedisCacheWriter> ring;
+    private final Set<String> shardedCaches;
+
+    public ShardedRedisCacheWriter(CountingRedisCacheWriter primary,
+                                   ConsistentHashRing<CountingRedisCacheWriter> ring,
+                                   Collection<String> shardedCaches) {
+        super(primary.getConnectionFactory());
+        this.primary = primary;
+        this.ring = ring;
+        this.shardedCaches = new HashSet<>(shardedCaches);
+    }
+
+    @Override
+    public void put(String name, byte[] key, byte[] value, Duration ttl) {
+        writerFor(name, key).put(name, key, value, ttl);
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key) {
+        return writerFor(name, key).get(name, key);
+    }
+
+    @Override
+    public byte[] putIfAbsent(String name, byte[] key, byte[] value, Duration ttl) {
+        return writerFor(name, key).putIfAbsent(name, key, value, ttl);
+    }
+
+    @Override
+    public void remove(String name, byte[] key) {
+        writerFor(name, key).remove(name, key);
+    }
+
+    @Override
+    public List<byte[]> getAll(String name, List<byte[]> keys) {
+        if (!isSharded(name)) {
+            return primary.getAll(name, keys);
+        }
+        // 노드별로 키 위치를 모아 MGET 후 원래 순서로 복원
+        Map<CountingRedisCacheWriter, List<Integer>> positions = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            positions.computeIfAbsent(writerFor(name, keys.get(i)), writer -> new ArrayList<>()).add(i);
+        }
+        byte[][] values = new byte[keys.size()][];
+        for (Map.Entry<CountingRedisCacheWriter, List<Integer>> entry : positions.entrySet()) {
+            List<byte[]> nodeKeys = new ArrayList<>(entry.getValue().size());
+            for (int index : entry.getValue()) {
+                nodeKeys.add(keys.get(index));
+            }
+            List<byte[]> nodeValues = entry.getKey().getAll(name, nodeKeys);
+            for (int i = 0; i < nodeValues.size(); i++) {
+                values[entry.getValue().get(i)] = nodeValues.get(i);
+            }
+        }
+        List<byte[]> result = new ArrayList<>(keys.size());
+        for (byte[] value : values) {
+            result.add(value);
+        }
+        return result;
+    }
+
+    @Override
+    public void putAll(String name, Map<byte[], byte[]> entries, Duration ttl) {
+        if (!isSharded(name)) {
+            primary.putAll(name, entries, ttl);
+            return;
+        }
+        Map<CountingRedisCacheWriter, Map<byte[], byte[]>> byNode = new LinkedHashMap<>();
+        for (Map.Entry<byte[], byte[]> entry : entries.entrySet()) {
+            byNode.computeIfAbsent(writerFor(name, entry.getKey()), writer -> new LinkedHashMap<>())
+                    .put(entry.getKey(), entry.getValue());
+        }
+        byNode.forEach((writer, nodeEntries) -> writer.putAll(name, nodeEntries, ttl));
+    }
+
+    @Override
+    public void removeAll(String name, List<byte[]> keys) {
+        if (!isSharded(name)) {
+            primary.removeAll(name, keys);
+            return;
+        }
+        Map<CountingRedisCacheWriter, List<byte[]>> byNode = new LinkedHashMap<>();
+        for (byte[] key : keys) {
+            byNode.computeIfAbsent(writerFor(name, key), writer -> new ArrayList<>()).add(key);
+        }
+        byNode.forEach((writer, nodeKeys) -> writer.removeAll(name, nodeKeys));
+    }
+
+    @Override
+    public void clean(String name, byte[] pattern) {
+        for (CountingRedisCacheWriter writer : writersFor(name)) {
+            writer.clean(name, pattern);
+        }
+    }
+
+    @Override
+    public void clearStatistics(String name) {
+        for (CountingRedisCacheWriter writer : writersFor(name)) {
+            writer.clearStatistics(name);
+        }
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+        ConsistentHashRing<CountingRedisCacheWriter> collected = new ConsistentHashRing<>(ring.getVirtualNodes());
+        for (Map.Entry<String, CountingRedisCacheWriter> node : ring.getNodes().entrySet()) {
+            collected.add(node.getKey(),
+                    (CountingRedisCacheWriter) node.getValue().withStatisticsCollector(cacheStatisticsCollector));
+        }
+        return new ShardedRedisCacheWriter(
+                (CountingRedisCacheWriter) primary.withStatisticsCollector(cacheStatisticsCollector),
+                collected, shardedCaches);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName) {
+        return writersFor(cacheName).get(0).getCacheStatistics(cacheName);
+    }
+
+    /**
+     * 노드별 카운터 합산
+     */
+    @Override
+    public Map<String, Long> readCounters(String name) {
+        Map<String, Long> total = new LinkedHashMap<>();
+        for (CountingRedisCacheWriter writer : writersFor(name)) {
+            writer.readCounters(name).forEach((field, value) -> total.merge(field, value, Long::sum));
+        }
+        return total;
+    }
+
+    /**
+     * 노드별 카운터는 각 노드를 재집계할 때 해당 writer로 보정한다
+     */
+    @Override
+    public void resetCounters(String name, long keys, long bytes) {
+        if (!isSharded(name)) {
+            primary.resetCounters(name, keys, bytes);
+        }
+    }
+
+    @Override
+    public List<CountingRedisCacheWriter> writersFor(String name) {
+        if (!isSharded(name)) {
+            return primary.writersFor(name);
+        }
+        return new ArrayList<>(ring.getNodes().values());
+    }
+
+    /**
+     * 노드별 writer가 각자 항목 크기 제한과 쓰기 후 예산 확인을 하도록 전달
+     */
+    @Override
+    public void setBudgetManager(CacheBudgetManager budgetManager) {
+        primary.setBudgetManager(budgetManager);
+        for (CountingRedisCacheWriter writer : ring.getNodes().values()) {
+            writer.setBudgetManager(budgetManager);
+        }
+    }
+
+    @Override
+    public void setSizeMonitor(CacheValueSizeMonitor sizeMonitor) {
+        primary.setSizeMonitor(sizeMonitor);
+        for (CountingRedisCacheWriter writer : ring.getNodes().values()) {
+            writer.setSizeMonitor(sizeMonitor);
+        }
+    }
+
+    // 조각은 목차와 같은 노드에 저장됨
+    @Override
+    public void setSegmentation(int segmentThreshold, int segmentSize) {
+        primary.setSegmentation(segmentThreshold, segmentSize);
+        for (CountingRedisCacheWriter writer : ring.getNodes().values()) {
+            writer.setSegmentation(segmentThreshold, segmentSize);
+        }
+    }
+
+    public boolean isSharded(String name) {
+        return shardedCaches.contains(name);
+    }
+
+    public ConsistentHashRing<CountingRedisCacheWriter> getRing() {
+        return ring;
+    }
+
+    /**
+     * 노드를 하나 추가했을 때의 재배치 영향 (샤딩 캐시의 실제 키를 노드별 최대 sampleSize개씩 표본 추출)
+     */
+    public Map<String, Object> rebalanceReport(String candidateNode, int sampleSize) {
+        List<String> sampleKeys = new ArrayList<>();
+        for (CountingRedisCacheWriter writer : ring.getNodes().values()) {
+            for (String cacheName : shardedCaches) {
+                sampleKeys.addAll(sampleKeys(writer.getConnectionFactory(), cacheName, sampleSize));
+            }
+        }
+        Map<String, Object> report = ConsistentHashRing.rebalanceReport(
+                ring, ring.withNode(candidateNode, null), sampleKeys);
+        report.put("sharded_caches", shardedCaches);
+        return report;
+    }
+
+    @Override
+    public void destroy() {
+        for (CountingRedisCacheWriter writer : ring.getNodes().values()) {
+            if (writer.getConnectionFactory() instanceof DisposableBean) {
+                try {
+                    ((DisposableBean) writer.getConnectionFactory()).destroy();
+                } catch (Exception e) {
+                    logger.debug("Failed to close shard connection: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private CountingRedisCacheWriter writerFor(String name, byte[] key) {
+        if (!isSharded(name)) {
+            return primary;
+        }
+        return ring.nodeFor(new String(key, StandardCharsets.UTF_8));
+    }
+
+    private static List<String> sampleKeys(RedisConnectionFactory connectionFactory, String cacheName, int limit) {
+        List<String> keys = new ArrayList<>();
+        RedisConnection connection = connectionFactory.getConnection();
+        try (Cursor<byte[]> cursor = connection.scan(ScanOptions.scanOptions()
+                .match(cacheName + "::*")
+                .count(500)
+                .build())) {
+            while (cursor.hasNext() && keys.size() < limit) {
+                String key = new String(cursor.next(), StandardCharsets.UTF_8);
+                if (!key.contains(SEGMENT_INFIX)) {
+                    keys.add(key);
+                }
+            }
+        } finally {
+            connection.close();
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,101 @@
+package com.tofumaker.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 키별 로더 중복 실행 방지 (JVM 단위)
+ *
+ * 같은 키에 대해 동시에 들어온 요청 중 첫 요청(leader)만 로더를 실행하고,
+ * 나머지(follower)는 결과를 기다린다. follower는 최대 대기 시간을 넘기면
+ * 직접 로더를 실행한다.
+ */
+public class SingleFlight {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Duration followerTimeout;
+
+    private final Counter leaderCounter;
+    private final Counter followerCounter;
+    private final Counter timeoutCounter;
+    private final Timer followerWaitTimer;
+
+    public SingleFlight(String cacheName, Duration followerTimeout, MeterRegistry meterRegistry) {
+        this.followerTimeout = followerTimeout;
+        this.leaderCounter = roleCounter(meterRegistry, cacheName, "leader");
+        this.followerCounter = roleCounter(meterRegistry, cacheName, "follower");
+        this.timeoutCounter = roleCounter(meterRegistry, cacheName, "timeout");
+        this.followerWaitTimer = Timer.builder("cache_singleflight_wait_seconds")
+                .description("Time followers spent waiting for an in-flight load")
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Callable<T> loader) throws Exception {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+
+        if (existing == null) {
+            leaderCounter.increment();
+            try {
+                T value = loader.call();
+                future.complete(value);
+                return value;
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, future);
+            }
+        }
+
+        followerCounter.increment();
+        long start = System.nanoTime();
+        try {
+            return (T) existing.get(followerTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // leader가 너무 오래 걸리면 대기를 포기하고 직접 로드
+            timeoutCounter.increment();
+            return loader.call();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : e;
+        } finally {
+            followerWaitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    public long getLeaderCount() {
+        return (long) leaderCounter.count();
+    }
+
+    public long getFollowerCount() {
+        return (long) followerCounter.count();
+    }
+
+    public long getTimeoutCount() {
+        return (long) timeoutCounter.count();
+    }
+
+    private Counter roleCounter(MeterRegistry meterRegistry, String cacheName, String role) {
+        return Counter.builder("cache_singleflight_total")
+                .description("Cache loads by single-flight role")
+                .tag("cache", cacheName)
+                .tag("role", role)
+                .register(meterRegistry);
+    }
+}
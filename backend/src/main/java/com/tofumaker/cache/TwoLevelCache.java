@@ -0,0 +1,923 @@
+package com.tofumaker.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.cache.RedisCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 로컬(L1, Caffeine W-TinyLFU) + Redis(L2) 2단 캐시
+ *
+ * 읽기는 L1 -> L2 순서로 조회하고, 쓰기/삭제는 L2에 먼저 반영한 뒤
+ * 다른 노드의 L1을 pub/sub으로 무효화한다.
+ * 회로 차단기가 있으면 열린 동안 Redis를 건너뛰고 L1만 사용하며(미스는 로더/DB로),
+ * Redis 오류도 미스로 처리한다. 반영하지 못한 쓰기가 있으면 복구 시 캐시를 비우도록 표시한다.
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TwoLevelCache.class);
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final Cache remoteCache;
+    private final CacheInvalidationBus invalidationBus;
+    private final CacheDependencyTracker dependencyTracker;
+    private final CacheTagResolver tagResolver;
+    private final SingleFlight singleFlight;
+
+    // 상위 접근 키 추적 (선택)
+    private HotKeyTracker hotKeyTracker;
+
+    // Redis 장애 시 우회 (선택)
+    private CacheCircuitBreaker circuitBreaker;
+
+    // 접근 기록 (선택)
+    private CacheAccessTraceRecorder traceRecorder;
+
+    // 노드 간 재계산 임대 (선택) - 임대를 못 잡았을 때 반환할 이전 값을 노드별로 보관
+    private static final Object LEASE_HELD = new Object();
+    private CacheLeaseManager leaseManager;
+    private com.github.benmanes.caffeine.cache.Cache<String, Object> staleValues;
+    private long leasePollMillis;
+    private final Map<String, Counter> leaseCounters = new HashMap<>();
+
+    // 미리 갱신 (선택) - 같은 키의 백그라운드 갱신은 노드당 하나만 실행
+    private volatile RefreshAheadSpec refreshAheadSpec;
+    private volatile Executor refreshExecutor;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private Counter refreshScheduledCounter;
+    private Counter refreshFailedCounter;
+    private Counter refreshRejectedCounter;
+
+    // 계층별 메트릭 (생성 시 1회 등록)
+    private final Counter l1HitCounter;
+    private final Counter l2HitCounter;
+    private final Counter missCounter;
+    private final DistributionSummary tagInvalidationSummary;
+    private final Map<String, DistributionSummary> batchSizeSummaries = new HashMap<>();
+    private final Map<String, Counter> roundTripsSavedCounters = new HashMap<>();
+
+    // 정책 변경 전후 비교용 누적 시간 (조회는 L1/L2 조회 시간, 로드는 미스 시 원본 계산 시간)
+    private final LongAdder lookupNanos = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+                         Cache remoteCache,
+                         CacheInvalidationBus invalidationBus,
+                         CacheDependencyTracker dependencyTracker,
+                         CacheTagResolver tagResolver,
+                         SingleFlight singleFlight,
+                         MeterRegistry meterRegistry) {
+        super(false);
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.invalidationBus = invalidationBus;
+        this.dependencyTracker = dependencyTracker;
+        this.tagResolver = tagResolver;
+        this.singleFlight = singleFlight;
+        this.l1HitCounter = tierCounter(meterRegistry, "l1", "hit");
+        this.l2HitCounter = tierCounter(meterRegistry, "l2", "hit");
+        this.missCounter = tierCounter(meterRegistry, "l2", "miss");
+        this.tagInvalidationSummary = DistributionSummary.builder("cache_tag_invalidation_keys")
+                .description("Number of keys evicted per tag invalidation")
+                .tag("cache", name)
+                .register(meterRegistry);
+        for (String operation : new String[]{"get", "put", "evict"}) {
+            batchSizeSummaries.put(operation, DistributionSummary.builder("cache_batch_size")
+                    .description("Number of keys per batched cache operation")
+                    .tag("cache", name)
+                    .tag("operation", operation)
+                    .register(meterRegistry));
+            roundTripsSavedCounters.put(operation, Counter.builder("cache_batch_round_trips_saved_total")
+                    .description("Redis round-trips avoided by batching")
+                    .tag("cache", name)
+                    .tag("operation", operation)
+                    .register(meterRegistry));
+        }
+        if (localCache != null) {
+            Gauge.builder("cache_local_size", localCache, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                    .description("Estimated number of entries in the local (L1) cache")
+                    .tag("cache", name)
+                    .register(meterRegistry);
+        }
+    }
+
+    public void setHotKeyTracker(HotKeyTracker hotKeyTracker) {
+        this.hotKeyTracker = hotKeyTracker;
+    }
+
+    public HotKeyTracker getHotKeyTracker() {
+        return hotKeyTracker;
+    }
+
+    public void setCircuitBreaker(CacheCircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    public void setTraceRecorder(CacheAccessTraceRecorder traceRecorder) {
+        this.traceRecorder = traceRecorder;
+    }
+
+    /**
+     * 노드 간 재계산 임대 활성화 ({@link CacheLease}가 붙은 메서드에만 적용)
+     */
+    public void setLeaseManager(CacheLeaseManager leaseManager, int staleCapacity, Duration staleTtl,
+                                Duration pollInterval, MeterRegistry meterRegistry) {
+        this.leaseManager = leaseManager;
+        this.staleValues = staleCapacity > 0
+                ? Caffeine.newBuilder().maximumSize(staleCapacity).expireAfterWrite(staleTtl).build()
+                : null;
+        this.leasePollMillis = Math.max(1, pollInterval.toMillis());
+        for (String result : new String[]{"acquired", "fenced", "stale", "waited", "timeout", "bypassed"}) {
+            leaseCounters.put(result, Counter.builder("cache_lease_total")
+                    .description("Cross-node recompute lease outcomes")
+                    .tag("cache", name)
+                    .tag("result", result)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 미리 갱신 활성화 - 값이 저장 시각과 함께 {@link RefreshAheadValue}로 저장된다
+     */
+    public void setRefreshAhead(RefreshAheadSpec refreshAheadSpec, Executor refreshExecutor, MeterRegistry meterRegistry) {
+        this.refreshAheadSpec = refreshAheadSpec;
+        this.refreshExecutor = refreshExecutor;
+        this.refreshScheduledCounter = refreshCounter(meterRegistry, "scheduled");
+        this.refreshFailedCounter = refreshCounter(meterRegistry, "failed");
+        this.refreshRejectedCounter = refreshCounter(meterRegistry, "rejected");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remoteCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        return unwrap(lookupStored(key, true));
+    }
+
+    /**
+     * 저장된 그대로의 값 조회 (미리 갱신 대상이면 {@link RefreshAheadValue})
+     */
+    private Object lookupStored(Object key, boolean recordStats) {
+        long start = System.nanoTime();
+        String localKey = toLocalKey(key);
+        if (recordStats && hotKeyTracker != null) {
+            hotKeyTracker.record(localKey);
+        }
+        if (localCache != null) {
+            Object value = localCache.getIfPresent(localKey);
+            if (value != null) {
+                if (recordStats) {
+                    l1HitCounter.increment();
+                    lookupNanos.add(System.nanoTime() - start);
+                    trace(CacheAccessTraceRecorder.OP_GET, localKey, value, CacheAccessTraceRecorder.RESULT_HIT_L1);
+                }
+                return value;
+            }
+        }
+
+        ValueWrapper wrapper = callRemote("get", () -> remoteCache.get(key), null);
+        if (wrapper != null && wrapper.get() != null) {
+            if (recordStats) {
+                l2HitCounter.increment();
+                lookupNanos.add(System.nanoTime() - start);
+                trace(CacheAccessTraceRecorder.OP_GET, localKey, wrapper.get(), CacheAccessTraceRecorder.RESULT_HIT_L2);
+            }
+            if (localCache != null) {
+                localCache.put(localKey, wrapper.get());
+            }
+            return wrapper.get();
+        }
+
+        if (recordStats) {
+            missCounter.increment();
+            lookupNanos.add(System.nanoTime() - start);
+            trace(CacheAccessTraceRecorder.OP_GET, localKey, null, CacheAccessTraceRecorder.RESULT_MISS);
+        }
+        return null;
+    }
+
+    /**
+     * 미스 시 같은 키의 동시 로드를 하나로 합친다 (@Cacheable(sync = true) 경로)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object stored = lookupStored(key, true);
+        if (stored != null) {
+            if (stored instanceof RefreshAheadValue) {
+                // 만료 전이면 기존 값을 바로 반환하고 갱신은 백그라운드에서
+                refreshIfDue(key, (RefreshAheadValue) stored, valueLoader);
+            }
+            if (staleValues != null && CacheLeaseAspect.current() != null) {
+                staleValues.put(toLocalKey(key), unwrap(stored));
+            }
+            return (T) fromStoreValue(unwrap(stored));
+        }
+
+        try {
+            if (singleFlight == null) {
+                return loadShared(key, valueLoader);
+            }
+            return singleFlight.execute(toLocalKey(key), () -> {
+                // 직전 leader가 이미 채웠을 수 있으므로 다시 확인
+                Object cached = unwrap(lookupStored(key, false));
+                return cached != null ? (T) cached : loadShared(key, valueLoader);
+            });
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    /**
+     * {@link CacheLease} 메서드면 임대를 잡은 노드만 계산하고, 나머지는 이전 값 반환 또는 잠시 대기
+     * Redis를 쓸 수 없으면 임대 없이 계산한다.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T loadShared(Object key, Callable<T> valueLoader) throws Exception {
+        CacheLease lease = leaseManager != null ? CacheLeaseAspect.current() : null;
+        if (lease == null) {
+            return load(key, valueLoader);
+        }
+        String localKey = toLocalKey(key);
+        Object outcome = callRemote("lease", () -> {
+            CacheLeaseManager.Lease acquired = leaseManager.tryAcquire(name, localKey,
+                    Duration.ofMillis(lease.leaseMillis()));
+            return acquired != null ? acquired : LEASE_HELD;
+        }, null);
+        if (outcome == null) {
+            leaseCounters.get("bypassed").increment();
+            return load(key, valueLoader);
+        }
+        if (outcome instanceof CacheLeaseManager.Lease) {
+            return loadUnderLease(key, localKey, (CacheLeaseManager.Lease) outcome, valueLoader);
+        }
+
+        // 다른 노드가 계산 중
+        if (lease.serveStale() && staleValues != null) {
+            Object stale = staleValues.getIfPresent(localKey);
+            if (stale != null) {
+                leaseCounters.get("stale").increment();
+                return (T) stale;
+            }
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lease.waitMillis());
+        while (System.nanoTime() < deadline) {
+            Thread.sleep(leasePollMillis);
+            Object cached = unwrap(lookupStored(key, false));
+            if (cached != null) {
+                leaseCounters.get("waited").increment();
+                return (T) cached;
+            }
+            // 임대가 풀렸는데 값이 없으면 계산이 실패한 것이므로 직접 계산
+            if (!callRemote("lease", () -> leaseManager.isLeased(name, localKey), Boolean.FALSE)) {
+                break;
+            }
+        }
+        leaseCounters.get("timeout").increment();
+        return load(key, valueLoader);
+    }
+
+    private <T> T loadUnderLease(Object key, String localKey, CacheLeaseManager.Lease lease,
+                                 Callable<T> valueLoader) throws Exception {
+        try {
+            T value = callLoader(valueLoader);
+            if (value == null) {
+                return null;
+            }
+            // 임대가 만료된 사이 더 나중의 펜스가 이미 썼으면 Redis 쓰기 스크립트가 거부
+            boolean accepted;
+            Duration fenceTtl = lease.getLeaseTime().multipliedBy(2);
+            try (CacheWriteFence writeFence = CacheWriteFence.open(lease.getFence(), fenceTtl)) {
+                put(key, value);
+                accepted = !writeFence.isRejected();
+            }
+            if (accepted) {
+                leaseCounters.get("acquired").increment();
+            } else {
+                leaseCounters.get("fenced").increment();
+                logger.info("Discarded fenced load for cache: {}, key: {} (fence {})", name, localKey, lease.getFence());
+            }
+            if (staleValues != null) {
+                staleValues.put(localKey, value);
+            }
+            return value;
+        } finally {
+            callRemote("lease", () -> {
+                leaseManager.release(lease);
+                return null;
+            }, null);
+        }
+    }
+
+    private <T> T load(Object key, Callable<T> valueLoader) throws Exception {
+        T value = callLoader(valueLoader);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    private <T> T callLoader(Callable<T> valueLoader) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return valueLoader.call();
+        } finally {
+            loadCount.increment();
+            loadNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Object stored = wrap(value);
+        boolean written = runRemote("put", () -> remoteCache.put(key, stored));
+        CacheWriteFence fence = CacheWriteFence.current();
+        if (fence != null && fence.isRejected()) {
+            // 더 나중의 값이 있으므로 L1에도 두지 않음
+            return;
+        }
+        String localKey = toLocalKey(key);
+        if (localCache != null) {
+            localCache.put(localKey, stored);
+        }
+        trace(CacheAccessTraceRecorder.OP_PUT, localKey, stored, CacheAccessTraceRecorder.RESULT_NONE);
+        if (!written) {
+            return;
+        }
+        recordTags(localKey, value);
+        publishEvict(localKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        Object stored = wrap(value);
+        // null이면 차단/실패 - 결과 없음(저장됨)과 구분하려고 Optional로 감쌈
+        Optional<ValueWrapper> result = callRemote("put",
+                () -> Optional.ofNullable(remoteCache.putIfAbsent(key, stored)), null);
+        if (result == null) {
+            // Redis 대신 L1 기준으로 처리하고 복구 시 비움
+            circuitBreaker.markStale(name);
+            Object local = localCache != null ? localCache.asMap().putIfAbsent(toLocalKey(key), stored) : null;
+            return local != null ? new SimpleValueWrapper(unwrap(local)) : null;
+        }
+        ValueWrapper existing = result.orElse(null);
+        if (localCache != null) {
+            Object current = existing != null ? existing.get() : stored;
+            if (current != null) {
+                localCache.put(toLocalKey(key), current);
+            }
+        }
+        if (existing == null) {
+            recordTags(toLocalKey(key), value);
+            publishEvict(toLocalKey(key));
+            return null;
+        }
+        return new SimpleValueWrapper(unwrap(existing.get()));
+    }
+
+    @Override
+    public void evict(Object key) {
+        boolean evicted = runRemote("evict", () -> remoteCache.evict(key));
+        evictLocal(toLocalKey(key));
+        trace(CacheAccessTraceRecorder.OP_EVICT, toLocalKey(key), null, CacheAccessTraceRecorder.RESULT_NONE);
+        if (evicted) {
+            publishEvict(toLocalKey(key));
+        }
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        Boolean evicted = callRemote("evict", () -> remoteCache.evictIfPresent(key), null);
+        evictLocal(toLocalKey(key));
+        trace(CacheAccessTraceRecorder.OP_EVICT, toLocalKey(key), null, CacheAccessTraceRecorder.RESULT_NONE);
+        if (evicted == null) {
+            circuitBreaker.markStale(name);
+            return false;
+        }
+        publishEvict(toLocalKey(key));
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        boolean cleared = runRemote("clear", remoteCache::clear);
+        clearLocal();
+        trace(CacheAccessTraceRecorder.OP_CLEAR, null, null, CacheAccessTraceRecorder.RESULT_NONE);
+        if (cleared && invalidationBus != null) {
+            invalidationBus.publishClear(name);
+        }
+    }
+
+    @Override
+    public boolean invalidate() {
+        Boolean invalidated = callRemote("clear", remoteCache::invalidate, null);
+        clearLocal();
+        trace(CacheAccessTraceRecorder.OP_CLEAR, null, null, CacheAccessTraceRecorder.RESULT_NONE);
+        if (invalidated == null) {
+            circuitBreaker.markStale(name);
+            return false;
+        }
+        if (invalidationBus != null) {
+            invalidationBus.publishClear(name);
+        }
+        return invalidated;
+    }
+
+    /**
+     * 다건 조회 - L1에 없는 키만 Redis에서 한 번에 조회 (값이 있는 키만 반환)
+     */
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        Map<Object, Object> result = new LinkedHashMap<>();
+        List<Object> remoteKeys = new ArrayList<>();
+        for (Object key : keys) {
+            String localKey = toLocalKey(key);
+            if (hotKeyTracker != null) {
+                hotKeyTracker.record(localKey);
+            }
+            Object value = localCache != null ? localCache.getIfPresent(localKey) : null;
+            if (value != null) {
+                l1HitCounter.increment();
+                trace(CacheAccessTraceRecorder.OP_GET, localKey, value, CacheAccessTraceRecorder.RESULT_HIT_L1);
+                result.put(key, unwrap(value));
+            } else {
+                remoteKeys.add(key);
+            }
+        }
+
+        Map<Object, Object> remoteValues = remoteKeys.isEmpty()
+                ? new HashMap<>()
+                : callRemote("get", () -> remoteGetAll(remoteKeys), new HashMap<>());
+        for (Object key : remoteKeys) {
+            Object value = remoteValues.get(key);
+            if (value == null) {
+                missCounter.increment();
+                trace(CacheAccessTraceRecorder.OP_GET, toLocalKey(key), null, CacheAccessTraceRecorder.RESULT_MISS);
+                continue;
+            }
+            l2HitCounter.increment();
+            trace(CacheAccessTraceRecorder.OP_GET, toLocalKey(key), value, CacheAccessTraceRecorder.RESULT_HIT_L2);
+            if (localCache != null) {
+                localCache.put(toLocalKey(key), value);
+            }
+            result.put(key, unwrap(value));
+        }
+        recordBatch("get", keys.size(), remoteKeys.size());
+        return result;
+    }
+
+    /**
+     * 다건 저장 - Redis 파이프라인 한 번, 무효화 메시지 한 번
+     */
+    public void putAll(Map<?, ?> entries) {
+        Map<Object, Object> stored = new LinkedHashMap<>();
+        for (Map.Entry<?, ?> entry : entries.entrySet()) {
+            if (entry.getValue() != null) {
+                stored.put(entry.getKey(), wrap(entry.getValue()));
+            }
+        }
+        if (stored.isEmpty()) {
+            return;
+        }
+        boolean written = runRemote("put", () -> {
+            if (remoteCache instanceof BatchRedisCache) {
+                ((BatchRedisCache) remoteCache).putAll(stored);
+            } else {
+                stored.forEach(remoteCache::put);
+            }
+        });
+
+        List<String> localKeys = new ArrayList<>(stored.size());
+        for (Map.Entry<Object, Object> entry : stored.entrySet()) {
+            String localKey = toLocalKey(entry.getKey());
+            if (localCache != null) {
+                localCache.put(localKey, entry.getValue());
+            }
+            trace(CacheAccessTraceRecorder.OP_PUT, localKey, entry.getValue(), CacheAccessTraceRecorder.RESULT_NONE);
+            if (written) {
+                recordTags(localKey, entries.get(entry.getKey()));
+            }
+            localKeys.add(localKey);
+        }
+        if (written && invalidationBus != null) {
+            invalidationBus.publishEvictAll(name, localKeys);
+        }
+        recordBatch("put", stored.size(), stored.size());
+    }
+
+    /**
+     * 다건 삭제 - Redis 파이프라인 한 번, 무효화 메시지 한 번
+     */
+    public void evictAll(Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        boolean evicted = runRemote("evict", () -> {
+            if (remoteCache instanceof BatchRedisCache) {
+                ((BatchRedisCache) remoteCache).evictAll(keys);
+            } else {
+                keys.forEach(remoteCache::evict);
+            }
+        });
+
+        List<String> localKeys = new ArrayList<>(keys.size());
+        for (Object key : keys) {
+            String localKey = toLocalKey(key);
+            evictLocal(localKey);
+            trace(CacheAccessTraceRecorder.OP_EVICT, localKey, null, CacheAccessTraceRecorder.RESULT_NONE);
+            localKeys.add(localKey);
+        }
+        if (evicted && invalidationBus != null) {
+            invalidationBus.publishEvictAll(name, localKeys);
+        }
+        recordBatch("evict", keys.size(), keys.size());
+    }
+
+    /**
+     * 태그에 의존하는 엔트리만 무효화
+     *
+     * @return 무효화한 키 개수
+     */
+    public int evictByTags(Collection<String> tags) {
+        if (dependencyTracker == null) {
+            // 의존성 추적이 없으면 안전하게 전체 클리어
+            clear();
+            return -1;
+        }
+        Set<String> keys = callRemote("evict", () -> dependencyTracker.removeTagged(name, tags), null);
+        if (keys == null) {
+            // 태그 인덱스를 읽을 수 없으면 L1 전체를 비우고 복구 시 Redis도 비움
+            clearLocal();
+            circuitBreaker.markStale(name);
+            return -1;
+        }
+        evictAll(keys);
+        tagInvalidationSummary.record(keys.size());
+        logger.info("Invalidated {} keys in cache: {} for tags: {}", keys.size(), name, tags);
+        return keys.size();
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 반영 (L1만 제거)
+     */
+    public void evictLocal(String key) {
+        if (localCache != null) {
+            localCache.invalidate(key);
+        }
+        if (staleValues != null) {
+            staleValues.invalidate(key);
+        }
+    }
+
+    /**
+     * 다른 노드의 클리어 메시지 반영 (L1만 제거)
+     */
+    public void clearLocal() {
+        if (localCache != null) {
+            localCache.invalidateAll();
+        }
+        if (staleValues != null) {
+            staleValues.invalidateAll();
+        }
+    }
+
+    /**
+     * 현재 적용 중인 TTL, L1, 미리 갱신 설정
+     */
+    public CachePolicy currentPolicy() {
+        Duration ttl = remoteTtl();
+        Long maximumSize = null;
+        Long expireSeconds = null;
+        if (localCache != null) {
+            maximumSize = localCache.policy().eviction().map(eviction -> eviction.getMaximum()).orElse(null);
+            expireSeconds = localCache.policy().expireAfterWrite()
+                    .map(expiration -> expiration.getExpiresAfter(TimeUnit.SECONDS)).orElse(null);
+        }
+        RefreshAheadSpec refresh = refreshAheadSpec;
+        return new CachePolicy(ttl != null ? ttl.getSeconds() : null, maximumSize, expireSeconds,
+                refresh != null, refresh != null ? refresh.getRefreshAfter() : null);
+    }
+
+    /**
+     * 정책 변경 반영 (null 항목은 유지)
+     * L1 크기/만료는 기존 항목에도 바로 적용되고, TTL은 이후 저장되는 값부터 적용된다.
+     */
+    public void applyPolicy(CachePolicy policy, Executor refreshExecutor, MeterRegistry meterRegistry) {
+        if ((policy.getLocalMaximumSize() != null || policy.getLocalExpireSeconds() != null) && localCache == null) {
+            throw new IllegalStateException("Local cache is disabled for cache: " + name);
+        }
+        if (policy.getTtlSeconds() != null && !(remoteCache instanceof BatchRedisCache)) {
+            throw new IllegalStateException("TTL is not adjustable for cache: " + name);
+        }
+        boolean refreshEnabled = policy.getRefreshAheadEnabled() != null
+                ? policy.getRefreshAheadEnabled()
+                : refreshAheadSpec != null;
+        boolean refreshChanged = policy.getRefreshAheadEnabled() != null || policy.getRefreshAfter() != null;
+        if (refreshEnabled && refreshChanged && refreshExecutor == null) {
+            throw new IllegalStateException("Refresh-ahead executor is not configured");
+        }
+
+        if (policy.getTtlSeconds() != null) {
+            ((BatchRedisCache) remoteCache).setTtl(Duration.ofSeconds(policy.getTtlSeconds()));
+        }
+        if (policy.getLocalMaximumSize() != null) {
+            localCache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(policy.getLocalMaximumSize()));
+        }
+        if (policy.getLocalExpireSeconds() != null) {
+            localCache.policy().expireAfterWrite().ifPresent(expiration ->
+                    expiration.setExpiresAfter(policy.getLocalExpireSeconds(), TimeUnit.SECONDS));
+        }
+        if (!refreshEnabled) {
+            // 이미 저장된 RefreshAheadValue는 unwrap으로 그대로 읽힘
+            refreshAheadSpec = null;
+        } else if (refreshChanged) {
+            double refreshAfter = policy.getRefreshAfter() != null ? policy.getRefreshAfter()
+                    : refreshAheadSpec != null ? refreshAheadSpec.getRefreshAfter()
+                    : new RefreshAheadSpec().getRefreshAfter();
+            setRefreshAhead(new RefreshAheadSpec(true, refreshAfter), refreshExecutor, meterRegistry);
+        }
+    }
+
+    /**
+     * 정책 변경 전후 비교용 누적 측정값
+     */
+    public Measurement measure() {
+        return new Measurement(System.currentTimeMillis(), (long) (l1HitCounter.count() + l2HitCounter.count()),
+                (long) missCounter.count(), lookupNanos.sum(), loadCount.sum(), loadNanos.sum());
+    }
+
+    /**
+     * 계층별 적중 통계
+     */
+    public Map<String, Object> getTierStatistics() {
+        double l1Hits = l1HitCounter.count();
+        double l2Hits = l2HitCounter.count();
+        double misses = missCounter.count();
+        double total = l1Hits + l2Hits + misses;
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("local_enabled", localCache != null);
+        stats.put("local_size", localCache != null ? localCache.estimatedSize() : 0L);
+        stats.put("l1_hits", (long) l1Hits);
+        stats.put("l2_hits", (long) l2Hits);
+        stats.put("misses", (long) misses);
+        stats.put("l1_hit_rate", total > 0 ? (l1Hits / total) * 100 : 0.0);
+        stats.put("l2_hit_rate", total > 0 ? (l2Hits / total) * 100 : 0.0);
+        if (refreshAheadSpec != null) {
+            stats.put("refresh_ahead_scheduled", (long) refreshScheduledCounter.count());
+            stats.put("refresh_ahead_failed", (long) refreshFailedCounter.count());
+            stats.put("refresh_ahead_rejected", (long) refreshRejectedCounter.count());
+            stats.put("refresh_ahead_in_flight", refreshing.size());
+        }
+        if (leaseManager != null) {
+            Map<String, Long> leases = new LinkedHashMap<>();
+            leaseCounters.forEach((result, counter) -> leases.put(result, (long) counter.count()));
+            stats.put("leases", leases);
+        }
+        if (singleFlight != null) {
+            stats.put("loads", singleFlight.getLeaderCount());
+            stats.put("coalesced_waits", singleFlight.getFollowerCount());
+            stats.put("coalesce_timeouts", singleFlight.getTimeoutCount());
+            stats.put("in_flight", singleFlight.getInFlightCount());
+        }
+        return stats;
+    }
+
+    /**
+     * 회로 차단기를 거쳐 Redis 호출 - 열려 있거나 Redis 오류면 fallback (차단기가 없으면 그대로 호출)
+     */
+    private <T> T callRemote(String operation, Supplier<T> call, T fallback) {
+        if (circuitBreaker == null) {
+            return call.get();
+        }
+        if (!circuitBreaker.allowRequest()) {
+            circuitBreaker.recordBypass(operation);
+            return fallback;
+        }
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            circuitBreaker.recordSuccess(System.nanoTime() - start);
+            return result;
+        } catch (DataAccessException e) {
+            circuitBreaker.recordFailure();
+            logger.warn("Redis {} failed for cache: {}, falling back: {}", operation, name, e.getMessage());
+            return fallback;
+        }
+    }
+
+    /**
+     * Redis 쓰기/삭제 - 반영하지 못하면 복구 시 비우도록 표시 (@return 반영 여부)
+     */
+    private boolean runRemote(String operation, Runnable call) {
+        boolean done = callRemote(operation, () -> {
+            call.run();
+            return Boolean.TRUE;
+        }, Boolean.FALSE);
+        if (!done) {
+            circuitBreaker.markStale(name);
+        }
+        return done;
+    }
+
+    private Map<Object, Object> remoteGetAll(List<Object> keys) {
+        if (keys.isEmpty()) {
+            return new HashMap<>();
+        }
+        if (remoteCache instanceof BatchRedisCache) {
+            return ((BatchRedisCache) remoteCache).getAll(keys);
+        }
+        Map<Object, Object> values = new HashMap<>();
+        for (Object key : keys) {
+            ValueWrapper wrapper = remoteCache.get(key);
+            if (wrapper != null && wrapper.get() != null) {
+                values.put(key, wrapper.get());
+            }
+        }
+        return values;
+    }
+
+    /**
+     * 배치 크기와 절약한 왕복 수 기록 (Redis에 보낸 키 n개를 1회 왕복으로 처리)
+     */
+    private void recordBatch(String operation, int size, int remoteKeys) {
+        batchSizeSummaries.get(operation).record(size);
+        if (remoteKeys > 1 && remoteCache instanceof BatchRedisCache) {
+            roundTripsSavedCounters.get(operation).increment(remoteKeys - 1);
+        }
+    }
+
+    private <T> void refreshIfDue(Object key, RefreshAheadValue stored, Callable<T> valueLoader) {
+        if (refreshAheadSpec == null || refreshExecutor == null
+                || !stored.shouldRefresh(refreshAheadSpec.getRefreshAfter(), System.currentTimeMillis(),
+                        ThreadLocalRandom.current().nextDouble())) {
+            return;
+        }
+        String localKey = toLocalKey(key);
+        if (!refreshing.add(localKey)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(key, valueLoader);
+                } catch (Exception e) {
+                    refreshFailedCounter.increment();
+                    logger.debug("Refresh-ahead failed for key: {} in cache: {}: {}", localKey, name, e.getMessage());
+                } finally {
+                    refreshing.remove(localKey);
+                }
+            });
+            refreshScheduledCounter.increment();
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(localKey);
+            refreshRejectedCounter.increment();
+        }
+    }
+
+    private Object wrap(Object value) {
+        if (refreshAheadSpec == null || value == null) {
+            return value;
+        }
+        Duration ttl = remoteTtl();
+        return new RefreshAheadValue(value, System.currentTimeMillis(), ttl != null ? ttl.toMillis() : 0);
+    }
+
+    private static Object unwrap(Object stored) {
+        return stored instanceof RefreshAheadValue ? ((RefreshAheadValue) stored).getValue() : stored;
+    }
+
+    private void recordTags(String key, Object value) {
+        if (dependencyTracker == null || tagResolver == null) {
+            return;
+        }
+        Set<String> tags = tagResolver.resolveTags(name, key, value);
+        if (!tags.isEmpty()) {
+            dependencyTracker.record(name, key, tags, remoteTtl());
+        }
+    }
+
+    private Duration remoteTtl() {
+        if (remoteCache instanceof BatchRedisCache) {
+            return ((BatchRedisCache) remoteCache).getTtl();
+        }
+        if (remoteCache instanceof RedisCache) {
+            return ((RedisCache) remoteCache).getCacheConfiguration().getTtl();
+        }
+        return null;
+    }
+
+    private void trace(String operation, String localKey, Object value, String result) {
+        if (traceRecorder != null) {
+            traceRecorder.record(name, operation, localKey, value, result);
+        }
+    }
+
+    private void publishEvict(String localKey) {
+        if (invalidationBus != null) {
+            invalidationBus.publishEvict(name, localKey);
+        }
+    }
+
+    private String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private Counter refreshCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache_refresh_ahead_total")
+                .description("Background refresh-ahead loads by result")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter tierCounter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache_tier_requests_total")
+                .description("Cache lookups by tier and result")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 특정 시점까지의 누적 적중/지연 - 두 시점의 차이로 구간 적중률과 평균 지연을 계산한다
+     */
+    public static final class Measurement {
+
+        private final long takenAt;
+        private final long hits;
+        private final long misses;
+        private final long lookupNanos;
+        private final long loads;
+        private final long loadNanos;
+
+        public Measurement(long takenAt, long hits, long misses, long lookupNanos, long loads, long loadNanos) {
+            this.takenAt = takenAt;
+            this.hits = hits;
+            this.misses = misses;
+            this.lookupNanos = lookupNanos;
+            this.loads = loads;
+            this.loadNanos = loadNanos;
+        }
+
+        /**
+         * earlier 이후 이 시점까지 구간의 요청 수, 적중률(%), 평균 조회/로드 지연(ms)
+         */
+        public Map<String, Object> since(Measurement earlier) {
+            long windowHits = hits - earlier.hits;
+            long requests = windowHits + misses - earlier.misses;
+            long windowLoads = loads - earlier.loads;
+            Map<String, Object> window = new LinkedHashMap<>();
+            window.put("from", earlier.takenAt);
+            window.put("to", takenAt);
+            window.put("requests", requests);
+            window.put("hit_rate", requests > 0 ? (double) windowHits / requests * 100 : 0.0);
+            window.put("avg_lookup_ms", requests > 0 ? (lookupNanos - earlier.lookupNanos) / 1e6 / requests : 0.0);
+            window.put("loads", windowLoads);
+            window.put("avg_load_ms", windowLoads > 0 ? (loadNanos - earlier.loadNanos) / 1e6 / windowLoads : 0.0);
+            return window;
+        }
+
+        public long getTakenAt() {
+            return takenAt;
+        }
+    }
+}
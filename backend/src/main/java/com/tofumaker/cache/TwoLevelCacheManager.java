@@ -0,0 +1,267 @@
+package com.tofumaker.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Redis CacheManager 앞단에 캐시별 로컬(L1) 캐시를 두는 CacheManager
+ * 다른 노드가 발행한 무효화 메시지를 수신해 L1을 정리한다.
+ */
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TwoLevelCacheManager.class);
+
+    private final CacheManager remoteCacheManager;
+    private final Function<String, LocalCacheSpec> localSpecResolver;
+    private final CacheInvalidationBus invalidationBus;
+    private final MeterRegistry meterRegistry;
+
+    // 태그 의존성 추적 (선택)
+    private CacheDependencyTracker dependencyTracker;
+    private CacheTagResolver tagResolver;
+    private CacheGenerations generations;
+    private CacheCircuitBreaker circuitBreaker;
+    private CacheAccessTraceRecorder traceRecorder;
+
+    // 노드 간 재계산 임대와 이전 값 보관 설정 (선택)
+    private CacheLeaseManager leaseManager;
+    private int leaseStaleCapacity;
+    private Duration leaseStaleTtl;
+    private Duration leasePollInterval;
+
+    // 미스 시 동시 로드 병합 - follower 최대 대기 시간 (null이면 비활성)
+    private Duration singleFlightTimeout;
+
+    // 캐시별 상위 접근 키 추적 용량 (0이면 비활성)
+    private int hotKeyCapacity;
+
+    // 캐시별 미리 갱신 설정 및 갱신 실행기 (선택)
+    private Function<String, RefreshAheadSpec> refreshAheadResolver;
+    private ExecutorService refreshExecutor;
+
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                Function<String, LocalCacheSpec> localSpecResolver,
+                                CacheInvalidationBus invalidationBus,
+                                MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localSpecResolver = localSpecResolver;
+        this.invalidationBus = invalidationBus;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remoteCache = remoteCacheManager.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> createCache(cacheName, remoteCache));
+    }
+
+    /**
+     * 태그 기반 무효화 활성화
+     */
+    public void setDependencyTracking(CacheDependencyTracker dependencyTracker, CacheTagResolver tagResolver) {
+        this.dependencyTracker = dependencyTracker;
+        this.tagResolver = tagResolver;
+    }
+
+    /**
+     * 다른 노드의 클리어 메시지를 받으면 L1을 비우기 전에 세대 번호를 다시 읽음
+     */
+    public void setGenerations(CacheGenerations generations) {
+        this.generations = generations;
+    }
+
+    /**
+     * Redis 장애 시 우회 - 복구되면 열린 동안 Redis에 반영하지 못한 캐시를 비움
+     */
+    public void setCircuitBreaker(CacheCircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+        circuitBreaker.setRecoveryListener(cacheNames -> {
+            for (String cacheName : cacheNames) {
+                Cache cache = getCache(cacheName);
+                if (cache != null) {
+                    cache.clear();
+                }
+            }
+        });
+    }
+
+    public void setTraceRecorder(CacheAccessTraceRecorder traceRecorder) {
+        this.traceRecorder = traceRecorder;
+    }
+
+    /**
+     * {@link CacheLease} 메서드의 미스를 노드 간 임대로 조율
+     */
+    public void setLeaseManager(CacheLeaseManager leaseManager, int staleCapacity, Duration staleTtl,
+                                Duration pollInterval) {
+        this.leaseManager = leaseManager;
+        this.leaseStaleCapacity = staleCapacity;
+        this.leaseStaleTtl = staleTtl;
+        this.leasePollInterval = pollInterval;
+    }
+
+    public void setSingleFlightTimeout(Duration singleFlightTimeout) {
+        this.singleFlightTimeout = singleFlightTimeout;
+    }
+
+    public void setHotKeyCapacity(int hotKeyCapacity) {
+        this.hotKeyCapacity = hotKeyCapacity;
+    }
+
+    /**
+     * 미리 갱신 활성화 - 설정이 있는 캐시만 적용, 갱신은 threads개의 백그라운드 스레드에서 실행
+     * 대기열이 가득 차면 갱신을 건너뛰고 기존 TTL 만료에 맡긴다.
+     */
+    public void setRefreshAhead(Function<String, RefreshAheadSpec> refreshAheadResolver, int threads) {
+        this.refreshAheadResolver = refreshAheadResolver;
+        AtomicInteger sequence = new AtomicInteger();
+        this.refreshExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(1000), runnable -> {
+                    Thread thread = new Thread(runnable, "cache-refresh-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidationMessage invalidation = invalidationBus.decode(message);
+        if (invalidation == null) {
+            return;
+        }
+        TwoLevelCache cache = caches.get(invalidation.getCacheName());
+        if (cache == null) {
+            return;
+        }
+        if (invalidation.isClear()) {
+            if (generations != null) {
+                generations.refresh(invalidation.getCacheName());
+            }
+            cache.clearLocal();
+            logger.debug("Cleared local cache: {} by remote node: {}", invalidation.getCacheName(), invalidation.getOrigin());
+        } else if (invalidation.getKeys() != null) {
+            invalidation.getKeys().forEach(cache::evictLocal);
+            logger.debug("Evicted {} local keys in cache: {} by remote node: {}",
+                    invalidation.getKeys().size(), invalidation.getCacheName(), invalidation.getOrigin());
+        } else {
+            cache.evictLocal(invalidation.getKey());
+            logger.debug("Evicted local key: {} in cache: {} by remote node: {}",
+                    invalidation.getKey(), invalidation.getCacheName(), invalidation.getOrigin());
+        }
+    }
+
+    private TwoLevelCache createCache(String name, Cache remoteCache) {
+        LocalCacheSpec spec = localSpecResolver.apply(name);
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = null;
+        if (spec != null && spec.isEnabled()) {
+            localCache = Caffeine.newBuilder()
+                    .maximumSize(spec.getMaximumSize())
+                    .expireAfterWrite(spec.getExpireAfterWrite())
+                    .build();
+        }
+        logger.info("Created two-level cache: {} (local: {})", name,
+                localCache != null ? spec.getMaximumSize() + " entries / " + spec.getExpireAfterWrite() : "disabled");
+        SingleFlight singleFlight = singleFlightTimeout != null
+                ? new SingleFlight(name, singleFlightTimeout, meterRegistry)
+                : null;
+        TwoLevelCache cache = new TwoLevelCache(name, localCache, remoteCache, invalidationBus,
+                dependencyTracker, tagResolver, singleFlight, meterRegistry);
+        if (hotKeyCapacity > 0) {
+            cache.setHotKeyTracker(createHotKeyTracker(name));
+        }
+        if (circuitBreaker != null) {
+            cache.setCircuitBreaker(circuitBreaker);
+        }
+        if (traceRecorder != null) {
+            cache.setTraceRecorder(traceRecorder);
+        }
+        if (leaseManager != null) {
+            cache.setLeaseManager(leaseManager, leaseStaleCapacity, leaseStaleTtl, leasePollInterval, meterRegistry);
+        }
+        RefreshAheadSpec refreshAheadSpec = refreshAheadResolver != null ? refreshAheadResolver.apply(name) : null;
+        if (refreshAheadSpec != null && refreshAheadSpec.isEnabled()) {
+            cache.setRefreshAhead(refreshAheadSpec, refreshExecutor, meterRegistry);
+            logger.info("Enabled refresh-ahead for cache: {} (after {} of TTL)", name, refreshAheadSpec.getRefreshAfter());
+        }
+        return cache;
+    }
+
+    private HotKeyTracker createHotKeyTracker(String name) {
+        HotKeyTracker tracker = new HotKeyTracker(hotKeyCapacity);
+        // 키 자체를 태그로 쓰면 카디널리티가 폭증하므로 상위 키 점유율만 노출
+        Gauge.builder("cache_hot_key_share", tracker, t -> t.topShare(1))
+                .description("Share of recent lookups taken by the hottest key")
+                .tag("cache", name)
+                .tag("top", "1")
+                .register(meterRegistry);
+        Gauge.builder("cache_hot_key_share", tracker, t -> t.topShare(10))
+                .description("Share of recent lookups taken by the ten hottest keys")
+                .tag("cache", name)
+                .tag("top", "10")
+                .register(meterRegistry);
+        return tracker;
+    }
+
+    /**
+     * 런타임 정책 변경 반영 (null 항목은 유지)
+     */
+    public TwoLevelCache applyPolicy(String name, CachePolicy policy) {
+        TwoLevelCache cache = (TwoLevelCache) getCache(name);
+        if (cache == null) {
+            throw new IllegalArgumentException("Unknown cache: " + name);
+        }
+        cache.applyPolicy(policy, refreshExecutor, meterRegistry);
+        return cache;
+    }
+
+    /**
+     * 상위 접근 키 카운트 감쇠 (최근 트래픽 위주로 유지)
+     */
+    public void decayHotKeys() {
+        for (TwoLevelCache cache : caches.values()) {
+            if (cache.getHotKeyTracker() != null) {
+                cache.getHotKeyTracker().decay();
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.tofumaker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 존재하지 않는 게시글 ID 조회 차단(Bloom filter) 설정 Properties
+ */
+@Component
+@ConfigurationProperties(prefix = "cache.board-filter")
+public class BoardFilterProperties {
+
+    private boolean enabled = true;
+
+    // 목표 오탐률
+    private double falsePositiveRate = 0.01;
+
+    // 재구성 시 한 번에 읽을 ID 수
+    private int rebuildBatchSize = 10000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    public void setFalsePositiveRate(double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public int getRebuildBatchSize() {
+        return rebuildBatchSize;
+    }
+
+    public void setRebuildBatchSize(int rebuildBatchSize) {
+        this.rebuildBatchSize = rebuildBatchSize;
+    }
+}
@@ -0,0 +1,88 @@
+package com.tofumaker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 트렌딩 게시글(/api/boards/trending) 설정 Properties
+ */
+@Component
+@ConfigurationProperties(prefix = "board.trending")
+public class BoardTrendingProperties {
+
+    private boolean enabled = true;
+
+    // 응답할 상위 게시글 수 (후보는 이 값의 몇 배까지 유지)
+    private int capacity = 200;
+
+    // 점수 반감기 (재시작 후 적용)
+    private Duration halfLife = Duration.ofHours(2);
+
+    // 이벤트 가중치
+    private double viewWeight = 1.0;
+    private double updateWeight = 5.0;
+
+    // 노드 간 Redis sorted set으로 합산할지 여부
+    private boolean redisSync = true;
+
+    // DB 재구성 시 읽을 최근 수정 기간
+    private Duration rebuildWindow = Duration.ofHours(24);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public Duration getHalfLife() {
+        return halfLife;
+    }
+
+    public void setHalfLife(Duration halfLife) {
+        this.halfLife = halfLife;
+    }
+
+    public double getViewWeight() {
+        return viewWeight;
+    }
+
+    public void setViewWeight(double viewWeight) {
+        this.viewWeight = viewWeight;
+    }
+
+    public double getUpdateWeight() {
+        return updateWeight;
+    }
+
+    public void setUpdateWeight(double updateWeight) {
+        this.updateWeight = updateWeight;
+    }
+
+    public boolean isRedisSync() {
+        return redisSync;
+    }
+
+    public void setRedisSync(boolean redisSync) {
+        this.redisSync = redisSync;
+    }
+
+    public Duration getRebuildWindow() {
+        return rebuildWindow;
+    }
+
+    public void setRebuildWindow(Duration rebuildWindow) {
+        this.rebuildWindow = rebuildWindow;
+    }
+}
@@ -0,0 +1,38 @@
+package com.tofumaker.config;
+
+import com.tofumaker.cache.CacheBudget;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 캐시별 Redis 메모리 예산 설정 Properties
+ */
+@Component
+@ConfigurationProperties(prefix = "cache.budget")
+public class CacheBudgetProperties {
+
+    // 캐시별 예산 (최대 바이트, 항목 최대 바이트, 제거 정책)
+    private Map<String, CacheBudget> caches = new HashMap<>();
+
+    // 예산 초과 확인 시 표본 키 수
+    private int sampleSize = 64;
+
+    public Map<String, CacheBudget> getCaches() {
+        return caches;
+    }
+
+    public void setCaches(Map<String, CacheBudget> caches) {
+        this.caches = caches;
+    }
+
+    public int getSampleSize() {
+        return sampleSize;
+    }
+
+    public void setSampleSize(int sampleSize) {
+        this.sampleSize = sampleSize;
+    }
+}
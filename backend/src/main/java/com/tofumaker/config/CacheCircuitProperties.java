@@ -0,0 +1,93 @@
+package com.tofumaker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Redis 회로 차단기 설정 Properties
+ */
+@Component
+@ConfigurationProperties(prefix = "cache.circuit")
+public class CacheCircuitProperties {
+
+    private boolean enabled = true;
+
+    // 최근 호출 창 크기와 최소 호출 수
+    private int windowSize = 50;
+    private int minimumCalls = 10;
+
+    // 실패/느린 호출 비율 임계값, 느린 호출 기준
+    private double failureRateThreshold = 0.5;
+    private double slowCallRateThreshold = 0.8;
+    private Duration slowCallDuration = Duration.ofMillis(250);
+
+    // 열린 동안 복구 확인 주기, 닫기 전 성공해야 하는 시험 호출 수
+    private Duration probeInterval = Duration.ofSeconds(2);
+    private int halfOpenCalls = 5;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    public void setWindowSize(int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    public void setMinimumCalls(int minimumCalls) {
+        this.minimumCalls = minimumCalls;
+    }
+
+    public double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public void setFailureRateThreshold(double failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    public double getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    public void setSlowCallRateThreshold(double slowCallRateThreshold) {
+        this.slowCallRateThreshold = slowCallRateThreshold;
+    }
+
+    public Duration getSlowCallDuration() {
+        return slowCallDuration;
+    }
+
+    public void setSlowCallDuration(Duration slowCallDuration) {
+        this.slowCallDuration = slowCallDuration;
+    }
+
+    public Duration getProbeInterval() {
+        return probeInterval;
+    }
+
+    public void setProbeInterval(Duration probeInterval) {
+        this.probeInterval = probeInterval;
+    }
+
+    public int getHalfOpenCalls() {
+        return halfOpenCalls;
+    }
+
+    public void setHalfOpenCalls(int halfOpenCalls) {
+        this.halfOpenCalls = halfOpenCalls;
+    }
+}
@@ -1,41 +1,68 @@
 package com.tofumaker.config;
 
-import com.fasterxml.jackson.annotation.JsonAutoDetect;
-import com.fasterxml.jackson.annotation.PropertyAccessor;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.type.CollectionType;
-import com.fasterxml.jackson.databind.type.TypeFactory;
-import org.springframework.cache.CacheManager;
+import com.tofumaker.cache.BatchRedisCacheManager;
+import com.tofumaker.cache.CacheAccessTraceRecorder;
+import com.tofumaker.cache.CacheBudgetManager;
+import com.tofumaker.cache.CacheCircuitBreaker;
+import com.tofumaker.cache.CacheDependencyTracker;
+import com.tofumaker.cache.CacheGenerations;
+import com.tofumaker.cache.CacheInvalidationBus;
+import com.tofumaker.cache.CacheKeyspaceReconciler;
+import com.tofumaker.cache.CacheLeaseManager;
+import com.tofumaker.cache.CachePolicyManager;
+import com.tofumaker.cache.CacheSerializers;
+import com.tofumaker.cache.CacheTagResolver;
+import com.tofumaker.cache.CacheValueSizeMonitor;
+import com.tofumaker.cache.CacheWarmupManifest;
+import com.tofumaker.cache.CompactKeyGenerator;
+import com.tofumaker.cache.ConsistentHashRing;
+import com.tofumaker.cache.CountingRedisCacheWriter;
+import com.tofumaker.cache.ShardedRedisCacheWriter;
+import com.tofumaker.cache.TwoLevelCache;
+import com.tofumaker.cache.TwoLevelCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
 @Configuration
 @EnableCaching
+@EnableScheduling
 public class CacheConfig {
 
+    public static final String COMPACT_KEY_GENERATOR = "compactKeyGenerator";
+
     @Bean
     public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
         // JSON 직렬화 설정
-        Jackson2JsonRedisSerializer<Object> jackson2JsonRedisSerializer = new Jackson2JsonRedisSerializer<>(Object.class);
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
-        objectMapper.activateDefaultTyping(objectMapper.getPolymorphicTypeValidator(), ObjectMapper.DefaultTyping.NON_FINAL);
-        jackson2JsonRedisSerializer.setObjectMapper(objectMapper);
+        Jackson2JsonRedisSerializer<Object> jackson2JsonRedisSerializer = CacheSerializers.json();
 
         // String 직렬화 설정
         StringRedisSerializer stringRedisSerializer = new StringRedisSerializer();
@@ -53,20 +80,135 @@ public class CacheConfig {
     }
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        // JSON 직렬화 설정
-        Jackson2JsonRedisSerializer<Object> jackson2JsonRedisSerializer = new Jackson2JsonRedisSerializer<>(Object.class);
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
-        objectMapper.activateDefaultTyping(objectMapper.getPolymorphicTypeValidator(), ObjectMapper.DefaultTyping.NON_FINAL);
-        jackson2JsonRedisSerializer.setObjectMapper(objectMapper);
+    public CacheInvalidationBus cacheInvalidationBus(RedisTemplate<String, Object> redisTemplate,
+                                                     CacheProperties cacheProperties) {
+        return new CacheInvalidationBus(redisTemplate, cacheProperties.getInvalidationChannel());
+    }
+
+    @Bean
+    public CacheDependencyTracker cacheDependencyTracker(StringRedisTemplate stringRedisTemplate) {
+        return new CacheDependencyTracker(stringRedisTemplate);
+    }
+
+    /**
+     * Redis 회로 차단기 - 열린 동안 기본 노드에 PING으로 복구 확인
+     */
+    @Bean(destroyMethod = "shutdown")
+    public CacheCircuitBreaker cacheCircuitBreaker(RedisConnectionFactory connectionFactory,
+                                                   CacheCircuitProperties circuit) {
+        return new CacheCircuitBreaker(circuit.getWindowSize(), circuit.getMinimumCalls(),
+                circuit.getFailureRateThreshold(), circuit.getSlowCallRateThreshold(), circuit.getSlowCallDuration(),
+                circuit.getHalfOpenCalls(), circuit.getProbeInterval(),
+                () -> {
+                    RedisConnection connection = connectionFactory.getConnection();
+                    try {
+                        return "PONG".equalsIgnoreCase(connection.ping());
+                    } finally {
+                        connection.close();
+                    }
+                });
+    }
+
+    /**
+     * 캐시 접근 기록기 - 값 크기는 Redis에 저장되는 직렬화 크기로 계산
+     */
+    @Bean(destroyMethod = "stop")
+    public CacheAccessTraceRecorder cacheAccessTraceRecorder(CacheProperties cacheProperties,
+                                                             CacheTraceProperties trace) throws IOException {
+        RedisSerializer<Object> valueSerializer = CacheSerializers.forCodec(
+                cacheProperties.getValueCodec(), cacheProperties.getCompressionThreshold());
+        CacheAccessTraceRecorder recorder = new CacheAccessTraceRecorder(trace.getQueueCapacity(),
+                value -> valueSerializer.serialize(value).length);
+        if (trace.isOnStartup()) {
+            recorder.start(Paths.get(trace.getPath()), trace.getSampleRate(), trace.getMaxSize().toBytes());
+        }
+        return recorder;
+    }
+
+    @Bean
+    public CacheLeaseManager cacheLeaseManager(StringRedisTemplate stringRedisTemplate) {
+        return new CacheLeaseManager(stringRedisTemplate);
+    }
+
+    @Bean
+    public CacheGenerations cacheGenerations(StringRedisTemplate stringRedisTemplate) {
+        return new CacheGenerations(stringRedisTemplate);
+    }
+
+    @Bean
+    public CacheValueSizeMonitor cacheValueSizeMonitor(MeterRegistry meterRegistry,
+                                                       CacheValueSizeProperties valueSize) {
+        return new CacheValueSizeMonitor(meterRegistry, valueSize.getWarnThreshold().toBytes(),
+                valueSize.getWarnInterval(), valueSize.getMaxPrefixes());
+    }
+
+    @Bean
+    public CountingRedisCacheWriter cacheWriter(RedisConnectionFactory connectionFactory,
+                                                RedisProperties redisProperties,
+                                                CacheValueSizeMonitor cacheValueSizeMonitor,
+                                                CacheShardingProperties sharding,
+                                                CacheSegmentProperties segment) {
+        CountingRedisCacheWriter primary = new CountingRedisCacheWriter(connectionFactory);
+
+        // 노드마다 별도 연결, pub/sub·태그·통계 등 나머지는 기본 연결 사용
+        ConsistentHashRing<CountingRedisCacheWriter> ring = new ConsistentHashRing<>(sharding.getVirtualNodes());
+        for (String node : sharding.getNodes()) {
+            if (StringUtils.hasText(node)) {
+                ring.add(node.trim(), new CountingRedisCacheWriter(shardConnectionFactory(node.trim(), redisProperties)));
+            }
+        }
+        CountingRedisCacheWriter writer = ring.getNodes().isEmpty()
+                ? primary
+                : new ShardedRedisCacheWriter(primary, ring, sharding.getCaches());
+        writer.setSizeMonitor(cacheValueSizeMonitor);
+        writer.setSegmentation((int) segment.getThreshold().toBytes(), (int) segment.getSize().toBytes());
+        return writer;
+    }
+
+    private static LettuceConnectionFactory shardConnectionFactory(String node, RedisProperties redisProperties) {
+        int separator = node.lastIndexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Cache node must be host:port: " + node);
+        }
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                node.substring(0, separator), Integer.parseInt(node.substring(separator + 1)));
+        configuration.setDatabase(redisProperties.getDatabase());
+        if (StringUtils.hasText(redisProperties.getPassword())) {
+            configuration.setPassword(RedisPassword.of(redisProperties.getPassword()));
+        }
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        return connectionFactory;
+    }
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(CountingRedisCacheWriter cacheWriter,
+                                             CacheInvalidationBus cacheInvalidationBus,
+                                             CacheDependencyTracker cacheDependencyTracker,
+                                             CacheTagResolver cacheTagResolver,
+                                             CacheGenerations cacheGenerations,
+                                             CacheCircuitBreaker cacheCircuitBreaker,
+                                             CacheAccessTraceRecorder cacheAccessTraceRecorder,
+                                             CacheLeaseManager cacheLeaseManager,
+                                             MeterRegistry meterRegistry,
+                                             CacheProperties cacheProperties,
+                                             CacheGenerationProperties generation,
+                                             CacheCircuitProperties circuit,
+                                             CacheLeaseProperties lease) {
+        // 캐시 값 직렬화 설정 (헤더 없는 기존 JSON 값도 읽을 수 있음)
+        RedisSerializer<Object> valueSerializer = CacheSerializers.forCodec(
+                cacheProperties.getValueCodec(), cacheProperties.getCompressionThreshold());
 
         // 기본 캐시 설정
         RedisCacheConfiguration defaultCacheConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(30)) // 기본 TTL 30분
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(jackson2JsonRedisSerializer))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer))
                 .disableCachingNullValues();
+        if (generation.isEnabled()) {
+            // 키마다 현재 세대 접두사 계산 ({cacheName}::g{세대}::)
+            defaultCacheConfig = defaultCacheConfig.computePrefixWith(cacheGenerations);
+        }
 
         // 캐시별 개별 설정
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
@@ -89,10 +231,108 @@ public class CacheConfig {
         // 통계 데이터 캐시 (1시간)
         cacheConfigurations.put("statistics", defaultCacheConfig.entryTtl(Duration.ofHours(1)));
 
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(defaultCacheConfig)
-                .withInitialCacheConfigurations(cacheConfigurations)
-                .build();
+        // 없는 ID 부정 캐시 (짧은 TTL)
+        cacheConfigurations.put("negative-lookups", defaultCacheConfig.entryTtl(cacheProperties.getNegativeLookupTtl()));
+
+        // 키 개수/바이트 카운터를 함께 갱신하는 writer 사용, 다건 조회/저장 지원
+        BatchRedisCacheManager redisCacheManager = new BatchRedisCacheManager(
+                cacheWriter, defaultCacheConfig, cacheConfigurations);
+        if (generation.isEnabled()) {
+            redisCacheManager.setGenerations(cacheGenerations);
+        }
+        redisCacheManager.afterPropertiesSet();
+
+        // Redis(L2) 앞단에 로컬(L1) 캐시 배치
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(
+                redisCacheManager, cacheProperties::getLocalSpec, cacheInvalidationBus, meterRegistry);
+        cacheManager.setDependencyTracking(cacheDependencyTracker, cacheTagResolver);
+        cacheManager.setSingleFlightTimeout(cacheProperties.getSingleFlightTimeout());
+        cacheManager.setHotKeyCapacity(cacheProperties.getHotKeyCapacity());
+        cacheManager.setRefreshAhead(cacheProperties.getRefreshAhead()::get, cacheProperties.getRefreshAheadThreads());
+        if (generation.isEnabled()) {
+            cacheManager.setGenerations(cacheGenerations);
+        }
+        if (circuit.isEnabled()) {
+            cacheManager.setCircuitBreaker(cacheCircuitBreaker);
+        }
+        cacheManager.setTraceRecorder(cacheAccessTraceRecorder);
+        if (lease.isEnabled()) {
+            cacheManager.setLeaseManager(cacheLeaseManager, lease.getStaleCapacity(), lease.getStaleTtl(),
+                    lease.getPollInterval());
+        }
+        return cacheManager;
+    }
+
+    /**
+     * TTL/L1/미리 갱신 정책의 런타임 변경 (Redis에 저장, 재기동 시 다시 적용)
+     */
+    @Bean
+    public CachePolicyManager cachePolicyManager(TwoLevelCacheManager cacheManager,
+                                                 StringRedisTemplate stringRedisTemplate,
+                                                 CachePolicyProperties policy) {
+        return new CachePolicyManager(cacheManager, stringRedisTemplate, policy.getHistorySize());
+    }
+
+    /**
+     * 캐시별 메모리 예산 - 큰 값은 writer에서 거부하고, 초과분은 정책에 따라 지운 뒤 L1과 다른 노드에 알림
+     */
+    @Bean(destroyMethod = "shutdown")
+    public CacheBudgetManager cacheBudgetManager(CountingRedisCacheWriter cacheWriter,
+                                                 TwoLevelCacheManager cacheManager,
+                                                 CacheInvalidationBus cacheInvalidationBus,
+                                                 CacheGenerations cacheGenerations,
+                                                 MeterRegistry meterRegistry,
+                                                 CacheBudgetProperties budget,
+                                                 CacheGenerationProperties generation) {
+        CacheBudgetManager budgetManager = new CacheBudgetManager(cacheWriter, budget.getCaches(), meterRegistry);
+        budgetManager.setSampleSize(budget.getSampleSize());
+        if (generation.isEnabled()) {
+            budgetManager.setGenerations(cacheGenerations);
+        }
+        budgetManager.setHotKeyTrackers(name -> {
+            TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache(name);
+            return cache != null ? cache.getHotKeyTracker() : null;
+        });
+        budgetManager.setEvictionListener((name, keys) -> {
+            TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache(name);
+            if (cache != null) {
+                keys.forEach(cache::evictLocal);
+            }
+            cacheInvalidationBus.publishEvictAll(name, keys);
+        });
+        cacheWriter.setBudgetManager(budgetManager);
+        return budgetManager;
+    }
+
+    @Bean
+    public CacheKeyspaceReconciler cacheKeyspaceReconciler(CountingRedisCacheWriter cacheWriter,
+                                                           TwoLevelCacheManager cacheManager,
+                                                           CacheProperties cacheProperties) {
+        return new CacheKeyspaceReconciler(cacheWriter, cacheManager::getCacheNames,
+                cacheProperties.getStatisticsScanCount());
+    }
+
+    /**
+     * @Cacheable 등에서 keyGenerator로 지정하는 컴파일된 키 생성기 (SpEL 키 대체)
+     */
+    @Bean(COMPACT_KEY_GENERATOR)
+    public CompactKeyGenerator compactKeyGenerator() {
+        return new CompactKeyGenerator();
+    }
+
+    @Bean
+    public CacheWarmupManifest cacheWarmupManifest(CacheWarmupProperties warmup) {
+        return new CacheWarmupManifest(warmup.getMaxEntries());
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            TwoLevelCacheManager cacheManager,
+                                                                            CacheInvalidationBus cacheInvalidationBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(cacheInvalidationBus.getChannel()));
+        return container;
     }
 
     /**
@@ -118,5 +358,32 @@ public class CacheConfig {
         public static final String CONFIGURATIONS = "configurations";
         public static final String API_RESPONSES = "api-responses";
         public static final String STATISTICS = "statistics";
+        public static final String NEGATIVE_LOOKUPS = "negative-lookups";
+    }
+
+    /**
+     * 캐시 의존성 태그 정의
+     * 목록 엔트리는 계열 태그와 그룹 태그, 포함된 게시글 태그를 함께 가진다.
+     */
+    public static class CacheTags {
+        public static final String BOARD_PREFIX = "board:";
+
+        // 그룹 태그
+        public static final String LISTINGS = "listings";
+        public static final String UNFILTERED_LISTINGS = "listings:unfiltered";
+        public static final String SEARCH_LISTINGS = "listings:search";
+
+        // 목록 계열 태그
+        public static final String FAMILY_ALL = "family:all";
+        public static final String FAMILY_RECENT = "family:recent";
+        public static final String FAMILY_ACTIVE = "family:active";
+        public static final String FAMILY_POPULAR = "family:popular";
+        public static final String FAMILY_SEARCH_TITLE = "family:search:title";
+        public static final String FAMILY_SEARCH_AUTHOR = "family:search:author";
+        public static final String FAMILY_SEARCH_KEYWORD = "family:search:keyword";
+
+        public static String board(Object id) {
+            return BOARD_PREFIX + id;
+        }
     }
-} 
\ No newline at end of file
+}
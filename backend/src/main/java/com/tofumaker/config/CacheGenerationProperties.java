@@ -0,0 +1,23 @@
+package com.tofumaker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세대 번호 기반 캐시 클리어 설정 Properties
+ */
+@Component
+@ConfigurationProperties(prefix = "cache.generation")
+public class CacheGenerationProperties {
+
+    // 캐시 클리어 시 키 공간을 지우지 않고 키 접두사의 세대 번호만 올림 (이전 세대는 TTL로 만료)
+    private boolean enabled = true;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+}
@@ -0,0 +1,55 @@
+package com.tofumaker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * @CacheLease 노드 간 재계산 임대 설정 Properties
+ */
+@Component
+@ConfigurationProperties(prefix = "cache.lease")
+public class CacheLeaseProperties {
+
+    private boolean enabled = true;
+
+    // 임대를 못 잡았을 때 반환할 이전 값 보관 수/시간
+    private int staleCapacity = 1000;
+    private Duration staleTtl = Duration.ofHours(1);
+
+    // 다른 노드를 기다리는 동안 확인 주기
+    private Duration pollInterval = Duration.ofMillis(50);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getStaleCapacity() {
+        return staleCapacity;
+    }
+
+    public void setStaleCapacity(int staleCapacity) {
+        this.staleCapacity = staleCapacity;
+    }
+
+    public Duration getStaleTtl() {
+        return staleTtl;
+    }
+
+    public void setStaleTtl(Duration staleTtl) {
+        this.staleTtl = staleTtl;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+}
@@ -0,0 +1,23 @@
+package com.tofumaker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 런타임 캐시 정책 변경 설정 Properties
+ */
+@Component
+@ConfigurationProperties(prefix = "cache.policy")
+public class CachePolicyProperties {
+
+    // 캐시별로 보관할 변경 이력 수 (다른 노드 반영 주기는 cache.policy.refresh-interval-ms)
+    private int historySize = 10;
+
+    public int getHistorySize() {
+        return historySize;
+    }
+
+    public void setHistorySize(int historySize) {
+        this.historySize = historySize;
+    }
+}
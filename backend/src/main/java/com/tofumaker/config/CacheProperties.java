@@ -0,0 +1,161 @@
+package com.tofumaker.config;
+
+import com.tofumaker.cache.CacheSerializers;
+import com.tofumaker.cache.LocalCacheSpec;
+import com.tofumaker.cache.RefreshAheadSpec;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 캐시 공통 설정 Properties (기능별 설정은 cache.* 하위 Properties)
+ */
+@Component
+@ConfigurationProperties(prefix = "cache")
+public class CacheProperties {
+
+    // L1 무효화 pub/sub 채널
+    private String invalidationChannel = "cache:invalidation";
+
+    // 로컬(L1) 캐시 기본 설정 및 캐시별 개별 설정
+    private LocalCacheSpec localDefaults = new LocalCacheSpec();
+    private Map<String, LocalCacheSpec> local = new HashMap<>();
+
+    // 미스 시 동시 로드 병합 - follower 최대 대기 시간
+    private Duration singleFlightTimeout = Duration.ofSeconds(3);
+
+    // 캐시 값 코덱 (compact: Smile + LZ4, json: 기존 JSON) 및 압축 임계값(바이트)
+    private String valueCodec = CacheSerializers.CODEC_COMPACT;
+    private int compressionThreshold = 1024;
+
+    // 통계 스냅샷 갱신 시 SCAN으로 확인할 최대 키 수 및 SCAN COUNT 힌트
+    private int statisticsScanBudget = 10000;
+    private int statisticsScanCount = 500;
+
+    // 캐시별 상위 접근 키 추적 용량 (0이면 비활성)
+    private int hotKeyCapacity = 128;
+
+    // 미리 갱신(refresh-ahead) - 설정한 캐시만 적용 (opt-in), 백그라운드 갱신 스레드 수
+    private Map<String, RefreshAheadSpec> refreshAhead = new HashMap<>();
+    private int refreshAheadThreads = 2;
+
+    // 필터를 통과했지만 DB에 없는 ID의 부정 캐시 TTL
+    private Duration negativeLookupTtl = Duration.ofSeconds(60);
+
+    // 목록 전체 개수 추정값 재사용 시간 (COUNT 대신 통계/캐시된 개수를 쓰는 페이지)
+    private Duration boardCountEstimateTtl = Duration.ofSeconds(60);
+
+    /**
+     * 캐시별 로컬(L1) 설정 조회 (개별 설정이 없으면 기본값)
+     */
+    public LocalCacheSpec getLocalSpec(String cacheName) {
+        return local.getOrDefault(cacheName, localDefaults);
+    }
+
+    public String getInvalidationChannel() {
+        return invalidationChannel;
+    }
+
+    public void setInvalidationChannel(String invalidationChannel) {
+        this.invalidationChannel = invalidationChannel;
+    }
+
+    public LocalCacheSpec getLocalDefaults() {
+        return localDefaults;
+    }
+
+    public void setLocalDefaults(LocalCacheSpec localDefaults) {
+        this.localDefaults = localDefaults;
+    }
+
+    public Map<String, LocalCacheSpec> getLocal() {
+        return local;
+    }
+
+    public void setLocal(Map<String, LocalCacheSpec> local) {
+        this.local = local;
+    }
+
+    public Duration getSingleFlightTimeout() {
+        return singleFlightTimeout;
+    }
+
+    public void setSingleFlightTimeout(Duration singleFlightTimeout) {
+        this.singleFlightTimeout = singleFlightTimeout;
+    }
+
+    public String getValueCodec() {
+        return valueCodec;
+    }
+
+    public void setValueCodec(String valueCodec) {
+        this.valueCodec = valueCodec;
+    }
+
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    public void setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    public int getStatisticsScanBudget() {
+        return statisticsScanBudget;
+    }
+
+    public void setStatisticsScanBudget(int statisticsScanBudget) {
+        this.statisticsScanBudget = statisticsScanBudget;
+    }
+
+    public int getStatisticsScanCount() {
+        return statisticsScanCount;
+    }
+
+    public void setStatisticsScanCount(int statisticsScanCount) {
+        this.statisticsScanCount = statisticsScanCount;
+    }
+
+    public int getHotKeyCapacity() {
+        return hotKeyCapacity;
+    }
+
+    public void setHotKeyCapacity(int hotKeyCapacity) {
+        this.hotKeyCapacity = hotKeyCapacity;
+    }
+
+    public Map<String, RefreshAheadSpec> getRefreshAhead() {
+        return refreshAhead;
+    }
+
+    public void setRefreshAhead(Map<String, RefreshAheadSpec> refreshAhead) {
+        this.refreshAhead = refreshAhead;
+    }
+
+    public int getRefreshAheadThreads() {
+        return refreshAheadThreads;
+    }
+
+    public void setRefreshAheadThreads(int refreshAheadThreads) {
+        this.refreshAheadThreads = refreshAheadThreads;
+    }
+
+    public Duration getNegativeLookupTtl() {
+        return negativeLookupTtl;
+    }
+
+    public void setNegativeLookupTtl(Duration negativeLookupTtl) {
+        this.negativeLookupTtl = negativeLookupTtl;
+    }
+
+    public Duration getBoardCountEstimateTtl() {
+        return boardCountEstimateTtl;
+    }
+
+    public void setBoardCountEstimateTtl(Duration boardCountEstimateTtl) {
+        this.boardCountEstimateTtl = boardCountEstimateTtl;
+    }
+}
@@ -0,0 +1,33 @@
+package com.tofumaker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 큰 캐시 값 분할 저장 설정 Properties
+ */
+@Component
+@ConfigurationProperties(prefix = "cache.segment")
+public class CacheSegmentProperties {
+
+    // threshold보다 큰 값은 size 조각으로 나눠 저장 (0이면 분할 안 함)
+    private DataSize threshold = DataSize.ofKilobytes(128);
+    private DataSize size = DataSize.ofKilobytes(64);
+
+    public DataSize getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(DataSize threshold) {
+        this.threshold = threshold;
+    }
+
+    public DataSize getSize() {
+        return size;
+    }
+
+    public void setSize(DataSize size) {
+        this.size = size;
+    }
+}
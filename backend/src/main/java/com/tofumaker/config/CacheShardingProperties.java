@@ -0,0 +1,50 @@
+package com.tofumaker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 클라이언트 측 캐시 샤딩 설정 Properties
+ */
+@Component
+@ConfigurationProperties(prefix = "cache.sharding")
+public class CacheShardingProperties {
+
+    // 캐시 값을 나눠 담을 Redis 노드 (host:port, 비우면 단일 노드)
+    private List<String> nodes = new ArrayList<>();
+
+    // 노드당 가상 노드 수
+    private int virtualNodes = 160;
+
+    // 샤딩할 캐시
+    private List<String> caches = new ArrayList<>(Arrays.asList(
+            CacheConfig.CacheNames.API_RESPONSES, CacheConfig.CacheNames.SESSIONS));
+
+    public List<String> getNodes() {
+        return nodes;
+    }
+
+    public void setNodes(List<String> nodes) {
+        this.nodes = nodes;
+    }
+
+    public int getVirtualNodes() {
+        return virtualNodes;
+    }
+
+    public void setVirtualNodes(int virtualNodes) {
+        this.virtualNodes = virtualNodes;
+    }
+
+    public List<String> getCaches() {
+        return caches;
+    }
+
+    public void setCaches(List<String> caches) {
+        this.caches = caches;
+    }
+}
@@ -0,0 +1,64 @@
+package com.tofumaker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 캐시 접근 기록(오프라인 정책 시뮬레이션용) 설정 Properties
+ */
+@Component
+@ConfigurationProperties(prefix = "cache.trace")
+public class CacheTraceProperties {
+
+    // 기록 큐 크기
+    private int queueCapacity = 65536;
+
+    // 기본 파일 경로, 키 표본 비율, 최대 파일 크기
+    private String path = "cache-trace.log";
+    private double sampleRate = 1.0;
+    private DataSize maxSize = DataSize.ofMegabytes(512);
+
+    // 기동 시 기록 시작 여부
+    private boolean onStartup = false;
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public DataSize getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(DataSize maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public boolean isOnStartup() {
+        return onStartup;
+    }
+
+    public void setOnStartup(boolean onStartup) {
+        this.onStartup = onStartup;
+    }
+}
@@ -0,0 +1,46 @@
+package com.tofumaker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 캐시 값 크기 분포 설정 Properties
+ */
+@Component
+@ConfigurationProperties(prefix = "cache.value-size")
+public class CacheValueSizeProperties {
+
+    // 경고 임계값, 같은 접두사 경고 간격
+    private DataSize warnThreshold = DataSize.ofKilobytes(256);
+    private Duration warnInterval = Duration.ofMinutes(5);
+
+    // 캐시당 집계할 최대 접두사 수
+    private int maxPrefixes = 32;
+
+    public DataSize getWarnThreshold() {
+        return warnThreshold;
+    }
+
+    public void setWarnThreshold(DataSize warnThreshold) {
+        this.warnThreshold = warnThreshold;
+    }
+
+    public Duration getWarnInterval() {
+        return warnInterval;
+    }
+
+    public void setWarnInterval(Duration warnInterval) {
+        this.warnInterval = warnInterval;
+    }
+
+    public int getMaxPrefixes() {
+        return maxPrefixes;
+    }
+
+    public void setMaxPrefixes(int maxPrefixes) {
+        this.maxPrefixes = maxPrefixes;
+    }
+}
@@ -0,0 +1,65 @@
+package com.tofumaker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 캐시 워밍업 설정 Properties
+ */
+@Component
+@ConfigurationProperties(prefix = "cache.warmup")
+public class CacheWarmupProperties {
+
+    // 기동 시 실행 여부, 동시 실행 수
+    private boolean onStartup = true;
+    private int concurrency = 4;
+
+    // 기록할 최대 로더 호출 수, 전체 제한 시간
+    private int maxEntries = 200;
+    private Duration timeout = Duration.ofSeconds(60);
+
+    // 워밍업 목록 저장 경로 (비우면 저장 안 함)
+    private String manifestPath = "";
+
+    public boolean isOnStartup() {
+        return onStartup;
+    }
+
+    public void setOnStartup(boolean onStartup) {
+        this.onStartup = onStartup;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public String getManifestPath() {
+        return manifestPath;
+    }
+
+    public void setManifestPath(String manifestPath) {
+        this.manifestPath = manifestPath;
+    }
+}
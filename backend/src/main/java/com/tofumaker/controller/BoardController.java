@@ -1,7 +1,12 @@
 package com.tofumaker.controller;
 
+import com.tofumaker.dto.BoardSummary;
+import com.tofumaker.dto.CursorPage;
+import com.tofumaker.dto.SlicePage;
+import com.tofumaker.dto.TrendingBoard;
 import com.tofumaker.entity.Board;
 import com.tofumaker.service.BoardService;
+import com.tofumaker.util.PaginationUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -19,6 +24,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/boards")
@@ -47,6 +53,59 @@ public class BoardController {
         return ResponseEntity.ok(boards);
     }
 
+    @Operation(summary = "모든 게시글 조회 (커서)", description = "작성일시 기준 커서(키셋) 페이징으로 조회합니다. 페이지가 깊어져도 OFFSET 없이 인덱스 범위로 읽고 전체 개수는 세지 않습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CursorPage.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서")
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<?> getAllBoardsByCursor(
+            @Parameter(description = "이전 응답의 nextCursor/prevCursor (없으면 첫 페이지)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "정렬 방향 (작성일시 기준)") @RequestParam(defaultValue = "desc") String direction) {
+        try {
+            return ResponseEntity.ok(boardService.getAllBoardsByCursor(cursor, size, direction));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "모든 게시글 조회 (개수 없는 페이징)", description = "COUNT 쿼리 없이 size+1행으로 다음 페이지 여부만 판단합니다. total=estimated면 플래너 통계/캐시된 개수를 추정 전체 개수로 함께 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = SlicePage.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    @GetMapping("/slice")
+    public ResponseEntity<?> getAllBoardsSlice(
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "정렬 기준") @RequestParam(defaultValue = "createdAt") String sort,
+            @Parameter(description = "정렬 방향") @RequestParam(defaultValue = "desc") String direction,
+            @Parameter(description = "전체 개수 (none: 세지 않음, estimated: 통계/캐시된 추정값)") @RequestParam(defaultValue = "none") String total) {
+        try {
+            return ResponseEntity.ok(boardService.getAllBoardsSlice(
+                    PaginationUtil.createPageable(page, size, sort, direction), estimateTotal(total)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "모든 게시글 목록 (요약)", description = "본문 대신 미리보기만 읽는 목록 프로젝션으로 조회합니다. 전체 개수는 세지 않습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = BoardSummary.class)))
+    })
+    @GetMapping("/summaries")
+    public ResponseEntity<SlicePage<BoardSummary>> getAllBoardSummaries(
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "정렬 기준") @RequestParam(defaultValue = "createdAt") String sort,
+            @Parameter(description = "정렬 방향") @RequestParam(defaultValue = "desc") String direction) {
+        return ResponseEntity.ok(boardService.getAllBoardSummaries(PaginationUtil.createPageable(page, size, sort, direction)));
+    }
+
     @Operation(summary = "모든 게시글 조회 (리스트)", description = "등록된 모든 게시글을 리스트로 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공",
@@ -58,6 +117,18 @@ public class BoardController {
         return ResponseEntity.ok(boards);
     }
     
+    @Operation(summary = "여러 게시글 조회", description = "ID 목록으로 여러 게시글을 한 번에 조회합니다. 없는 ID는 결과에서 제외됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = Board.class)))
+    })
+    @GetMapping("/batch")
+    public ResponseEntity<List<Board>> getBoardsByIds(
+            @Parameter(description = "게시글 ID 목록", required = true) @RequestParam List<Long> ids) {
+        List<Board> boards = boardService.getBoardsByIds(ids);
+        return ResponseEntity.ok(boards);
+    }
+
     @Operation(summary = "게시글 상세 조회", description = "ID로 특정 게시글을 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공",
@@ -69,6 +140,7 @@ public class BoardController {
             @Parameter(description = "게시글 ID", required = true) @PathVariable Long id) {
         Board board = boardService.getBoardById(id);
         if (board != null) {
+            boardService.recordView(id);
             return ResponseEntity.ok(board);
         }
         return ResponseEntity.notFound().build();
@@ -139,6 +211,41 @@ public class BoardController {
         return ResponseEntity.ok(boards);
     }
     
+    @Operation(summary = "제목으로 검색 (개수 없는 페이징)", description = "제목 검색 결과를 LIKE 조건의 COUNT 쿼리 없이 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = SlicePage.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    @GetMapping("/search/title/slice")
+    public ResponseEntity<?> searchByTitleSlice(
+            @Parameter(description = "검색할 제목 키워드", required = true) @RequestParam String title,
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "정렬 기준") @RequestParam(defaultValue = "createdAt") String sort,
+            @Parameter(description = "정렬 방향") @RequestParam(defaultValue = "desc") String direction) {
+        try {
+            return ResponseEntity.ok(boardService.searchByTitleSlice(title, PaginationUtil.createPageable(page, size, sort, direction)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "제목으로 검색 (요약)", description = "제목 검색 결과를 목록 프로젝션으로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = BoardSummary.class)))
+    })
+    @GetMapping("/search/title/summaries")
+    public ResponseEntity<SlicePage<BoardSummary>> searchSummariesByTitle(
+            @Parameter(description = "검색할 제목 키워드", required = true) @RequestParam String title,
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "정렬 기준") @RequestParam(defaultValue = "createdAt") String sort,
+            @Parameter(description = "정렬 방향") @RequestParam(defaultValue = "desc") String direction) {
+        return ResponseEntity.ok(boardService.searchSummariesByTitle(title, PaginationUtil.createPageable(page, size, sort, direction)));
+    }
+
     @Operation(summary = "작성자로 검색 (페이징)", description = "작성자명으로 게시글을 검색합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "검색 성공",
@@ -158,6 +265,41 @@ public class BoardController {
         return ResponseEntity.ok(boards);
     }
     
+    @Operation(summary = "작성자로 검색 (개수 없는 페이징)", description = "작성자 검색 결과를 LIKE 조건의 COUNT 쿼리 없이 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = SlicePage.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    @GetMapping("/search/author/slice")
+    public ResponseEntity<?> searchByAuthorSlice(
+            @Parameter(description = "검색할 작성자명", required = true) @RequestParam String author,
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "정렬 기준") @RequestParam(defaultValue = "createdAt") String sort,
+            @Parameter(description = "정렬 방향") @RequestParam(defaultValue = "desc") String direction) {
+        try {
+            return ResponseEntity.ok(boardService.searchByAuthorSlice(author, PaginationUtil.createPageable(page, size, sort, direction)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "작성자로 검색 (요약)", description = "작성자 검색 결과를 목록 프로젝션으로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = BoardSummary.class)))
+    })
+    @GetMapping("/search/author/summaries")
+    public ResponseEntity<SlicePage<BoardSummary>> searchSummariesByAuthor(
+            @Parameter(description = "검색할 작성자명", required = true) @RequestParam String author,
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "정렬 기준") @RequestParam(defaultValue = "createdAt") String sort,
+            @Parameter(description = "정렬 방향") @RequestParam(defaultValue = "desc") String direction) {
+        return ResponseEntity.ok(boardService.searchSummariesByAuthor(author, PaginationUtil.createPageable(page, size, sort, direction)));
+    }
+
     @Operation(summary = "키워드로 검색 (페이징)", description = "제목과 내용에서 키워드로 게시글을 검색합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "검색 성공",
@@ -177,6 +319,41 @@ public class BoardController {
         return ResponseEntity.ok(boards);
     }
     
+    @Operation(summary = "키워드로 검색 (개수 없는 페이징)", description = "제목/내용 검색 결과를 LIKE 조건의 COUNT 쿼리 없이 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = SlicePage.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    @GetMapping("/search/slice")
+    public ResponseEntity<?> searchByKeywordSlice(
+            @Parameter(description = "검색할 키워드", required = true) @RequestParam String keyword,
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "정렬 기준") @RequestParam(defaultValue = "createdAt") String sort,
+            @Parameter(description = "정렬 방향") @RequestParam(defaultValue = "desc") String direction) {
+        try {
+            return ResponseEntity.ok(boardService.searchByKeywordSlice(keyword, PaginationUtil.createPageable(page, size, sort, direction)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "키워드로 검색 (요약)", description = "제목/내용 검색 결과를 목록 프로젝션으로 조회합니다. 본문은 조건 비교에만 쓰고 응답에는 미리보기만 담습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = BoardSummary.class)))
+    })
+    @GetMapping("/search/summaries")
+    public ResponseEntity<SlicePage<BoardSummary>> searchSummariesByKeyword(
+            @Parameter(description = "검색할 키워드", required = true) @RequestParam String keyword,
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "정렬 기준") @RequestParam(defaultValue = "createdAt") String sort,
+            @Parameter(description = "정렬 방향") @RequestParam(defaultValue = "desc") String direction) {
+        return ResponseEntity.ok(boardService.searchSummariesByKeyword(keyword, PaginationUtil.createPageable(page, size, sort, direction)));
+    }
+
     @Operation(summary = "최신 게시글 조회 (페이징)", description = "최근에 작성된 게시글을 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공",
@@ -192,6 +369,53 @@ public class BoardController {
         return ResponseEntity.ok(boards);
     }
 
+    @Operation(summary = "최신 게시글 조회 (커서)", description = "최근 작성된 게시글을 커서(키셋) 페이징으로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CursorPage.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서")
+    })
+    @GetMapping("/recent/cursor")
+    public ResponseEntity<?> getRecentBoardsByCursor(
+            @Parameter(description = "이전 응답의 nextCursor/prevCursor (없으면 첫 페이지)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
+        try {
+            return ResponseEntity.ok(boardService.getRecentBoardsByCursor(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "최신 게시글 조회 (개수 없는 페이징)", description = "최근 작성된 게시글을 COUNT 쿼리 없이 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = SlicePage.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    @GetMapping("/recent/slice")
+    public ResponseEntity<?> getRecentBoardsSlice(
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "전체 개수 (none: 세지 않음, estimated: 통계/캐시된 추정값)") @RequestParam(defaultValue = "none") String total) {
+        try {
+            return ResponseEntity.ok(boardService.getRecentBoardsSlice(page, size, estimateTotal(total)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "최신 게시글 목록 (요약)", description = "최근 작성된 게시글을 목록 프로젝션으로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = BoardSummary.class)))
+    })
+    @GetMapping("/recent/summaries")
+    public ResponseEntity<SlicePage<BoardSummary>> getRecentBoardSummaries(
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(boardService.getRecentBoardSummaries(page, size));
+    }
+
     @Operation(summary = "최신 게시글 조회 (리스트)", description = "최근에 작성된 게시글을 리스트로 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공",
@@ -221,6 +445,59 @@ public class BoardController {
         return ResponseEntity.ok(boards);
     }
 
+    @Operation(summary = "활성 게시글 조회 (커서)", description = "활성 게시글을 작성일시 기준 커서(키셋) 페이징으로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CursorPage.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서")
+    })
+    @GetMapping("/active/cursor")
+    public ResponseEntity<?> getActiveBoardsByCursor(
+            @Parameter(description = "이전 응답의 nextCursor/prevCursor (없으면 첫 페이지)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "정렬 방향 (작성일시 기준)") @RequestParam(defaultValue = "desc") String direction) {
+        try {
+            return ResponseEntity.ok(boardService.getActiveBoardsByCursor(cursor, size, direction));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "활성 게시글 조회 (개수 없는 페이징)", description = "활성 게시글을 COUNT 쿼리 없이 조회합니다. total=estimated면 캐시된 활성 글 수를 함께 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = SlicePage.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    @GetMapping("/active/slice")
+    public ResponseEntity<?> getActiveBoardsSlice(
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "정렬 기준") @RequestParam(defaultValue = "createdAt") String sort,
+            @Parameter(description = "정렬 방향") @RequestParam(defaultValue = "desc") String direction,
+            @Parameter(description = "전체 개수 (none: 세지 않음, estimated: 통계/캐시된 추정값)") @RequestParam(defaultValue = "none") String total) {
+        try {
+            return ResponseEntity.ok(boardService.getActiveBoardsSlice(
+                    PaginationUtil.createPageable(page, size, sort, direction), estimateTotal(total)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "활성 게시글 목록 (요약)", description = "활성 게시글을 목록 프로젝션으로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = BoardSummary.class)))
+    })
+    @GetMapping("/active/summaries")
+    public ResponseEntity<SlicePage<BoardSummary>> getActiveBoardSummaries(
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "정렬 기준") @RequestParam(defaultValue = "createdAt") String sort,
+            @Parameter(description = "정렬 방향") @RequestParam(defaultValue = "desc") String direction) {
+        return ResponseEntity.ok(boardService.getActiveBoardSummaries(PaginationUtil.createPageable(page, size, sort, direction)));
+    }
+
     @Operation(summary = "활성 게시글 조회 (리스트)", description = "활성 상태인 게시글을 리스트로 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공",
@@ -247,6 +524,53 @@ public class BoardController {
         return ResponseEntity.ok(boards);
     }
 
+    @Operation(summary = "인기 게시글 조회 (커서)", description = "조회수 기준 인기 게시글을 커서(키셋) 페이징으로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CursorPage.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서")
+    })
+    @GetMapping("/popular/cursor")
+    public ResponseEntity<?> getPopularBoardsByCursor(
+            @Parameter(description = "이전 응답의 nextCursor/prevCursor (없으면 첫 페이지)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
+        try {
+            return ResponseEntity.ok(boardService.getPopularBoardsByCursor(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "인기 게시글 조회 (개수 없는 페이징)", description = "조회수 기준 인기 게시글을 COUNT 쿼리 없이 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = SlicePage.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    @GetMapping("/popular/slice")
+    public ResponseEntity<?> getPopularBoardsSlice(
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "전체 개수 (none: 세지 않음, estimated: 통계/캐시된 추정값)") @RequestParam(defaultValue = "none") String total) {
+        try {
+            return ResponseEntity.ok(boardService.getPopularBoardsSlice(page, size, estimateTotal(total)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "인기 게시글 목록 (요약)", description = "조회수 기준 인기 게시글을 목록 프로젝션으로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = BoardSummary.class)))
+    })
+    @GetMapping("/popular/summaries")
+    public ResponseEntity<SlicePage<BoardSummary>> getPopularBoardSummaries(
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(boardService.getPopularBoardSummaries(page, size));
+    }
+
     @Operation(summary = "인기 게시글 조회 (리스트)", description = "조회수 기준으로 인기 게시글을 리스트로 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공",
@@ -257,4 +581,40 @@ public class BoardController {
         List<Board> boards = boardService.getPopularBoards();
         return ResponseEntity.ok(boards);
     }
-} 
\ No newline at end of file
+
+    @Operation(summary = "트렌딩 게시글 조회", description = "최근 조회/수정이 많은 게시글을 시간 감쇠 점수 순으로 조회합니다. 순위는 주기적으로 갱신됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = TrendingBoard.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    @GetMapping("/trending")
+    public ResponseEntity<?> getTrendingBoards(
+            @Parameter(description = "조회할 게시글 수 (1~100)") @RequestParam(defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(boardService.getTrendingBoards(limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "트렌딩 점수 재구성", description = "최근 수정된 게시글의 조회수로 트렌딩 점수를 다시 만듭니다. 기존 점수는 버립니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "재구성 성공")
+    })
+    @PostMapping("/trending/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildTrendingBoards() {
+        return ResponseEntity.ok(Map.of("boards", boardService.rebuildTrendingBoards()));
+    }
+
+    // total 파라미터 - none(세지 않음) 또는 estimated(추정값)
+    private static boolean estimateTotal(String total) {
+        if ("estimated".equalsIgnoreCase(total)) {
+            return true;
+        }
+        if ("none".equalsIgnoreCase(total)) {
+            return false;
+        }
+        throw new IllegalArgumentException("total must be none or estimated: " + total);
+    }
+}
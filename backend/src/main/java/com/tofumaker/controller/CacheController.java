@@ -1,5 +1,7 @@
 package com.tofumaker.controller;
 
+import com.tofumaker.cache.CacheBudget;
+import com.tofumaker.cache.CachePolicy;
 import com.tofumaker.service.CacheService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,6 +16,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -50,6 +55,222 @@ public class CacheController {
         return ResponseEntity.ok(hitRates);
     }
 
+    @Operation(summary = "계층별 캐시 적중 통계 조회", description = "로컬(L1)/Redis(L2) 계층별 적중·미스 통계를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "통계 조회 성공",
+                    content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    @GetMapping("/tiers")
+    public ResponseEntity<Map<String, Map<String, Object>>> getTierStatistics() {
+        Map<String, Map<String, Object>> tierStatistics = cacheService.getTierStatistics();
+        return ResponseEntity.ok(tierStatistics);
+    }
+
+    @Operation(summary = "핫 키 조회", description = "캐시별로 가장 많이 조회된 키와 키 접두사를 조회합니다. (SpaceSaving 근사치)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    @GetMapping("/hot-keys")
+    public ResponseEntity<Map<String, Map<String, Object>>> getHotKeys(
+            @Parameter(description = "캐시명 (생략 시 전체)") @RequestParam(required = false) String cacheName,
+            @Parameter(description = "조회할 상위 항목 수") @RequestParam(defaultValue = "10") int limit) {
+        Map<String, Map<String, Object>> hotKeys = cacheService.getHotKeys(cacheName, limit);
+        return ResponseEntity.ok(hotKeys);
+    }
+
+    @Operation(summary = "샤드 상태 조회", description = "Redis 노드별로 샤딩된 캐시의 키 개수와 바이트를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    @GetMapping("/shards")
+    public ResponseEntity<Map<String, Object>> getShardStatus() {
+        return ResponseEntity.ok(cacheService.getShardStatus());
+    }
+
+    @Operation(summary = "샤드 재배치 영향 조회", description = "노드를 하나 추가했을 때 담당 노드가 바뀌는 키 비율과 노드별 분포를 실제 키 표본으로 계산합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "400", description = "샤딩 비활성"),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    @GetMapping("/shards/rebalance-report")
+    public ResponseEntity<Map<String, Object>> getShardRebalanceReport(
+            @Parameter(description = "추가할 노드 (host:port)", required = true) @RequestParam String node,
+            @Parameter(description = "노드·캐시별 표본 키 수") @RequestParam(defaultValue = "1000") int sampleSize) {
+        try {
+            return ResponseEntity.ok(cacheService.getShardRebalanceReport(node, sampleSize));
+        } catch (IllegalStateException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @Operation(summary = "캐시 메모리 예산 조회", description = "캐시별 최대 바이트, 항목 최대 바이트, 제거 정책과 현재 사용량을 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    @GetMapping("/budgets")
+    public ResponseEntity<Map<String, Map<String, Object>>> getBudgets() {
+        return ResponseEntity.ok(cacheService.getBudgets());
+    }
+
+    @Operation(summary = "캐시 메모리 예산 변경", description = "캐시의 최대 바이트, 항목 최대 바이트, 제거 정책(lru/lfu/none)을 변경합니다. 0이면 제한 없음.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "변경 성공",
+                    content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 예산 또는 예산 비활성"),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    @PutMapping("/budgets/{cacheName}")
+    public ResponseEntity<Map<String, Object>> updateBudget(
+            @Parameter(description = "캐시명", required = true) @PathVariable String cacheName,
+            @RequestBody CacheBudget budget) {
+        try {
+            return ResponseEntity.ok(cacheService.updateBudget(cacheName, budget));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @Operation(summary = "캐시 값 크기 분포 조회", description = "캐시/키 접두사별 저장 값 크기(건수, 평균, 최대)와 경고 임계값 초과 건수를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    @GetMapping("/value-sizes")
+    public ResponseEntity<Map<String, Object>> getValueSizes() {
+        return ResponseEntity.ok(cacheService.getValueSizes());
+    }
+
+    @Operation(summary = "캐시 접근 기록 시작", description = "키를 익명화한 캐시 접근 기록을 로컬 파일에 남깁니다. CachePolicySimulator로 다른 정책을 재생할 때 사용합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "기록 시작",
+                    content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 파일 이름/표본 비율 또는 이미 기록 중"),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    @PostMapping("/trace/start")
+    public ResponseEntity<Map<String, Object>> startTrace(
+            @Parameter(description = "기록 파일 이름 (cache.trace.path 디렉터리 안, 기본값: cache.trace.path)") @RequestParam(required = false) String name,
+            @Parameter(description = "기록할 키 비율 (0~1, 기본값: cache.trace.sample-rate)") @RequestParam(required = false) Double sampleRate) {
+        try {
+            return ResponseEntity.ok(cacheService.startTrace(name, sampleRate));
+        } catch (IllegalArgumentException | IllegalStateException | IOException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @Operation(summary = "캐시 접근 기록 중지", description = "남은 기록을 파일에 쓰고 기록을 중지합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "기록 중지",
+                    content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    @PostMapping("/trace/stop")
+    public ResponseEntity<Map<String, Object>> stopTrace() {
+        try {
+            return ResponseEntity.ok(cacheService.stopTrace());
+        } catch (IllegalStateException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @Operation(summary = "캐시 접근 기록 상태 조회", description = "기록 여부, 파일 경로, 표본 비율, 기록/누락 건수를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    @GetMapping("/trace")
+    public ResponseEntity<Map<String, Object>> getTraceStatus() {
+        return ResponseEntity.ok(cacheService.getTraceStatus());
+    }
+
+    @Operation(summary = "캐시 정책 조회", description = "캐시별 현재 TTL, L1 크기/만료, 미리 갱신 설정과 변경 이력(변경 전후 적중률/지연)을 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    @GetMapping("/policies")
+    public ResponseEntity<Map<String, Object>> getPolicies() {
+        return ResponseEntity.ok(cacheService.getPolicies());
+    }
+
+    @Operation(summary = "특정 캐시 정책 조회", description = "캐시의 현재 정책, 런타임 변경 내용, 변경 전후 적중률/지연을 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "400", description = "알 수 없는 캐시"),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    @GetMapping("/policies/{cacheName}")
+    public ResponseEntity<Map<String, Object>> getPolicy(
+            @Parameter(description = "캐시명", required = true) @PathVariable String cacheName) {
+        try {
+            return ResponseEntity.ok(cacheService.getPolicy(cacheName));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @Operation(summary = "캐시 정책 변경", description = "TTL(ttlSeconds), L1 최대 항목 수/만료(localMaximumSize, localExpireSeconds), 미리 갱신(refreshAheadEnabled, refreshAfter)을 변경합니다. 생략한 항목은 유지되고, 변경은 재기동 후에도 유지됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "변경 성공",
+                    content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 정책 또는 변경할 수 없는 캐시"),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    @PutMapping("/policies/{cacheName}")
+    public ResponseEntity<Map<String, Object>> updatePolicy(
+            @Parameter(description = "캐시명", required = true) @PathVariable String cacheName,
+            @RequestBody CachePolicy policy) {
+        try {
+            return ResponseEntity.ok(cacheService.updatePolicy(cacheName, policy));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @Operation(summary = "캐시 정책 되돌리기", description = "런타임에 변경한 정책을 지우고 설정 파일의 정책으로 되돌립니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "되돌리기 성공",
+                    content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "400", description = "변경한 정책이 없음"),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    @DeleteMapping("/policies/{cacheName}")
+    public ResponseEntity<Map<String, Object>> resetPolicy(
+            @Parameter(description = "캐시명", required = true) @PathVariable String cacheName) {
+        try {
+            return ResponseEntity.ok(cacheService.resetPolicy(cacheName));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
     @Operation(summary = "특정 캐시 클리어", description = "지정된 캐시를 모두 삭제합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "캐시 클리어 성공"),
@@ -62,6 +283,24 @@ public class CacheController {
         return ResponseEntity.ok("Cache '" + cacheName + "' cleared successfully");
     }
 
+    @Operation(summary = "태그 기반 캐시 무효화", description = "지정된 태그(board:{id}, family:recent 등)에 의존하는 캐시 엔트리만 삭제합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "무효화 성공",
+                    content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    @DeleteMapping("/{cacheName}/tags")
+    public ResponseEntity<Map<String, Object>> invalidateTags(
+            @Parameter(description = "캐시명", required = true) @PathVariable String cacheName,
+            @Parameter(description = "무효화할 태그", required = true) @RequestParam List<String> tag) {
+        int invalidatedKeys = cacheService.invalidateTags(cacheName, tag);
+        Map<String, Object> result = new HashMap<>();
+        result.put("cache", cacheName);
+        result.put("tags", tag);
+        result.put("invalidated_keys", invalidatedKeys);
+        return ResponseEntity.ok(result);
+    }
+
     @Operation(summary = "모든 캐시 클리어", description = "모든 캐시를 삭제합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "모든 캐시 클리어 성공"),
@@ -86,15 +325,28 @@ public class CacheController {
         return ResponseEntity.ok("Cache key '" + key + "' evicted from '" + cacheName + "' successfully");
     }
 
-    @Operation(summary = "캐시 워밍업", description = "자주 사용되는 데이터를 미리 캐시에 로드합니다.")
+    @Operation(summary = "캐시 워밍업", description = "최근 자주 호출된 캐시 로더를 다시 실행해 데이터를 미리 캐시에 로드합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "캐시 워밍업 성공"),
+            @ApiResponse(responseCode = "200", description = "캐시 워밍업 성공",
+                    content = @Content(schema = @Schema(implementation = Map.class))),
             @ApiResponse(responseCode = "403", description = "권한 없음")
     })
     @PostMapping("/warmup")
-    public ResponseEntity<String> warmupCache() {
-        cacheService.warmupCache();
-        return ResponseEntity.ok("Cache warmup completed");
+    public ResponseEntity<Map<String, Object>> warmupCache() {
+        Map<String, Object> result = cacheService.warmupCache();
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "캐시 워밍업 상태 조회", description = "워밍업 진행 상태, 기록된 로더 호출 수, 마지막 실행 결과를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    @GetMapping("/warmup")
+    public ResponseEntity<Map<String, Object>> getWarmupStatus() {
+        Map<String, Object> status = cacheService.getWarmupStatus();
+        return ResponseEntity.ok(status);
     }
 
     @Operation(summary = "캐시 키 TTL 조회", description = "지정된 캐시 키의 남은 생존 시간을 조회합니다.")
@@ -1,5 +1,8 @@
 package com.tofumaker.controller;
 
+import com.tofumaker.cache.CacheCircuitBreaker;
+import com.tofumaker.service.CacheService;
+import com.tofumaker.service.MetricsService;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -39,6 +42,12 @@ public class HealthController {
     @Autowired
     private MeterRegistry meterRegistry;
 
+    @Autowired
+    private CacheService cacheService;
+
+    @Autowired
+    private MetricsService metricsService;
+
     private final Counter healthCheckCounter;
     private final Timer healthCheckTimer;
 
@@ -74,8 +83,11 @@ public class HealthController {
                 // Database 상태 확인
                 components.put("database", checkDatabaseHealth());
                 
-                // Redis 상태 확인
-                components.put("redis", checkRedisHealth());
+                // Redis 상태 확인 (회로가 열려 있으면 Redis를 기다리지 않음)
+                Map<String, Object> cacheCircuit = checkCacheCircuit();
+                boolean cacheDegraded = !"UP".equals(cacheCircuit.get("status"));
+                components.put("redis", cacheDegraded ? bypassedRedisHealth() : checkRedisHealth());
+                components.put("cache_circuit", cacheCircuit);
                 
                 // 전체 상태 결정
                 boolean allHealthy = components.values().stream()
@@ -87,7 +99,9 @@ public class HealthController {
                         });
                 
                 if (!allHealthy) {
-                    healthStatus.put("status", "DOWN");
+                    // Redis만 문제이고 캐시가 우회 중이면 DB로 계속 서비스
+                    boolean databaseUp = "UP".equals(((Map<?, ?>) components.get("database")).get("status"));
+                    healthStatus.put("status", databaseUp && cacheDegraded ? "DEGRADED" : "DOWN");
                 }
                 
                 healthStatus.put("components", components);
@@ -114,13 +128,17 @@ public class HealthController {
         Map<String, Object> readinessStatus = new HashMap<>();
         
         boolean databaseReady = isDatabaseReady();
-        boolean redisReady = isRedisReady();
+        // 캐시 회로가 열려 있으면 Redis 없이 서비스하므로 준비 상태에서 제외
+        boolean cacheBypassed = !isCacheCircuitClosed();
+        boolean redisReady = cacheBypassed || isRedisReady();
+        boolean cacheWarmedUp = cacheService.isWarmupCompleted();
         
-        readinessStatus.put("status", (databaseReady && redisReady) ? "READY" : "NOT_READY");
+        readinessStatus.put("status", (databaseReady && redisReady && cacheWarmedUp) ? "READY" : "NOT_READY");
         readinessStatus.put("timestamp", LocalDateTime.now());
         readinessStatus.put("checks", Map.of(
                 "database", databaseReady ? "READY" : "NOT_READY",
-                "redis", redisReady ? "READY" : "NOT_READY"
+                "redis", cacheBypassed ? "DEGRADED" : redisReady ? "READY" : "NOT_READY",
+                "cache_warmup", cacheWarmedUp ? "READY" : "NOT_READY"
         ));
         
         return ResponseEntity.ok(readinessStatus);
@@ -172,6 +190,24 @@ public class HealthController {
         return redisHealth;
     }
 
+    private Map<String, Object> checkCacheCircuit() {
+        Map<String, Object> circuitHealth = new HashMap<>(metricsService.getCacheCircuitStatus());
+        String state = String.valueOf(circuitHealth.get("state"));
+        circuitHealth.put("status", CacheCircuitBreaker.State.CLOSED.name().equals(state) ? "UP" : "DEGRADED");
+        return circuitHealth;
+    }
+
+    private Map<String, Object> bypassedRedisHealth() {
+        Map<String, Object> redisHealth = new HashMap<>();
+        redisHealth.put("status", "DOWN");
+        redisHealth.put("operation", "skipped (cache circuit not closed)");
+        return redisHealth;
+    }
+
+    private boolean isCacheCircuitClosed() {
+        return CacheCircuitBreaker.State.CLOSED.name().equals(metricsService.getCacheCircuitStatus().get("state"));
+    }
+
     private boolean isDatabaseReady() {
         try (Connection connection = dataSource.getConnection()) {
             return connection.isValid(2);
@@ -0,0 +1,96 @@
+package com.tofumaker.dto;
+
+import com.tofumaker.entity.Board;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 캐시에 저장하는 게시글 페이지 - 게시글 본문 대신 순서가 있는 ID 목록과 전체 개수만 보관
+ * 게시글 내용은 board_{id} 캐시에서 한 번에 채운다.
+ * 커서 기반 페이지는 전체 개수 대신(-1) 앞뒤 페이지 커서를,
+ * 개수 없는 페이지(Slice)는 전체 개수 대신(-1) 다음 페이지 여부를 보관한다.
+ */
+public class BoardIdPage {
+
+    private List<Long> ids = new ArrayList<>();
+    private long totalElements;
+    private String nextCursor;
+    private String prevCursor;
+    private boolean hasNext;
+
+    public BoardIdPage() {}
+
+    public BoardIdPage(List<Long> ids, long totalElements) {
+        this.ids = ids;
+        this.totalElements = totalElements;
+    }
+
+    public static BoardIdPage ofCursor(List<Long> ids, String nextCursor, String prevCursor) {
+        BoardIdPage page = new BoardIdPage(ids, -1);
+        page.nextCursor = nextCursor;
+        page.prevCursor = prevCursor;
+        return page;
+    }
+
+    public static BoardIdPage fromSlice(Slice<Board> slice) {
+        BoardIdPage page = new BoardIdPage(ids(slice), -1);
+        page.hasNext = slice.hasNext();
+        return page;
+    }
+
+    public static BoardIdPage from(Page<Board> page) {
+        return new BoardIdPage(ids(page), page.getTotalElements());
+    }
+
+    private static List<Long> ids(Slice<Board> page) {
+        List<Long> ids = new ArrayList<>(page.getNumberOfElements());
+        for (Board board : page.getContent()) {
+            ids.add(board.getId());
+        }
+        return ids;
+    }
+
+    // Getters and Setters
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public long getTotalElements() {
+        return totalElements;
+    }
+
+    public void setTotalElements(long totalElements) {
+        this.totalElements = totalElements;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public String getPrevCursor() {
+        return prevCursor;
+    }
+
+    public void setPrevCursor(String prevCursor) {
+        this.prevCursor = prevCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+}
@@ -0,0 +1,80 @@
+package com.tofumaker.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 항목 - 본문 대신 앞부분 미리보기만 담는다 (JPQL 생성자 프로젝션)
+ */
+public class BoardSummary {
+
+    // 미리보기 길이 (DB에서 잘라 읽음)
+    public static final int PREVIEW_LENGTH = 200;
+
+    private Long id;
+    private String title;
+    private String author;
+    private LocalDateTime createdAt;
+    private Long viewCount;
+    private String contentPreview;
+
+    public BoardSummary() {}
+
+    public BoardSummary(Long id, String title, String author, LocalDateTime createdAt, Long viewCount,
+                        String contentPreview) {
+        this.id = id;
+        this.title = title;
+        this.author = author;
+        this.createdAt = createdAt;
+        this.viewCount = viewCount;
+        this.contentPreview = contentPreview;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public void setAuthor(String author) {
+        this.author = author;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Long getViewCount() {
+        return viewCount;
+    }
+
+    public void setViewCount(Long viewCount) {
+        this.viewCount = viewCount;
+    }
+
+    public String getContentPreview() {
+        return contentPreview;
+    }
+
+    public void setContentPreview(String contentPreview) {
+        this.contentPreview = contentPreview;
+    }
+}
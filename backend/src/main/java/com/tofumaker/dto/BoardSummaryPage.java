@@ -0,0 +1,43 @@
+package com.tofumaker.dto;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 캐시에 저장하는 게시글 목록 페이지 (프로젝션) - 목록 항목과 다음 페이지 여부, 전체 개수는 세지 않음
+ */
+public class BoardSummaryPage {
+
+    private List<BoardSummary> content = new ArrayList<>();
+    private boolean hasNext;
+
+    public BoardSummaryPage() {}
+
+    public BoardSummaryPage(List<BoardSummary> content, boolean hasNext) {
+        this.content = content;
+        this.hasNext = hasNext;
+    }
+
+    public static BoardSummaryPage from(Slice<BoardSummary> slice) {
+        return new BoardSummaryPage(new ArrayList<>(slice.getContent()), slice.hasNext());
+    }
+
+    // Getters and Setters
+    public List<BoardSummary> getContent() {
+        return content;
+    }
+
+    public void setContent(List<BoardSummary> content) {
+        this.content = content;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+}
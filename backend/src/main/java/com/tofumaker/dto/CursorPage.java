@@ -0,0 +1,28 @@
+package com.tofumaker.dto;
+
+import com.tofumaker.util.PaginationUtil;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답 - 내용과 다음/이전 페이지 커서
+ */
+public class CursorPage<T> {
+
+    private final List<T> content;
+    private final PaginationUtil.PageMetadata page;
+
+    public CursorPage(List<T> content, PaginationUtil.PageMetadata page) {
+        this.content = content;
+        this.page = page;
+    }
+
+    // Getters
+    public List<T> getContent() {
+        return content;
+    }
+
+    public PaginationUtil.PageMetadata getPage() {
+        return page;
+    }
+}
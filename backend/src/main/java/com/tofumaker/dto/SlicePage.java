@@ -0,0 +1,28 @@
+package com.tofumaker.dto;
+
+import com.tofumaker.util.PaginationUtil;
+
+import java.util.List;
+
+/**
+ * 개수 없는 페이지 응답 - 내용과 다음 페이지 여부, 요청 시 추정 전체 개수 (page.totalType으로 구분)
+ */
+public class SlicePage<T> {
+
+    private final List<T> content;
+    private final PaginationUtil.PageMetadata page;
+
+    public SlicePage(List<T> content, PaginationUtil.PageMetadata page) {
+        this.content = content;
+        this.page = page;
+    }
+
+    // Getters
+    public List<T> getContent() {
+        return content;
+    }
+
+    public PaginationUtil.PageMetadata getPage() {
+        return page;
+    }
+}
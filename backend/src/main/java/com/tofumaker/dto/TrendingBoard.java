@@ -0,0 +1,26 @@
+package com.tofumaker.dto;
+
+import com.tofumaker.entity.Board;
+
+/**
+ * 트렌딩 게시글 응답 항목 - 게시글과 현재 시간 감쇠 점수
+ */
+public class TrendingBoard {
+
+    private final Board board;
+    private final double score;
+
+    public TrendingBoard(Board board, double score) {
+        this.board = board;
+        this.score = score;
+    }
+
+    // Getters
+    public Board getBoard() {
+        return board;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
@@ -9,12 +9,18 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.PrePersist;
 import javax.persistence.PreUpdate;
 import javax.persistence.Table;
 
 @Entity
-@Table(name = "board")
+@Table(name = "board", indexes = {
+        // 키셋 페이징 (정렬 값, id) 범위 조회용
+        @Index(name = "idx_board_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_board_active_created_at_id", columnList = "active, created_at, id"),
+        @Index(name = "idx_board_active_view_count_id", columnList = "active, view_count, id")
+})
 @Schema(description = "게시판 엔티티")
 public class Board {
     
@@ -1,13 +1,16 @@
 package com.tofumaker.repository;
 
+import com.tofumaker.dto.BoardSummary;
 import com.tofumaker.entity.Board;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -52,4 +55,89 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
     
     // 인기 게시글 조회 (리스트)
     List<Board> findTop10ByActiveTrueOrderByViewCountDesc();
-} 
\ No newline at end of file
+
+    // 개수 없는 페이징 (Slice) - size+1행을 읽어 다음 페이지 여부만 판단하고 COUNT 쿼리는 실행하지 않음
+    @Query("SELECT b FROM Board b")
+    Slice<Board> findAllSliced(Pageable pageable);
+
+    Slice<Board> findSliceByActiveTrue(Pageable pageable);
+
+    Slice<Board> findSliceByTitleContainingIgnoreCase(String title, Pageable pageable);
+
+    Slice<Board> findSliceByAuthorContainingIgnoreCase(String author, Pageable pageable);
+
+    @Query("SELECT b FROM Board b WHERE LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+           "OR LOWER(b.content) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    Slice<Board> findSliceByTitleOrContentContaining(@Param("keyword") String keyword, Pageable pageable);
+
+    // 활성 게시글 수 (전체 개수 추정값 캐시용)
+    long countByActiveTrue();
+
+    // 목록 프로젝션 - 본문(TEXT)은 DB에서 앞부분만 잘라 읽고 엔티티로 만들지 않음 (Slice, COUNT 쿼리 없음)
+    String SUMMARY_SELECT = "SELECT new com.tofumaker.dto.BoardSummary(b.id, b.title, b.author, b.createdAt, b.viewCount, " +
+            "SUBSTRING(b.content, 1, " + BoardSummary.PREVIEW_LENGTH + ")) FROM Board b";
+
+    @Query(SUMMARY_SELECT)
+    Slice<BoardSummary> findSummaries(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE b.active = true")
+    Slice<BoardSummary> findActiveSummaries(Pageable pageable);
+
+    // 제목/작성자 검색은 파생 쿼리(Containing)처럼 검색어의 %, _를 문자 그대로 비교
+    @Query(SUMMARY_SELECT + " WHERE LOWER(b.title) LIKE LOWER(CONCAT('%', :#{escape(#title)}, '%')) ESCAPE :#{escapeCharacter()}")
+    Slice<BoardSummary> findSummariesByTitle(@Param("title") String title, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE LOWER(b.author) LIKE LOWER(CONCAT('%', :#{escape(#author)}, '%')) ESCAPE :#{escapeCharacter()}")
+    Slice<BoardSummary> findSummariesByAuthor(@Param("author") String author, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+           "OR LOWER(b.content) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    Slice<BoardSummary> findSummariesByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    // 키셋 페이징 첫 페이지 (정렬은 Pageable, COUNT 쿼리 없음)
+    @Query("SELECT b FROM Board b")
+    List<Board> findFirstSeekPage(Pageable pageable);
+
+    @Query("SELECT b FROM Board b WHERE b.active = true")
+    List<Board> findFirstActiveSeekPage(Pageable pageable);
+
+    // 작성일시 키셋 페이징 - (createdAt, id)가 커서 앞/뒤인 행 (idx_board_created_at_id 범위 조회)
+    // 정렬 값 <= / >= 조건을 앞에 둬야 인덱스 범위 시작점으로 쓰임 (OR만 있으면 인덱스 처음부터 거름)
+    @Query("SELECT b FROM Board b WHERE b.createdAt <= :createdAt AND (b.createdAt < :createdAt OR b.id < :id) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<Board> findCreatedBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT b FROM Board b WHERE b.createdAt >= :createdAt AND (b.createdAt > :createdAt OR b.id > :id) " +
+           "ORDER BY b.createdAt ASC, b.id ASC")
+    List<Board> findCreatedAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 활성 게시글 작성일시 키셋 페이징 (idx_board_active_created_at_id 범위 조회)
+    @Query("SELECT b FROM Board b WHERE b.active = true " +
+           "AND b.createdAt <= :createdAt AND (b.createdAt < :createdAt OR b.id < :id) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<Board> findActiveCreatedBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT b FROM Board b WHERE b.active = true " +
+           "AND b.createdAt >= :createdAt AND (b.createdAt > :createdAt OR b.id > :id) " +
+           "ORDER BY b.createdAt ASC, b.id ASC")
+    List<Board> findActiveCreatedAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 활성 게시글 조회수 키셋 페이징 (idx_board_active_view_count_id 범위 조회)
+    @Query("SELECT b FROM Board b WHERE b.active = true " +
+           "AND b.viewCount <= :viewCount AND (b.viewCount < :viewCount OR b.id < :id) " +
+           "ORDER BY b.viewCount DESC, b.id DESC")
+    List<Board> findActiveViewCountBefore(@Param("viewCount") Long viewCount, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT b FROM Board b WHERE b.active = true " +
+           "AND b.viewCount >= :viewCount AND (b.viewCount > :viewCount OR b.id > :id) " +
+           "ORDER BY b.viewCount ASC, b.id ASC")
+    List<Board> findActiveViewCountAfter(@Param("viewCount") Long viewCount, @Param("id") Long id, Pageable pageable);
+
+    // ID 목록 조회 (ID 순, 키셋 페이징) - 게시글 ID 필터 재구성용
+    @Query("SELECT b.id FROM Board b WHERE b.id > :afterId ORDER BY b.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 기간 내 수정된 활성 게시글의 (ID, 조회수, 수정일시) - 트렌딩 점수 재구성용
+    @Query("SELECT b.id, b.viewCount, b.updatedAt FROM Board b WHERE b.active = true AND b.updatedAt >= :since ORDER BY b.viewCount DESC")
+    List<Object[]> findTrendingSeeds(@Param("since") LocalDateTime since, Pageable pageable);
+}
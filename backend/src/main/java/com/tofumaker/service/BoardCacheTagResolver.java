@@ -0,0 +1,81 @@
+package com.tofumaker.service;
+
+import com.tofumaker.cache.CacheTagResolver;
+import com.tofumaker.config.CacheConfig;
+import com.tofumaker.dto.BoardIdPage;
+import com.tofumaker.dto.BoardSummary;
+import com.tofumaker.dto.BoardSummaryPage;
+import com.tofumaker.entity.Board;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * BoardService 캐시 키 규칙에 따라 목록 계열/게시글 태그를 결정
+ */
+@Component
+public class BoardCacheTagResolver implements CacheTagResolver {
+
+    // 키 접두사 -> 목록 계열
+    private static final Map<String, String> FAMILY_BY_PREFIX = new LinkedHashMap<>();
+
+    static {
+        FAMILY_BY_PREFIX.put("all_boards", CacheConfig.CacheTags.FAMILY_ALL);
+        FAMILY_BY_PREFIX.put("recent_boards", CacheConfig.CacheTags.FAMILY_RECENT);
+        FAMILY_BY_PREFIX.put("active_boards", CacheConfig.CacheTags.FAMILY_ACTIVE);
+        FAMILY_BY_PREFIX.put("popular_boards", CacheConfig.CacheTags.FAMILY_POPULAR);
+        FAMILY_BY_PREFIX.put("search_title", CacheConfig.CacheTags.FAMILY_SEARCH_TITLE);
+        FAMILY_BY_PREFIX.put("search_author", CacheConfig.CacheTags.FAMILY_SEARCH_AUTHOR);
+        FAMILY_BY_PREFIX.put("search_keyword", CacheConfig.CacheTags.FAMILY_SEARCH_KEYWORD);
+    }
+
+    @Override
+    public Set<String> resolveTags(String cacheName, String key, Object value) {
+        if (!CacheConfig.CacheNames.API_RESPONSES.equals(cacheName)) {
+            return Collections.emptySet();
+        }
+
+        String family = resolveFamily(key);
+        if (family == null) {
+            // 상세 엔트리(board_{id})는 키로 직접 갱신/삭제된다
+            return Collections.emptySet();
+        }
+
+        Set<String> tags = new HashSet<>();
+        tags.add(family);
+        tags.add(CacheConfig.CacheTags.LISTINGS);
+        tags.add(family.startsWith("family:search:")
+                ? CacheConfig.CacheTags.SEARCH_LISTINGS
+                : CacheConfig.CacheTags.UNFILTERED_LISTINGS);
+
+        if (value instanceof BoardIdPage) {
+            for (Long id : ((BoardIdPage) value).getIds()) {
+                tags.add(CacheConfig.CacheTags.board(id));
+            }
+        } else if (value instanceof BoardSummaryPage) {
+            for (BoardSummary summary : ((BoardSummaryPage) value).getContent()) {
+                tags.add(CacheConfig.CacheTags.board(summary.getId()));
+            }
+        } else if (value instanceof Iterable) {
+            for (Object item : (Iterable<?>) value) {
+                if (item instanceof Board && ((Board) item).getId() != null) {
+                    tags.add(CacheConfig.CacheTags.board(((Board) item).getId()));
+                }
+            }
+        }
+        return tags;
+    }
+
+    private String resolveFamily(String key) {
+        for (Map.Entry<String, String> entry : FAMILY_BY_PREFIX.entrySet()) {
+            if (key.startsWith(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+}
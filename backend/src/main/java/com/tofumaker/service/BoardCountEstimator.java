@@ -0,0 +1,160 @@
+package com.tofumaker.service;
+
+import com.tofumaker.config.CacheProperties;
+import com.tofumaker.repository.BoardRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 필터 없는 게시글 목록의 전체 개수 추정
+ *
+ * 전체 목록은 PostgreSQL 플래너 통계(pg_class.reltuples)를 쓰고, 통계가 없거나(ANALYZE 전, H2)
+ * 통계 조회가 일시적으로 실패한 갱신, 활성 글처럼 조건이 있는 목록은 COUNT 결과를 cache.board-count-estimate-ttl 동안 재사용한다.
+ * 요청마다 COUNT(*)를 실행하지 않는 대신 값은 마지막 통계/집계 시점 기준이다.
+ */
+@Component
+public class BoardCountEstimator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoardCountEstimator.class);
+
+    static final String ALL = "all";
+    static final String ACTIVE = "active";
+
+    // 마지막 ANALYZE/autovacuum 시점의 board 행 수 (테이블이 없으면 행 없음)
+    static final String RELTUPLES_SQL = "SELECT reltuples FROM pg_class WHERE oid = to_regclass('board')";
+
+    private final BoardRepository boardRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheProperties cacheProperties;
+
+    private final Map<String, Estimate> estimates = new ConcurrentHashMap<>();
+
+    static final String POSTGRESQL = "PostgreSQL";
+
+    // 플래너 통계를 읽을 수 있는 DB인지 (null이면 아직 확인 전, false면 이후 시도하지 않음)
+    private volatile Boolean plannerStatisticsAvailable;
+
+    private final Counter plannerCounter;
+    private final Counter countQueryCounter;
+
+    public BoardCountEstimator(BoardRepository boardRepository, JdbcTemplate jdbcTemplate,
+                               CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        this.boardRepository = boardRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheProperties = cacheProperties;
+        this.plannerCounter = Counter.builder("board_count_estimate_refreshes_total")
+                .description("Board total estimates refreshed, by source")
+                .tag("source", "planner")
+                .register(meterRegistry);
+        this.countQueryCounter = Counter.builder("board_count_estimate_refreshes_total")
+                .description("Board total estimates refreshed, by source")
+                .tag("source", "count")
+                .register(meterRegistry);
+    }
+
+    public long estimateAll() {
+        return estimate(ALL, this::loadAll);
+    }
+
+    public long estimateActive() {
+        return estimate(ACTIVE, this::loadActive);
+    }
+
+    private long estimate(String name, LongSupplier loader) {
+        Estimate cached = estimates.get(name);
+        if (cached != null && !cached.isExpired()) {
+            return cached.value;
+        }
+        // 만료 직후 몰린 요청 중 하나만 다시 읽음
+        synchronized (estimates) {
+            cached = estimates.get(name);
+            if (cached != null && !cached.isExpired()) {
+                return cached.value;
+            }
+            long value = loader.getAsLong();
+            estimates.put(name, new Estimate(value, System.currentTimeMillis() + cacheProperties.getBoardCountEstimateTtl().toMillis()));
+            return value;
+        }
+    }
+
+    private long loadAll() {
+        Long planned = plannerEstimate();
+        if (planned != null) {
+            plannerCounter.increment();
+            return planned;
+        }
+        countQueryCounter.increment();
+        return boardRepository.count();
+    }
+
+    private long loadActive() {
+        countQueryCounter.increment();
+        return boardRepository.countByActiveTrue();
+    }
+
+    Long plannerEstimate() {
+        if (!isPlannerStatisticsAvailable()) {
+            return null;
+        }
+        try {
+            Double reltuples = jdbcTemplate.queryForObject(RELTUPLES_SQL, Double.class);
+            // 아직 ANALYZE 되지 않은 테이블은 -1(PG14+) 또는 0
+            return reltuples != null && reltuples > 0 ? Math.round(reltuples) : null;
+        } catch (BadSqlGrammarException e) {
+            // pg_class를 쓸 수 없는 DB - 이후 시도하지 않음
+            plannerStatisticsAvailable = false;
+            logger.info("Planner statistics not available, board totals fall back to cached counts: {}", e.getMessage());
+            return null;
+        } catch (DataAccessException e) {
+            // 일시 오류 - 이번 갱신만 COUNT로 대신하고 다음 만료 때 다시 시도
+            logger.warn("Planner statistics query failed, counting boards for this refresh: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 처음 한 번 DB 종류를 확인 (연결 오류면 다음 갱신 때 다시 확인)
+    private boolean isPlannerStatisticsAvailable() {
+        Boolean available = plannerStatisticsAvailable;
+        if (available != null) {
+            return available;
+        }
+        try {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            available = POSTGRESQL.equalsIgnoreCase(product);
+            plannerStatisticsAvailable = available;
+            if (!available) {
+                logger.info("Database {} has no planner statistics, board totals use cached counts", product);
+            }
+            return available;
+        } catch (DataAccessException e) {
+            logger.warn("Could not read database metadata, counting boards for this refresh: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static final class Estimate {
+        private final long value;
+        private final long expiresAt;
+
+        private Estimate(long value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+    }
+}
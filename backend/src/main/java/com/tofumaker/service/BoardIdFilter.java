@@ -0,0 +1,185 @@
+package com.tofumaker.service;
+
+import com.tofumaker.cache.BloomFilter;
+import com.tofumaker.config.BoardFilterProperties;
+import com.tofumaker.repository.BoardRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 존재하는 게시글 ID Bloom filter
+ *
+ * 필터에 없는 ID는 DB를 조회하지 않고 바로 없음으로 처리한다.
+ * 새 글은 즉시 추가하고, 삭제된 ID는 주기적 재구성 때 빠진다.
+ * 첫 재구성이 끝나기 전에는 모든 ID를 통과시킨다.
+ */
+@Component
+public class BoardIdFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoardIdFilter.class);
+
+    // 재구성 후 증가분을 담을 여유 (예상 원소 수 = 현재 ID 수 * 2)
+    private static final int GROWTH_FACTOR = 2;
+    private static final long MIN_EXPECTED_INSERTIONS = 10000;
+
+    private final BoardRepository boardRepository;
+    private final BoardFilterProperties properties;
+
+    private volatile BloomFilter filter;
+
+    // 재구성 중 추가된 ID (새 필터로 옮김)
+    private List<Long> pendingIds;
+    private final Object lock = new Object();
+
+    private final Counter rejectedCounter;
+    private final Counter passedCounter;
+    private final Counter falsePositiveCounter;
+
+    public BoardIdFilter(BoardRepository boardRepository, BoardFilterProperties properties,
+                         MeterRegistry meterRegistry) {
+        this.boardRepository = boardRepository;
+        this.properties = properties;
+        this.rejectedCounter = Counter.builder("cache_board_filter_lookups_total")
+                .description("Board id lookups checked against the bloom filter")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+        this.passedCounter = Counter.builder("cache_board_filter_lookups_total")
+                .description("Board id lookups checked against the bloom filter")
+                .tag("result", "passed")
+                .register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("cache_board_filter_false_positives_total")
+                .description("Board ids that passed the bloom filter but do not exist")
+                .register(meterRegistry);
+        Gauge.builder("cache_board_filter_false_positive_rate", this, BoardIdFilter::observedFalsePositiveRate)
+                .description("Observed share of nonexistent board ids that passed the bloom filter")
+                .register(meterRegistry);
+        Gauge.builder("cache_board_filter_expected_false_positive_rate", this, BoardIdFilter::expectedFalsePositiveRate)
+                .description("False positive rate estimated from the bloom filter fill ratio")
+                .register(meterRegistry);
+        Gauge.builder("cache_board_filter_elements", this, BoardIdFilter::approximateElementCount)
+                .description("Approximate number of board ids in the bloom filter")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 존재할 수 있는 ID인지 확인 (false면 확실히 없음)
+     */
+    public boolean mightContain(Long id) {
+        BloomFilter current = filter;
+        if (id == null || current == null || !properties.isEnabled()) {
+            return true;
+        }
+        if (current.mightContain(id)) {
+            passedCounter.increment();
+            return true;
+        }
+        rejectedCounter.increment();
+        return false;
+    }
+
+    /**
+     * 새로 생성된 게시글 ID 추가
+     */
+    public void add(Long id) {
+        if (id == null) {
+            return;
+        }
+        synchronized (lock) {
+            if (filter != null) {
+                filter.put(id);
+            }
+            if (pendingIds != null) {
+                pendingIds.add(id);
+            }
+        }
+    }
+
+    /**
+     * 필터를 통과했지만 DB에 없던 조회 기록
+     */
+    public void recordFalsePositive() {
+        if (filter != null && properties.isEnabled()) {
+            falsePositiveCounter.increment();
+        }
+    }
+
+    /**
+     * DB의 게시글 ID로 필터 재구성 (삭제된 ID 제거, 크기 재조정)
+     */
+    @Scheduled(fixedDelayString = "${cache.board-filter.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        synchronized (lock) {
+            pendingIds = new ArrayList<>();
+        }
+        try {
+            BloomFilter rebuilt = BloomFilter.create(
+                    Math.max(MIN_EXPECTED_INSERTIONS, boardRepository.count() * GROWTH_FACTOR),
+                    properties.getFalsePositiveRate());
+            long loaded = loadIds(rebuilt);
+            synchronized (lock) {
+                for (Long id : pendingIds) {
+                    rebuilt.put(id);
+                }
+                filter = rebuilt;
+            }
+            logger.info("Rebuilt board id filter with {} ids ({} bits, {} hashes)",
+                    loaded, rebuilt.getBitCount(), rebuilt.getHashCount());
+        } catch (RuntimeException e) {
+            logger.warn("Failed to rebuild board id filter: {}", e.getMessage());
+        } finally {
+            synchronized (lock) {
+                pendingIds = null;
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return filter != null;
+    }
+
+    // ID 순 키셋 페이징으로 전체 ID를 읽어 필터에 추가 (전체 목록을 메모리에 들고 있지 않음)
+    private long loadIds(BloomFilter target) {
+        int batchSize = Math.max(1, properties.getRebuildBatchSize());
+        long loaded = 0;
+        long afterId = Long.MIN_VALUE;
+        while (true) {
+            List<Long> batch = boardRepository.findIdsAfter(afterId, PageRequest.of(0, batchSize));
+            for (Long id : batch) {
+                target.put(id);
+            }
+            loaded += batch.size();
+            if (batch.size() < batchSize) {
+                return loaded;
+            }
+            afterId = batch.get(batch.size() - 1);
+        }
+    }
+
+    private double observedFalsePositiveRate() {
+        // 없는 ID = 필터가 거른 ID + 통과했지만 없던 ID
+        double absent = rejectedCounter.count() + falsePositiveCounter.count();
+        return absent == 0 ? 0 : falsePositiveCounter.count() / absent;
+    }
+
+    private double expectedFalsePositiveRate() {
+        BloomFilter current = filter;
+        return current == null ? 0 : current.expectedFalsePositiveRate();
+    }
+
+    private double approximateElementCount() {
+        BloomFilter current = filter;
+        return current == null ? 0 : current.approximateElementCount();
+    }
+}
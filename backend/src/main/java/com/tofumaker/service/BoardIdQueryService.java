@@ -0,0 +1,241 @@
+package com.tofumaker.service;
+
+import com.tofumaker.cache.CacheLease;
+import com.tofumaker.cache.CompactCacheKey;
+import com.tofumaker.config.CacheConfig;
+import com.tofumaker.dto.BoardIdPage;
+import com.tofumaker.entity.Board;
+import com.tofumaker.repository.BoardRepository;
+import com.tofumaker.util.PaginationUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 게시글 페이지/검색 결과를 ID 목록으로 캐싱
+ * 게시글 본문은 board_{id} 캐시에만 두어 게시글 하나의 갱신/삭제가 모든 페이지에 바로 반영된다.
+ */
+@Service
+public class BoardIdQueryService {
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private CacheService cacheService;
+
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("all_boards_ids")
+    public BoardIdPage getAllBoardIds(Pageable pageable) {
+        return toIdPage(boardRepository.findAll(pageable));
+    }
+
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("search_title_ids")
+    public BoardIdPage searchIdsByTitle(String title, Pageable pageable) {
+        return toIdPage(boardRepository.findByTitleContainingIgnoreCase(title, pageable));
+    }
+
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("search_author_ids")
+    public BoardIdPage searchIdsByAuthor(String author, Pageable pageable) {
+        return toIdPage(boardRepository.findByAuthorContainingIgnoreCase(author, pageable));
+    }
+
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("search_keyword_ids")
+    public BoardIdPage searchIdsByKeyword(String keyword, Pageable pageable) {
+        return toIdPage(boardRepository.findByTitleOrContentContaining(keyword, pageable));
+    }
+
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("recent_boards_ids")
+    public BoardIdPage getRecentBoardIds(Pageable pageable) {
+        return toIdPage(boardRepository.findByOrderByCreatedAtDesc(pageable));
+    }
+
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("active_boards_ids")
+    public BoardIdPage getActiveBoardIds(Pageable pageable) {
+        return toIdPage(boardRepository.findByActiveTrue(pageable));
+    }
+
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("popular_boards_ids")
+    @CacheLease
+    public BoardIdPage getPopularBoardIds(Pageable pageable) {
+        return toIdPage(boardRepository.findByActiveTrueOrderByViewCountDesc(pageable));
+    }
+
+    // 개수 없는 페이징 (Slice) - COUNT 쿼리 없이 size+1행으로 다음 페이지 여부만 판단
+
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("all_boards_slice")
+    public BoardIdPage getAllBoardIdsSlice(Pageable pageable) {
+        return toIdPage(boardRepository.findAllSliced(pageable));
+    }
+
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("active_boards_slice")
+    public BoardIdPage getActiveBoardIdsSlice(Pageable pageable) {
+        return toIdPage(boardRepository.findSliceByActiveTrue(pageable));
+    }
+
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("popular_boards_slice")
+    @CacheLease
+    public BoardIdPage getPopularBoardIdsSlice(Pageable pageable) {
+        return toIdPage(boardRepository.findSliceByActiveTrue(pageable));
+    }
+
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("search_title_slice")
+    public BoardIdPage searchIdsByTitleSlice(String title, Pageable pageable) {
+        return toIdPage(boardRepository.findSliceByTitleContainingIgnoreCase(title, pageable));
+    }
+
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("search_author_slice")
+    public BoardIdPage searchIdsByAuthorSlice(String author, Pageable pageable) {
+        return toIdPage(boardRepository.findSliceByAuthorContainingIgnoreCase(author, pageable));
+    }
+
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("search_keyword_slice")
+    public BoardIdPage searchIdsByKeywordSlice(String keyword, Pageable pageable) {
+        return toIdPage(boardRepository.findSliceByTitleOrContentContaining(keyword, pageable));
+    }
+
+    // 커서 기반 (키셋) 페이징 - OFFSET 없이 (정렬 값, id) 인덱스 범위로 다음/이전 페이지를 읽는다
+
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("all_boards_cursor")
+    public BoardIdPage getAllBoardIdsByCursor(String cursor, int size, String direction) {
+        return seek(cursor, size, "createdAt", PaginationUtil.validateSortDirection(direction),
+                boardRepository::findFirstSeekPage, boardRepository::findCreatedBefore, boardRepository::findCreatedAfter,
+                LocalDateTime::parse, Board::getCreatedAt);
+    }
+
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("active_boards_cursor")
+    public BoardIdPage getActiveBoardIdsByCursor(String cursor, int size, String direction) {
+        return seek(cursor, size, "createdAt", PaginationUtil.validateSortDirection(direction),
+                boardRepository::findFirstActiveSeekPage, boardRepository::findActiveCreatedBefore,
+                boardRepository::findActiveCreatedAfter, LocalDateTime::parse, Board::getCreatedAt);
+    }
+
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("popular_boards_cursor")
+    public BoardIdPage getPopularBoardIdsByCursor(String cursor, int size) {
+        return seek(cursor, size, "viewCount", Sort.Direction.DESC,
+                boardRepository::findFirstActiveSeekPage, boardRepository::findActiveViewCountBefore,
+                boardRepository::findActiveViewCountAfter, Long::valueOf, Board::getViewCount);
+    }
+
+    /**
+     * size+1행을 읽어 다음 페이지 여부를 판단하고, 이전 페이지는 반대 방향으로 읽어 뒤집는다
+     *
+     * @param before 커서보다 정렬 값이 작은 행 (내림차순)
+     * @param after 커서보다 정렬 값이 큰 행 (오름차순)
+     */
+    <K> BoardIdPage seek(String token, int size, String sort, Sort.Direction direction,
+                         Function<Pageable, List<Board>> firstPage, SeekQuery<K> before, SeekQuery<K> after,
+                         Function<String, K> parser, Function<Board, K> keyOf) {
+        int validSize = PaginationUtil.validatePageInfo(0, size)[1];
+        Pageable limit = PageRequest.of(0, validSize + 1);
+        PaginationUtil.Cursor cursor = token != null && !token.isEmpty() ? PaginationUtil.decodeCursor(token) : null;
+
+        List<Board> rows;
+        boolean forward = cursor == null || cursor.isForward();
+        if (cursor == null) {
+            rows = firstPage.apply(PageRequest.of(0, validSize + 1, Sort.by(direction, sort).and(Sort.by(direction, "id"))));
+        } else {
+            if (!sort.equals(cursor.getSort()) || direction != cursor.getDirection()) {
+                throw new IllegalArgumentException("Cursor does not match sort " + sort + " " + direction);
+            }
+            K key;
+            try {
+                key = parser.apply(cursor.getValue());
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            // 내림차순에서 다음 페이지는 커서보다 작은 쪽, 이전 페이지는 큰 쪽
+            boolean descending = (direction == Sort.Direction.DESC) == forward;
+            rows = descending
+                    ? before.find(key, cursor.getId(), limit)
+                    : after.find(key, cursor.getId(), limit);
+        }
+
+        boolean more = rows.size() > validSize;
+        List<Board> page = new ArrayList<>(more ? rows.subList(0, validSize) : rows);
+        if (!forward) {
+            Collections.reverse(page);
+        }
+        boolean hasNext = forward ? more : true;
+        boolean hasPrevious = forward ? cursor != null : more;
+
+        String nextCursor = null;
+        String prevCursor = null;
+        if (!page.isEmpty()) {
+            Board first = page.get(0);
+            Board last = page.get(page.size() - 1);
+            if (hasNext) {
+                nextCursor = PaginationUtil.encodeCursor(new PaginationUtil.Cursor(sort, direction, true,
+                        String.valueOf(keyOf.apply(last)), last.getId()));
+            }
+            if (hasPrevious) {
+                prevCursor = PaginationUtil.encodeCursor(new PaginationUtil.Cursor(sort, direction, false,
+                        String.valueOf(keyOf.apply(first)), first.getId()));
+            }
+        }
+        cacheBoards(page);
+        List<Long> ids = new ArrayList<>(page.size());
+        for (Board board : page) {
+            ids.add(board.getId());
+        }
+        return BoardIdPage.ofCursor(ids, nextCursor, prevCursor);
+    }
+
+    /**
+     * 커서 경계 (정렬 값, id) 기준 키셋 조회
+     */
+    @FunctionalInterface
+    interface SeekQuery<K> {
+        List<Board> find(K value, Long id, Pageable pageable);
+    }
+
+    /**
+     * 조회한 게시글은 board_{id} 캐시에 미리 채워 바로 이어지는 hydrate가 DB를 다시 읽지 않게 한다
+     */
+    private BoardIdPage toIdPage(Page<Board> page) {
+        cacheBoards(page.getContent());
+        return BoardIdPage.from(page);
+    }
+
+    private BoardIdPage toIdPage(Slice<Board> slice) {
+        cacheBoards(slice.getContent());
+        return BoardIdPage.fromSlice(slice);
+    }
+
+    private void cacheBoards(List<Board> content) {
+        Map<String, Board> boards = new LinkedHashMap<>();
+        for (Board board : content) {
+            boards.put(BoardService.boardKey(board.getId()), board);
+        }
+        cacheService.putAll(CacheConfig.CacheNames.API_RESPONSES, boards);
+    }
+}
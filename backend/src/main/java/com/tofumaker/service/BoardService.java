@@ -1,17 +1,32 @@
 package com.tofumaker.service;
 
+import com.tofumaker.cache.CacheLease;
+import com.tofumaker.cache.CacheTagEvict;
+import com.tofumaker.cache.CompactCacheKey;
 import com.tofumaker.config.CacheConfig;
+import com.tofumaker.dto.BoardIdPage;
+import com.tofumaker.dto.CursorPage;
+import com.tofumaker.dto.BoardSummary;
+import com.tofumaker.dto.BoardSummaryPage;
+import com.tofumaker.dto.SlicePage;
+import com.tofumaker.dto.TrendingBoard;
 import com.tofumaker.entity.Board;
 import com.tofumaker.repository.BoardRepository;
+import com.tofumaker.util.PaginationUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -19,35 +34,115 @@ public class BoardService {
     
     @Autowired
     private BoardRepository boardRepository;
+
+    @Autowired
+    private CacheService cacheService;
+
+    @Autowired
+    private BoardIdQueryService boardIdQueryService;
+
+    @Autowired
+    private BoardIdFilter boardIdFilter;
+
+    @Autowired
+    private BoardCountEstimator boardCountEstimator;
+
+    @Autowired
+    private BoardSummaryQueryService boardSummaryQueryService;
+
+    @Autowired
+    private BoardTrendingTracker boardTrendingTracker;
     
-    // 모든 게시글 조회 (페이징)
-    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, key = "'all_boards_page_' + #pageable.pageNumber + '_' + #pageable.pageSize + '_' + #pageable.sort")
+    // 모든 게시글 조회 (페이징) - ID 목록 캐시 + 게시글 캐시
     public Page<Board> getAllBoards(Pageable pageable) {
-        return boardRepository.findAll(pageable);
+        return hydrate(boardIdQueryService.getAllBoardIds(pageable), pageable);
+    }
+
+    // 모든 게시글 조회 (커서) - 작성일시 기준 키셋 페이징
+    public CursorPage<Board> getAllBoardsByCursor(String cursor, int size, String direction) {
+        return hydrate(boardIdQueryService.getAllBoardIdsByCursor(cursor, size, direction), size);
+    }
+
+    // 모든 게시글 조회 (개수 없는 페이징) - estimateTotal이면 COUNT 대신 통계/캐시된 개수를 전체 개수로 사용
+    public SlicePage<Board> getAllBoardsSlice(Pageable pageable, boolean estimateTotal) {
+        return hydrate(boardIdQueryService.getAllBoardIdsSlice(pageable), pageable,
+                estimateTotal ? boardCountEstimator.estimateAll() : -1);
+    }
+
+    // 모든 게시글 목록 (프로젝션) - 본문 대신 미리보기만 조회, 개수 없는 페이징
+    public SlicePage<BoardSummary> getAllBoardSummaries(Pageable pageable) {
+        return toSlicePage(boardSummaryQueryService.getAllBoardSummaries(pageable), pageable);
     }
 
     // 모든 게시글 조회 (리스트)
-    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, key = "'all_boards'")
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("all_boards")
     public List<Board> getAllBoards() {
         return boardRepository.findAll();
     }
     
-    // ID로 게시글 조회
-    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, key = "'board_' + #id")
+    // ID로 게시글 조회 - 필터에 없거나 최근 없다고 확인된 ID는 DB를 조회하지 않음
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("board")
     public Board getBoardById(Long id) {
+        if (!boardIdFilter.mightContain(id) || isKnownMissing(id)) {
+            return null;
+        }
         Optional<Board> board = boardRepository.findById(id);
+        if (!board.isPresent()) {
+            boardIdFilter.recordFalsePositive();
+            cacheService.put(CacheConfig.CacheNames.NEGATIVE_LOOKUPS, boardKey(id), Boolean.TRUE);
+        }
         return board.orElse(null);
     }
     
-    // 게시글 생성
-    @CacheEvict(value = CacheConfig.CacheNames.API_RESPONSES, allEntries = true)
+    // 여러 게시글 조회 - board_{id} 캐시를 한 번에 조회하고 없는 글만 DB에서 읽어 한 번에 저장 (요청 순서 유지)
+    public List<Board> getBoardsByIds(List<Long> ids) {
+        Map<Long, String> keys = new LinkedHashMap<>();
+        for (Long id : ids) {
+            keys.put(id, boardKey(id));
+        }
+        Map<String, Board> cached = cacheService.getAll(CacheConfig.CacheNames.API_RESPONSES, keys.values(), Board.class);
+
+        List<Long> missingIds = new ArrayList<>();
+        for (Map.Entry<Long, String> entry : keys.entrySet()) {
+            if (!cached.containsKey(entry.getValue()) && boardIdFilter.mightContain(entry.getKey())) {
+                missingIds.add(entry.getKey());
+            }
+        }
+        Map<String, Board> loaded = new HashMap<>();
+        if (!missingIds.isEmpty()) {
+            for (Board board : boardRepository.findAllById(missingIds)) {
+                loaded.put(boardKey(board.getId()), board);
+            }
+            cacheService.putAll(CacheConfig.CacheNames.API_RESPONSES, loaded);
+        }
+
+        List<Board> boards = new ArrayList<>(ids.size());
+        for (String key : keys.values()) {
+            Board board = cached.containsKey(key) ? cached.get(key) : loaded.get(key);
+            if (board != null) {
+                boards.add(board);
+            }
+        }
+        return boards;
+    }
+
+    // 게시글 생성 - 새 글이 들어갈 수 있는 목록/검색 결과만 무효화
+    @CacheTagEvict(value = CacheConfig.CacheNames.API_RESPONSES, tags = CacheConfig.CacheTags.LISTINGS)
     public Board createBoard(Board board) {
-        return boardRepository.save(board);
+        Board saved = boardRepository.save(board);
+        boardIdFilter.add(saved.getId());
+        boardTrendingTracker.recordUpdate(saved.getId());
+        cacheService.evict(CacheConfig.CacheNames.NEGATIVE_LOOKUPS, boardKey(saved.getId()));
+        return saved;
     }
     
-    // 게시글 수정
-    @CachePut(value = CacheConfig.CacheNames.API_RESPONSES, key = "'board_' + #id")
-    @CacheEvict(value = CacheConfig.CacheNames.API_RESPONSES, key = "'all_boards'")
+    // 게시글 수정 - 해당 글을 포함한 목록과 검색 결과(일치 여부가 바뀔 수 있음)만 무효화
+    @CachePut(value = CacheConfig.CacheNames.API_RESPONSES, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey(value = "board", args = 0)
+    @CacheTagEvict(value = CacheConfig.CacheNames.API_RESPONSES,
+            tags = {CacheConfig.CacheTags.BOARD_PREFIX + "#{#id}", CacheConfig.CacheTags.SEARCH_LISTINGS})
     public Board updateBoard(Long id, Board boardDetails) {
         Optional<Board> optionalBoard = boardRepository.findById(id);
         if (optionalBoard.isPresent()) {
@@ -55,90 +150,249 @@ public class BoardService {
             board.setTitle(boardDetails.getTitle());
             board.setContent(boardDetails.getContent());
             board.setAuthor(boardDetails.getAuthor());
-            return boardRepository.save(board);
+            Board saved = boardRepository.save(board);
+            boardTrendingTracker.recordUpdate(id);
+            return saved;
         }
         return null;
     }
     
-    // 게시글 삭제
-    @CacheEvict(value = CacheConfig.CacheNames.API_RESPONSES, allEntries = true)
+    // 게시글 삭제 - 상세 엔트리, 해당 글을 포함한 검색 결과, 필터 없는 목록(페이지 이동)만 무효화
+    @CacheEvict(value = CacheConfig.CacheNames.API_RESPONSES, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("board")
+    @CacheTagEvict(value = CacheConfig.CacheNames.API_RESPONSES,
+            tags = {CacheConfig.CacheTags.BOARD_PREFIX + "#{#id}", CacheConfig.CacheTags.UNFILTERED_LISTINGS})
     public boolean deleteBoard(Long id) {
         if (boardRepository.existsById(id)) {
             boardRepository.deleteById(id);
+            boardTrendingTracker.remove(id);
             return true;
         }
         return false;
     }
     
-    // 제목으로 검색 (페이징)
-    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, key = "'search_title_page_' + #title + '_' + #pageable.pageNumber + '_' + #pageable.pageSize + '_' + #pageable.sort")
+    // 제목으로 검색 (페이징) - ID 목록 캐시 + 게시글 캐시
     public Page<Board> searchByTitle(String title, Pageable pageable) {
-        return boardRepository.findByTitleContainingIgnoreCase(title, pageable);
+        return hydrate(boardIdQueryService.searchIdsByTitle(title, pageable), pageable);
+    }
+
+    // 제목으로 검색 (개수 없는 페이징)
+    public SlicePage<Board> searchByTitleSlice(String title, Pageable pageable) {
+        return hydrate(boardIdQueryService.searchIdsByTitleSlice(title, pageable), pageable, -1);
+    }
+
+    // 제목으로 검색 (프로젝션)
+    public SlicePage<BoardSummary> searchSummariesByTitle(String title, Pageable pageable) {
+        return toSlicePage(boardSummaryQueryService.searchSummariesByTitle(title, pageable), pageable);
     }
 
     // 제목으로 검색 (리스트)
-    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, key = "'search_title_' + #title")
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("search_title")
     public List<Board> searchByTitle(String title) {
         return boardRepository.findByTitleContainingIgnoreCase(title);
     }
     
-    // 작성자로 검색 (페이징)
-    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, key = "'search_author_page_' + #author + '_' + #pageable.pageNumber + '_' + #pageable.pageSize + '_' + #pageable.sort")
+    // 작성자로 검색 (페이징) - ID 목록 캐시 + 게시글 캐시
     public Page<Board> searchByAuthor(String author, Pageable pageable) {
-        return boardRepository.findByAuthorContainingIgnoreCase(author, pageable);
+        return hydrate(boardIdQueryService.searchIdsByAuthor(author, pageable), pageable);
+    }
+
+    // 작성자로 검색 (개수 없는 페이징)
+    public SlicePage<Board> searchByAuthorSlice(String author, Pageable pageable) {
+        return hydrate(boardIdQueryService.searchIdsByAuthorSlice(author, pageable), pageable, -1);
+    }
+
+    // 작성자로 검색 (프로젝션)
+    public SlicePage<BoardSummary> searchSummariesByAuthor(String author, Pageable pageable) {
+        return toSlicePage(boardSummaryQueryService.searchSummariesByAuthor(author, pageable), pageable);
     }
 
     // 작성자로 검색 (리스트)
-    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, key = "'search_author_' + #author")
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("search_author")
     public List<Board> searchByAuthor(String author) {
         return boardRepository.findByAuthorContainingIgnoreCase(author);
     }
     
-    // 키워드로 검색 (제목 또는 내용) - 페이징
-    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, key = "'search_keyword_page_' + #keyword + '_' + #pageable.pageNumber + '_' + #pageable.pageSize + '_' + #pageable.sort")
+    // 키워드로 검색 (제목 또는 내용) - 페이징 - ID 목록 캐시 + 게시글 캐시
     public Page<Board> searchByKeyword(String keyword, Pageable pageable) {
-        return boardRepository.findByTitleOrContentContaining(keyword, pageable);
+        return hydrate(boardIdQueryService.searchIdsByKeyword(keyword, pageable), pageable);
+    }
+
+    // 키워드로 검색 (개수 없는 페이징) - LIKE 조건의 COUNT 쿼리를 실행하지 않음
+    public SlicePage<Board> searchByKeywordSlice(String keyword, Pageable pageable) {
+        return hydrate(boardIdQueryService.searchIdsByKeywordSlice(keyword, pageable), pageable, -1);
+    }
+
+    // 키워드로 검색 (프로젝션) - 본문은 조건 비교에만 쓰고 읽어 오지 않음
+    public SlicePage<BoardSummary> searchSummariesByKeyword(String keyword, Pageable pageable) {
+        return toSlicePage(boardSummaryQueryService.searchSummariesByKeyword(keyword, pageable), pageable);
     }
 
     // 키워드로 검색 (제목 또는 내용) - 리스트
-    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, key = "'search_keyword_' + #keyword")
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("search_keyword")
     public List<Board> searchByKeyword(String keyword) {
         return boardRepository.findByTitleOrContentContaining(keyword);
     }
     
-    // 최신 게시글 조회 (페이징)
-    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, key = "'recent_boards_page_' + #pageable.pageNumber + '_' + #pageable.pageSize + '_' + #pageable.sort")
+    // 최신 게시글 조회 (페이징) - ID 목록 캐시 + 게시글 캐시
     public Page<Board> getRecentBoards(Pageable pageable) {
-        return boardRepository.findByOrderByCreatedAtDesc(pageable);
+        return hydrate(boardIdQueryService.getRecentBoardIds(pageable), pageable);
+    }
+
+    // 최신 게시글 조회 (커서) - 작성일시 내림차순 키셋 페이징
+    public CursorPage<Board> getRecentBoardsByCursor(String cursor, int size) {
+        return getAllBoardsByCursor(cursor, size, "desc");
+    }
+
+    // 최신 게시글 조회 (개수 없는 페이징) - 작성일시 내림차순 전체 목록
+    public SlicePage<Board> getRecentBoardsSlice(int page, int size, boolean estimateTotal) {
+        return getAllBoardsSlice(PaginationUtil.createPageable(page, size, "createdAt", "desc"), estimateTotal);
+    }
+
+    // 최신 게시글 목록 (프로젝션) - 작성일시 내림차순
+    public SlicePage<BoardSummary> getRecentBoardSummaries(int page, int size) {
+        return getAllBoardSummaries(PaginationUtil.createPageable(page, size, "createdAt", "desc"));
     }
 
     // 최신 게시글 조회 (리스트)
-    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, key = "'recent_boards'")
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("recent_boards")
     public List<Board> getRecentBoards() {
         return boardRepository.findTop10ByOrderByCreatedAtDesc();
     }
     
-    // 활성 게시글 조회 (페이징)
-    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, key = "'active_boards_page_' + #pageable.pageNumber + '_' + #pageable.pageSize + '_' + #pageable.sort")
+    // 활성 게시글 조회 (페이징) - ID 목록 캐시 + 게시글 캐시
     public Page<Board> getActiveBoards(Pageable pageable) {
-        return boardRepository.findByActiveTrue(pageable);
+        return hydrate(boardIdQueryService.getActiveBoardIds(pageable), pageable);
+    }
+
+    // 활성 게시글 조회 (커서) - 작성일시 기준 키셋 페이징
+    public CursorPage<Board> getActiveBoardsByCursor(String cursor, int size, String direction) {
+        return hydrate(boardIdQueryService.getActiveBoardIdsByCursor(cursor, size, direction), size);
+    }
+
+    // 활성 게시글 조회 (개수 없는 페이징)
+    public SlicePage<Board> getActiveBoardsSlice(Pageable pageable, boolean estimateTotal) {
+        return hydrate(boardIdQueryService.getActiveBoardIdsSlice(pageable), pageable,
+                estimateTotal ? boardCountEstimator.estimateActive() : -1);
+    }
+
+    // 활성 게시글 목록 (프로젝션)
+    public SlicePage<BoardSummary> getActiveBoardSummaries(Pageable pageable) {
+        return toSlicePage(boardSummaryQueryService.getActiveBoardSummaries(pageable), pageable);
     }
 
     // 활성 게시글 조회 (리스트)
-    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, key = "'active_boards'")
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("active_boards")
     public List<Board> getActiveBoards() {
         return boardRepository.findByActiveTrue();
     }
     
-    // 인기 게시글 조회 (페이징)
-    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, key = "'popular_boards_page_' + #pageable.pageNumber + '_' + #pageable.pageSize + '_' + #pageable.sort")
+    // 인기 게시글 조회 (페이징) - ID 목록 캐시 + 게시글 캐시
     public Page<Board> getPopularBoards(Pageable pageable) {
-        return boardRepository.findByActiveTrueOrderByViewCountDesc(pageable);
+        return hydrate(boardIdQueryService.getPopularBoardIds(pageable), pageable);
+    }
+
+    // 인기 게시글 조회 (커서) - 조회수 내림차순 키셋 페이징
+    public CursorPage<Board> getPopularBoardsByCursor(String cursor, int size) {
+        return hydrate(boardIdQueryService.getPopularBoardIdsByCursor(cursor, size), size);
+    }
+
+    // 인기 게시글 조회 (개수 없는 페이징) - 조회수 내림차순 활성 목록
+    public SlicePage<Board> getPopularBoardsSlice(int page, int size, boolean estimateTotal) {
+        Pageable pageable = PaginationUtil.createPageable(page, size, "viewCount", "desc");
+        return hydrate(boardIdQueryService.getPopularBoardIdsSlice(pageable), pageable,
+                estimateTotal ? boardCountEstimator.estimateActive() : -1);
+    }
+
+    // 인기 게시글 목록 (프로젝션) - 조회수 내림차순 활성 목록
+    public SlicePage<BoardSummary> getPopularBoardSummaries(int page, int size) {
+        Pageable pageable = PaginationUtil.createPageable(page, size, "viewCount", "desc");
+        return toSlicePage(boardSummaryQueryService.getPopularBoardSummaries(pageable), pageable);
     }
 
     // 인기 게시글 조회 (리스트)
-    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, key = "'popular_boards'")
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("popular_boards")
+    @CacheLease
     public List<Board> getPopularBoards() {
         return boardRepository.findTop10ByActiveTrueOrderByViewCountDesc();
     }
-} 
\ No newline at end of file
+
+    // 게시글 조회 기록 (트렌딩 점수) - 캐시된 상세 조회도 집계되도록 조회 메서드 밖에서 호출
+    public void recordView(Long id) {
+        boardTrendingTracker.recordView(id);
+    }
+
+    // 트렌딩 게시글 - 마지막 동기화 시점의 감쇠 점수 상위 limit개 (정렬 쿼리 없음, 게시글 캐시로 채움)
+    public List<TrendingBoard> getTrendingBoards(int limit) {
+        if (limit < 1 || limit > PaginationUtil.MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + PaginationUtil.MAX_PAGE_SIZE + ": " + limit);
+        }
+        List<DecayingTopK.Entry> entries = boardTrendingTracker.top(limit);
+        List<Long> ids = new ArrayList<>(entries.size());
+        for (DecayingTopK.Entry entry : entries) {
+            ids.add(entry.getId());
+        }
+        Map<Long, Board> boards = new HashMap<>();
+        for (Board board : getBoardsByIds(ids)) {
+            boards.put(board.getId(), board);
+        }
+        List<TrendingBoard> trending = new ArrayList<>(entries.size());
+        for (DecayingTopK.Entry entry : entries) {
+            Board board = boards.get(entry.getId());
+            if (board != null && !Boolean.FALSE.equals(board.getActive())) {
+                trending.add(new TrendingBoard(board, entry.getScore()));
+            }
+        }
+        return trending;
+    }
+
+    // 트렌딩 점수를 DB에서 다시 만듦 (반영된 게시글 수)
+    public int rebuildTrendingBoards() {
+        return boardTrendingTracker.rebuild();
+    }
+
+    private Page<Board> hydrate(BoardIdPage idPage, Pageable pageable) {
+        return new PageImpl<>(getBoardsByIds(idPage.getIds()), pageable, idPage.getTotalElements());
+    }
+
+    private CursorPage<Board> hydrate(BoardIdPage idPage, int size) {
+        return new CursorPage<>(getBoardsByIds(idPage.getIds()), PaginationUtil.createCursorMetadata(
+                PaginationUtil.validatePageInfo(0, size)[1], idPage.getNextCursor(), idPage.getPrevCursor()));
+    }
+
+    /**
+     * 추정 전체 개수는 이 페이지까지 읽은 행 수보다 작을 수 없고, 마지막 페이지에서는 정확히 알 수 있다
+     */
+    private SlicePage<Board> hydrate(BoardIdPage idPage, Pageable pageable, long estimatedTotal) {
+        long total = estimatedTotal;
+        if (estimatedTotal >= 0) {
+            long seen = pageable.getOffset() + idPage.getIds().size();
+            if (!idPage.isHasNext() && !idPage.getIds().isEmpty()) {
+                total = seen;
+            } else if (idPage.isHasNext()) {
+                total = Math.max(estimatedTotal, seen + 1);
+            }
+        }
+        return new SlicePage<>(getBoardsByIds(idPage.getIds()), PaginationUtil.createSliceMetadata(
+                pageable.getPageNumber(), pageable.getPageSize(), idPage.isHasNext(), total));
+    }
+
+    private SlicePage<BoardSummary> toSlicePage(BoardSummaryPage summaryPage, Pageable pageable) {
+        return new SlicePage<>(summaryPage.getContent(), PaginationUtil.createSliceMetadata(
+                pageable.getPageNumber(), pageable.getPageSize(), summaryPage.isHasNext(), -1));
+    }
+
+    private boolean isKnownMissing(Long id) {
+        return Boolean.TRUE.equals(cacheService.get(CacheConfig.CacheNames.NEGATIVE_LOOKUPS, boardKey(id), Boolean.class));
+    }
+
+    static String boardKey(Long id) {
+        return "board_" + id;
+    }
+}
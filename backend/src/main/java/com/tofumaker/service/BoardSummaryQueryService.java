@@ -0,0 +1,59 @@
+package com.tofumaker.service;
+
+import com.tofumaker.cache.CacheLease;
+import com.tofumaker.cache.CompactCacheKey;
+import com.tofumaker.config.CacheConfig;
+import com.tofumaker.dto.BoardSummaryPage;
+import com.tofumaker.repository.BoardRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게시글 목록/검색 결과를 프로젝션(BoardSummary)으로 조회해 캐싱
+ * 본문 대신 미리보기만 읽으므로 board_{id} 캐시를 채우지 않고 목록 항목을 그대로 보관한다.
+ */
+@Service
+public class BoardSummaryQueryService {
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("all_boards_summary")
+    public BoardSummaryPage getAllBoardSummaries(Pageable pageable) {
+        return BoardSummaryPage.from(boardRepository.findSummaries(pageable));
+    }
+
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("active_boards_summary")
+    public BoardSummaryPage getActiveBoardSummaries(Pageable pageable) {
+        return BoardSummaryPage.from(boardRepository.findActiveSummaries(pageable));
+    }
+
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("popular_boards_summary")
+    @CacheLease
+    public BoardSummaryPage getPopularBoardSummaries(Pageable pageable) {
+        return BoardSummaryPage.from(boardRepository.findActiveSummaries(pageable));
+    }
+
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("search_title_summary")
+    public BoardSummaryPage searchSummariesByTitle(String title, Pageable pageable) {
+        return BoardSummaryPage.from(boardRepository.findSummariesByTitle(title, pageable));
+    }
+
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("search_author_summary")
+    public BoardSummaryPage searchSummariesByAuthor(String author, Pageable pageable) {
+        return BoardSummaryPage.from(boardRepository.findSummariesByAuthor(author, pageable));
+    }
+
+    @Cacheable(value = CacheConfig.CacheNames.API_RESPONSES, sync = true, keyGenerator = CacheConfig.COMPACT_KEY_GENERATOR)
+    @CompactCacheKey("search_keyword_summary")
+    public BoardSummaryPage searchSummariesByKeyword(String keyword, Pageable pageable) {
+        return BoardSummaryPage.from(boardRepository.findSummariesByKeyword(keyword, pageable));
+    }
+}
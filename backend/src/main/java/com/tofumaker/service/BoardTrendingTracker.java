@@ -0,0 +1,390 @@
+package com.tofumaker.service;
+
+import com.tofumaker.config.BoardTrendingProperties;
+import com.tofumaker.repository.BoardRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 트렌딩 게시글 - 조회/수정 이벤트의 시간 감쇠 점수 상위 K개
+ *
+ * 이벤트는 게시글별 가중치 합으로만 모으고, 동기화 주기마다 DecayingTopK에 반영한다.
+ * 여러 노드는 같은 기준 시각(epoch)을 쓰므로 Redis sorted set에 증가분을 ZINCRBY로 더하고
+ * 합산된 상위 후보(K의 4배)를 다시 읽어 모든 노드가 같은 순위를 본다. 조회는 마지막 동기화 결과의 상위 K개에서 O(K)로 응답한다.
+ * 기준 시각은 반감기 32번마다 옮기며, 새 키는 처음 옮긴 노드가 이전 키 점수를 감쇠시켜 채운다.
+ * Redis 키가 비어 있으면(첫 기동) 최근 수정된 게시글의 조회수로 DB에서 다시 만든다.
+ */
+@Component
+public class BoardTrendingTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoardTrendingTracker.class);
+
+    static final String KEY_PREFIX = "trending:boards:";
+    private static final String SEEDED_SUFFIX = ":seeded";
+
+    // 기준 시각을 옮기는 간격 (반감기 수) - 저장 점수가 2^32배를 넘지 않음
+    static final int EPOCH_HALF_LIVES = 32;
+
+    // 동기화 전 모아 둘 수 있는 게시글 수 (상위 K개의 배수)
+    private static final int PENDING_FACTOR = 16;
+
+    // 점수를 유지할 후보 수 (상위 K개의 배수) - K개로 자르면 K+1번째 글의 점수가 매번 버려져 순위가 굳음
+    static final int CANDIDATE_FACTOR = 4;
+
+    private final BoardRepository boardRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final BoardTrendingProperties properties;
+
+    // 반감기는 기동 시 값으로 고정 (바꾸면 저장된 점수의 의미가 달라짐)
+    private final long halfLifeMillis;
+    private final DecayingTopK scores;
+
+    // 마지막 동기화 이후 게시글별 이벤트 가중치 합 (감쇠 전)
+    private final Map<Long, Double> recorded = new ConcurrentHashMap<>();
+    // Redis에 아직 더하지 못한 점수 (epoch 기준, Redis 장애 시 다음 동기화에 다시 시도)
+    private final Map<Long, Double> unpushed = new HashMap<>();
+
+    private volatile Ranking ranking = new Ranking(0, Collections.emptyList());
+    private boolean initialized;
+    private final Object syncLock = new Object();
+
+    private final Counter viewCounter;
+    private final Counter updateCounter;
+    private final Counter droppedCounter;
+    private final Counter syncFailureCounter;
+    private final Timer syncTimer;
+
+    public BoardTrendingTracker(BoardRepository boardRepository, StringRedisTemplate redisTemplate,
+                                BoardTrendingProperties properties, MeterRegistry meterRegistry) {
+        this.boardRepository = boardRepository;
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.halfLifeMillis = Math.max(1, properties.getHalfLife().toMillis());
+        this.scores = new DecayingTopK(candidates(), halfLifeMillis, epochOf(System.currentTimeMillis()));
+        this.viewCounter = Counter.builder("board_trending_events_total")
+                .description("Board events recorded for trending scores")
+                .tag("type", "view")
+                .register(meterRegistry);
+        this.updateCounter = Counter.builder("board_trending_events_total")
+                .description("Board events recorded for trending scores")
+                .tag("type", "update")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("board_trending_events_dropped_total")
+                .description("Board events dropped because too many boards were pending a sync")
+                .register(meterRegistry);
+        this.syncFailureCounter = Counter.builder("board_trending_sync_failures_total")
+                .description("Failed trending score syncs with Redis (local scores are kept)")
+                .register(meterRegistry);
+        this.syncTimer = Timer.builder("board_trending_sync_duration_seconds")
+                .description("Time spent merging trending scores locally and with Redis")
+                .register(meterRegistry);
+        Gauge.builder("board_trending_boards", scores, DecayingTopK::size)
+                .description("Boards with a tracked trending score")
+                .register(meterRegistry);
+    }
+
+    public void recordView(Long id) {
+        if (record(id, properties.getViewWeight())) {
+            viewCounter.increment();
+        }
+    }
+
+    public void recordUpdate(Long id) {
+        if (record(id, properties.getUpdateWeight())) {
+            updateCounter.increment();
+        }
+    }
+
+    /**
+     * 삭제된 게시글 제외
+     */
+    public void remove(Long id) {
+        if (id == null) {
+            return;
+        }
+        recorded.remove(id);
+        synchronized (syncLock) {
+            scores.remove(id);
+            unpushed.remove(id);
+            publish();
+            if (properties.isRedisSync()) {
+                try {
+                    redisTemplate.opsForZSet().remove(key(scores.getEpoch()), id.toString());
+                } catch (RuntimeException e) {
+                    logger.warn("Failed to remove board {} from trending scores: {}", id, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 현재 감쇠 점수 기준 상위 limit개 (마지막 동기화 시점 순위)
+     */
+    public List<DecayingTopK.Entry> top(int limit) {
+        Ranking current = ranking;
+        int size = Math.min(Math.max(limit, 0), current.entries.size());
+        double factor = Math.pow(2, -(System.currentTimeMillis() - current.epoch) / (double) halfLifeMillis);
+        List<DecayingTopK.Entry> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            DecayingTopK.Entry entry = current.entries.get(i);
+            result.add(new DecayingTopK.Entry(entry.getId(), entry.getScore() * factor));
+        }
+        return result;
+    }
+
+    /**
+     * 모은 이벤트를 점수에 반영하고 Redis와 합산 (첫 호출 때 초기화)
+     */
+    @Scheduled(fixedDelayString = "${board.trending.sync-interval-ms:10000}")
+    public void sync() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long started = System.nanoTime();
+        synchronized (syncLock) {
+            long now = System.currentTimeMillis();
+            if (!initialized) {
+                initialize(now);
+            }
+            advanceEpoch(now);
+            drain(now);
+            if (properties.isRedisSync()) {
+                pushAndPull();
+            }
+            publish();
+        }
+        syncTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * DB에서 점수 다시 만들기 - 기존 점수(Redis 포함)를 버림
+     */
+    public int rebuild() {
+        synchronized (syncLock) {
+            long now = System.currentTimeMillis();
+            advanceEpoch(now);
+            Map<Long, Double> seeds = loadSeeds(now);
+            scores.replaceAll(seeds);
+            unpushed.clear();
+            unpushed.putAll(seeds);
+            if (properties.isRedisSync()) {
+                try {
+                    redisTemplate.delete(key(scores.getEpoch()));
+                } catch (RuntimeException e) {
+                    logger.warn("Failed to clear trending scores in Redis: {}", e.getMessage());
+                }
+                pushAndPull();
+            }
+            initialized = true;
+            publish();
+            logger.info("Rebuilt trending boards from {} recently updated boards", seeds.size());
+            return seeds.size();
+        }
+    }
+
+    private boolean record(Long id, double weight) {
+        if (id == null || weight <= 0 || !properties.isEnabled()) {
+            return false;
+        }
+        if (recorded.size() >= properties.getCapacity() * PENDING_FACTOR && !recorded.containsKey(id)) {
+            droppedCounter.increment();
+            return false;
+        }
+        recorded.merge(id, weight, Double::sum);
+        return true;
+    }
+
+    private void initialize(long now) {
+        initialized = true;
+        if (!properties.isRedisSync()) {
+            scores.replaceAll(loadSeeds(now));
+            return;
+        }
+        seedIfFirst(scores.getEpoch(), now);
+    }
+
+    /**
+     * 기준 시각이 바뀌었으면 로컬 점수를 새 기준으로 옮기고 Redis 새 키를 채움
+     */
+    private void advanceEpoch(long now) {
+        long previous = scores.getEpoch();
+        long current = epochOf(now);
+        if (current == previous) {
+            return;
+        }
+        scores.rebase(current);
+        double factor = Math.pow(2, -(current - previous) / (double) halfLifeMillis);
+        unpushed.replaceAll((id, score) -> score * factor);
+        if (properties.isRedisSync()) {
+            seedIfFirst(current, now);
+        }
+    }
+
+    /**
+     * 키를 처음 쓰는 노드만 채움 - 이전 키가 있으면 감쇠시켜 합치고, 없으면 DB에서 만듦
+     */
+    private void seedIfFirst(long epoch, long now) {
+        String key = key(epoch);
+        try {
+            Boolean first = redisTemplate.opsForValue().setIfAbsent(key + SEEDED_SUFFIX, "1", keyTtl());
+            if (!Boolean.TRUE.equals(first)) {
+                return;
+            }
+            String previousKey = key(epoch - epochMillis());
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(previousKey))) {
+                // 다른 노드가 먼저 더한 새 키 점수는 가중치 1로 유지
+                redisTemplate.opsForZSet().unionAndStore(key, Collections.singletonList(previousKey), key,
+                        RedisZSetCommands.Aggregate.SUM,
+                        RedisZSetCommands.Weights.of(1, Math.pow(2, -EPOCH_HALF_LIVES)));
+                redisTemplate.expire(key, keyTtl());
+                return;
+            }
+        } catch (RuntimeException e) {
+            syncFailureCounter.increment();
+            logger.warn("Failed to seed trending scores in Redis, rebuilding locally: {}", e.getMessage());
+        }
+        Map<Long, Double> seeds = loadSeeds(now);
+        for (Map.Entry<Long, Double> seed : seeds.entrySet()) {
+            scores.addScaled(seed.getKey(), seed.getValue());
+            unpushed.merge(seed.getKey(), seed.getValue(), Double::sum);
+        }
+    }
+
+    private void drain(long now) {
+        if (recorded.isEmpty()) {
+            return;
+        }
+        // 주기 안의 이벤트는 모두 지금 일어난 것으로 봄 (오차는 동기화 주기 / 반감기)
+        double factor = scores.scaled(1, now);
+        for (Long id : new ArrayList<>(recorded.keySet())) {
+            Double weight = recorded.remove(id);
+            if (weight == null) {
+                continue;
+            }
+            double score = weight * factor;
+            scores.addScaled(id, score);
+            if (properties.isRedisSync()) {
+                unpushed.merge(id, score, Double::sum);
+            }
+        }
+    }
+
+    /**
+     * 증가분을 ZINCRBY로 더하고 후보 수만큼만 남긴 뒤 합산 점수로 로컬 점수를 교체
+     */
+    private void pushAndPull() {
+        String key = key(scores.getEpoch());
+        int candidates = candidates();
+        try {
+            if (!unpushed.isEmpty()) {
+                long ttlSeconds = keyTtl().getSeconds();
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                    for (Map.Entry<Long, Double> entry : unpushed.entrySet()) {
+                        stringConnection.zIncrBy(key, entry.getValue(), entry.getKey().toString());
+                    }
+                    stringConnection.expire(key, ttlSeconds);
+                    return null;
+                });
+                unpushed.clear();
+            }
+            ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+            zSet.removeRange(key, 0, -(candidates + 1L));
+            Set<ZSetOperations.TypedTuple<String>> merged = zSet.reverseRangeWithScores(key, 0, candidates - 1L);
+            Map<Long, Double> global = new HashMap<>();
+            if (merged != null) {
+                for (ZSetOperations.TypedTuple<String> tuple : merged) {
+                    if (tuple.getValue() != null && tuple.getScore() != null) {
+                        global.put(Long.valueOf(tuple.getValue()), tuple.getScore());
+                    }
+                }
+            }
+            scores.replaceAll(global);
+        } catch (RuntimeException e) {
+            syncFailureCounter.increment();
+            logger.warn("Failed to sync trending scores with Redis ({} pending boards kept): {}",
+                    unpushed.size(), e.getMessage());
+        }
+    }
+
+    // 최근 수정된 활성 게시글의 누적 조회수를 마지막 수정 시각의 이벤트로 보고 점수를 만듦
+    private Map<Long, Double> loadSeeds(long now) {
+        Map<Long, Double> seeds = new HashMap<>();
+        try {
+            LocalDateTime since = LocalDateTime.now().minus(properties.getRebuildWindow());
+            List<Object[]> rows = boardRepository.findTrendingSeeds(since,
+                    PageRequest.of(0, Math.max(1, properties.getCapacity())));
+            for (Object[] row : rows) {
+                Long id = (Long) row[0];
+                long views = row[1] != null ? ((Number) row[1]).longValue() : 0;
+                LocalDateTime updatedAt = (LocalDateTime) row[2];
+                long time = updatedAt != null
+                        ? Math.min(now, updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()) : now;
+                double weight = properties.getViewWeight() * views + properties.getUpdateWeight();
+                seeds.put(id, scores.scaled(weight, time));
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to load trending seeds from the database: {}", e.getMessage());
+        }
+        return seeds;
+    }
+
+    private void publish() {
+        ranking = new Ranking(scores.getEpoch(), scores.top(properties.getCapacity()));
+    }
+
+    private int candidates() {
+        return Math.max(1, properties.getCapacity()) * CANDIDATE_FACTOR;
+    }
+
+    long epochOf(long time) {
+        return time - Math.floorMod(time, epochMillis());
+    }
+
+    private long epochMillis() {
+        return halfLifeMillis * EPOCH_HALF_LIVES;
+    }
+
+    // 다음 기준 시각으로 넘어간 뒤 이전 키를 합칠 수 있을 만큼 유지
+    private Duration keyTtl() {
+        return Duration.ofMillis(epochMillis() * 2);
+    }
+
+    static String key(long epoch) {
+        return KEY_PREFIX + epoch;
+    }
+
+    private static final class Ranking {
+        private final long epoch;
+        private final List<DecayingTopK.Entry> entries;
+
+        private Ranking(long epoch, List<DecayingTopK.Entry> entries) {
+            this.epoch = epoch;
+            this.entries = entries;
+        }
+    }
+}
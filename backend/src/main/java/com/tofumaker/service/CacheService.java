@@ -1,22 +1,66 @@
 package com.tofumaker.service;
 
-import com.tofumaker.config.CacheConfig;
+import com.tofumaker.cache.CacheAccessTraceRecorder;
+import com.tofumaker.cache.CacheBudget;
+import com.tofumaker.cache.CacheBudgetManager;
+import com.tofumaker.cache.CacheGenerations;
+import com.tofumaker.cache.CacheKeyspaceReconciler;
+import com.tofumaker.cache.CachePolicy;
+import com.tofumaker.cache.CachePolicyManager;
+import com.tofumaker.cache.CacheValueSizeMonitor;
+import com.tofumaker.cache.CacheWarmupEntry;
+import com.tofumaker.cache.CacheWarmupManifest;
+import com.tofumaker.cache.CacheWarmupRecorder;
+import com.tofumaker.cache.CountingRedisCacheWriter;
+import com.tofumaker.cache.HotKeyTracker;
+import com.tofumaker.cache.ShardedRedisCacheWriter;
+import com.tofumaker.cache.TwoLevelCache;
+import com.tofumaker.cache.TwoLevelCacheManager;
+import com.tofumaker.config.CacheGenerationProperties;
+import com.tofumaker.config.CacheProperties;
+import com.tofumaker.config.CacheSegmentProperties;
+import com.tofumaker.config.CacheTraceProperties;
+import com.tofumaker.config.CacheWarmupProperties;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.redis.connection.RedisServerCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 public class CacheService {
@@ -32,6 +76,62 @@ public class CacheService {
     @Autowired
     private MeterRegistry meterRegistry;
 
+    @Autowired
+    private CacheProperties cacheProperties;
+
+    @Autowired
+    private CacheGenerationProperties generationProperties;
+
+    @Autowired
+    private CacheSegmentProperties segmentProperties;
+
+    @Autowired
+    private CacheTraceProperties traceProperties;
+
+    @Autowired
+    private CacheWarmupProperties warmupProperties;
+
+    @Autowired(required = false)
+    private CountingRedisCacheWriter cacheWriter;
+
+    @Autowired(required = false)
+    private CacheKeyspaceReconciler keyspaceReconciler;
+
+    @Autowired(required = false)
+    private CacheBudgetManager budgetManager;
+
+    @Autowired(required = false)
+    private CacheGenerations cacheGenerations;
+
+    @Autowired(required = false)
+    private CacheAccessTraceRecorder traceRecorder;
+
+    @Autowired(required = false)
+    private CacheValueSizeMonitor valueSizeMonitor;
+
+    @Autowired(required = false)
+    private CachePolicyManager policyManager;
+
+    // 캐시별 적중/미스 카운터 (기동 시 등록, 조회 경로에서는 레지스트리를 거치지 않음)
+    private final Map<String, Counter> hitCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> missCounters = new ConcurrentHashMap<>();
+
+    @Autowired
+    private CacheWarmupManifest warmupManifest;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    // 워밍업 상태
+    private static final String WARMUP_PENDING = "PENDING";
+    private static final String WARMUP_RUNNING = "RUNNING";
+    private static final String WARMUP_COMPLETED = "COMPLETED";
+    private volatile String warmupState = WARMUP_PENDING;
+    private volatile Map<String, Object> lastWarmupResult;
+
+    // 마지막 통계 스냅샷 (조회 API는 이 값을 그대로 반환)
+    private volatile Map<String, Object> statisticsSnapshot;
+
     // 캐시 메트릭
     private final Counter cacheHitCounter;
     private final Counter cacheMissCounter;
@@ -52,6 +152,14 @@ public class CacheService {
                 .register(meterRegistry);
     }
 
+    @PostConstruct
+    public void registerCacheMeters() {
+        for (String cacheName : cacheManager.getCacheNames()) {
+            hitCounter(cacheName);
+            missCounter(cacheName);
+        }
+    }
+
     /**
      * 캐시에서 값 조회
      */
@@ -78,6 +186,28 @@ public class CacheService {
         }
     }
 
+    /**
+     * 캐시에서 값 조회, 미스 시 loader 결과를 저장
+     * 같은 키에 대한 동시 미스는 하나의 loader 실행으로 병합된다.
+     */
+    public <T> T get(String cacheName, String key, Callable<T> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            logger.warn("Cache not found: {}", cacheName);
+            try {
+                return loader.call();
+            } catch (Exception e) {
+                throw new IllegalStateException("Failed to load value for key: " + key, e);
+            }
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return cache.get(key, loader);
+        } finally {
+            sample.stop(cacheOperationTimer);
+        }
+    }
+
     /**
      * 캐시에 값 저장
      */
@@ -106,6 +236,100 @@ public class CacheService {
         });
     }
 
+    /**
+     * 여러 키를 한 번에 조회 (Redis MGET 1회)
+     *
+     * @return 캐시에 있는 키와 값만 담은 Map (요청 순서 유지)
+     */
+    public <T> Map<String, T> getAll(String cacheName, Collection<String> keys, Class<T> type) {
+        Map<String, T> result = new LinkedHashMap<>();
+        if (keys.isEmpty()) {
+            return result;
+        }
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            logger.warn("Cache not found: {}", cacheName);
+            return result;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            if (cache instanceof TwoLevelCache) {
+                ((TwoLevelCache) cache).getAll(keys).forEach((key, value) -> result.put((String) key, type.cast(value)));
+            } else {
+                for (String key : keys) {
+                    Cache.ValueWrapper wrapper = cache.get(key);
+                    if (wrapper != null && wrapper.get() != null) {
+                        result.put(key, type.cast(wrapper.get()));
+                    }
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Error getting cache values for {} keys in cache: {}", keys.size(), cacheName, e);
+        } finally {
+            sample.stop(cacheOperationTimer);
+        }
+        hitCounter(cacheName).increment(result.size());
+        missCounter(cacheName).increment(keys.size() - result.size());
+        return result;
+    }
+
+    /**
+     * 여러 값을 한 번에 저장 (Redis 파이프라인 1회, TTL은 캐시 설정을 따름)
+     */
+    public void putAll(String cacheName, Map<String, ?> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        cacheOperationTimer.record(() -> {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache instanceof TwoLevelCache) {
+                ((TwoLevelCache) cache).putAll(entries);
+            } else if (cache != null) {
+                entries.forEach(cache::put);
+            } else {
+                logger.warn("Cache not found: {}", cacheName);
+                return;
+            }
+            logger.debug("Cached {} values in cache: {}", entries.size(), cacheName);
+        });
+    }
+
+    /**
+     * 여러 키를 한 번에 삭제 (Redis 파이프라인 1회)
+     */
+    public void evictAll(String cacheName, Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        cacheOperationTimer.record(() -> {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache instanceof TwoLevelCache) {
+                ((TwoLevelCache) cache).evictAll(keys);
+            } else if (cache != null) {
+                keys.forEach(cache::evict);
+            }
+            logger.debug("Evicted {} keys from cache: {}", keys.size(), cacheName);
+        });
+    }
+
+    /**
+     * 태그에 의존하는 엔트리만 무효화
+     *
+     * @return 무효화한 키 개수 (태그 추적을 지원하지 않는 캐시는 전체 클리어 후 -1)
+     */
+    public int invalidateTags(String cacheName, Collection<String> tags) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            logger.warn("Cache not found: {}", cacheName);
+            return 0;
+        }
+        if (cache instanceof TwoLevelCache) {
+            return ((TwoLevelCache) cache).evictByTags(tags);
+        }
+        clear(cacheName);
+        return -1;
+    }
+
     /**
      * 전체 캐시 클리어
      */
@@ -133,37 +357,67 @@ public class CacheService {
     }
 
     /**
-     * 캐시 통계 정보 조회
+     * 캐시 통계 정보 조회 (주기적으로 갱신되는 스냅샷 반환)
      */
     public Map<String, Object> getCacheStatistics() {
+        Map<String, Object> snapshot = statisticsSnapshot;
+        if (snapshot == null) {
+            snapshot = refreshStatisticsSnapshot();
+        }
+        return snapshot;
+    }
+
+    /**
+     * 통계 스냅샷 갱신
+     * KEYS 대신 서버 측 카운터와 DBSIZE를 사용하고, 카운터 보정은 SCAN 예산 내에서 점진적으로 진행한다.
+     */
+    @Scheduled(fixedDelayString = "${cache.statistics-refresh-interval-ms:30000}")
+    public Map<String, Object> refreshStatisticsSnapshot() {
         Map<String, Object> stats = new HashMap<>();
-        
-        // Redis 정보 조회
+
         try {
-            Object info = redisTemplate.execute((org.springframework.data.redis.core.RedisCallback<Object>) connection -> connection.info("memory"));
-            if (info instanceof String) {
-                String memoryInfo = (String) info;
-                stats.put("redis_memory_info", parseRedisMemoryInfo(memoryInfo));
+            if (keyspaceReconciler != null) {
+                int scanned = keyspaceReconciler.step(cacheProperties.getStatisticsScanBudget());
+                stats.put("reconcile_scanned_keys", scanned);
+                stats.put("reconciled_at", keyspaceReconciler.getLastReconciledAt());
             }
-            
-            // 키 개수 조회
-            Set<String> keys = redisTemplate.keys("*");
-            stats.put("total_keys", keys != null ? keys.size() : 0);
-            
-            // 캐시별 키 개수
-            Map<String, Integer> cacheKeyCounts = new HashMap<>();
-            Collection<String> cacheNames = cacheManager.getCacheNames();
-            for (String cacheName : cacheNames) {
-                Set<String> cacheKeys = redisTemplate.keys(cacheName + "*");
-                cacheKeyCounts.put(cacheName, cacheKeys != null ? cacheKeys.size() : 0);
+
+            // Redis 정보 조회
+            Properties memoryInfo = redisTemplate.execute((RedisCallback<Properties>) connection -> connection.info("memory"));
+            if (memoryInfo != null) {
+                Map<String, String> info = new HashMap<>();
+                memoryInfo.stringPropertyNames().forEach(name -> info.put(name, memoryInfo.getProperty(name)));
+                stats.put("redis_memory_info", info);
+            }
+
+            // 키 개수 조회 (O(1))
+            Long totalKeys = redisTemplate.execute((RedisCallback<Long>) RedisServerCommands::dbSize);
+            stats.put("total_keys", totalKeys != null ? totalKeys : 0L);
+
+            // 캐시별 키 개수 및 바이트 (서버 측 카운터)
+            Map<String, Long> cacheKeyCounts = new HashMap<>();
+            Map<String, Long> cacheBytes = new HashMap<>();
+            if (cacheWriter != null) {
+                for (String cacheName : cacheManager.getCacheNames()) {
+                    Map<String, Long> counters = cacheWriter.readCounters(cacheName);
+                    cacheKeyCounts.put(cacheName, counters.get(CountingRedisCacheWriter.FIELD_KEYS));
+                    cacheBytes.put(cacheName, counters.get(CountingRedisCacheWriter.FIELD_BYTES));
+                }
             }
             stats.put("cache_key_counts", cacheKeyCounts);
-            
+            stats.put("cache_bytes", cacheBytes);
+            if (cacheGenerations != null && generationProperties.isEnabled()) {
+                // 세대 번호 기반 클리어에서는 이전 세대 키가 TTL 만료 전까지 키/바이트에 포함됨
+                stats.put("cache_generations", cacheGenerations.snapshot());
+            }
+
         } catch (Exception e) {
             logger.error("Error getting cache statistics", e);
             stats.put("error", e.getMessage());
         }
-        
+
+        stats.put("snapshot_at", System.currentTimeMillis());
+        statisticsSnapshot = stats;
         return stats;
     }
 
@@ -175,8 +429,8 @@ public class CacheService {
         
         Collection<String> cacheNames = cacheManager.getCacheNames();
         for (String cacheName : cacheNames) {
-            double hits = meterRegistry.counter("cache_hits_total", "cache", cacheName).count();
-            double misses = meterRegistry.counter("cache_misses_total", "cache", cacheName).count();
+            double hits = hitCounter(cacheName).count();
+            double misses = missCounter(cacheName).count();
             double total = hits + misses;
             
             if (total > 0) {
@@ -190,15 +444,406 @@ public class CacheService {
     }
 
     /**
-     * 캐시 워밍업 (자주 사용되는 데이터 미리 로드)
+     * 계층별(L1/L2) 적중 통계 조회
+     */
+    public Map<String, Map<String, Object>> getTierStatistics() {
+        Map<String, Map<String, Object>> tierStats = new HashMap<>();
+
+        Collection<String> cacheNames = cacheManager.getCacheNames();
+        for (String cacheName : cacheNames) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache instanceof TwoLevelCache) {
+                tierStats.put(cacheName, ((TwoLevelCache) cache).getTierStatistics());
+            }
+        }
+
+        return tierStats;
+    }
+
+    /**
+     * 캐시별 상위 접근 키/접두사 조회
+     */
+    public Map<String, Map<String, Object>> getHotKeys(String cacheName, int limit) {
+        Map<String, Map<String, Object>> hotKeys = new HashMap<>();
+
+        Collection<String> cacheNames = cacheName != null
+                ? Collections.singletonList(cacheName)
+                : cacheManager.getCacheNames();
+        for (String name : cacheNames) {
+            Cache cache = cacheManager.getCache(name);
+            if (!(cache instanceof TwoLevelCache) || ((TwoLevelCache) cache).getHotKeyTracker() == null) {
+                continue;
+            }
+            HotKeyTracker tracker = ((TwoLevelCache) cache).getHotKeyTracker();
+            Map<String, Object> entry = new HashMap<>();
+            entry.put("total_lookups", tracker.getTotal());
+            entry.put("top_keys", tracker.topKeys(limit));
+            entry.put("top_prefixes", tracker.topPrefixes(limit));
+            entry.put("top1_share", tracker.topShare(1));
+            entry.put("top10_share", tracker.topShare(10));
+            hotKeys.put(name, entry);
+        }
+
+        return hotKeys;
+    }
+
+    /**
+     * 샤드(Redis 노드)별 캐시 키 개수/바이트 조회
+     */
+    public Map<String, Object> getShardStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        if (!(cacheWriter instanceof ShardedRedisCacheWriter)) {
+            status.put("sharded", false);
+            return status;
+        }
+        ShardedRedisCacheWriter shardedWriter = (ShardedRedisCacheWriter) cacheWriter;
+        status.put("sharded", true);
+        status.put("virtual_nodes", shardedWriter.getRing().getVirtualNodes());
+
+        Map<String, Object> nodes = new LinkedHashMap<>();
+        for (Map.Entry<String, CountingRedisCacheWriter> node : shardedWriter.getRing().getNodes().entrySet()) {
+            Map<String, Object> caches = new LinkedHashMap<>();
+            for (String cacheName : cacheManager.getCacheNames()) {
+                if (shardedWriter.isSharded(cacheName)) {
+                    caches.put(cacheName, node.getValue().readCounters(cacheName));
+                }
+            }
+            nodes.put(node.getKey(), caches);
+        }
+        status.put("nodes", nodes);
+        return status;
+    }
+
+    /**
+     * 노드 하나를 추가했을 때 다른 노드로 옮겨 가는 키 비율 추정
+     */
+    public Map<String, Object> getShardRebalanceReport(String candidateNode, int sampleSize) {
+        if (!(cacheWriter instanceof ShardedRedisCacheWriter)) {
+            throw new IllegalStateException("Cache sharding is not enabled (cache.nodes is empty)");
+        }
+        return ((ShardedRedisCacheWriter) cacheWriter).rebalanceReport(candidateNode, sampleSize);
+    }
+
+    /**
+     * 예산이 설정된 캐시의 사용량 확인 및 초과분 제거 (쓰기 시 확인을 놓친 경우 대비)
      */
-    public void warmupCache() {
+    @Scheduled(fixedDelayString = "${cache.budget.enforce-interval-ms:5000}")
+    public void enforceBudgets() {
+        if (budgetManager != null) {
+            budgetManager.enforceAll(budgetManager.describe().keySet());
+        }
+    }
+
+    /**
+     * 캐시별 메모리 예산과 사용량 조회
+     */
+    public Map<String, Map<String, Object>> getBudgets() {
+        return budgetManager != null ? budgetManager.describe() : new LinkedHashMap<>();
+    }
+
+    /**
+     * 캐시 메모리 예산 변경 (다음 정리 주기부터 적용)
+     */
+    public Map<String, Object> updateBudget(String cacheName, CacheBudget budget) {
+        if (budgetManager == null) {
+            throw new IllegalStateException("Cache budgets are not enabled");
+        }
+        if (cacheManager.getCache(cacheName) == null) {
+            throw new IllegalArgumentException("Unknown cache: " + cacheName);
+        }
+        if (budget.getMaxBytes() < 0 || budget.getMaxEntryBytes() < 0) {
+            throw new IllegalArgumentException("Budget sizes must not be negative");
+        }
+        String eviction = budget.getEviction();
+        if (!CacheBudget.EVICTION_LRU.equalsIgnoreCase(eviction)
+                && !CacheBudget.EVICTION_LFU.equalsIgnoreCase(eviction)
+                && !CacheBudget.EVICTION_NONE.equalsIgnoreCase(eviction)) {
+            throw new IllegalArgumentException("Unknown eviction policy: " + eviction);
+        }
+        budgetManager.setBudget(cacheName, budget);
+        logger.info("Updated cache budget for {}: maxBytes={}, maxEntryBytes={}, eviction={}",
+                cacheName, budget.getMaxBytes(), budget.getMaxEntryBytes(), eviction);
+        return budgetManager.describe().get(cacheName);
+    }
+
+    /**
+     * 캐시/키 접두사별 값 크기 분포와 경고 임계값 초과 건수
+     */
+    public Map<String, Object> getValueSizes() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (valueSizeMonitor == null) {
+            return result;
+        }
+        result.put("warn_threshold_bytes", valueSizeMonitor.getWarnThreshold());
+        result.put("segment_threshold_bytes", segmentProperties.getThreshold().toBytes());
+        result.put("caches", valueSizeMonitor.describe());
+        return result;
+    }
+
+    /**
+     * 캐시 접근 기록 시작 (path, sampleRate가 없으면 설정값 사용)
+     */
+    public Map<String, Object> startTrace(String name, Double sampleRate) throws IOException {
+        if (traceRecorder == null) {
+            throw new IllegalStateException("Cache access tracing is not enabled");
+        }
+        double rate = sampleRate != null ? sampleRate : traceProperties.getSampleRate();
+        Path tracePath = resolveTracePath(traceProperties.getPath(), name);
+        if (!traceRecorder.start(tracePath, rate, traceProperties.getMaxSize().toBytes())) {
+            throw new IllegalStateException("Cache access trace is already recording");
+        }
+        return traceRecorder.describe();
+    }
+
+    /**
+     * 기록 파일 경로 - 이름이 없으면 설정 경로, 있으면 설정 경로의 디렉터리 안 파일만 허용 (기존 파일을 덮어쓰므로)
+     */
+    static Path resolveTracePath(String configuredPath, String name) {
+        Path configured = Paths.get(configuredPath).toAbsolutePath().normalize();
+        if (!StringUtils.hasText(name)) {
+            return configured;
+        }
+        Path directory = configured.getParent();
+        Path fileName = Paths.get(name).getFileName();
+        if (directory == null || fileName == null || !fileName.toString().equals(name) || name.startsWith(".")) {
+            throw new IllegalArgumentException("Trace file name must be a plain file name: " + name);
+        }
+        Path resolved = directory.resolve(fileName).normalize();
+        if (!directory.equals(resolved.getParent())) {
+            throw new IllegalArgumentException("Trace file must be inside " + directory + ": " + name);
+        }
+        return resolved;
+    }
+
+    /**
+     * 캐시 접근 기록 중지 (남은 기록을 파일에 쓴 뒤 반환)
+     */
+    public Map<String, Object> stopTrace() {
+        if (traceRecorder == null) {
+            throw new IllegalStateException("Cache access tracing is not enabled");
+        }
+        traceRecorder.stop();
+        return traceRecorder.describe();
+    }
+
+    public Map<String, Object> getTraceStatus() {
+        return traceRecorder != null ? traceRecorder.describe() : new LinkedHashMap<>();
+    }
+
+    /**
+     * 캐시별 현재 정책과 변경 전후 적중률/지연
+     */
+    public Map<String, Object> getPolicies() {
+        return policyManager != null ? policyManager.describeAll() : new LinkedHashMap<>();
+    }
+
+    public Map<String, Object> getPolicy(String cacheName) {
+        return requirePolicyManager().describe(cacheName);
+    }
+
+    /**
+     * 캐시 정책 변경 (이 노드는 즉시, 다른 노드는 다음 동기화 주기에 반영)
+     */
+    public Map<String, Object> updatePolicy(String cacheName, CachePolicy policy) {
+        return requirePolicyManager().update(cacheName, policy);
+    }
+
+    public Map<String, Object> resetPolicy(String cacheName) {
+        return requirePolicyManager().reset(cacheName);
+    }
+
+    /**
+     * 저장된 캐시 정책 재확인 (기동 직후 한 번, 이후 주기적으로)
+     */
+    @Scheduled(fixedDelayString = "${cache.policy.refresh-interval-ms:30000}")
+    public void refreshPolicies() {
+        if (policyManager == null) {
+            return;
+        }
+        try {
+            policyManager.reload();
+        } catch (Exception e) {
+            logger.warn("Failed to refresh cache policies: {}", e.getMessage());
+        }
+    }
+
+    private CachePolicyManager requirePolicyManager() {
+        if (policyManager == null) {
+            throw new IllegalStateException("Runtime cache policies are not enabled");
+        }
+        return policyManager;
+    }
+
+    /**
+     * 다른 노드가 올린 세대 번호 재확인 (클리어 메시지 유실 대비)
+     */
+    @Scheduled(fixedDelayString = "${cache.generation.refresh-interval-ms:30000}")
+    public void refreshGenerations() {
+        if (cacheGenerations == null || !generationProperties.isEnabled()) {
+            return;
+        }
+        try {
+            cacheGenerations.refreshAll();
+        } catch (Exception e) {
+            logger.warn("Failed to refresh cache generations: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 상위 접근 키 카운트 주기적 감쇠
+     */
+    @Scheduled(fixedDelayString = "${cache.hot-key-decay-interval-ms:60000}")
+    public void decayHotKeys() {
+        if (cacheManager instanceof TwoLevelCacheManager) {
+            ((TwoLevelCacheManager) cacheManager).decayHotKeys();
+        }
+        warmupManifest.decay();
+    }
+
+    /**
+     * 기동 완료 시 저장된 목록을 읽고 백그라운드로 워밍업 실행
+     * 워밍업이 끝나기 전까지 readiness는 NOT_READY를 반환한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmupOnStartup() {
+        Path manifestPath = warmupManifestPath();
+        if (manifestPath != null) {
+            try {
+                warmupManifest.load(manifestPath);
+            } catch (IOException e) {
+                logger.warn("Failed to load cache warmup manifest: {}", e.getMessage());
+            }
+        }
+        if (!warmupProperties.isOnStartup()) {
+            warmupState = WARMUP_COMPLETED;
+            return;
+        }
+        Thread thread = new Thread(this::warmupCache, "cache-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 캐시 워밍업 (자주 호출된 @Cacheable 로더를 동시 실행 수 제한 내에서 재실행)
+     */
+    public synchronized Map<String, Object> warmupCache() {
         logger.info("Starting cache warmup...");
-        
-        // 여기에 자주 사용되는 데이터를 미리 캐시에 로드하는 로직 구현
-        // 예: 설정 정보, 자주 조회되는 사용자 정보 등
-        
-        logger.info("Cache warmup completed");
+        warmupState = WARMUP_RUNNING;
+        long start = System.currentTimeMillis();
+
+        List<CacheWarmupEntry> entries = warmupManifest.top(warmupProperties.getMaxEntries());
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, warmupProperties.getConcurrency()));
+        boolean timedOut = false;
+        try {
+            for (CacheWarmupEntry entry : entries) {
+                executor.submit(() -> {
+                    try {
+                        if (replay(entry)) {
+                            succeeded.incrementAndGet();
+                        } else {
+                            skipped.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                        logger.debug("Cache warmup failed for {}.{}: {}",
+                                entry.getBeanType(), entry.getMethodName(), e.getMessage());
+                    }
+                });
+            }
+            executor.shutdown();
+            timedOut = !executor.awaitTermination(warmupProperties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            timedOut = true;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("entries", entries.size());
+        result.put("succeeded", succeeded.get());
+        result.put("failed", failed.get());
+        result.put("skipped", skipped.get());
+        result.put("timed_out", timedOut);
+        result.put("duration_ms", System.currentTimeMillis() - start);
+        lastWarmupResult = result;
+        // 실패/시간 초과여도 readiness를 막지 않도록 완료 처리
+        warmupState = WARMUP_COMPLETED;
+
+        logger.info("Cache warmup completed: {}", result);
+        return result;
+    }
+
+    public boolean isWarmupCompleted() {
+        return WARMUP_COMPLETED.equals(warmupState);
+    }
+
+    /**
+     * 워밍업 상태 및 마지막 실행 결과
+     */
+    public Map<String, Object> getWarmupStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("state", warmupState);
+        status.put("recorded_entries", warmupManifest.size());
+        status.put("last_result", lastWarmupResult);
+        return status;
+    }
+
+    /**
+     * 워밍업 목록 주기적 저장 (경로가 설정된 경우)
+     */
+    @Scheduled(fixedDelayString = "${cache.warmup.persist-interval-ms:300000}",
+            initialDelayString = "${cache.warmup.persist-interval-ms:300000}")
+    @PreDestroy
+    public void persistWarmupManifest() {
+        Path manifestPath = warmupManifestPath();
+        if (manifestPath == null) {
+            return;
+        }
+        try {
+            warmupManifest.save(manifestPath);
+        } catch (IOException e) {
+            logger.warn("Failed to save cache warmup manifest: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 목록의 로더 재실행 - @Cacheable이 아닌 메서드(수정/삭제 등)는 실행하지 않음
+     *
+     * @return 실행했으면 true, 건너뛰었으면 false
+     */
+    private boolean replay(CacheWarmupEntry entry) throws Exception {
+        ClassLoader classLoader = getClass().getClassLoader();
+        Class<?> beanType = ClassUtils.forName(entry.getBeanType(), classLoader);
+        Class<?>[] parameterTypes = new Class<?>[entry.getParameterTypes().size()];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            parameterTypes[i] = ClassUtils.forName(entry.getParameterTypes().get(i), classLoader);
+        }
+        Method method = beanType.getMethod(entry.getMethodName(), parameterTypes);
+        if (!AnnotatedElementUtils.hasAnnotation(method, Cacheable.class)) {
+            logger.warn("Skipping cache warmup entry {}.{}: not a @Cacheable method",
+                    entry.getBeanType(), entry.getMethodName());
+            return false;
+        }
+        Object bean = applicationContext.getBean(beanType);
+        Object[] args = warmupManifest.decodeArguments(entry, parameterTypes);
+
+        // 프록시를 통해 호출해야 @Cacheable이 적용된다
+        CacheWarmupRecorder.markReplaying(true);
+        try {
+            method.invoke(bean, args);
+        } finally {
+            CacheWarmupRecorder.markReplaying(false);
+        }
+        return true;
+    }
+
+    private Path warmupManifestPath() {
+        String path = warmupProperties.getManifestPath();
+        return StringUtils.hasText(path) ? Paths.get(path) : null;
     }
 
     /**
@@ -216,34 +861,24 @@ public class CacheService {
     }
 
     private void recordCacheHit(String cacheName) {
-        Counter.builder("cache_hits_total")
-                .description("Total number of cache hits")
-                .tag("cache", cacheName)
-                .register(meterRegistry)
-                .increment();
+        hitCounter(cacheName).increment();
     }
 
     private void recordCacheMiss(String cacheName) {
-        Counter.builder("cache_misses_total")
-                .description("Total number of cache misses")
-                .tag("cache", cacheName)
-                .register(meterRegistry)
-                .increment();
+        missCounter(cacheName).increment();
     }
 
-    private Map<String, String> parseRedisMemoryInfo(String memoryInfo) {
-        Map<String, String> info = new HashMap<>();
-        String[] lines = memoryInfo.split("\r\n");
-        
-        for (String line : lines) {
-            if (line.contains(":")) {
-                String[] parts = line.split(":");
-                if (parts.length == 2) {
-                    info.put(parts[0].trim(), parts[1].trim());
-                }
-            }
-        }
-        
-        return info;
+    private Counter hitCounter(String cacheName) {
+        return hitCounters.computeIfAbsent(cacheName, name -> Counter.builder("cache_hits_total")
+                .description("Total number of cache hits")
+                .tag("cache", name)
+                .register(meterRegistry));
+    }
+
+    private Counter missCounter(String cacheName) {
+        return missCounters.computeIfAbsent(cacheName, name -> Counter.builder("cache_misses_total")
+                .description("Total number of cache misses")
+                .tag("cache", name)
+                .register(meterRegistry));
     }
-} 
\ No newline at end of file
+}
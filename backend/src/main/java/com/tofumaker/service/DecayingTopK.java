@@ -0,0 +1,147 @@
+package com.tofumaker.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 시간 감쇠 점수 상위 항목 (forward decay, 메모리 상한 고정)
+ *
+ * 이벤트 가중치에 기준 시각(epoch)부터 지난 반감기 수만큼 2를 곱해 더한다: w * 2^((t - epoch) / halfLife).
+ * 저장된 점수를 주기적으로 줄이지 않아도 점수 순서가 곧 감쇠 점수 순서이고,
+ * 현재 감쇠 점수는 읽을 때 2^(-(now - epoch) / halfLife)를 곱해 구한다.
+ * 항목이 capacity의 2배를 넘으면 최소 힙으로 상위 capacity개만 남긴다 (버린 항목의 점수는 잃음).
+ */
+public class DecayingTopK {
+
+    private final int capacity;
+    private final long halfLifeMillis;
+    private final Map<Long, Double> scores = new HashMap<>();
+    private long epoch;
+
+    public DecayingTopK(int capacity, long halfLifeMillis, long epoch) {
+        if (capacity <= 0 || halfLifeMillis <= 0) {
+            throw new IllegalArgumentException("capacity and half-life must be positive");
+        }
+        this.capacity = capacity;
+        this.halfLifeMillis = halfLifeMillis;
+        this.epoch = epoch;
+    }
+
+    /**
+     * 시각 time에 일어난 가중치 weight 이벤트의 epoch 기준 점수
+     */
+    public double scaled(double weight, long time) {
+        return weight * Math.pow(2, (time - epoch) / (double) halfLifeMillis);
+    }
+
+    /**
+     * epoch 기준 점수를 시각 now의 감쇠 점수로 변환
+     */
+    public double decayed(double score, long now) {
+        return score * Math.pow(2, -(now - epoch) / (double) halfLifeMillis);
+    }
+
+    public synchronized void add(long id, double weight, long time) {
+        addScaled(id, scaled(weight, time));
+    }
+
+    /**
+     * epoch 기준 점수를 그대로 더함 (다른 노드/Redis에서 받은 점수)
+     */
+    public synchronized void addScaled(long id, double score) {
+        scores.merge(id, score, Double::sum);
+        if (scores.size() > capacity * 2) {
+            trim();
+        }
+    }
+
+    /**
+     * 전체 점수를 교체 (Redis의 합산 점수로 맞출 때)
+     */
+    public synchronized void replaceAll(Map<Long, Double> merged) {
+        scores.clear();
+        scores.putAll(merged);
+        if (scores.size() > capacity) {
+            trim();
+        }
+    }
+
+    public synchronized void remove(long id) {
+        scores.remove(id);
+    }
+
+    /**
+     * 기준 시각 이동 - 점수가 계속 커지지 않도록 주기적으로 호출, 순서는 바뀌지 않음
+     */
+    public synchronized void rebase(long newEpoch) {
+        double factor = Math.pow(2, -(newEpoch - epoch) / (double) halfLifeMillis);
+        scores.replaceAll((id, score) -> score * factor);
+        epoch = newEpoch;
+    }
+
+    public synchronized long getEpoch() {
+        return epoch;
+    }
+
+    public synchronized int size() {
+        return scores.size();
+    }
+
+    /**
+     * 점수 내림차순 상위 limit개 (epoch 기준 점수) - O(n log limit)
+     */
+    public synchronized List<Entry> top(int limit) {
+        if (limit <= 0 || scores.isEmpty()) {
+            return Collections.emptyList();
+        }
+        PriorityQueue<Entry> heap = select(Math.min(limit, scores.size()));
+        List<Entry> result = new ArrayList<>(heap);
+        result.sort(Comparator.comparingDouble(Entry::getScore).reversed());
+        return result;
+    }
+
+    private void trim() {
+        PriorityQueue<Entry> heap = select(capacity);
+        scores.clear();
+        for (Entry entry : heap) {
+            scores.put(entry.getId(), entry.getScore());
+        }
+    }
+
+    // 크기 k의 최소 힙으로 상위 k개 선택
+    private PriorityQueue<Entry> select(int k) {
+        PriorityQueue<Entry> heap = new PriorityQueue<>(k, Comparator.comparingDouble(Entry::getScore));
+        for (Map.Entry<Long, Double> score : scores.entrySet()) {
+            if (heap.size() < k) {
+                heap.add(new Entry(score.getKey(), score.getValue()));
+            } else if (score.getValue() > heap.peek().getScore()) {
+                heap.poll();
+                heap.add(new Entry(score.getKey(), score.getValue()));
+            }
+        }
+        return heap;
+    }
+
+    public static final class Entry {
+        private final long id;
+        private final double score;
+
+        public Entry(long id, double score) {
+            this.id = id;
+            this.score = score;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.tofumaker.service;
 
+import com.tofumaker.cache.CacheCircuitBreaker;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -8,11 +10,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
@@ -29,6 +34,10 @@ public class MetricsService {
     private final Timer databaseQueryTimer;
     private final Timer redisOperationTimer;
 
+    // Redis 캐시 회로 차단기 (선택)
+    @Autowired(required = false)
+    private CacheCircuitBreaker cacheCircuitBreaker;
+
     // 게이지 메트릭을 위한 AtomicInteger
     private final AtomicInteger activeUsers = new AtomicInteger(0);
     private final AtomicInteger databaseConnections = new AtomicInteger(0);
@@ -82,6 +91,40 @@ public class MetricsService {
                 .register(meterRegistry);
     }
 
+    // 캐시 회로 상태(0 닫힘, 1 반열림, 2 열림)와 Redis 우회 횟수
+    @PostConstruct
+    public void registerCacheCircuitMeters() {
+        if (cacheCircuitBreaker == null) {
+            return;
+        }
+        Gauge.builder("cache_circuit_state", cacheCircuitBreaker, MetricsService::circuitStateValue)
+                .description("Redis cache circuit state (0=closed, 1=half-open, 2=open)")
+                .register(meterRegistry);
+        Gauge.builder("cache_circuit_failure_rate", cacheCircuitBreaker, CacheCircuitBreaker::getFailureRate)
+                .description("Share of failed Redis cache calls in the circuit window")
+                .register(meterRegistry);
+        Gauge.builder("cache_circuit_slow_call_rate", cacheCircuitBreaker, CacheCircuitBreaker::getSlowCallRate)
+                .description("Share of slow Redis cache calls in the circuit window")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache_circuit_bypassed_total", cacheCircuitBreaker, CacheCircuitBreaker::getBypassedCount)
+                .description("Cache operations that skipped Redis while the circuit was open")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache_circuit_opened_total", cacheCircuitBreaker, CacheCircuitBreaker::getOpenedCount)
+                .description("Number of times the Redis cache circuit opened")
+                .register(meterRegistry);
+    }
+
+    // 캐시 회로 상태 조회
+    public Map<String, Object> getCacheCircuitStatus() {
+        if (cacheCircuitBreaker == null) {
+            Map<String, Object> status = new HashMap<>();
+            status.put("state", CacheCircuitBreaker.State.CLOSED.name());
+            status.put("enabled", false);
+            return status;
+        }
+        return cacheCircuitBreaker.describe();
+    }
+
     // 사용자 로그인 메트릭 증가
     public void incrementUserLogin() {
         userLoginCounter.increment();
@@ -186,6 +229,17 @@ public class MetricsService {
         return runtime.totalMemory() - runtime.freeMemory();
     }
 
+    private static double circuitStateValue(CacheCircuitBreaker circuitBreaker) {
+        switch (circuitBreaker.getState()) {
+            case OPEN:
+                return 2;
+            case HALF_OPEN:
+                return 1;
+            default:
+                return 0;
+        }
+    }
+
     // 함수형 인터페이스 정의
     @FunctionalInterface
     public interface DatabaseOperation<T> {
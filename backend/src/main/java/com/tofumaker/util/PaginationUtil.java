@@ -4,7 +4,9 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 
 /**
@@ -23,6 +25,10 @@ public class PaginationUtil {
         "id", "title", "author", "createdAt", "updatedAt", "viewCount"
     );
 
+    // 커서 토큰 형식 버전
+    private static final String CURSOR_VERSION = "v1";
+    private static final Base64.Encoder CURSOR_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
     /**
      * 안전한 Pageable 객체 생성
      * 
@@ -128,8 +134,109 @@ public class PaginationUtil {
         return new PageMetadata(page, size, totalElements, totalPages, hasNext, hasPrevious);
     }
 
+    /**
+     * 커서 기반 페이지 메타데이터 생성 (전체 개수는 세지 않음)
+     *
+     * @param size 페이지 크기
+     * @param nextCursor 다음 페이지 커서 (없으면 null)
+     * @param prevCursor 이전 페이지 커서 (없으면 null)
+     * @return 페이지 메타데이터
+     */
+    public static PageMetadata createCursorMetadata(int size, String nextCursor, String prevCursor) {
+        return new PageMetadata(size, nextCursor, prevCursor);
+    }
+
+    /**
+     * 개수 없는 페이지 메타데이터 생성 (다음 페이지 여부는 size+1행 조회로 판단)
+     *
+     * @param page 현재 페이지
+     * @param size 페이지 크기
+     * @param hasNext 다음 페이지 존재 여부
+     * @param estimatedTotal 추정 전체 요소 수 (모르면 음수)
+     * @return 페이지 메타데이터
+     */
+    public static PageMetadata createSliceMetadata(int page, int size, boolean hasNext, long estimatedTotal) {
+        if (estimatedTotal < 0) {
+            return new PageMetadata(page, size, -1, -1, hasNext, page > 0, TotalType.NONE);
+        }
+        int totalPages = (int) Math.ceil((double) estimatedTotal / size);
+        return new PageMetadata(page, size, estimatedTotal, totalPages, hasNext, page > 0, TotalType.ESTIMATED);
+    }
+
+    /**
+     * 커서를 불투명한 토큰으로 인코딩 (base64url)
+     *
+     * @param cursor 커서
+     * @return 커서 토큰
+     */
+    public static String encodeCursor(Cursor cursor) {
+        String raw = CURSOR_VERSION + "|" + cursor.getSort() + "|" + cursor.getDirection().name()
+                + "|" + (cursor.isForward() ? "f" : "b") + "|" + cursor.getValue() + "|" + cursor.getId();
+        return CURSOR_ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰 해석
+     *
+     * @param token 커서 토큰
+     * @return 커서
+     * @throws IllegalArgumentException 형식이 잘못된 토큰
+     */
+    public static Cursor decodeCursor(String token) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+        if (parts.length != 6 || !CURSOR_VERSION.equals(parts[0]) || !ALLOWED_SORT_FIELDS.contains(parts[1])) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+        try {
+            return new Cursor(parts[1], Sort.Direction.valueOf(parts[2]), "f".equals(parts[3]),
+                    parts[4], Long.parseLong(parts[5]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+
+    /**
+     * 키셋 페이징 커서 - 경계 행의 (정렬 값, id)와 이동 방향
+     */
+    public static class Cursor {
+        private final String sort;
+        private final Sort.Direction direction;
+        private final boolean forward;
+        private final String value;
+        private final long id;
+
+        public Cursor(String sort, Sort.Direction direction, boolean forward, String value, long id) {
+            this.sort = sort;
+            this.direction = direction;
+            this.forward = forward;
+            this.value = value;
+            this.id = id;
+        }
+
+        // Getters
+        public String getSort() { return sort; }
+        public Sort.Direction getDirection() { return direction; }
+        public boolean isForward() { return forward; }
+        public String getValue() { return value; }
+        public long getId() { return id; }
+    }
+
+    /**
+     * 전체 개수의 정확도 - COUNT 결과(EXACT), 통계/캐시된 개수(ESTIMATED), 세지 않음(NONE, -1)
+     */
+    public enum TotalType {
+        EXACT, ESTIMATED, NONE
+    }
+
     /**
      * 페이지 메타데이터 클래스
+     * 커서 기반 페이지는 전체 개수를 세지 않으므로 currentPage/totalElements/totalPages가 -1이다.
+     * 전체 개수가 정확하지 않은 페이지는 다음 페이지 여부를 hasNext로만 판단한다.
      */
     public static class PageMetadata {
         private final int currentPage;
@@ -138,15 +245,38 @@ public class PaginationUtil {
         private final int totalPages;
         private final boolean hasNext;
         private final boolean hasPrevious;
+        private final String nextCursor;
+        private final String prevCursor;
+        private final TotalType totalType;
 
         public PageMetadata(int currentPage, int pageSize, long totalElements, 
                           int totalPages, boolean hasNext, boolean hasPrevious) {
+            this(currentPage, pageSize, totalElements, totalPages, hasNext, hasPrevious, TotalType.EXACT);
+        }
+
+        public PageMetadata(int currentPage, int pageSize, long totalElements, int totalPages,
+                            boolean hasNext, boolean hasPrevious, TotalType totalType) {
             this.currentPage = currentPage;
             this.pageSize = pageSize;
             this.totalElements = totalElements;
             this.totalPages = totalPages;
             this.hasNext = hasNext;
             this.hasPrevious = hasPrevious;
+            this.nextCursor = null;
+            this.prevCursor = null;
+            this.totalType = totalType;
+        }
+
+        public PageMetadata(int pageSize, String nextCursor, String prevCursor) {
+            this.currentPage = -1;
+            this.pageSize = pageSize;
+            this.totalElements = -1;
+            this.totalPages = -1;
+            this.hasNext = nextCursor != null;
+            this.hasPrevious = prevCursor != null;
+            this.nextCursor = nextCursor;
+            this.prevCursor = prevCursor;
+            this.totalType = TotalType.NONE;
         }
 
         // Getters
@@ -156,7 +286,12 @@ public class PaginationUtil {
         public int getTotalPages() { return totalPages; }
         public boolean isHasNext() { return hasNext; }
         public boolean isHasPrevious() { return hasPrevious; }
-        public boolean isFirst() { return currentPage == 0; }
-        public boolean isLast() { return currentPage == totalPages - 1; }
+        public String getNextCursor() { return nextCursor; }
+        public String getPrevCursor() { return prevCursor; }
+        public TotalType getTotalType() { return totalType; }
+        public boolean isTotalExact() { return totalType == TotalType.EXACT; }
+        public boolean isCursorBased() { return currentPage < 0; }
+        public boolean isFirst() { return isCursorBased() ? !hasPrevious : currentPage == 0; }
+        public boolean isLast() { return isTotalExact() ? currentPage == totalPages - 1 : !hasNext; }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,8 @@
+-- V3__Add_board_seek_indexes.sql
+-- 게시글 키셋(커서) 페이징용 (정렬 값, id) 인덱스
+-- ddl-auto: validate 환경에서는 Hibernate가 만들지 않으므로 이 스크립트로 생성
+-- 운영 중인 PostgreSQL에는 잠금 없이 CREATE INDEX CONCURRENTLY로 따로 적용 (docs/performance-optimization.md)
+
+CREATE INDEX IF NOT EXISTS idx_board_created_at_id ON board(created_at, id);
+CREATE INDEX IF NOT EXISTS idx_board_active_created_at_id ON board(active, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_board_active_view_count_id ON board(active, view_count, id);
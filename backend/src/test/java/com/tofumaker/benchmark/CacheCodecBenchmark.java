@@ -0,0 +1,106 @@
+package com.tofumaker.benchmark;
+
+import com.tofumaker.cache.CacheSerializers;
+import com.tofumaker.entity.Board;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시 값 코덱 비교 (기존 JSON vs Smile + LZ4)
+ *
+ * 실행: mvn test-compile exec:java -Dexec.classpathScope=test
+ *       -Dexec.mainClass=com.tofumaker.benchmark.CacheCodecBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheCodecBenchmark {
+
+    // 1: board_{id}, 20: 목록 한 페이지, 500: all_boards
+    @Param({"1", "20", "500"})
+    private int boardCount;
+
+    private RedisSerializer<Object> json;
+    private RedisSerializer<Object> compact;
+    private Object value;
+    private byte[] jsonBytes;
+    private byte[] compactBytes;
+
+    @Setup
+    public void setUp() {
+        json = CacheSerializers.json();
+        compact = CacheSerializers.compact(1024);
+        value = sampleValue(boardCount);
+        jsonBytes = json.serialize(value);
+        compactBytes = compact.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] serializeJson() {
+        return json.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] serializeCompact() {
+        return compact.serialize(value);
+    }
+
+    @Benchmark
+    public Object deserializeJson() {
+        return json.deserialize(jsonBytes);
+    }
+
+    @Benchmark
+    public Object deserializeCompact() {
+        return compact.deserialize(compactBytes);
+    }
+
+    static Object sampleValue(int boardCount) {
+        List<Board> boards = new ArrayList<>();
+        for (long i = 1; i <= boardCount; i++) {
+            Board board = new Board("게시글 제목 " + i,
+                    "OpenStack VM 배포 후기입니다. 네트워크와 볼륨 설정을 정리했습니다. ".repeat(10) + i,
+                    "작성자" + (i % 50));
+            board.setId(i);
+            board.setViewCount(i * 7);
+            boards.add(board);
+        }
+        return boardCount == 1 ? boards.get(0) : boards;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        RedisSerializer<Object> json = CacheSerializers.json();
+        RedisSerializer<Object> compact = CacheSerializers.compact(1024);
+        System.out.println("boards\tjson bytes/entry\tcompact bytes/entry\tratio");
+        for (int boardCount : new int[]{1, 20, 500}) {
+            Object value = sampleValue(boardCount);
+            int jsonSize = json.serialize(value).length;
+            int compactSize = compact.serialize(value).length;
+            System.out.printf("%d\t%d\t%d\t%.2f%n", boardCount, jsonSize, compactSize, (double) compactSize / jsonSize);
+        }
+
+        new Runner(new OptionsBuilder()
+                .include(CacheCodecBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
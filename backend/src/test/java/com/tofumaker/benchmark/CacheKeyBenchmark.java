@@ -0,0 +1,118 @@
+package com.tofumaker.benchmark;
+
+import ch.qos.logback.classic.Level;
+import com.tofumaker.cache.CompactKeyGenerator;
+import com.tofumaker.service.BoardIdQueryService;
+import com.tofumaker.service.BoardService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시 키 생성 비교 (기존 SpEL 키 vs CompactKeyGenerator)
+ *
+ * SpEL 쪽은 Spring 캐시 인터셉터처럼 파싱된 식을 재사용하고 호출마다 평가 컨텍스트를 만들어 평가한다.
+ * 실행: mvn test-compile exec:java -Dexec.classpathScope=test
+ *       -Dexec.mainClass=com.tofumaker.benchmark.CacheKeyBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheKeyBenchmark {
+
+    // 변경 전 SpEL 키
+    static final String SPEL_BOARD = "'board_' + #id";
+    static final String SPEL_KEYWORD_PAGE = "'search_keyword_ids_' + #keyword + '_' + #pageable.pageNumber"
+            + " + '_' + #pageable.pageSize + '_' + #pageable.sort";
+
+    private final ParameterNameDiscoverer parameterNames = new DefaultParameterNameDiscoverer();
+    private final CompactKeyGenerator generator = new CompactKeyGenerator();
+
+    private Expression boardExpression;
+    private Expression keywordExpression;
+    private Method boardMethod;
+    private Method keywordMethod;
+    private Object[] boardArgs;
+    private Object[] keywordArgs;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        // 애플리케이션과 같은 INFO 레벨 (DEBUG면 키마다 읽기 쉬운 형태를 로그로 남김)
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(CompactKeyGenerator.class)).setLevel(Level.INFO);
+        SpelExpressionParser parser = new SpelExpressionParser();
+        boardExpression = parser.parseExpression(SPEL_BOARD);
+        keywordExpression = parser.parseExpression(SPEL_KEYWORD_PAGE);
+        boardMethod = BoardService.class.getMethod("getBoardById", Long.class);
+        keywordMethod = BoardIdQueryService.class.getMethod("searchIdsByKeyword", String.class, Pageable.class);
+        boardArgs = new Object[]{12345L};
+        keywordArgs = new Object[]{"openstack 네트워크", PageRequest.of(3, 20, Sort.by(Sort.Direction.DESC, "createdAt"))};
+    }
+
+    @Benchmark
+    public Object spelBoardKey() {
+        return boardExpression.getValue(new MethodBasedEvaluationContext(null, boardMethod, boardArgs, parameterNames));
+    }
+
+    @Benchmark
+    public Object compactBoardKey() {
+        return generator.generate(null, boardMethod, boardArgs);
+    }
+
+    @Benchmark
+    public Object spelKeywordPageKey() {
+        return keywordExpression.getValue(new MethodBasedEvaluationContext(null, keywordMethod, keywordArgs, parameterNames));
+    }
+
+    @Benchmark
+    public Object compactKeywordPageKey() {
+        return generator.generate(null, keywordMethod, keywordArgs);
+    }
+
+    public static void main(String[] args) throws Exception {
+        CacheKeyBenchmark benchmark = new CacheKeyBenchmark();
+        benchmark.setUp();
+        System.out.println("key\tspel\tcompact\tspel bytes\tcompact bytes");
+        print("board", benchmark.spelBoardKey(), benchmark.compactBoardKey());
+        print("keyword page", benchmark.spelKeywordPageKey(), benchmark.compactKeywordPageKey());
+
+        run();
+    }
+
+    private static void run() throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CacheKeyBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    private static void print(String name, Object spel, Object compact) {
+        System.out.printf("%s\t%s\t%s\t%d\t%d%n", name, spel, compact,
+                spel.toString().getBytes(StandardCharsets.UTF_8).length,
+                compact.toString().getBytes(StandardCharsets.UTF_8).length);
+    }
+}
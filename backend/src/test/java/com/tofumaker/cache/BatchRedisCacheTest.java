@@ -0,0 +1,119 @@
+package com.tofumaker.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class BatchRedisCacheTest {
+
+    private final RedisSerializer<Object> valueSerializer = CacheSerializers.compact(1024);
+    private CountingRedisCacheWriter writer;
+    private BatchRedisCache cache;
+
+    @BeforeEach
+    void setUp() {
+        writer = mock(CountingRedisCacheWriter.class);
+        RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(Duration.ofMinutes(10))
+                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer))
+                .disableCachingNullValues();
+        cache = new BatchRedisCache("api-responses", writer, config);
+    }
+
+    @Test
+    void getAll_ShouldIssueSingleMultiGetAndSkipMissingKeys() {
+        // Given
+        when(writer.getAll(eq("api-responses"), anyList()))
+                .thenReturn(Arrays.asList(valueSerializer.serialize("first"), null, valueSerializer.serialize("third")));
+
+        // When
+        Map<Object, Object> values = cache.getAll(Arrays.asList("board_1", "board_2", "board_3"));
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<byte[]>> keys = ArgumentCaptor.forClass(List.class);
+        verify(writer, times(1)).getAll(eq("api-responses"), keys.capture());
+        assertEquals("api-responses::board_1", new String(keys.getValue().get(0), StandardCharsets.UTF_8));
+        assertEquals(Arrays.asList("board_1", "board_3"), Arrays.asList(values.keySet().toArray()));
+        assertEquals("third", values.get("board_3"));
+    }
+
+    @Test
+    void putAll_ShouldWriteAllEntriesWithCacheTtl() {
+        // Given
+        Map<String, Object> entries = new LinkedHashMap<>();
+        entries.put("board_1", "first");
+        entries.put("board_2", null);
+
+        // When
+        cache.putAll(entries);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<byte[], byte[]>> written = ArgumentCaptor.forClass(Map.class);
+        verify(writer).putAll(eq("api-responses"), written.capture(), eq(Duration.ofMinutes(10)));
+        assertEquals(1, written.getValue().size());
+        Map.Entry<byte[], byte[]> entry = written.getValue().entrySet().iterator().next();
+        assertEquals("api-responses::board_1", new String(entry.getKey(), StandardCharsets.UTF_8));
+        assertEquals("first", valueSerializer.deserialize(entry.getValue()));
+    }
+
+    @Test
+    void put_WithTtlOverride_ShouldWriteWithOverriddenTtl() {
+        // Given
+        cache.setTtl(Duration.ofMinutes(2));
+
+        // When
+        cache.put("board_1", "first");
+        cache.putAll(Collections.singletonMap("board_2", "second"));
+
+        // Then
+        ArgumentCaptor<byte[]> key = ArgumentCaptor.forClass(byte[].class);
+        verify(writer).put(eq("api-responses"), key.capture(), any(byte[].class), eq(Duration.ofMinutes(2)));
+        verify(writer).putAll(eq("api-responses"), anyMap(), eq(Duration.ofMinutes(2)));
+        assertEquals("api-responses::board_1", new String(key.getValue(), StandardCharsets.UTF_8));
+        assertEquals(Duration.ofMinutes(2), cache.getTtl());
+
+        cache.setTtl(null);
+        assertEquals(Duration.ofMinutes(10), cache.getTtl());
+    }
+
+    @Test
+    void clear_WithGenerations_ShouldAdvanceGenerationInsteadOfScanning() {
+        // Given
+        CacheGenerations generations = mock(CacheGenerations.class);
+        when(generations.compute("api-responses")).thenReturn("api-responses::g4::");
+        RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
+                .computePrefixWith(generations)
+                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer));
+        BatchRedisCache generational = new BatchRedisCache("api-responses", writer, config, generations);
+
+        // When
+        generational.clear();
+        generational.evictAll(Arrays.asList("board_1"));
+
+        // Then
+        verify(generations).advance("api-responses");
+        verify(writer, never()).clean(anyString(), any());
+        verify(writer).removeAll(eq("api-responses"), argThat(keys ->
+                "api-responses::g4::board_1".equals(new String(keys.get(0), StandardCharsets.UTF_8))));
+    }
+}
@@ -0,0 +1,51 @@
+package com.tofumaker.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContain_ForInsertedIds_ShouldNeverReturnFalse() {
+        // Given
+        BloomFilter filter = BloomFilter.create(10000, 0.01);
+        for (long id = 1; id <= 10000; id++) {
+            filter.put(id);
+        }
+
+        // When & Then
+        for (long id = 1; id <= 10000; id++) {
+            assertTrue(filter.mightContain(id));
+        }
+    }
+
+    @Test
+    void mightContain_ForAbsentIds_ShouldStayNearTargetRate() {
+        // Given
+        BloomFilter filter = BloomFilter.create(10000, 0.01);
+        for (long id = 1; id <= 10000; id++) {
+            filter.put(id);
+        }
+
+        // When
+        int falsePositives = 0;
+        for (long id = 100001; id <= 200000; id++) {
+            if (filter.mightContain(id)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        double rate = falsePositives / 100000.0;
+        assertTrue(rate < 0.02, "false positive rate " + rate);
+        assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.005);
+        assertEquals(10000, filter.approximateElementCount(), 300);
+    }
+
+    @Test
+    void create_WithInvalidRate_ShouldThrow() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(100, 1.0));
+    }
+}
@@ -0,0 +1,69 @@
+package com.tofumaker.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheAccessTraceRecorderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void record_ShouldWriteAnonymizedLinesWithHeader() throws Exception {
+        // Given
+        Path trace = tempDir.resolve("trace.log");
+        CacheAccessTraceRecorder recorder = new CacheAccessTraceRecorder(1024, value -> value.toString().length());
+        assertTrue(recorder.start(trace, 1.0, 0));
+
+        // When
+        recorder.record("users", CacheAccessTraceRecorder.OP_GET, "user:alice@example.com", null,
+                CacheAccessTraceRecorder.RESULT_MISS);
+        recorder.record("users", CacheAccessTraceRecorder.OP_PUT, "user:alice@example.com", "profile",
+                CacheAccessTraceRecorder.RESULT_NONE);
+        recorder.record("users", CacheAccessTraceRecorder.OP_CLEAR, null, null, CacheAccessTraceRecorder.RESULT_NONE);
+        recorder.stop();
+
+        // Then
+        List<String> lines = Files.readAllLines(trace, StandardCharsets.UTF_8);
+        assertEquals(4, lines.size());
+        assertTrue(lines.get(0).startsWith(CacheAccessTraceRecorder.HEADER_PREFIX + " sample_rate=1.0"));
+        String[] miss = lines.get(1).split(",");
+        String[] put = lines.get(2).split(",");
+        assertEquals("get", miss[2]);
+        assertEquals(miss[3], put[3]);
+        assertEquals("7", put[4]);
+        assertEquals("clear", lines.get(3).split(",")[2]);
+        assertFalse(String.join("\n", lines).contains("alice"));
+    }
+
+    @Test
+    void record_WithSampleRate_ShouldKeepEveryAccessOfSampledKeys() throws Exception {
+        // Given
+        Path trace = tempDir.resolve("sampled.log");
+        CacheAccessTraceRecorder recorder = new CacheAccessTraceRecorder(100_000, value -> 0);
+        recorder.start(trace, 0.25, 0);
+
+        // When - 키마다 두 번씩 조회
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < 4000; i++) {
+                recorder.record("api-responses", CacheAccessTraceRecorder.OP_GET, "key-" + i, null,
+                        CacheAccessTraceRecorder.RESULT_MISS);
+            }
+        }
+        recorder.stop();
+
+        // Then
+        CachePolicySimulator.Trace parsed = CachePolicySimulator.Trace.read(trace);
+        assertEquals(0.25, parsed.getSampleRate(), 0.0001);
+        long records = (long) recorder.describe().get("records");
+        assertEquals(0, records % 2);
+        assertTrue(records > 1600 && records < 2400, "records=" + records);
+    }
+}
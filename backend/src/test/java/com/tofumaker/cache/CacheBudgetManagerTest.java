@@ -0,0 +1,156 @@
+package com.tofumaker.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CacheBudgetManagerTest {
+
+    private CountingRedisCacheWriter writer;
+    private RedisConnection connection;
+    private SimpleMeterRegistry meterRegistry;
+    private CacheBudgetManager budgetManager;
+
+    @BeforeEach
+    void setUp() {
+        writer = mock(CountingRedisCacheWriter.class);
+        connection = mock(RedisConnection.class);
+        RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+        when(connectionFactory.getConnection()).thenReturn(connection);
+        when(connection.stringCommands()).thenReturn(connection);
+        when(connection.keyCommands()).thenReturn(connection);
+        when(writer.getConnectionFactory()).thenReturn(connectionFactory);
+        when(writer.writersFor("api-responses")).thenReturn(Collections.singletonList(writer));
+
+        meterRegistry = new SimpleMeterRegistry();
+        Map<String, CacheBudget> budgets = new HashMap<>();
+        budgets.put("api-responses", new CacheBudget(500, 100, CacheBudget.EVICTION_LRU));
+        budgetManager = new CacheBudgetManager(writer, budgets, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        budgetManager.shutdown();
+    }
+
+    @Test
+    void admit_WhenValueExceedsEntryLimit_ShouldRefuseAndCount() {
+        // When
+        boolean small = budgetManager.admit("api-responses", 100);
+        boolean large = budgetManager.admit("api-responses", 101);
+        boolean unbudgeted = budgetManager.admit("users", 1_000_000);
+
+        // Then
+        assertTrue(small);
+        assertFalse(large);
+        assertTrue(unbudgeted);
+        assertEquals(1.0, meterRegistry.get("cache_budget_rejected_total")
+                .tag("cache", "api-responses").counter().count());
+    }
+
+    @Test
+    void enforce_WhenUnderBudget_ShouldOnlyRecordUsage() {
+        // Given
+        when(writer.readCounters("api-responses")).thenReturn(counters(300));
+
+        // When
+        long freed = budgetManager.enforce("api-responses");
+
+        // Then
+        assertEquals(0, freed);
+        verify(writer, never()).removeAll(anyString(), anyList());
+        Map<String, Object> status = budgetManager.describe().get("api-responses");
+        assertEquals(300L, status.get("used_bytes"));
+        assertEquals(0.6, (double) status.get("usage_ratio"), 0.0001);
+    }
+
+    @Test
+    void enforce_WhenOverBudget_ShouldEvictLeastRecentlyUsedHalfOfSample() {
+        // Given
+        when(writer.readCounters("api-responses")).thenReturn(counters(1000));
+        scanReturns("api-responses::k1", "api-responses::k2", "api-responses::k3", "api-responses::k4");
+        when(connection.closePipeline()).thenReturn(Arrays.asList(
+                200L, Duration.ofSeconds(10),
+                200L, Duration.ofSeconds(300),
+                200L, Duration.ofSeconds(50),
+                200L, Duration.ofSeconds(200)));
+        List<String> notified = new ArrayList<>();
+        budgetManager.setEvictionListener((name, keys) -> notified.addAll(keys));
+
+        // When
+        long freed = budgetManager.enforce("api-responses");
+
+        // Then
+        assertEquals(400, freed);
+        assertEquals(Arrays.asList("k2", "k4"), notified);
+        verify(writer).removeAll(eq("api-responses"), argThat(keys -> keys.size() == 2
+                && "api-responses::k2".equals(string(keys.get(0)))
+                && "api-responses::k4".equals(string(keys.get(1)))));
+        assertEquals(2.0, meterRegistry.get("cache_budget_evictions_total")
+                .tag("cache", "api-responses").counter().count());
+        assertEquals(600L, budgetManager.describe().get("api-responses").get("used_bytes"));
+    }
+
+    @Test
+    void enforce_WithLfuPolicy_ShouldEvictLeastFrequentKeysFirst() {
+        // Given
+        budgetManager.setBudget("api-responses", new CacheBudget(500, 0, CacheBudget.EVICTION_LFU));
+        HotKeyTracker tracker = new HotKeyTracker(16);
+        for (int i = 0; i < 5; i++) {
+            tracker.record("k1");
+        }
+        tracker.record("k2");
+        budgetManager.setHotKeyTrackers(name -> tracker);
+        when(writer.readCounters("api-responses")).thenReturn(counters(520));
+        scanReturns("api-responses::k1", "api-responses::k2");
+        when(connection.closePipeline()).thenReturn(Arrays.asList(
+                100L, Duration.ofSeconds(500),
+                100L, Duration.ofSeconds(1)));
+
+        // When
+        budgetManager.enforce("api-responses");
+
+        // Then
+        verify(writer).removeAll(eq("api-responses"), argThat(keys -> keys.size() == 1
+                && "api-responses::k2".equals(string(keys.get(0)))));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void scanReturns(String... keys) {
+        Iterator<String> iterator = Arrays.asList(keys).iterator();
+        Cursor<byte[]> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        when(cursor.next()).thenAnswer(invocation -> iterator.next().getBytes(StandardCharsets.UTF_8));
+        when(connection.scan(any(ScanOptions.class))).thenReturn(cursor);
+    }
+
+    private static Map<String, Long> counters(long bytes) {
+        Map<String, Long> counters = new HashMap<>();
+        counters.put(CountingRedisCacheWriter.FIELD_KEYS, 0L);
+        counters.put(CountingRedisCacheWriter.FIELD_BYTES, bytes);
+        return counters;
+    }
+
+    private static String string(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
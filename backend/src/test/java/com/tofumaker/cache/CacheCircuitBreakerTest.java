@@ -0,0 +1,121 @@
+package com.tofumaker.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheCircuitBreakerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final AtomicBoolean redisHealthy = new AtomicBoolean(false);
+    private final CacheCircuitBreaker circuitBreaker = new CacheCircuitBreaker(10, 4, 0.5, 0.8,
+            Duration.ofMillis(100), 2, Duration.ofMillis(20), redisHealthy::get);
+
+    @AfterEach
+    void tearDown() {
+        circuitBreaker.shutdown();
+    }
+
+    @Test
+    void recordFailure_WhenFailureRateReachesThreshold_ShouldOpen() {
+        // When
+        circuitBreaker.recordSuccess(FAST);
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordSuccess(FAST);
+        boolean allowedBeforeTrip = circuitBreaker.allowRequest();
+        circuitBreaker.recordFailure();
+
+        // Then
+        assertTrue(allowedBeforeTrip);
+        assertEquals(CacheCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.allowRequest());
+        assertEquals(1, circuitBreaker.getOpenedCount());
+    }
+
+    @Test
+    void recordSuccess_WhenMostCallsAreSlow_ShouldOpen() {
+        // When
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.recordSuccess(SLOW);
+        }
+
+        // Then
+        assertEquals(CacheCircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void recordFailure_BelowMinimumCalls_ShouldStayClosed() {
+        // When
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+
+        // Then
+        assertEquals(CacheCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void probe_WhenRedisRecovers_ShouldCloseAfterTrialCallsAndReportStaleCaches() throws InterruptedException {
+        // Given
+        Set<String> cleared = new HashSet<>();
+        circuitBreaker.setRecoveryListener(cleared::addAll);
+        tripOpen();
+        circuitBreaker.recordBypass("put");
+        circuitBreaker.markStale("api-responses");
+
+        // When
+        redisHealthy.set(true);
+        waitForState(CacheCircuitBreaker.State.HALF_OPEN);
+        boolean firstTrial = circuitBreaker.allowRequest();
+        circuitBreaker.recordSuccess(FAST);
+        boolean secondTrial = circuitBreaker.allowRequest();
+        circuitBreaker.recordSuccess(FAST);
+
+        // Then
+        assertTrue(firstTrial);
+        assertTrue(secondTrial);
+        assertEquals(CacheCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(Set.of("api-responses"), cleared);
+        assertEquals(1, circuitBreaker.getBypassedCount());
+    }
+
+    @Test
+    void recordFailure_DuringHalfOpen_ShouldReopen() throws InterruptedException {
+        // Given
+        tripOpen();
+        redisHealthy.set(true);
+        waitForState(CacheCircuitBreaker.State.HALF_OPEN);
+
+        // When
+        circuitBreaker.allowRequest();
+        circuitBreaker.recordFailure();
+
+        // Then
+        assertEquals(CacheCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(2, circuitBreaker.getOpenedCount());
+    }
+
+    private void tripOpen() {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.recordFailure();
+        }
+        assertEquals(CacheCircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    private void waitForState(CacheCircuitBreaker.State expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (circuitBreaker.getState() != expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, circuitBreaker.getState());
+    }
+}
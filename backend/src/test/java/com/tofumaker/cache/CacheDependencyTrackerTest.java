@@ -0,0 +1,51 @@
+package com.tofumaker.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheDependencyTrackerTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Test
+    void removeTagged_ShouldReadAndDeleteTagSetsInOneScript() {
+        // Given
+        CacheDependencyTracker tracker = new CacheDependencyTracker(redisTemplate);
+        when(redisTemplate.execute(eq(CacheDependencyTracker.REMOVE_TAGGED_SCRIPT), anyList()))
+                .thenReturn(Arrays.asList("board_1", "all_boards_0_10"));
+
+        // When
+        Set<String> keys = tracker.removeTagged("api-responses", Arrays.asList("board:1", "listings"));
+
+        // Then
+        assertEquals(new HashSet<>(Arrays.asList("board_1", "all_boards_0_10")), keys);
+        verify(redisTemplate).execute(CacheDependencyTracker.REMOVE_TAGGED_SCRIPT,
+                Arrays.asList("api-responses::tags::board:1", "api-responses::tags::listings"));
+        verify(redisTemplate, never()).opsForSet();
+        verify(redisTemplate, never()).delete(anyCollection());
+    }
+
+    @Test
+    void removeTagged_WithoutTags_ShouldNotCallRedis() {
+        // Given
+        CacheDependencyTracker tracker = new CacheDependencyTracker(redisTemplate);
+
+        // When & Then
+        assertTrue(tracker.removeTagged("api-responses", Collections.emptyList()).isEmpty());
+        verifyNoInteractions(redisTemplate);
+    }
+}
@@ -0,0 +1,90 @@
+package com.tofumaker.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CacheGenerationsTest {
+
+    private HashOperations<String, Object, Object> hashOperations;
+    private CacheGenerations generations;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        hashOperations = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        generations = new CacheGenerations(redisTemplate);
+    }
+
+    @Test
+    void compute_WithoutStoredGeneration_ShouldKeepLegacyPrefixAndCacheIt() {
+        // When
+        String first = generations.compute("users");
+        String second = generations.compute("users");
+
+        // Then
+        assertEquals("users::", first);
+        assertEquals("users::", second);
+        verify(hashOperations, times(1)).get(CacheGenerations.GENERATIONS_KEY, "users");
+    }
+
+    @Test
+    void advance_ShouldSwitchPrefixToNewGeneration() {
+        // Given
+        when(hashOperations.get(CacheGenerations.GENERATIONS_KEY, "api-responses")).thenReturn("2");
+        when(hashOperations.increment(CacheGenerations.GENERATIONS_KEY, "api-responses", 1)).thenReturn(3L);
+
+        // When
+        String before = generations.compute("api-responses");
+        long generation = generations.advance("api-responses");
+
+        // Then
+        assertEquals("api-responses::g2::", before);
+        assertEquals(3L, generation);
+        assertEquals("api-responses::g3::", generations.compute("api-responses"));
+        assertEquals("board_1", generations.localKey("api-responses", "api-responses::g3::board_1"));
+        assertNull(generations.localKey("api-responses", "api-responses::g2::board_1"));
+    }
+
+    @Test
+    void refreshAll_ShouldPickUpGenerationsAdvancedByOtherNodes() {
+        // Given
+        generations.compute("users");
+        Map<Object, Object> stored = new HashMap<>();
+        stored.put("users", "7");
+        when(hashOperations.entries(CacheGenerations.GENERATIONS_KEY)).thenReturn(stored);
+
+        // When
+        generations.refreshAll();
+
+        // Then
+        assertEquals("users::g7::", generations.compute("users"));
+        assertEquals(7L, generations.current("users"));
+    }
+
+    @Test
+    void compute_WhenRedisUnavailable_ShouldRetryOnNextCall() {
+        // Given
+        when(hashOperations.get(CacheGenerations.GENERATIONS_KEY, "users"))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenReturn("1");
+
+        // When
+        String failed = generations.compute("users");
+        String recovered = generations.compute("users");
+
+        // Then
+        assertEquals("users::", failed);
+        assertEquals("users::g1::", recovered);
+    }
+}
@@ -0,0 +1,96 @@
+package com.tofumaker.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CachePolicyManagerTest {
+
+    private HashOperations<String, Object, Object> hashOperations;
+    private TwoLevelCacheManager cacheManager;
+    private CachePolicyManager policyManager;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        hashOperations = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        cacheManager = new TwoLevelCacheManager(new ConcurrentMapCacheManager("api-responses"),
+                name -> new LocalCacheSpec(true, 100, Duration.ofMinutes(1)), null, new SimpleMeterRegistry());
+        policyManager = new CachePolicyManager(cacheManager, redisTemplate, 10);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void update_ShouldResizeLocalCachePersistAndMeasureBeforeAndAfter() {
+        // Given
+        TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache("api-responses");
+        cache.put("board_1", "value");
+        cache.get("board_1");
+        cache.get("board_2");
+
+        // When
+        Map<String, Object> result = policyManager.update("api-responses",
+                new CachePolicy(null, 500L, 30L, null, null));
+        cache.get("board_1");
+
+        // Then
+        assertEquals(500L, cache.currentPolicy().getLocalMaximumSize());
+        assertEquals(30L, cache.currentPolicy().getLocalExpireSeconds());
+        verify(hashOperations).put(CachePolicyManager.POLICIES_KEY, "api-responses",
+                "{\"localMaximumSize\":500,\"localExpireSeconds\":30}");
+
+        List<Map<String, Object>> changes = (List<Map<String, Object>>) result.get("changes");
+        assertEquals(1, changes.size());
+        Map<String, Object> beforeWindow = (Map<String, Object>) changes.get(0).get("before_window");
+        assertEquals(2L, beforeWindow.get("requests"));
+        assertEquals(50.0, beforeWindow.get("hit_rate"));
+        Map<String, Object> afterWindow = (Map<String, Object>) ((List<Map<String, Object>>)
+                policyManager.describe("api-responses").get("changes")).get(0).get("after_window");
+        assertEquals(1L, afterWindow.get("requests"));
+        assertEquals(100.0, afterWindow.get("hit_rate"));
+    }
+
+    @Test
+    void update_WithInvalidPolicy_ShouldRejectWithoutPersisting() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> policyManager.update("api-responses", new CachePolicy(null, null, null, true, 1.5)));
+        assertThrows(IllegalArgumentException.class,
+                () -> policyManager.update("unknown", new CachePolicy(null, 10L, null, null, null)));
+        verify(hashOperations, never()).put(anyString(), any(), any());
+    }
+
+    @Test
+    void reload_ShouldApplyStoredPolicyAndRestoreDefaultsWhenRemoved() {
+        // Given
+        Map<Object, Object> stored = new HashMap<>();
+        stored.put("api-responses", "{\"localMaximumSize\":20}");
+        when(hashOperations.entries(CachePolicyManager.POLICIES_KEY)).thenReturn(stored, Collections.emptyMap());
+        TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache("api-responses");
+
+        // When
+        policyManager.reload();
+        long reloaded = cache.currentPolicy().getLocalMaximumSize();
+        policyManager.reload();
+
+        // Then
+        assertEquals(20L, reloaded);
+        assertEquals(100L, cache.currentPolicy().getLocalMaximumSize());
+        assertNull(policyManager.describe("api-responses").get("override"));
+    }
+}
@@ -0,0 +1,114 @@
+package com.tofumaker.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachePolicySimulatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void simulate_WithFrequentKeysAndScan_ShouldFavorLfuOverLru() throws IOException {
+        // Given - 자주 쓰는 키 2개 사이에 한 번만 쓰는 키가 계속 끼어듦
+        List<String> lines = new ArrayList<>();
+        long ts = 1000;
+        for (int i = 0; i < 3; i++) {
+            lines.add(get(ts++, "hot-a"));
+            lines.add(get(ts++, "hot-b"));
+        }
+        for (int i = 0; i < 200; i++) {
+            lines.add(get(ts++, "hot-a"));
+            lines.add(get(ts++, "hot-b"));
+            lines.add(get(ts++, "scan-" + i));
+            lines.add(get(ts++, "scan-" + i + "-x"));
+        }
+        CachePolicySimulator.Trace trace = trace(lines);
+
+        // When
+        List<CachePolicySimulator.Result> results = CachePolicySimulator.simulate(trace, "api-responses",
+                Arrays.asList("lru", "lfu"), Collections.singletonList(null),
+                Collections.singletonList(CachePolicySimulator.Capacity.entries(2)));
+
+        // Then
+        CachePolicySimulator.Result lru = results.get(0);
+        CachePolicySimulator.Result lfu = results.get(1);
+        assertEquals(806, lru.getRequests());
+        assertTrue(lru.getHitRate() < 0.01, "lru hit rate " + lru.getHitRate());
+        assertTrue(lfu.getHitRate() > 0.49, "lfu hit rate " + lfu.getHitRate());
+    }
+
+    @Test
+    void simulate_WithTtl_ShouldExpireEntriesAndTrackFilledSizes() throws IOException {
+        // Given - 미스 후 로더가 채운 100바이트 값을 5초, 20초 뒤 다시 조회
+        CachePolicySimulator.Trace trace = trace(Arrays.asList(
+                get(0, "k1"),
+                "0,api-responses,put," + hash("k1") + ",100,-",
+                get(5_000, "k1"),
+                get(20_000, "k1")));
+
+        // When
+        List<CachePolicySimulator.Result> results = CachePolicySimulator.simulate(trace, null,
+                Arrays.asList("lru", "tinylfu"), Arrays.asList(Duration.ofSeconds(10), null),
+                Collections.singletonList(CachePolicySimulator.Capacity.parse("unbounded")));
+
+        // Then
+        for (CachePolicySimulator.Result result : results) {
+            double expected = result.getTtl() != null ? 1.0 / 3 : 2.0 / 3;
+            assertEquals(expected, result.getHitRate(), 0.0001, result.getPolicy() + " " + result.getTtl());
+            assertEquals(100, result.getPeakBytes());
+        }
+    }
+
+    @Test
+    void simulate_WithSampledTrace_ShouldScaleCapacityAndMemory() throws IOException {
+        // Given - 10% 표본 기록, 용량 20개면 재생 시 2개
+        List<String> lines = new ArrayList<>();
+        lines.add(CacheAccessTraceRecorder.HEADER_PREFIX + " sample_rate=0.1 started_at=0");
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 3; i++) {
+                lines.add("" + (round * 10 + i) + ",api-responses,get," + hash("k" + i) + ",10,miss");
+            }
+        }
+        Path path = tempDir.resolve("sampled.log");
+        Files.write(path, lines, StandardCharsets.UTF_8);
+
+        // When
+        CachePolicySimulator.Result result = CachePolicySimulator.simulate(CachePolicySimulator.Trace.read(path),
+                null, Collections.singletonList("lru"), Collections.singletonList(null),
+                Collections.singletonList(CachePolicySimulator.Capacity.parse("20"))).get(0);
+
+        // Then - 3개를 순환하면 2개짜리 LRU는 모두 미스, 메모리는 10배로 보고
+        assertEquals(0.0, result.getHitRate(), 0.0001);
+        assertEquals(200, result.getPeakBytes());
+    }
+
+    private CachePolicySimulator.Trace trace(List<String> lines) throws IOException {
+        List<String> content = new ArrayList<>();
+        content.add(CacheAccessTraceRecorder.HEADER_PREFIX + " sample_rate=1.0 started_at=0");
+        content.addAll(lines);
+        Path path = tempDir.resolve("trace.log");
+        Files.write(path, content, StandardCharsets.UTF_8);
+        return CachePolicySimulator.Trace.read(path);
+    }
+
+    private static String get(long ts, String key) {
+        return ts + ",api-responses,get," + hash(key) + ",0,miss";
+    }
+
+    private static String hash(String key) {
+        return Long.toHexString(key.hashCode() & 0xffffffffL);
+    }
+}
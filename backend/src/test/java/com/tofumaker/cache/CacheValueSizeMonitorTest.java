@@ -0,0 +1,61 @@
+package com.tofumaker.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheValueSizeMonitorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CacheValueSizeMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new CacheValueSizeMonitor(meterRegistry, 1000, Duration.ofMinutes(5), 2);
+    }
+
+    @Test
+    void record_ShouldGroupByKeyPrefixAcrossGenerations() {
+        // When
+        monitor.record("api-responses", "api-responses::board_1", 100);
+        monitor.record("api-responses", "api-responses::g3::board_2", 300);
+        monitor.record("api-responses", "api-responses::all_boards", 5000);
+
+        // Then
+        Map<String, Object> board = castMap(monitor.describe().get("api-responses").get("board"));
+        assertEquals(2L, board.get("count"));
+        assertEquals(200L, board.get("avg_bytes"));
+        assertEquals(300L, board.get("max_bytes"));
+        Map<String, Object> allBoards = castMap(monitor.describe().get("api-responses").get("all_boards"));
+        assertEquals(1L, allBoards.get("oversized"));
+        assertEquals(2, meterRegistry.get("cache_value_size_bytes").tag("cache", "api-responses")
+                .summaries().size());
+        assertEquals(1.0, meterRegistry.get("cache_value_oversized_total").tag("prefix", "all_boards")
+                .counter().count());
+    }
+
+    @Test
+    void record_WhenPrefixLimitReached_ShouldFoldIntoOther() {
+        // When
+        monitor.record("users", "users::user_1", 10);
+        monitor.record("users", "users::profile_1", 10);
+        monitor.record("users", "users::settings_1", 10);
+
+        // Then
+        Map<String, Object> prefixes = monitor.describe().get("users");
+        assertEquals(3, prefixes.size());
+        assertTrue(prefixes.containsKey(CacheValueSizeMonitor.OTHER_PREFIX));
+        assertFalse(prefixes.containsKey("settings"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> castMap(Object value) {
+        return (Map<String, Object>) value;
+    }
+}
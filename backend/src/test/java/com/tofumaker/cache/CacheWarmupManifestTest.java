@@ -0,0 +1,72 @@
+package com.tofumaker.cache;
+
+import com.tofumaker.service.BoardService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheWarmupManifestTest {
+
+    private static final Class<?>[] BY_ID = {Long.class};
+    private static final Class<?>[] BY_PAGE = {Pageable.class};
+
+    @Test
+    void record_WhenFull_ShouldEvictColdestEntry() {
+        // Given
+        CacheWarmupManifest manifest = new CacheWarmupManifest(2);
+        manifest.record("api-responses", BoardService.class, "getBoardById", BY_ID, new Object[]{1L});
+        manifest.record("api-responses", BoardService.class, "getBoardById", BY_ID, new Object[]{1L});
+        manifest.record("api-responses", BoardService.class, "getBoardById", BY_ID, new Object[]{2L});
+
+        // When
+        manifest.record("api-responses", BoardService.class, "getBoardById", BY_ID, new Object[]{3L});
+
+        // Then
+        List<CacheWarmupEntry> top = manifest.top(10);
+        assertEquals(2, top.size());
+        assertEquals(2L, top.get(0).getHits());
+        assertEquals(1L, ((Number) top.get(0).getArguments().get(0)).longValue());
+        assertEquals(3L, ((Number) top.get(1).getArguments().get(0)).longValue());
+    }
+
+    @Test
+    void record_WithUnsupportedArgument_ShouldSkip() {
+        // Given
+        CacheWarmupManifest manifest = new CacheWarmupManifest(10);
+
+        // When
+        manifest.record("api-responses", BoardService.class, "createBoard",
+                new Class<?>[]{Object.class}, new Object[]{new Object()});
+
+        // Then
+        assertEquals(0, manifest.size());
+    }
+
+    @Test
+    void saveAndLoad_ShouldRestoreReplayableArguments(@TempDir Path tempDir) throws Exception {
+        // Given
+        Pageable pageable = PageRequest.of(2, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+        CacheWarmupManifest manifest = new CacheWarmupManifest(10);
+        manifest.record("api-responses", BoardService.class, "getRecentBoards", BY_PAGE, new Object[]{pageable});
+        Path path = tempDir.resolve("warmup.json");
+
+        // When
+        manifest.save(path);
+        CacheWarmupManifest restored = new CacheWarmupManifest(10);
+        restored.load(path);
+
+        // Then
+        CacheWarmupEntry entry = restored.top(1).get(0);
+        assertEquals(BoardService.class.getName(), entry.getBeanType());
+        assertEquals("getRecentBoards", entry.getMethodName());
+        Object[] args = restored.decodeArguments(entry, BY_PAGE);
+        assertEquals(pageable, args[0]);
+    }
+}
@@ -0,0 +1,90 @@
+package com.tofumaker.cache;
+
+import com.tofumaker.entity.Board;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactKeyGeneratorTest {
+
+    private final CompactKeyGenerator generator = new CompactKeyGenerator();
+
+    @Test
+    void generate_WithIntegralArgs_ShouldKeepReadableDirectKey() throws Exception {
+        // When
+        Object byId = generator.generate(this, method("findById", Long.class), 42L);
+        Object all = generator.generate(this, method("findAll"));
+        Object update = generator.generate(this, method("update", Long.class, Board.class), 7L, new Board());
+
+        // Then
+        assertEquals("board_42", byId);
+        assertEquals("all_boards", all);
+        assertEquals("board_7", update);
+    }
+
+    @Test
+    void generate_WithPageable_ShouldProduceShortStableKeys() throws Exception {
+        // Given
+        Method search = method("search", String.class, Pageable.class);
+        Pageable byDate = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Pageable byViews = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "viewCount"));
+
+        // When
+        String first = (String) generator.generate(this, search, "openstack", byDate);
+        String again = (String) generator.generate(this, search, "openstack", PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt")));
+        String otherSort = (String) generator.generate(this, search, "openstack", byViews);
+        String longTerm = (String) generator.generate(this, search, "openstack neutron network volume".repeat(5), byDate);
+
+        // Then
+        assertTrue(first.startsWith("search_keyword#"));
+        assertEquals(first, again);
+        assertNotEquals(first, otherSort);
+        assertEquals("search_keyword#".length() + 22, longTerm.length());
+        assertEquals("search_keyword", HotKeyTracker.prefixOf(longTerm));
+    }
+
+    @Test
+    void generate_WithNullArgument_ShouldNotCollideWithStringNull() throws Exception {
+        // Given
+        Method byId = method("findById", Long.class);
+        Method search = method("search", String.class, Pageable.class);
+
+        // When
+        Object nullId = generator.generate(this, byId, (Object) null);
+        Object nullTerm = generator.generate(this, search, null, PageRequest.of(0, 10));
+        Object literalNull = generator.generate(this, search, "null", PageRequest.of(0, 10));
+
+        // Then
+        assertTrue(((String) nullId).startsWith("board#"));
+        assertNotEquals(nullTerm, literalNull);
+    }
+
+    private Method method(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return CompactKeyGeneratorTest.class.getDeclaredMethod(name, parameterTypes);
+    }
+
+    @CompactCacheKey("board")
+    Board findById(Long id) {
+        return null;
+    }
+
+    @CompactCacheKey("all_boards")
+    Board findAll() {
+        return null;
+    }
+
+    @CompactCacheKey(value = "board", args = 0)
+    Board update(Long id, Board details) {
+        return null;
+    }
+
+    @CompactCacheKey("search_keyword")
+    Board search(String keyword, Pageable pageable) {
+        return null;
+    }
+}
@@ -0,0 +1,95 @@
+package com.tofumaker.cache;
+
+import com.tofumaker.entity.Board;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactRedisSerializerTest {
+
+    private final CompactRedisSerializer serializer = CacheSerializers.compact(1024);
+
+    @Test
+    void roundTrip_SmallValue_ShouldNotCompress() {
+        // Given
+        Board board = board(1L, "짧은 내용");
+
+        // When
+        byte[] bytes = serializer.serialize(board);
+        Board restored = (Board) serializer.deserialize(bytes);
+
+        // Then
+        assertEquals(CompactRedisSerializer.MAGIC, bytes[0]);
+        assertEquals(0, bytes[2] & CompactRedisSerializer.FLAG_LZ4);
+        assertEquals(board.getTitle(), restored.getTitle());
+        assertEquals(board.getCreatedAt(), restored.getCreatedAt());
+    }
+
+    @Test
+    void roundTrip_RefreshAheadValue_ShouldKeepTimestampAndPayload() {
+        // Given
+        RefreshAheadValue value = new RefreshAheadValue(board(1L, "내용"), 1_000L, 600_000L);
+
+        // When
+        RefreshAheadValue restored = (RefreshAheadValue) serializer.deserialize(serializer.serialize(value));
+
+        // Then
+        assertEquals(1_000L, restored.getWrittenAt());
+        assertEquals(600_000L, restored.getTtlMillis());
+        assertEquals("내용", ((Board) restored.getValue()).getContent());
+    }
+
+    @Test
+    void roundTrip_LargeValue_ShouldCompressAndShrink() {
+        // Given
+        List<Board> boards = new ArrayList<>();
+        for (long i = 1; i <= 100; i++) {
+            boards.add(board(i, "반복되는 게시글 내용입니다. ".repeat(20)));
+        }
+        Jackson2JsonRedisSerializer<Object> json = CacheSerializers.json();
+
+        // When
+        byte[] bytes = serializer.serialize(boards);
+        @SuppressWarnings("unchecked")
+        List<Board> restored = (List<Board>) serializer.deserialize(bytes);
+
+        // Then
+        assertEquals(CompactRedisSerializer.FLAG_LZ4, bytes[2] & CompactRedisSerializer.FLAG_LZ4);
+        assertTrue(bytes.length < json.serialize(boards).length / 2);
+        assertEquals(100, restored.size());
+        assertEquals(boards.get(99).getContent(), restored.get(99).getContent());
+    }
+
+    @Test
+    void deserialize_LegacyJsonValue_ShouldFallBack() {
+        // Given
+        Board board = board(1L, "기존 JSON 값");
+        byte[] legacy = CacheSerializers.json().serialize(board);
+
+        // When
+        Board restored = (Board) serializer.deserialize(legacy);
+
+        // Then
+        assertEquals(board.getContent(), restored.getContent());
+    }
+
+    @Test
+    void deserialize_UnknownVersion_ShouldBeTreatedAsMiss() {
+        // Given
+        byte[] bytes = serializer.serialize(board(1L, "내용"));
+        bytes[1] = 99;
+
+        // When & Then
+        assertNull(serializer.deserialize(bytes));
+    }
+
+    private Board board(Long id, String content) {
+        Board board = new Board("제목 " + id, content, "작성자");
+        board.setId(id);
+        return board;
+    }
+}
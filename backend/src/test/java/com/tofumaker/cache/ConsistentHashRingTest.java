@@ -0,0 +1,70 @@
+package com.tofumaker.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsistentHashRingTest {
+
+    @Test
+    void nodeFor_ShouldSpreadKeysEvenly() {
+        // Given
+        ConsistentHashRing<String> ring = ring("redis-a:6379", "redis-b:6379", "redis-c:6379");
+
+        // When
+        Map<String, Object> report = ConsistentHashRing.rebalanceReport(ring, ring, keys(30000));
+
+        // Then
+        @SuppressWarnings("unchecked")
+        Map<String, Long> distribution = (Map<String, Long>) report.get("distribution_before");
+        for (long count : distribution.values()) {
+            assertEquals(10000, count, 1500);
+        }
+        assertEquals(0L, report.get("moved_keys"));
+    }
+
+    @Test
+    void withNode_ShouldOnlyMoveKeysToNewNode() {
+        // Given
+        ConsistentHashRing<String> before = ring("redis-a:6379", "redis-b:6379", "redis-c:6379");
+        ConsistentHashRing<String> after = before.withNode("redis-d:6379", "redis-d:6379");
+
+        // When
+        Map<String, Object> report = ConsistentHashRing.rebalanceReport(before, after, keys(20000));
+
+        // Then
+        double movedRatio = (Double) report.get("moved_ratio");
+        assertEquals(0.25, movedRatio, 0.05);
+        assertEquals(0.25, (Double) report.get("ideal_moved_ratio"), 1e-9);
+        for (String key : keys(2000)) {
+            String target = after.nodeIdFor(key);
+            assertTrue(target.equals(before.nodeIdFor(key)) || target.equals("redis-d:6379"));
+        }
+    }
+
+    @Test
+    void nodeIdFor_WithoutNodes_ShouldThrow() {
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> new ConsistentHashRing<String>(16).nodeIdFor("board_1"));
+    }
+
+    private ConsistentHashRing<String> ring(String... nodes) {
+        ConsistentHashRing<String> ring = new ConsistentHashRing<>(160);
+        for (String node : nodes) {
+            ring.add(node, node);
+        }
+        return ring;
+    }
+
+    private List<String> keys(int count) {
+        List<String> keys = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            keys.add("api-responses::board_" + i);
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,207 @@
+package com.tofumaker.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CountingRedisCacheWriterTest {
+
+    private RedisConnection connection;
+    private CountingRedisCacheWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+        connection = mock(RedisConnection.class);
+        when(connectionFactory.getConnection()).thenReturn(connection);
+        writer = new CountingRedisCacheWriter(connectionFactory);
+    }
+
+    @Test
+    void put_ShouldUpdateValueAndCountersInOneScript() {
+        // Given
+        byte[] key = bytes("api-responses::popular_boards");
+        byte[] value = bytes("value");
+
+        // When
+        writer.put("api-responses", key, value, Duration.ofMinutes(10));
+
+        // Then
+        verify(connection).evalSha(anyString(), eq(ReturnType.INTEGER), eq(2),
+                eq(key), eq(bytes("cache:stats:api-responses")), eq(value), eq(bytes("600000")), eq(bytes("0")));
+        verify(connection, never()).set(any(byte[].class), any(byte[].class));
+        verify(connection).close();
+    }
+
+    @Test
+    void put_WhenValueExceedsBudgetEntryLimit_ShouldNotWrite() {
+        // Given
+        CacheBudgetManager budgetManager = mock(CacheBudgetManager.class);
+        when(budgetManager.admit("api-responses", 5)).thenReturn(false);
+        writer.setBudgetManager(budgetManager);
+
+        // When
+        writer.put("api-responses", bytes("api-responses::large"), bytes("value"), Duration.ofMinutes(10));
+
+        // Then
+        verify(connection, never()).evalSha(anyString(), any(ReturnType.class), anyInt(), any());
+        verify(budgetManager, never()).onWrite(anyString(), anyLong());
+    }
+
+    @Test
+    void put_ShouldReportCacheBytesToBudgetManager() {
+        // Given
+        CacheBudgetManager budgetManager = mock(CacheBudgetManager.class);
+        when(budgetManager.admit(anyString(), anyLong())).thenReturn(true);
+        when(connection.evalSha(anyString(), any(ReturnType.class), anyInt(), any(), any(), any(), any(), any()))
+                .thenReturn(1234L);
+        writer.setBudgetManager(budgetManager);
+
+        // When
+        writer.put("api-responses", bytes("api-responses::k"), bytes("value"), Duration.ofMinutes(10));
+
+        // Then
+        verify(budgetManager).onWrite("api-responses", 1234L);
+    }
+
+    @Test
+    void put_WithWriteFence_ShouldCheckFenceAndWriteInOneScript() {
+        // Given
+        byte[] key = bytes("api-responses::popular_boards");
+        byte[] value = bytes("value");
+        when(connection.evalSha(anyString(), any(ReturnType.class), anyInt(),
+                any(), any(), any(), any(), any(), any(), any(), any())).thenReturn(5L);
+
+        // When
+        try (CacheWriteFence fence = CacheWriteFence.open(7, Duration.ofSeconds(20))) {
+            writer.put("api-responses", key, value, Duration.ofMinutes(10));
+
+            // Then
+            assertFalse(fence.isRejected());
+        }
+        verify(connection).evalSha(anyString(), eq(ReturnType.INTEGER), eq(3),
+                eq(key), eq(bytes("cache:stats:api-responses")), eq(bytes("api-responses::popular_boards:fence")),
+                eq(value), eq(bytes("600000")), eq(bytes("0")), eq(bytes("7")), eq(bytes("600000")));
+        assertNull(CacheWriteFence.current());
+    }
+
+    @Test
+    void put_WhenLaterFenceAlreadyWrote_ShouldMarkRejected() {
+        // Given - 스크립트가 nil 반환 (더 큰 펜스가 먼저 씀)
+        CacheBudgetManager budgetManager = mock(CacheBudgetManager.class);
+        when(budgetManager.admit(anyString(), anyLong())).thenReturn(true);
+        writer.setBudgetManager(budgetManager);
+
+        // When
+        try (CacheWriteFence fence = CacheWriteFence.open(3, Duration.ofSeconds(20))) {
+            writer.put("api-responses", bytes("api-responses::popular_boards"), bytes("late"), Duration.ofMinutes(10));
+
+            // Then
+            assertTrue(fence.isRejected());
+        }
+        verify(budgetManager, never()).onWrite(anyString(), anyLong());
+    }
+
+    @Test
+    void put_WhenValueExceedsSegmentThreshold_ShouldWriteSegmentsBeforeManifest() {
+        // Given
+        writer.setSegmentation(4, 4);
+        when(connection.stringCommands()).thenReturn(connection);
+        byte[] key = bytes("api-responses::all_boards");
+
+        // When
+        writer.put("api-responses", key, bytes("0123456789"), Duration.ofMinutes(10));
+
+        // Then
+        verify(connection).set(argThat(segmentKey -> string(segmentKey).endsWith(":2")), eq(bytes("89")),
+                any(Expiration.class), any(RedisStringCommands.SetOption.class));
+        verify(connection, times(3)).set(any(byte[].class), any(byte[].class),
+                any(Expiration.class), any(RedisStringCommands.SetOption.class));
+        verify(connection).evalSha(anyString(), eq(ReturnType.INTEGER), eq(2), eq(key),
+                eq(bytes("cache:stats:api-responses")),
+                argThat(manifest -> string(manifest).matches("~seg~api-responses::seg::[0-9a-f]+:\\|3\\|10")),
+                eq(bytes("600000")), eq(bytes("10")));
+    }
+
+    @Test
+    void get_WhenValueIsManifest_ShouldAssembleSegments() {
+        // Given
+        byte[] key = bytes("api-responses::all_boards");
+        when(connection.stringCommands()).thenReturn(connection);
+        when(connection.get(key)).thenReturn(bytes("~seg~api-responses::seg::ab:|3|10"));
+        when(connection.closePipeline()).thenReturn(Arrays.asList(bytes("0123"), bytes("4567"), bytes("89")));
+
+        // When
+        byte[] value = writer.get("api-responses", key);
+
+        // Then
+        assertEquals("0123456789", string(value));
+        verify(connection).get(bytes("api-responses::seg::ab:2"));
+    }
+
+    @Test
+    void get_WhenSegmentExpired_ShouldReturnMiss() {
+        // Given
+        byte[] key = bytes("api-responses::all_boards");
+        when(connection.stringCommands()).thenReturn(connection);
+        when(connection.get(key)).thenReturn(bytes("~seg~api-responses::seg::ab:|2|8"));
+        when(connection.closePipeline()).thenReturn(Arrays.asList(bytes("0123"), null));
+
+        // When
+        byte[] value = writer.get("api-responses", key);
+
+        // Then
+        assertNull(value);
+    }
+
+    @Test
+    void remove_WhenScriptNotLoaded_ShouldFallBackToEval() {
+        // Given
+        byte[] key = bytes("users::1");
+        when(connection.evalSha(anyString(), any(ReturnType.class), anyInt(), any(), any()))
+                .thenThrow(new InvalidDataAccessApiUsageException("NOSCRIPT No matching script"));
+
+        // When
+        writer.remove("users", key);
+
+        // Then
+        verify(connection).eval(any(byte[].class), eq(ReturnType.INTEGER), eq(2),
+                eq(key), eq(bytes("cache:stats:users")));
+    }
+
+    @Test
+    void readCounters_WhenHashMissing_ShouldReturnZeros() {
+        // Given
+        when(connection.hGetAll(bytes("cache:stats:statistics"))).thenReturn(new HashMap<>());
+
+        // When
+        Map<String, Long> counters = writer.readCounters("statistics");
+
+        // Then
+        assertEquals(0L, counters.get(CountingRedisCacheWriter.FIELD_KEYS));
+        assertEquals(0L, counters.get(CountingRedisCacheWriter.FIELD_BYTES));
+    }
+
+    private static String string(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,71 @@
+package com.tofumaker.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotKeyTrackerTest {
+
+    @Test
+    void record_WithSkewedTraffic_ShouldKeepHotKeysWithinCapacity() {
+        // Given
+        HotKeyTracker tracker = new HotKeyTracker(8);
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            tracker.record("board_1");
+            if (i % 2 == 0) {
+                tracker.record("popular_boards");
+            }
+            tracker.record("board_" + (100 + i)); // 롱테일
+        }
+
+        // Then
+        List<Map<String, Object>> top = tracker.topKeys(2);
+        assertEquals("board_1", top.get(0).get("key"));
+        assertEquals("popular_boards", top.get(1).get("key"));
+        assertTrue((Long) top.get(0).get("count") >= 1000);
+        assertEquals(8, tracker.topKeys(100).size());
+        assertEquals(2500, tracker.getTotal());
+    }
+
+    @Test
+    void record_ShouldAggregateByPrefix() {
+        // Given
+        HotKeyTracker tracker = new HotKeyTracker(16);
+
+        // When
+        tracker.record("board_1");
+        tracker.record("board_2");
+        tracker.record("all_boards_0_10_createdAt_desc");
+
+        // Then
+        Map<String, Object> topPrefix = tracker.topPrefixes(1).get(0);
+        assertEquals("board", topPrefix.get("key"));
+        assertEquals(2L, topPrefix.get("count"));
+        assertEquals("all_boards", HotKeyTracker.prefixOf("all_boards_0_10_createdAt_desc"));
+        assertEquals("recent_boards", HotKeyTracker.prefixOf("recent_boards"));
+    }
+
+    @Test
+    void decay_ShouldHalveCountsAndDropColdKeys() {
+        // Given
+        HotKeyTracker tracker = new HotKeyTracker(16);
+        for (int i = 0; i < 4; i++) {
+            tracker.record("board_1");
+        }
+        tracker.record("board_2");
+
+        // When
+        tracker.decay();
+
+        // Then
+        List<Map<String, Object>> top = tracker.topKeys(10);
+        assertEquals(1, top.size());
+        assertEquals(2L, top.get(0).get("count"));
+        assertEquals(1.0, tracker.topShare(1), 0.0001);
+    }
+}
@@ -0,0 +1,110 @@
+package com.tofumaker.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ShardedRedisCacheWriterTest {
+
+    private CountingRedisCacheWriter primary;
+    private CountingRedisCacheWriter nodeA;
+    private CountingRedisCacheWriter nodeB;
+    private ConsistentHashRing<CountingRedisCacheWriter> ring;
+    private ShardedRedisCacheWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        primary = mock(CountingRedisCacheWriter.class);
+        nodeA = mock(CountingRedisCacheWriter.class);
+        nodeB = mock(CountingRedisCacheWriter.class);
+        ring = new ConsistentHashRing<>(64);
+        ring.add("a", nodeA);
+        ring.add("b", nodeB);
+        writer = new ShardedRedisCacheWriter(primary, ring, Collections.singletonList("api-responses"));
+    }
+
+    @Test
+    void put_ShouldRouteShardedCacheByKeyAndOthersToPrimary() {
+        // Given
+        byte[] key = bytes("api-responses::board_1");
+        byte[] value = bytes("v");
+
+        // When
+        writer.put("api-responses", key, value, Duration.ofMinutes(1));
+        writer.put("users", bytes("users::1"), value, Duration.ofMinutes(1));
+
+        // Then
+        CountingRedisCacheWriter owner = ring.nodeFor("api-responses::board_1");
+        verify(owner).put("api-responses", key, value, Duration.ofMinutes(1));
+        verify(primary).put(eq("users"), any(), eq(value), eq(Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void getAll_ShouldQueryEachNodeOnceAndKeepOrder() {
+        // Given
+        String firstA = keyOwnedBy("a", 0);
+        String firstB = keyOwnedBy("b", 0);
+        String secondA = keyOwnedBy("a", 1);
+        when(nodeA.getAll(eq("api-responses"), anyList()))
+                .thenReturn(Arrays.asList(bytes("A1"), null));
+        when(nodeB.getAll(eq("api-responses"), anyList()))
+                .thenReturn(Collections.singletonList(bytes("B1")));
+
+        // When
+        List<byte[]> values = writer.getAll("api-responses",
+                Arrays.asList(bytes(firstA), bytes(firstB), bytes(secondA)));
+
+        // Then
+        assertEquals("A1", new String(values.get(0), StandardCharsets.UTF_8));
+        assertEquals("B1", new String(values.get(1), StandardCharsets.UTF_8));
+        assertNull(values.get(2));
+        verify(nodeA, times(1)).getAll(eq("api-responses"), anyList());
+        verify(nodeB, times(1)).getAll(eq("api-responses"), anyList());
+    }
+
+    @Test
+    void readCounters_ShouldSumAcrossNodes() {
+        // Given
+        when(nodeA.readCounters("api-responses")).thenReturn(counters(3, 300));
+        when(nodeB.readCounters("api-responses")).thenReturn(counters(2, 50));
+
+        // When
+        Map<String, Long> total = writer.readCounters("api-responses");
+
+        // Then
+        assertEquals(5L, total.get(CountingRedisCacheWriter.FIELD_KEYS));
+        assertEquals(350L, total.get(CountingRedisCacheWriter.FIELD_BYTES));
+    }
+
+    private String keyOwnedBy(String nodeId, int skip) {
+        int found = 0;
+        for (int i = 0; ; i++) {
+            String key = "api-responses::board_" + i;
+            if (ring.nodeIdFor(key).equals(nodeId) && found++ == skip) {
+                return key;
+            }
+        }
+    }
+
+    private Map<String, Long> counters(long keys, long bytes) {
+        Map<String, Long> counters = new HashMap<>();
+        counters.put(CountingRedisCacheWriter.FIELD_KEYS, keys);
+        counters.put(CountingRedisCacheWriter.FIELD_BYTES, bytes);
+        return counters;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,89 @@
+package com.tofumaker.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    @Test
+    void execute_WithConcurrentCallers_ShouldRunLoaderOnce() throws Exception {
+        // Given
+        SingleFlight singleFlight = new SingleFlight("api-responses", Duration.ofSeconds(5), new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("popular_boards", () -> {
+                loads.incrementAndGet();
+                release.await();
+                return "boards";
+            })));
+        }
+        while (singleFlight.getFollowerCount() < 7) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        // Then
+        for (Future<String> result : results) {
+            assertEquals("boards", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, singleFlight.getLeaderCount());
+        assertEquals(7, singleFlight.getFollowerCount());
+        assertEquals(0, singleFlight.getInFlightCount());
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_WhenLeaderIsSlow_ShouldFallThroughAfterTimeout() throws Exception {
+        // Given
+        SingleFlight singleFlight = new SingleFlight("api-responses", Duration.ofMillis(50), new SimpleMeterRegistry());
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> leader = executor.submit(() -> singleFlight.execute("statistics", () -> {
+            leaderStarted.countDown();
+            release.await();
+            return "leader";
+        }));
+        leaderStarted.await();
+
+        // When
+        String follower = singleFlight.execute("statistics", () -> "follower");
+
+        // Then
+        assertEquals("follower", follower);
+        assertEquals(1, singleFlight.getTimeoutCount());
+        release.countDown();
+        assertEquals("leader", leader.get(5, TimeUnit.SECONDS));
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_WhenLeaderFails_ShouldPropagateToFollowers() throws Exception {
+        // Given
+        SingleFlight singleFlight = new SingleFlight("api-responses", Duration.ofSeconds(5), new SimpleMeterRegistry());
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("board_1", () -> {
+            throw new IllegalStateException("db down");
+        }));
+        assertEquals(0, singleFlight.getInFlightCount());
+    }
+}
@@ -0,0 +1,451 @@
+package com.tofumaker.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheTest {
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    @Mock
+    private CacheDependencyTracker dependencyTracker;
+
+    private ConcurrentMapCache remoteCache;
+    private com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remoteCache = new ConcurrentMapCache("api-responses", false);
+        localCache = Caffeine.newBuilder().maximumSize(100).build();
+        cache = new TwoLevelCache("api-responses", localCache, remoteCache, invalidationBus,
+                null, null, null, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void get_WhenOnlyInRemote_ShouldPromoteToLocal() {
+        // Given
+        remoteCache.put("board_1", "value");
+
+        // When
+        Object first = cache.get("board_1").get();
+        Object second = cache.get("board_1").get();
+
+        // Then
+        assertEquals("value", first);
+        assertEquals("value", second);
+        assertEquals("value", localCache.getIfPresent("board_1"));
+        Map<String, Object> stats = cache.getTierStatistics();
+        assertEquals(1L, stats.get("l1_hits"));
+        assertEquals(1L, stats.get("l2_hits"));
+        assertEquals(0L, stats.get("misses"));
+    }
+
+    @Test
+    void get_WhenMissingEverywhere_ShouldCountMiss() {
+        // When
+        assertNull(cache.get("board_404"));
+
+        // Then
+        assertEquals(1L, cache.getTierStatistics().get("misses"));
+    }
+
+    @Test
+    void put_ShouldWriteBothTiersAndPublishInvalidation() {
+        // When
+        cache.put("board_1", "value");
+
+        // Then
+        assertEquals("value", remoteCache.get("board_1").get());
+        assertEquals("value", localCache.getIfPresent("board_1"));
+        verify(invalidationBus).publishEvict("api-responses", "board_1");
+    }
+
+    @Test
+    void evict_ShouldRemoveBothTiersAndPublishInvalidation() {
+        // Given
+        cache.put("board_1", "value");
+
+        // When
+        cache.evict("board_1");
+
+        // Then
+        assertNull(remoteCache.get("board_1"));
+        assertNull(localCache.getIfPresent("board_1"));
+        verify(invalidationBus, times(2)).publishEvict("api-responses", "board_1");
+    }
+
+    @Test
+    void evictLocal_ShouldKeepRemoteEntry() {
+        // Given
+        cache.put("board_1", "value");
+
+        // When
+        cache.evictLocal("board_1");
+
+        // Then
+        assertNull(localCache.getIfPresent("board_1"));
+        assertEquals("value", remoteCache.get("board_1").get());
+    }
+
+    @Test
+    void clear_ShouldPublishClear() {
+        // Given
+        cache.put("board_1", "value");
+
+        // When
+        cache.clear();
+
+        // Then
+        assertNull(cache.get("board_1"));
+        verify(invalidationBus).publishClear("api-responses");
+    }
+
+    @Test
+    void get_WhenPastRefreshWindow_ShouldServeStaleAndRefreshInBackground() {
+        // Given
+        cache.setRefreshAhead(new RefreshAheadSpec(true, 0.8), Runnable::run, new SimpleMeterRegistry());
+        long ttl = 600_000;
+        remoteCache.put("recent_boards", new RefreshAheadValue("stale", System.currentTimeMillis() - ttl, ttl));
+
+        // When
+        String value = cache.get("recent_boards", () -> "fresh");
+
+        // Then
+        assertEquals("stale", value);
+        Object refreshed = remoteCache.get("recent_boards").get();
+        assertTrue(refreshed instanceof RefreshAheadValue);
+        assertEquals("fresh", ((RefreshAheadValue) refreshed).getValue());
+        assertEquals("fresh", cache.get("recent_boards").get());
+        assertEquals(1L, cache.getTierStatistics().get("refresh_ahead_scheduled"));
+    }
+
+    @Test
+    void get_WhenBeforeRefreshWindow_ShouldNotReload() {
+        // Given
+        cache.setRefreshAhead(new RefreshAheadSpec(true, 0.8), Runnable::run, new SimpleMeterRegistry());
+        long ttl = 600_000;
+        remoteCache.put("popular_boards", new RefreshAheadValue("cached", System.currentTimeMillis(), ttl));
+
+        // When
+        String value = cache.get("popular_boards", () -> {
+            throw new IllegalStateException("should not load");
+        });
+
+        // Then
+        assertEquals("cached", value);
+        assertEquals(0L, cache.getTierStatistics().get("refresh_ahead_scheduled"));
+    }
+
+    @Test
+    void getAll_ShouldServeLocalHitsAndFetchRestFromRemote() {
+        // Given
+        cache.put("board_1", "first");
+        remoteCache.put("board_2", "second");
+
+        // When
+        Map<Object, Object> values = cache.getAll(Arrays.asList("board_1", "board_2", "board_3"));
+
+        // Then
+        assertEquals(2, values.size());
+        assertEquals("first", values.get("board_1"));
+        assertEquals("second", values.get("board_2"));
+        assertEquals("second", localCache.getIfPresent("board_2"));
+        Map<String, Object> stats = cache.getTierStatistics();
+        assertEquals(1L, stats.get("l1_hits"));
+        assertEquals(1L, stats.get("l2_hits"));
+        assertEquals(1L, stats.get("misses"));
+    }
+
+    @Test
+    void putAll_ShouldPublishSingleInvalidation() {
+        // Given
+        Map<String, Object> entries = new LinkedHashMap<>();
+        entries.put("board_1", "first");
+        entries.put("board_2", "second");
+
+        // When
+        cache.putAll(entries);
+
+        // Then
+        assertEquals("second", remoteCache.get("board_2").get());
+        assertEquals("first", localCache.getIfPresent("board_1"));
+        verify(invalidationBus).publishEvictAll("api-responses", Arrays.asList("board_1", "board_2"));
+        verify(invalidationBus, never()).publishEvict(anyString(), anyString());
+    }
+
+    @Test
+    void get_WhenCircuitOpen_ShouldServeLocalTierAndSkipRemote() {
+        // Given
+        CacheCircuitBreaker circuitBreaker = mock(CacheCircuitBreaker.class);
+        when(circuitBreaker.allowRequest()).thenReturn(false);
+        localCache.put("board_1", "local");
+        remoteCache.put("board_2", "remote");
+        cache.setCircuitBreaker(circuitBreaker);
+
+        // When
+        Object local = cache.get("board_1").get();
+        Cache.ValueWrapper bypassed = cache.get("board_2");
+
+        // Then
+        assertEquals("local", local);
+        assertNull(bypassed);
+        verify(circuitBreaker).recordBypass("get");
+    }
+
+    @Test
+    void put_WhenRedisFails_ShouldKeepLocalValueAndMarkCacheStale() {
+        // Given
+        CacheCircuitBreaker circuitBreaker = mock(CacheCircuitBreaker.class);
+        when(circuitBreaker.allowRequest()).thenReturn(true);
+        Cache failingRemote = mock(Cache.class);
+        doThrow(new RedisConnectionFailureException("timeout")).when(failingRemote).put(any(), any());
+        TwoLevelCache degraded = new TwoLevelCache("api-responses", localCache, failingRemote, invalidationBus,
+                null, null, null, new SimpleMeterRegistry());
+        degraded.setCircuitBreaker(circuitBreaker);
+
+        // When
+        degraded.put("board_1", "value");
+
+        // Then
+        assertEquals("value", localCache.getIfPresent("board_1"));
+        verify(circuitBreaker).recordFailure();
+        verify(circuitBreaker).markStale("api-responses");
+        verify(invalidationBus, never()).publishEvict(anyString(), anyString());
+    }
+
+    @Test
+    void putIfAbsent_WhenRedisFails_ShouldRecordFailureAndFallBackToLocal() {
+        // Given
+        CacheCircuitBreaker circuitBreaker = mock(CacheCircuitBreaker.class);
+        when(circuitBreaker.allowRequest()).thenReturn(true);
+        Cache failingRemote = mock(Cache.class);
+        when(failingRemote.putIfAbsent(any(), any())).thenThrow(new RedisConnectionFailureException("timeout"));
+        TwoLevelCache degraded = new TwoLevelCache("api-responses", localCache, failingRemote, invalidationBus,
+                null, null, null, new SimpleMeterRegistry());
+        degraded.setCircuitBreaker(circuitBreaker);
+
+        // When
+        Cache.ValueWrapper first = degraded.putIfAbsent("board_1", "value");
+        Cache.ValueWrapper second = degraded.putIfAbsent("board_1", "other");
+
+        // Then
+        assertNull(first);
+        assertEquals("value", second.get());
+        assertEquals("value", localCache.getIfPresent("board_1"));
+        verify(circuitBreaker, times(2)).recordFailure();
+        verify(circuitBreaker, times(2)).markStale("api-responses");
+        verify(invalidationBus, never()).publishEvict(anyString(), anyString());
+    }
+
+    @Test
+    void putIfAbsent_WhenRedisResponds_ShouldRecordSuccess() {
+        // Given
+        CacheCircuitBreaker circuitBreaker = mock(CacheCircuitBreaker.class);
+        when(circuitBreaker.allowRequest()).thenReturn(true);
+        cache.setCircuitBreaker(circuitBreaker);
+
+        // When
+        Cache.ValueWrapper absent = cache.putIfAbsent("board_1", "value");
+        Cache.ValueWrapper existing = cache.putIfAbsent("board_1", "other");
+
+        // Then
+        assertNull(absent);
+        assertEquals("value", existing.get());
+        assertEquals("value", remoteCache.get("board_1").get());
+        verify(circuitBreaker, times(2)).recordSuccess(anyLong());
+        verify(circuitBreaker, never()).markStale(anyString());
+    }
+
+    @Test
+    void get_WithCacheLeaseHeldByAnotherNode_ShouldServeStaleValue() throws Throwable {
+        // Given - 임대를 잡고 한 번 계산한 뒤 값이 만료됨
+        CacheLeaseManager leaseManager = mock(CacheLeaseManager.class);
+        cache.setLeaseManager(leaseManager, 100, Duration.ofMinutes(10),
+                Duration.ofMillis(1), new SimpleMeterRegistry());
+        CacheLeaseManager.Lease lease = new CacheLeaseManager.Lease("cache:lease:api-responses:popular_boards",
+                1, "1:node-a", Duration.ofSeconds(10));
+        when(leaseManager.tryAcquire(eq("api-responses"), eq("popular_boards"), any()))
+                .thenReturn(lease, (CacheLeaseManager.Lease) null);
+        assertEquals("v1", withLease(() -> cache.get("popular_boards", () -> "v1")));
+        remoteCache.evict("popular_boards");
+        localCache.invalidate("popular_boards");
+
+        // When - 다른 노드가 임대를 잡고 있음
+        Object value = withLease(() -> cache.get("popular_boards", () -> {
+            throw new IllegalStateException("should not recompute");
+        }));
+
+        // Then
+        assertEquals("v1", value);
+        verify(leaseManager).release(lease);
+        assertEquals(1L, leases().get("stale"));
+    }
+
+    @Test
+    void get_WhenLeaseFenced_ShouldReturnValueWithoutWriting() throws Throwable {
+        // Given - 계산이 늦어져 더 나중의 임대가 이미 값을 씀
+        cache = fencedCache();
+        CacheLeaseManager leaseManager = mock(CacheLeaseManager.class);
+        cache.setLeaseManager(leaseManager, 100, Duration.ofMinutes(10),
+                Duration.ofMillis(1), new SimpleMeterRegistry());
+        CacheLeaseManager.Lease lease = new CacheLeaseManager.Lease("cache:lease:api-responses:popular_boards",
+                1, "1:node-a", Duration.ofSeconds(10));
+        when(leaseManager.tryAcquire(eq("api-responses"), eq("popular_boards"), any())).thenReturn(lease);
+
+        // When - 계산 중에 펜스 2의 값이 먼저 쓰임
+        Object value = withLease(() -> cache.get("popular_boards", () -> {
+            try (CacheWriteFence later = CacheWriteFence.open(2, Duration.ofSeconds(20))) {
+                remoteCache.put("popular_boards", "fresh");
+            }
+            return "slow";
+        }));
+
+        // Then
+        assertEquals("slow", value);
+        assertEquals("fresh", remoteCache.get("popular_boards").get());
+        assertNull(localCache.getIfPresent("popular_boards"));
+        verify(leaseManager).release(lease);
+        assertEquals(1L, leases().get("fenced"));
+    }
+
+    @Test
+    void get_WhenTwoLeaseHoldersInterleave_ShouldKeepLaterFencedValue() throws Throwable {
+        // Given - A(펜스 1)의 임대가 계산 중 만료되고 B(펜스 2)가 다시 잡음
+        cache = fencedCache();
+        CacheLeaseManager leaseManager = mock(CacheLeaseManager.class);
+        cache.setLeaseManager(leaseManager, 100, Duration.ofMinutes(10),
+                Duration.ofMillis(1), new SimpleMeterRegistry());
+        CacheLeaseManager.Lease leaseA = new CacheLeaseManager.Lease("cache:lease:api-responses:popular_boards",
+                1, "1:node-a", Duration.ofSeconds(10));
+        CacheLeaseManager.Lease leaseB = new CacheLeaseManager.Lease("cache:lease:api-responses:popular_boards",
+                2, "2:node-b", Duration.ofSeconds(10));
+        when(leaseManager.tryAcquire(eq("api-responses"), eq("popular_boards"), any())).thenReturn(leaseA, leaseB);
+        CountDownLatch aLoading = new CountDownLatch(1);
+        CountDownLatch bWritten = new CountDownLatch(1);
+
+        // When - A가 계산하는 동안 B가 계산하고 쓴 뒤 A가 끝남
+        ExecutorService holderA = Executors.newSingleThreadExecutor();
+        try {
+            Future<Object> a = holderA.submit(() -> {
+                try {
+                    return withLease(() -> cache.get("popular_boards", () -> {
+                        aLoading.countDown();
+                        await(bWritten);
+                        return "old";
+                    }));
+                } catch (Throwable e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            assertTrue(aLoading.await(5, TimeUnit.SECONDS));
+            Object b = withLease(() -> cache.get("popular_boards", () -> "new"));
+            bWritten.countDown();
+
+            // Then
+            assertEquals("new", b);
+            assertEquals("old", a.get(5, TimeUnit.SECONDS));
+        } finally {
+            holderA.shutdownNow();
+        }
+        assertEquals("new", remoteCache.get("popular_boards").get());
+        assertEquals("new", localCache.getIfPresent("popular_boards"));
+        assertEquals(1L, leases().get("acquired"));
+        assertEquals(1L, leases().get("fenced"));
+    }
+
+    // CountingRedisCacheWriter의 펜스 스크립트처럼 키마다 가장 큰 펜스보다 작은 쓰기를 거부하는 원격 캐시
+    private TwoLevelCache fencedCache() {
+        remoteCache = new ConcurrentMapCache("api-responses", false) {
+            private final Map<Object, Long> fences = new ConcurrentHashMap<>();
+
+            @Override
+            public synchronized void put(Object key, Object value) {
+                CacheWriteFence fence = CacheWriteFence.current();
+                if (fence != null) {
+                    if (fences.getOrDefault(key, 0L) > fence.getFence()) {
+                        fence.reject();
+                        return;
+                    }
+                    fences.put(key, fence.getFence());
+                }
+                super.put(key, value);
+            }
+        };
+        return new TwoLevelCache("api-responses", localCache, remoteCache, invalidationBus,
+                null, null, null, new SimpleMeterRegistry());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @CacheLease
+    private Object withLease(Supplier<Object> call) throws Throwable {
+        CacheLease lease = TwoLevelCacheTest.class.getDeclaredMethod("withLease", Supplier.class)
+                .getAnnotation(CacheLease.class);
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.proceed()).thenAnswer(invocation -> call.get());
+        return new CacheLeaseAspect().withLease(joinPoint, lease);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Long> leases() {
+        return (Map<String, Long>) cache.getTierStatistics().get("leases");
+    }
+
+    @Test
+    void evictByTags_ShouldEvictResolvedKeysInOneBatch() {
+        // Given
+        TwoLevelCache tagged = new TwoLevelCache("api-responses", localCache, remoteCache, invalidationBus,
+                dependencyTracker, null, null, new SimpleMeterRegistry());
+        tagged.put("board_1", "a");
+        tagged.put("board_2", "b");
+        clearInvocations(invalidationBus);
+        when(dependencyTracker.removeTagged("api-responses", Collections.singletonList("board:1")))
+                .thenReturn(new HashSet<>(Arrays.asList("board_1", "board_2")));
+
+        // When
+        int evicted = tagged.evictByTags(Collections.singletonList("board:1"));
+
+        // Then
+        assertEquals(2, evicted);
+        assertNull(remoteCache.get("board_1"));
+        assertNull(localCache.getIfPresent("board_2"));
+        verify(invalidationBus).publishEvictAll(eq("api-responses"), argThat(keys -> keys.size() == 2));
+        verify(invalidationBus, never()).publishEvict(anyString(), anyString());
+    }
+}
@@ -0,0 +1,75 @@
+package com.tofumaker.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * application.yml의 cache.* 설정이 기능별 Properties에 바인딩되는지 확인
+ */
+class CachePropertiesBindingTest {
+
+    private Binder binder;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        List<PropertySource<?>> sources = new YamlPropertySourceLoader()
+                .load("application", new ClassPathResource("application.yml"));
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addLast(sources.get(0));
+        binder = Binder.get(environment);
+    }
+
+    @Test
+    void bind_ShouldReadCommonCacheSettings() {
+        // When
+        CacheProperties properties = bind("cache", new CacheProperties());
+
+        // Then
+        assertEquals("cache:invalidation", properties.getInvalidationChannel());
+        assertEquals(5000L, properties.getLocalSpec("api-responses").getMaximumSize());
+        assertFalse(properties.getLocalSpec("sessions").isEnabled());
+        assertEquals(10000L, properties.getLocalSpec("unknown").getMaximumSize());
+        assertEquals(Duration.ofSeconds(60), properties.getBoardCountEstimateTtl());
+    }
+
+    @Test
+    void bind_ShouldReadFeatureSettingsFromNestedPrefixes() {
+        // When
+        CacheBudgetProperties budget = bind("cache.budget", new CacheBudgetProperties());
+        CacheShardingProperties sharding = bind("cache.sharding", new CacheShardingProperties());
+        CacheCircuitProperties circuit = bind("cache.circuit", new CacheCircuitProperties());
+        CacheTraceProperties trace = bind("cache.trace", new CacheTraceProperties());
+        CacheSegmentProperties segment = bind("cache.segment", new CacheSegmentProperties());
+        CacheLeaseProperties lease = bind("cache.lease", new CacheLeaseProperties());
+        BoardFilterProperties boardFilter = bind("cache.board-filter", new BoardFilterProperties());
+
+        // Then
+        assertEquals(268435456L, budget.getCaches().get("api-responses").getMaxBytes());
+        assertEquals("lru", budget.getCaches().get("sessions").getEviction());
+        assertEquals(Arrays.asList("api-responses", "sessions"), sharding.getCaches());
+        assertTrue(sharding.getNodes().isEmpty());
+        assertEquals(Duration.ofMillis(250), circuit.getSlowCallDuration());
+        assertEquals("cache-trace.log", trace.getPath());
+        assertEquals(DataSize.ofKilobytes(64), segment.getSize());
+        assertEquals(Duration.ofMillis(50), lease.getPollInterval());
+        assertEquals(0.01, boardFilter.getFalsePositiveRate());
+    }
+
+    private <T> T bind(String prefix, T target) {
+        return binder.bind(prefix, Bindable.ofInstance(target)).orElse(target);
+    }
+}
@@ -0,0 +1,112 @@
+package com.tofumaker.repository;
+
+import com.tofumaker.entity.Board;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 키셋 페이징 쿼리 - 같은 정렬 값 안에서는 id로 이어지는지 확인
+ */
+@DataJpaTest(properties = {"spring.flyway.enabled=false", "spring.jpa.hibernate.ddl-auto=create-drop"})
+class BoardSeekQueriesTest {
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan("com.tofumaker.entity")
+    @EnableJpaRepositories(basePackages = "com.tofumaker.repository",
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = BoardRepository.class))
+    static class BoardRepositoryConfig {
+    }
+
+    private static final LocalDateTime T1 = LocalDateTime.of(2024, 1, 1, 10, 0);
+    private static final LocalDateTime T2 = LocalDateTime.of(2024, 1, 1, 11, 0);
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long a;
+    private Long b;
+    private Long c;
+    private Long d;
+
+    @BeforeEach
+    void setUp() {
+        // a(T1, 조회 5), b(T2, 조회 5), c(T2, 조회 5), d(T2, 조회 9, 비활성)
+        a = save(T1, 5L, true);
+        b = save(T2, 5L, true);
+        c = save(T2, 5L, true);
+        d = save(T2, 9L, false);
+        entityManager.clear();
+    }
+
+    @Test
+    void findCreatedBefore_ShouldContinueWithinTiesById() {
+        // When
+        List<Long> ids = ids(boardRepository.findCreatedBefore(T2, c, PageRequest.of(0, 10)));
+
+        // Then - 같은 작성일시의 id < c, 그 다음 이전 작성일시
+        assertEquals(List.of(b, a), ids);
+    }
+
+    @Test
+    void findCreatedAfter_ShouldContinueWithinTiesById() {
+        // When
+        List<Long> ids = ids(boardRepository.findCreatedAfter(T2, b, PageRequest.of(0, 10)));
+
+        // Then
+        assertEquals(List.of(c, d), ids);
+        assertEquals(List.of(b, c, d), ids(boardRepository.findCreatedAfter(T1, a, PageRequest.of(0, 10))));
+    }
+
+    @Test
+    void findActiveCreatedBeforeAndAfter_ShouldSkipInactiveBoards() {
+        // When & Then
+        assertEquals(List.of(c, b, a), ids(boardRepository.findActiveCreatedBefore(T2, d, PageRequest.of(0, 10))));
+        assertEquals(List.of(c), ids(boardRepository.findActiveCreatedAfter(T2, b, PageRequest.of(0, 10))));
+    }
+
+    @Test
+    void findActiveViewCountBeforeAndAfter_ShouldContinueWithinTiesById() {
+        // When & Then
+        assertEquals(List.of(b, a), ids(boardRepository.findActiveViewCountBefore(5L, c, PageRequest.of(0, 10))));
+        assertEquals(List.of(b, c), ids(boardRepository.findActiveViewCountAfter(5L, a, PageRequest.of(0, 10))));
+        assertTrue(boardRepository.findActiveViewCountAfter(5L, c, PageRequest.of(0, 10)).isEmpty());
+    }
+
+    // 작성일시는 @PrePersist가 덮어쓰므로 저장 후 직접 갱신
+    private Long save(LocalDateTime createdAt, Long viewCount, boolean active) {
+        Board board = new Board("제목", "본문", "kim");
+        board.setActive(active);
+        Long id = entityManager.persistAndFlush(board).getId();
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE board SET created_at = ?1, view_count = ?2 WHERE id = ?3")
+                .setParameter(1, createdAt)
+                .setParameter(2, viewCount)
+                .setParameter(3, id)
+                .executeUpdate();
+        return id;
+    }
+
+    private static List<Long> ids(List<Board> boards) {
+        return boards.stream().map(Board::getId).collect(Collectors.toList());
+    }
+}
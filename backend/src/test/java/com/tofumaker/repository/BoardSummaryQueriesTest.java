@@ -0,0 +1,136 @@
+package com.tofumaker.repository;
+
+import com.tofumaker.dto.BoardSummary;
+import com.tofumaker.entity.Board;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 목록 프로젝션(SUMMARY_SELECT) 쿼리 - 다른 저장소 없이 BoardRepository만 올림
+ */
+@DataJpaTest(properties = {"spring.flyway.enabled=false", "spring.jpa.hibernate.ddl-auto=create-drop"})
+class BoardSummaryQueriesTest {
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan("com.tofumaker.entity")
+    @EnableJpaRepositories(basePackages = "com.tofumaker.repository",
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = BoardRepository.class))
+    static class BoardRepositoryConfig {
+    }
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @BeforeEach
+    void setUp() {
+        boardRepository.deleteAll();
+    }
+
+    @Test
+    void findSummaries_ShouldMapColumnsAndTruncateContent() {
+        // Given
+        Board saved = save("첫 글", "kim", repeat('a', BoardSummary.PREVIEW_LENGTH + 300), true);
+
+        // When
+        Slice<BoardSummary> slice = boardRepository.findSummaries(PageRequest.of(0, 10));
+
+        // Then
+        BoardSummary summary = slice.getContent().get(0);
+        assertEquals(saved.getId(), summary.getId());
+        assertEquals("첫 글", summary.getTitle());
+        assertEquals("kim", summary.getAuthor());
+        assertEquals(0L, summary.getViewCount());
+        assertNotNull(summary.getCreatedAt());
+        assertEquals(BoardSummary.PREVIEW_LENGTH, summary.getContentPreview().length());
+    }
+
+    @Test
+    void findSummaries_ShouldPageWithoutCount() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            save("글 " + i, "kim", "본문", true);
+        }
+
+        // When
+        Slice<BoardSummary> first = boardRepository.findSummaries(PageRequest.of(0, 2, Sort.by("id")));
+        Slice<BoardSummary> last = boardRepository.findSummaries(PageRequest.of(2, 2, Sort.by("id")));
+
+        // Then
+        assertEquals(2, first.getNumberOfElements());
+        assertTrue(first.hasNext());
+        assertEquals(1, last.getNumberOfElements());
+        assertFalse(last.hasNext());
+    }
+
+    @Test
+    void findActiveSummaries_ShouldSkipInactiveBoards() {
+        // Given
+        save("공개", "kim", "본문", true);
+        save("숨김", "kim", "본문", false);
+
+        // When
+        Slice<BoardSummary> slice = boardRepository.findActiveSummaries(PageRequest.of(0, 10));
+
+        // Then
+        assertEquals(1, slice.getNumberOfElements());
+        assertEquals("공개", slice.getContent().get(0).getTitle());
+    }
+
+    @Test
+    void findSummariesByTitle_ShouldIgnoreCaseAndTreatWildcardsLiterally() {
+        // Given
+        save("Spring Boot", "kim", "본문", true);
+        save("100% 할인", "lee", "본문", true);
+        save("snake_case", "park", "본문", true);
+
+        // When & Then
+        assertEquals(1, boardRepository.findSummariesByTitle("spring", PageRequest.of(0, 10)).getNumberOfElements());
+        assertEquals("100% 할인", boardRepository.findSummariesByTitle("%", PageRequest.of(0, 10)).getContent().get(0).getTitle());
+        assertEquals(1, boardRepository.findSummariesByTitle("%", PageRequest.of(0, 10)).getNumberOfElements());
+        assertEquals(1, boardRepository.findSummariesByTitle("_", PageRequest.of(0, 10)).getNumberOfElements());
+        assertEquals(0, boardRepository.findSummariesByAuthor("%", PageRequest.of(0, 10)).getNumberOfElements());
+        assertEquals(1, boardRepository.findSummariesByAuthor("LEE", PageRequest.of(0, 10)).getNumberOfElements());
+    }
+
+    @Test
+    void findSummariesByKeyword_ShouldMatchTitleOrContent() {
+        // Given
+        save("공지", "kim", "캐시 설정 안내", true);
+        save("캐시 질문", "lee", "본문", true);
+        save("잡담", "park", "본문", true);
+
+        // When
+        Slice<BoardSummary> slice = boardRepository.findSummariesByKeyword("캐시", PageRequest.of(0, 10));
+
+        // Then
+        assertEquals(2, slice.getNumberOfElements());
+    }
+
+    private Board save(String title, String author, String content, boolean active) {
+        Board board = new Board(title, content, author);
+        board.setActive(active);
+        return boardRepository.save(board);
+    }
+
+    private static String repeat(char c, int count) {
+        StringBuilder builder = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,102 @@
+package com.tofumaker.service;
+
+import com.tofumaker.config.CacheConfig;
+import com.tofumaker.dto.BoardIdPage;
+import com.tofumaker.dto.BoardSummary;
+import com.tofumaker.dto.BoardSummaryPage;
+import com.tofumaker.entity.Board;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardCacheTagResolverTest {
+
+    private final BoardCacheTagResolver resolver = new BoardCacheTagResolver();
+
+    @Test
+    void resolveTags_ForRecentPage_ShouldTagFamilyAndBoards() {
+        // Given
+        Board first = board(1L);
+        Board second = board(2L);
+
+        // When
+        Set<String> tags = resolver.resolveTags(CacheConfig.CacheNames.API_RESPONSES,
+                "recent_boards_page_0_10_createdAt: DESC", new PageImpl<>(Arrays.asList(first, second)));
+
+        // Then
+        assertTrue(tags.contains(CacheConfig.CacheTags.FAMILY_RECENT));
+        assertTrue(tags.contains(CacheConfig.CacheTags.LISTINGS));
+        assertTrue(tags.contains(CacheConfig.CacheTags.UNFILTERED_LISTINGS));
+        assertTrue(tags.contains("board:1"));
+        assertTrue(tags.contains("board:2"));
+        assertFalse(tags.contains(CacheConfig.CacheTags.SEARCH_LISTINGS));
+    }
+
+    @Test
+    void resolveTags_ForSearchList_ShouldTagSearchGroup() {
+        // When
+        Set<String> tags = resolver.resolveTags(CacheConfig.CacheNames.API_RESPONSES,
+                "search_title_hello", Arrays.asList(board(3L)));
+
+        // Then
+        assertTrue(tags.contains(CacheConfig.CacheTags.FAMILY_SEARCH_TITLE));
+        assertTrue(tags.contains(CacheConfig.CacheTags.SEARCH_LISTINGS));
+        assertTrue(tags.contains("board:3"));
+    }
+
+    @Test
+    void resolveTags_ForSummaryPage_ShouldTagListedBoards() {
+        // Given
+        BoardSummaryPage page = new BoardSummaryPage(Arrays.asList(
+                new BoardSummary(6L, "title", "author", null, 0L, "preview")), true);
+
+        // When
+        Set<String> tags = resolver.resolveTags(CacheConfig.CacheNames.API_RESPONSES,
+                "search_keyword_summary_hello_0_10", page);
+
+        // Then
+        assertTrue(tags.contains(CacheConfig.CacheTags.FAMILY_SEARCH_KEYWORD));
+        assertTrue(tags.contains(CacheConfig.CacheTags.SEARCH_LISTINGS));
+        assertTrue(tags.contains("board:6"));
+    }
+
+    @Test
+    void resolveTags_ForIdPage_ShouldTagListedBoards() {
+        // When
+        Set<String> tags = resolver.resolveTags(CacheConfig.CacheNames.API_RESPONSES,
+                "popular_boards_ids_0_10_UNSORTED", new BoardIdPage(Arrays.asList(4L, 5L), 2));
+
+        // Then
+        assertTrue(tags.contains(CacheConfig.CacheTags.FAMILY_POPULAR));
+        assertTrue(tags.contains("board:4"));
+        assertTrue(tags.contains("board:5"));
+    }
+
+    @Test
+    void resolveTags_ForDetailEntry_ShouldReturnEmpty() {
+        // When
+        Set<String> tags = resolver.resolveTags(CacheConfig.CacheNames.API_RESPONSES, "board_1", board(1L));
+
+        // Then
+        assertTrue(tags.isEmpty());
+    }
+
+    @Test
+    void resolveTags_ForOtherCache_ShouldReturnEmpty() {
+        // When
+        Set<String> tags = resolver.resolveTags(CacheConfig.CacheNames.USERS, "recent_boards", board(1L));
+
+        // Then
+        assertTrue(tags.isEmpty());
+    }
+
+    private Board board(Long id) {
+        Board board = new Board("제목" + id, "내용", "작성자");
+        board.setId(id);
+        return board;
+    }
+}
@@ -0,0 +1,137 @@
+package com.tofumaker.service;
+
+import com.tofumaker.config.CacheProperties;
+import com.tofumaker.repository.BoardRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoardCountEstimatorTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private CacheProperties cacheProperties;
+    private BoardCountEstimator estimator;
+
+    @BeforeEach
+    void setUp() {
+        cacheProperties = new CacheProperties();
+        cacheProperties.setBoardCountEstimateTtl(Duration.ofMinutes(1));
+        estimator = new BoardCountEstimator(boardRepository, jdbcTemplate, cacheProperties, new SimpleMeterRegistry());
+        lenient().when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(BoardCountEstimator.POSTGRESQL);
+    }
+
+    @Test
+    void estimateAll_WithPlannerStatistics_ShouldNotCount() {
+        // Given
+        when(jdbcTemplate.queryForObject(BoardCountEstimator.RELTUPLES_SQL, Double.class)).thenReturn(12345.0);
+
+        // When
+        long first = estimator.estimateAll();
+        long second = estimator.estimateAll();
+
+        // Then
+        assertEquals(12345L, first);
+        assertEquals(12345L, second);
+        verify(jdbcTemplate, times(1)).queryForObject(anyString(), eq(Double.class));
+        verify(boardRepository, never()).count();
+    }
+
+    @Test
+    void estimateAll_WithoutPlannerStatistics_ShouldCacheCountAndStopAskingPlanner() {
+        // Given
+        when(jdbcTemplate.queryForObject(BoardCountEstimator.RELTUPLES_SQL, Double.class))
+                .thenThrow(new BadSqlGrammarException("estimate", BoardCountEstimator.RELTUPLES_SQL, new SQLException("no pg_class")));
+        when(boardRepository.count()).thenReturn(42L, 43L);
+        cacheProperties.setBoardCountEstimateTtl(Duration.ZERO);
+
+        // When
+        long first = estimator.estimateAll();
+        long second = estimator.estimateAll();
+
+        // Then
+        assertEquals(42L, first);
+        assertEquals(43L, second);
+        verify(jdbcTemplate, times(1)).queryForObject(anyString(), eq(Double.class));
+    }
+
+    @Test
+    void estimateAll_WhenPlannerQueryFailsTransiently_ShouldCountOnceAndRetryNextRefresh() {
+        // Given
+        when(jdbcTemplate.queryForObject(BoardCountEstimator.RELTUPLES_SQL, Double.class))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(500.0);
+        when(boardRepository.count()).thenReturn(42L);
+        cacheProperties.setBoardCountEstimateTtl(Duration.ZERO);
+
+        // When
+        long first = estimator.estimateAll();
+        long second = estimator.estimateAll();
+
+        // Then
+        assertEquals(42L, first);
+        assertEquals(500L, second);
+        verify(boardRepository, times(1)).count();
+    }
+
+    @Test
+    void estimateAll_OnNonPostgresDatabase_ShouldNeverQueryPlanner() {
+        // Given
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("H2");
+        when(boardRepository.count()).thenReturn(3L);
+        cacheProperties.setBoardCountEstimateTtl(Duration.ZERO);
+
+        // When
+        estimator.estimateAll();
+        long second = estimator.estimateAll();
+
+        // Then
+        assertEquals(3L, second);
+        verify(jdbcTemplate, times(1)).execute(any(ConnectionCallback.class));
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Double.class));
+    }
+
+    @Test
+    void estimateAll_BeforeAnalyze_ShouldFallBackToCount() {
+        // Given
+        when(jdbcTemplate.queryForObject(BoardCountEstimator.RELTUPLES_SQL, Double.class)).thenReturn(-1.0);
+        when(boardRepository.count()).thenReturn(7L);
+
+        // When & Then
+        assertEquals(7L, estimator.estimateAll());
+    }
+
+    @Test
+    void estimateActive_ShouldReuseCachedCountWithinTtl() {
+        // Given
+        when(boardRepository.countByActiveTrue()).thenReturn(5L);
+
+        // When
+        estimator.estimateActive();
+        long cached = estimator.estimateActive();
+
+        // Then
+        assertEquals(5L, cached);
+        verify(boardRepository, times(1)).countByActiveTrue();
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,73 @@
+package com.tofumaker.service;
+
+import com.tofumaker.config.BoardFilterProperties;
+import com.tofumaker.repository.BoardRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoardIdFilterTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BoardIdFilter boardIdFilter;
+
+    @BeforeEach
+    void setUp() {
+        BoardFilterProperties properties = new BoardFilterProperties();
+        properties.setRebuildBatchSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        boardIdFilter = new BoardIdFilter(boardRepository, properties, meterRegistry);
+    }
+
+    @Test
+    void mightContain_BeforeRebuild_ShouldPassEverything() {
+        // When & Then
+        assertTrue(boardIdFilter.mightContain(12345L));
+        assertFalse(boardIdFilter.isReady());
+    }
+
+    @Test
+    void rebuild_ShouldPageThroughIdsAndRejectUnknown() {
+        // Given
+        when(boardRepository.count()).thenReturn(3L);
+        when(boardRepository.findIdsAfter(eq(Long.MIN_VALUE), any(Pageable.class))).thenReturn(Arrays.asList(1L, 2L));
+        when(boardRepository.findIdsAfter(eq(2L), any(Pageable.class))).thenReturn(Collections.singletonList(5L));
+
+        // When
+        boardIdFilter.rebuild();
+
+        // Then
+        assertTrue(boardIdFilter.mightContain(1L));
+        assertTrue(boardIdFilter.mightContain(5L));
+        assertFalse(boardIdFilter.mightContain(1_000_000L));
+        assertEquals(1.0, meterRegistry.get("cache_board_filter_lookups_total").tag("result", "rejected").counter().count());
+    }
+
+    @Test
+    void add_AfterRebuild_ShouldAcceptNewId() {
+        // Given
+        when(boardRepository.findIdsAfter(anyLong(), any(Pageable.class))).thenReturn(Collections.emptyList());
+        boardIdFilter.rebuild();
+
+        // When
+        boardIdFilter.add(77L);
+
+        // Then
+        assertTrue(boardIdFilter.mightContain(77L));
+    }
+}
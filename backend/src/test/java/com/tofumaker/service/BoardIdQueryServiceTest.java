@@ -0,0 +1,141 @@
+package com.tofumaker.service;
+
+import com.tofumaker.dto.BoardIdPage;
+import com.tofumaker.entity.Board;
+import com.tofumaker.repository.BoardRepository;
+import com.tofumaker.util.PaginationUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoardIdQueryServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private CacheService cacheService;
+
+    @InjectMocks
+    private BoardIdQueryService boardIdQueryService;
+
+    @Test
+    void getAllBoardIdsByCursor_FirstPage_ShouldFetchOneExtraRowAndReturnNextCursor() {
+        // Given
+        when(boardRepository.findFirstSeekPage(any(Pageable.class))).thenReturn(boards(10, 9, 8));
+
+        // When
+        BoardIdPage page = boardIdQueryService.getAllBoardIdsByCursor(null, 2, "desc");
+
+        // Then
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(boardRepository).findFirstSeekPage(pageable.capture());
+        assertEquals(3, pageable.getValue().getPageSize());
+        assertEquals(Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id")),
+                pageable.getValue().getSort());
+        assertEquals(Arrays.asList(10L, 9L), page.getIds());
+        assertNull(page.getPrevCursor());
+
+        PaginationUtil.Cursor next = PaginationUtil.decodeCursor(page.getNextCursor());
+        assertTrue(next.isForward());
+        assertEquals(9L, next.getId());
+        assertEquals(BASE.plusMinutes(9).toString(), next.getValue());
+    }
+
+    @Test
+    void getAllBoardIdsByCursor_WithNextCursor_ShouldSeekBelowBoundary() {
+        // Given
+        String cursor = PaginationUtil.encodeCursor(new PaginationUtil.Cursor(
+                "createdAt", Sort.Direction.DESC, true, BASE.plusMinutes(9).toString(), 9L));
+        when(boardRepository.findCreatedBefore(eq(BASE.plusMinutes(9)), eq(9L), any(Pageable.class)))
+                .thenReturn(boards(8, 7));
+
+        // When
+        BoardIdPage page = boardIdQueryService.getAllBoardIdsByCursor(cursor, 2, "desc");
+
+        // Then
+        assertEquals(Arrays.asList(8L, 7L), page.getIds());
+        assertNull(page.getNextCursor());
+        PaginationUtil.Cursor previous = PaginationUtil.decodeCursor(page.getPrevCursor());
+        assertFalse(previous.isForward());
+        assertEquals(8L, previous.getId());
+    }
+
+    @Test
+    void getAllBoardIdsByCursor_WithPrevCursor_ShouldSeekAboveBoundaryAndRestoreOrder() {
+        // Given
+        String cursor = PaginationUtil.encodeCursor(new PaginationUtil.Cursor(
+                "createdAt", Sort.Direction.DESC, false, BASE.plusMinutes(8).toString(), 8L));
+        when(boardRepository.findCreatedAfter(eq(BASE.plusMinutes(8)), eq(8L), any(Pageable.class)))
+                .thenReturn(boards(9, 10));
+
+        // When
+        BoardIdPage page = boardIdQueryService.getAllBoardIdsByCursor(cursor, 2, "desc");
+
+        // Then
+        assertEquals(Arrays.asList(10L, 9L), page.getIds());
+        assertNotNull(page.getNextCursor());
+        assertNull(page.getPrevCursor());
+    }
+
+    @Test
+    void getAllBoardIdsByCursor_WithCursorForOtherSort_ShouldReject() {
+        // Given
+        String popularCursor = PaginationUtil.encodeCursor(new PaginationUtil.Cursor(
+                "viewCount", Sort.Direction.DESC, true, "42", 9L));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> boardIdQueryService.getAllBoardIdsByCursor(popularCursor, 2, "desc"));
+        assertThrows(IllegalArgumentException.class,
+                () -> boardIdQueryService.getAllBoardIdsByCursor("not-a-cursor", 2, "desc"));
+        verifyNoInteractions(boardRepository);
+    }
+
+    @Test
+    void getAllBoardIdsSlice_ShouldKeepHasNextWithoutTotal() {
+        // Given
+        Pageable pageable = PageRequest.of(1, 2);
+        when(boardRepository.findAllSliced(pageable)).thenReturn(new SliceImpl<>(boards(8, 7), pageable, true));
+
+        // When
+        BoardIdPage page = boardIdQueryService.getAllBoardIdsSlice(pageable);
+
+        // Then
+        assertEquals(Arrays.asList(8L, 7L), page.getIds());
+        assertTrue(page.isHasNext());
+        assertEquals(-1, page.getTotalElements());
+        verify(boardRepository, never()).count();
+        verify(cacheService).putAll(anyString(), anyMap());
+    }
+
+    private static List<Board> boards(long... ids) {
+        List<Board> boards = new ArrayList<>();
+        for (long id : ids) {
+            Board board = new Board("title " + id, "content", "author");
+            board.setId(id);
+            board.setCreatedAt(BASE.plusMinutes(id));
+            boards.add(board);
+        }
+        return boards;
+    }
+}
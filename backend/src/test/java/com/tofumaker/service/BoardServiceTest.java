@@ -1,5 +1,6 @@
 package com.tofumaker.service;
 
+import com.tofumaker.dto.BoardIdPage;
 import com.tofumaker.entity.Board;
 import com.tofumaker.repository.BoardRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,11 +10,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +33,18 @@ class BoardServiceTest {
     @Mock
     private CacheManager cacheManager;
 
+    @Mock
+    private CacheService cacheService;
+
+    @Mock
+    private BoardIdQueryService boardIdQueryService;
+
+    @Mock
+    private BoardIdFilter boardIdFilter;
+
+    @Mock
+    private BoardTrendingTracker boardTrendingTracker;
+
     @InjectMocks
     private BoardService boardService;
 
@@ -44,6 +59,7 @@ class BoardServiceTest {
         testBoard.setAuthor("테스트 작성자");
         testBoard.setCreatedAt(LocalDateTime.now());
         testBoard.setUpdatedAt(LocalDateTime.now());
+        lenient().when(boardIdFilter.mightContain(any())).thenReturn(true);
     }
 
     @Test
@@ -91,6 +107,59 @@ class BoardServiceTest {
         verify(boardRepository, times(1)).findById(boardId);
     }
 
+    @Test
+    void getBoardById_WhenFilterRejects_ShouldSkipRepository() {
+        // Given
+        when(boardIdFilter.mightContain(404L)).thenReturn(false);
+
+        // When
+        Board actualBoard = boardService.getBoardById(404L);
+
+        // Then
+        assertNull(actualBoard);
+        verify(boardRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void getBoardById_WhenPassedButMissing_ShouldCacheNegativeLookup() {
+        // Given
+        when(boardRepository.findById(998L)).thenReturn(Optional.empty());
+
+        // When
+        boardService.getBoardById(998L);
+
+        // Then
+        verify(boardIdFilter).recordFalsePositive();
+        verify(cacheService).put("negative-lookups", "board_998", Boolean.TRUE);
+    }
+
+    @Test
+    void getBoardById_WhenNegativeLookupCached_ShouldSkipRepository() {
+        // Given
+        when(cacheService.get("negative-lookups", "board_998", Boolean.class)).thenReturn(Boolean.TRUE);
+
+        // When
+        Board actualBoard = boardService.getBoardById(998L);
+
+        // Then
+        assertNull(actualBoard);
+        verify(boardRepository, never()).findById(anyLong());
+        verify(boardIdFilter, never()).recordFalsePositive();
+    }
+
+    @Test
+    void createBoard_ShouldAddIdToFilterAndClearNegativeLookup() {
+        // Given
+        when(boardRepository.save(any(Board.class))).thenReturn(testBoard);
+
+        // When
+        boardService.createBoard(new Board("새 제목", "새 내용", "새 작성자"));
+
+        // Then
+        verify(boardIdFilter).add(1L);
+        verify(cacheService).evict("negative-lookups", "board_1");
+    }
+
     @Test
     void createBoard_ShouldSaveAndReturnBoard() {
         // Given
@@ -208,7 +277,7 @@ class BoardServiceTest {
         // Given
         String keyword = "테스트";
         List<Board> expectedBoards = Arrays.asList(testBoard);
-        when(boardRepository.findByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(keyword, keyword))
+        when(boardRepository.findByTitleOrContentContaining(keyword))
                 .thenReturn(expectedBoards);
 
         // When
@@ -217,7 +286,7 @@ class BoardServiceTest {
         // Then
         assertEquals(expectedBoards.size(), actualBoards.size());
         verify(boardRepository, times(1))
-                .findByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(keyword, keyword);
+                .findByTitleOrContentContaining(keyword);
     }
 
     @Test
@@ -233,4 +302,24 @@ class BoardServiceTest {
         assertEquals(expectedBoards.size(), actualBoards.size());
         verify(boardRepository, times(1)).findTop10ByOrderByCreatedAtDesc();
     }
-} 
\ No newline at end of file
+
+    @Test
+    void getRecentBoardsPaged_ShouldHydrateCachedIdPage() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        Board second = new Board("두번째", "내용", "작성자");
+        second.setId(2L);
+        when(boardIdQueryService.getRecentBoardIds(pageable)).thenReturn(new BoardIdPage(Arrays.asList(2L, 1L), 12));
+        when(cacheService.getAll(anyString(), anyCollection(), eq(Board.class)))
+                .thenReturn(Collections.singletonMap("board_1", testBoard));
+        when(boardRepository.findAllById(Collections.singletonList(2L))).thenReturn(Collections.singletonList(second));
+
+        // When
+        Page<Board> page = boardService.getRecentBoards(pageable);
+
+        // Then
+        assertEquals(12, page.getTotalElements());
+        assertEquals(Arrays.asList(2L, 1L), Arrays.asList(page.getContent().get(0).getId(), page.getContent().get(1).getId()));
+        verify(boardRepository, never()).findByOrderByCreatedAtDesc(any(Pageable.class));
+    }
+}
@@ -0,0 +1,126 @@
+package com.tofumaker.service;
+
+import com.tofumaker.cache.CompactKeyGenerator;
+import com.tofumaker.config.CacheConfig;
+import com.tofumaker.dto.BoardSummary;
+import com.tofumaker.dto.BoardSummaryPage;
+import com.tofumaker.repository.BoardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig(BoardSummaryQueryServiceTest.CachingConfig.class)
+class BoardSummaryQueryServiceTest {
+
+    @Configuration
+    @EnableCaching
+    static class CachingConfig {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(CacheConfig.CacheNames.API_RESPONSES);
+        }
+
+        @Bean(CacheConfig.COMPACT_KEY_GENERATOR)
+        CompactKeyGenerator compactKeyGenerator() {
+            return new CompactKeyGenerator();
+        }
+
+        @Bean
+        BoardSummaryQueryService boardSummaryQueryService() {
+            return new BoardSummaryQueryService();
+        }
+    }
+
+    @MockBean
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardSummaryQueryService boardSummaryQueryService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.CacheNames.API_RESPONSES).clear();
+    }
+
+    @Test
+    void getAllBoardSummaries_ShouldCacheEachPage() {
+        // Given
+        Pageable first = PageRequest.of(0, 10);
+        Pageable second = PageRequest.of(1, 10);
+        when(boardRepository.findSummaries(any(Pageable.class)))
+                .thenAnswer(invocation -> new SliceImpl<>(Collections.singletonList(summary(1L)), invocation.getArgument(0), true));
+
+        // When
+        BoardSummaryPage page = boardSummaryQueryService.getAllBoardSummaries(first);
+        boardSummaryQueryService.getAllBoardSummaries(first);
+        boardSummaryQueryService.getAllBoardSummaries(second);
+
+        // Then
+        assertEquals(1, page.getContent().size());
+        assertTrue(page.isHasNext());
+        verify(boardRepository, times(1)).findSummaries(first);
+        verify(boardRepository, times(1)).findSummaries(second);
+    }
+
+    @Test
+    void searchSummaries_ShouldKeepSeparateEntriesPerQueryType() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(boardRepository.findSummariesByTitle("캐시", pageable))
+                .thenReturn(new SliceImpl<>(Collections.singletonList(summary(1L)), pageable, false));
+        when(boardRepository.findSummariesByAuthor("캐시", pageable))
+                .thenReturn(new SliceImpl<>(Collections.emptyList(), pageable, false));
+
+        // When
+        BoardSummaryPage byTitle = boardSummaryQueryService.searchSummariesByTitle("캐시", pageable);
+        BoardSummaryPage byAuthor = boardSummaryQueryService.searchSummariesByAuthor("캐시", pageable);
+        boardSummaryQueryService.searchSummariesByTitle("캐시", pageable);
+
+        // Then
+        assertEquals(1, byTitle.getContent().size());
+        assertFalse(byTitle.isHasNext());
+        assertTrue(byAuthor.getContent().isEmpty());
+        verify(boardRepository, times(1)).findSummariesByTitle("캐시", pageable);
+        verify(boardRepository, times(1)).findSummariesByAuthor("캐시", pageable);
+    }
+
+    @Test
+    void getPopularBoardSummaries_ShouldReadActiveSummariesInRequestedOrder() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 5);
+        when(boardRepository.findActiveSummaries(pageable))
+                .thenReturn(new SliceImpl<>(Collections.singletonList(summary(7L)), pageable, false));
+
+        // When
+        BoardSummaryPage page = boardSummaryQueryService.getPopularBoardSummaries(pageable);
+
+        // Then
+        assertEquals(7L, page.getContent().get(0).getId());
+        verify(boardRepository).findActiveSummaries(pageable);
+    }
+
+    private static BoardSummary summary(Long id) {
+        return new BoardSummary(id, "제목", "kim", LocalDateTime.now(), 0L, "미리보기");
+    }
+}
@@ -0,0 +1,356 @@
+package com.tofumaker.service;
+
+import com.tofumaker.config.BoardTrendingProperties;
+import com.tofumaker.repository.BoardRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoardTrendingTrackerTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private StringRedisConnection connection;
+
+    private BoardTrendingProperties properties;
+    private BoardTrendingTracker tracker;
+
+    // Redis sorted set 대신 쓰는 메모리 점수 (키 -> 멤버 -> 점수)
+    private final Map<String, Map<String, Double>> sortedSets = new HashMap<>();
+    // 파이프라인으로 보낸 ZINCRBY (키, 멤버, 증가분)
+    private final List<Object[]> increments = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        properties = new BoardTrendingProperties();
+        properties.setRedisSync(false);
+        properties.setCapacity(10);
+        tracker = new BoardTrendingTracker(boardRepository, redisTemplate, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void sync_OnStartup_ShouldRebuildFromRecentlyUpdatedBoards() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        when(boardRepository.findTrendingSeeds(any(LocalDateTime.class), any(Pageable.class))).thenReturn(Arrays.asList(
+                new Object[]{1L, 100L, now.minusHours(12)},
+                new Object[]{2L, 30L, now}));
+
+        // When
+        tracker.sync();
+        List<DecayingTopK.Entry> top = tracker.top(10);
+
+        // Then - 12시간(반감기 6번) 전 조회수 100보다 지금 조회수 30이 앞섬
+        assertEquals(2, top.size());
+        assertEquals(2L, top.get(0).getId());
+        assertEquals(1L, top.get(1).getId());
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void sync_ShouldRankByRecordedEventsAndWeightUpdates() {
+        // Given
+        when(boardRepository.findTrendingSeeds(any(LocalDateTime.class), any(Pageable.class))).thenReturn(Collections.emptyList());
+        tracker.recordView(1L);
+        tracker.recordView(1L);
+        tracker.recordView(2L);
+        tracker.recordUpdate(3L);
+
+        // When
+        tracker.sync();
+        List<DecayingTopK.Entry> top = tracker.top(2);
+
+        // Then
+        assertEquals(2, top.size());
+        assertEquals(3L, top.get(0).getId());
+        assertEquals(5.0, top.get(0).getScore(), 0.01);
+        assertEquals(1L, top.get(1).getId());
+        assertEquals(2.0, top.get(1).getScore(), 0.01);
+    }
+
+    @Test
+    void remove_ShouldDropBoardFromRanking() {
+        // Given
+        when(boardRepository.findTrendingSeeds(any(LocalDateTime.class), any(Pageable.class))).thenReturn(Collections.emptyList());
+        tracker.recordView(1L);
+        tracker.recordView(2L);
+        tracker.sync();
+
+        // When
+        tracker.remove(1L);
+
+        // Then
+        List<DecayingTopK.Entry> top = tracker.top(10);
+        assertEquals(1, top.size());
+        assertEquals(2L, top.get(0).getId());
+    }
+
+    @Test
+    void recordView_WhenDisabled_ShouldIgnoreEvents() {
+        // Given
+        properties.setEnabled(false);
+
+        // When
+        tracker.recordView(1L);
+        tracker.sync();
+
+        // Then
+        assertTrue(tracker.top(10).isEmpty());
+        verifyNoInteractions(boardRepository);
+    }
+
+    @Test
+    void sync_WithRedis_ShouldPushIncrementsTrimToCandidatesAndReadBack() {
+        // Given
+        properties.setCapacity(2);
+        tracker = redisBackedTracker(false);
+        long now = System.currentTimeMillis();
+        long epoch = tracker.epochOf(now);
+        String key = BoardTrendingTracker.key(epoch);
+        // 다른 노드가 먼저 더한 점수 (지금 조회 7회)
+        sortedSets.computeIfAbsent(key, k -> new HashMap<>())
+                .put("9", 7 * Math.pow(2, (now - epoch) / (double) properties.getHalfLife().toMillis()));
+        tracker.recordView(1L);
+        tracker.recordView(1L);
+        tracker.recordView(2L);
+
+        // When
+        tracker.sync();
+
+        // Then
+        assertEquals(2, increments.size());
+        verify(connection).expire(eq(key), anyLong());
+        verify(zSetOperations).removeRange(key, 0, -(2L * BoardTrendingTracker.CANDIDATE_FACTOR + 1));
+        verify(zSetOperations).reverseRangeWithScores(key, 0, 2L * BoardTrendingTracker.CANDIDATE_FACTOR - 1);
+        List<DecayingTopK.Entry> top = tracker.top(10);
+        assertEquals(2, top.size());
+        assertEquals(9L, top.get(0).getId());
+        assertEquals(7.0, top.get(0).getScore(), 0.01);
+        assertEquals(1L, top.get(1).getId());
+        assertEquals(2.0, top.get(1).getScore(), 0.01);
+    }
+
+    @Test
+    void sync_WithRedis_ShouldLetRisingBoardEnterFullRanking() {
+        // Given - 상위 2개가 꽉 찬 상태
+        properties.setCapacity(2);
+        tracker = redisBackedTracker(false);
+        for (int i = 0; i < 10; i++) {
+            tracker.recordView(1L);
+            tracker.recordView(2L);
+        }
+        tracker.sync();
+
+        // When - 3번 글이 동기화마다 더 꾸준히 조회됨
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 5; i++) {
+                tracker.recordView(3L);
+            }
+            tracker.recordView(2L);
+            tracker.sync();
+        }
+
+        // Then - 응답은 여전히 상위 2개, 3번 글이 1위로 들어옴
+        List<DecayingTopK.Entry> top = tracker.top(10);
+        assertEquals(2, top.size());
+        assertEquals(3L, top.get(0).getId());
+        assertEquals(25.0, top.get(0).getScore(), 0.01);
+        assertEquals(2L, top.get(1).getId());
+    }
+
+    @Test
+    void sync_OnNewRedisKey_ShouldMergeDecayedPreviousKey() {
+        // Given
+        tracker = redisBackedTracker(true);
+        long epoch = tracker.epochOf(System.currentTimeMillis());
+        String key = BoardTrendingTracker.key(epoch);
+        long epochMillis = properties.getHalfLife().toMillis() * BoardTrendingTracker.EPOCH_HALF_LIVES;
+        String previousKey = BoardTrendingTracker.key(epoch - epochMillis);
+        when(redisTemplate.hasKey(previousKey)).thenReturn(true);
+
+        // When
+        tracker.sync();
+
+        // Then
+        verify(valueOperations).setIfAbsent(eq(key + ":seeded"), eq("1"), any(Duration.class));
+        verify(zSetOperations).unionAndStore(key, Collections.singletonList(previousKey), key,
+                RedisZSetCommands.Aggregate.SUM,
+                RedisZSetCommands.Weights.of(1, Math.pow(2, -BoardTrendingTracker.EPOCH_HALF_LIVES)));
+        verify(redisTemplate).expire(eq(key), any(Duration.class));
+        verifyNoInteractions(boardRepository);
+    }
+
+    @Test
+    void sync_OnNewRedisKeyWithoutPreviousKey_ShouldSeedFromDatabase() {
+        // Given
+        tracker = redisBackedTracker(true);
+        when(redisTemplate.hasKey(anyString())).thenReturn(false);
+        when(boardRepository.findTrendingSeeds(any(LocalDateTime.class), any(Pageable.class))).thenReturn(
+                Collections.singletonList(new Object[]{1L, 3L, LocalDateTime.now()}));
+
+        // When
+        tracker.sync();
+
+        // Then - 조회수 3 + 수정 가중치 5가 Redis에 더해짐
+        assertEquals(1, increments.size());
+        assertEquals("1", increments.get(0)[1]);
+        List<DecayingTopK.Entry> top = tracker.top(10);
+        assertEquals(1, top.size());
+        assertEquals(8.0, top.get(0).getScore(), 0.01);
+        verify(zSetOperations, never()).unionAndStore(anyString(), anyCollection(), anyString(),
+                any(RedisZSetCommands.Aggregate.class), any(RedisZSetCommands.Weights.class));
+    }
+
+    @Test
+    void sync_AfterRedisFailure_ShouldRetryUnpushedScores() {
+        // Given
+        tracker = redisBackedTracker(false);
+        doThrow(new RedisConnectionFailureException("down"))
+                .doAnswer(this::pipeline)
+                .when(redisTemplate).executePipelined(any(RedisCallback.class));
+        tracker.recordView(1L);
+        tracker.recordView(1L);
+
+        // When
+        tracker.sync();
+
+        // Then - 로컬 점수로 응답
+        assertEquals(2.0, tracker.top(1).get(0).getScore(), 0.01);
+        assertTrue(increments.isEmpty());
+
+        // When
+        tracker.sync();
+
+        // Then - 실패한 증가분을 다시 보냄
+        assertEquals(1, increments.size());
+        assertEquals(2.0, tracker.top(1).get(0).getScore(), 0.01);
+    }
+
+    @Test
+    void sync_WhenEpochAdvances_ShouldRebaseUnpushedScores() throws InterruptedException {
+        // Given - 기준 시각이 320ms마다 바뀜
+        properties.setHalfLife(Duration.ofMillis(10));
+        tracker = redisBackedTracker(false);
+        AtomicInteger attempts = new AtomicInteger();
+        doAnswer(invocation -> {
+            pipeline(invocation);
+            if (attempts.getAndIncrement() == 0) {
+                throw new RedisConnectionFailureException("down");
+            }
+            return Collections.emptyList();
+        }).when(redisTemplate).executePipelined(any(RedisCallback.class));
+        tracker.recordView(1L);
+        tracker.sync();
+        long firstEpoch = tracker.epochOf(System.currentTimeMillis());
+        double firstScore = (Double) increments.get(0)[2];
+
+        // When
+        while (tracker.epochOf(System.currentTimeMillis()) == firstEpoch) {
+            Thread.sleep(10);
+        }
+        tracker.sync();
+
+        // Then - 새 키에 새 기준 시각으로 옮긴 점수를 보냄
+        Object[] retried = increments.get(1);
+        long epoch = Long.parseLong(((String) retried[0]).substring(BoardTrendingTracker.KEY_PREFIX.length()));
+        double factor = Math.pow(2, -(epoch - firstEpoch) / 10.0);
+        assertTrue(epoch > firstEpoch);
+        assertEquals("1", retried[1]);
+        assertEquals(firstScore * factor, (Double) retried[2], firstScore * factor * 1e-9);
+    }
+
+    // 첫 기동 시 seeded 키를 누가 먼저 잡았는지(first)에 따라 이전 키 합치기/DB 재구성 여부가 갈림
+    private BoardTrendingTracker redisBackedTracker(boolean first) {
+        properties.setRedisSync(true);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        lenient().when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(first);
+        lenient().when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(this::pipeline);
+        lenient().when(connection.zIncrBy(anyString(), anyDouble(), anyString())).thenAnswer(invocation -> {
+            String key = invocation.getArgument(0);
+            double increment = invocation.getArgument(1);
+            String member = invocation.getArgument(2);
+            increments.add(new Object[]{key, member, increment});
+            return sortedSets.computeIfAbsent(key, k -> new HashMap<>()).merge(member, increment, Double::sum);
+        });
+        lenient().when(zSetOperations.removeRange(anyString(), anyLong(), anyLong())).thenAnswer(invocation -> {
+            List<String> ascending = ranked(invocation.getArgument(0), false);
+            long end = invocation.getArgument(2);
+            int last = (int) (end < 0 ? ascending.size() + end : end);
+            Map<String, Double> members = sortedSets.getOrDefault(invocation.<String>getArgument(0), new HashMap<>());
+            for (int i = 0; i <= last && i < ascending.size(); i++) {
+                members.remove(ascending.get(i));
+            }
+            return (long) Math.max(0, last + 1);
+        });
+        lenient().when(zSetOperations.reverseRangeWithScores(anyString(), anyLong(), anyLong())).thenAnswer(invocation -> {
+            String key = invocation.getArgument(0);
+            long end = invocation.getArgument(2);
+            Set<ZSetOperations.TypedTuple<String>> result = new LinkedHashSet<>();
+            for (String member : ranked(key, true)) {
+                if (result.size() > end) {
+                    break;
+                }
+                result.add(new DefaultTypedTuple<>(member, sortedSets.get(key).get(member)));
+            }
+            return result;
+        });
+        return new BoardTrendingTracker(boardRepository, redisTemplate, properties, new SimpleMeterRegistry());
+    }
+
+    private Object pipeline(InvocationOnMock invocation) {
+        RedisCallback<?> callback = invocation.getArgument(0);
+        callback.doInRedis(connection);
+        return Collections.emptyList();
+    }
+
+    private List<String> ranked(String key, boolean descending) {
+        Map<String, Double> members = sortedSets.getOrDefault(key, Collections.emptyMap());
+        List<String> result = new ArrayList<>(members.keySet());
+        Comparator<String> byScore = Comparator.comparing(members::get);
+        result.sort(descending ? byScore.reversed() : byScore);
+        return result;
+    }
+}
@@ -0,0 +1,50 @@
+package com.tofumaker.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheServiceTraceTest {
+
+    @TempDir
+    Path traceDirectory;
+
+    @Test
+    void resolveTracePath_WithoutName_ShouldUseConfiguredPath() {
+        // Given
+        String configured = traceDirectory.resolve("cache-trace.log").toString();
+
+        // When
+        Path resolved = CacheService.resolveTracePath(configured, null);
+
+        // Then
+        assertEquals(traceDirectory.resolve("cache-trace.log").toAbsolutePath().normalize(), resolved);
+    }
+
+    @Test
+    void resolveTracePath_WithFileName_ShouldStayInTraceDirectory() {
+        // Given
+        String configured = traceDirectory.resolve("cache-trace.log").toString();
+
+        // When
+        Path resolved = CacheService.resolveTracePath(configured, "replay-1.log");
+
+        // Then
+        assertEquals(traceDirectory.toAbsolutePath().normalize().resolve("replay-1.log"), resolved);
+    }
+
+    @Test
+    void resolveTracePath_OutsideTraceDirectory_ShouldBeRejected() {
+        // Given
+        String configured = traceDirectory.resolve("cache-trace.log").toString();
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> CacheService.resolveTracePath(configured, "../application.yml"));
+        assertThrows(IllegalArgumentException.class, () -> CacheService.resolveTracePath(configured, "/etc/passwd"));
+        assertThrows(IllegalArgumentException.class, () -> CacheService.resolveTracePath(configured, "logs/app.log"));
+        assertThrows(IllegalArgumentException.class, () -> CacheService.resolveTracePath(configured, ".."));
+    }
+}
@@ -0,0 +1,70 @@
+package com.tofumaker.service;
+
+import com.tofumaker.cache.CacheWarmupEntry;
+import com.tofumaker.cache.CacheWarmupManifest;
+import com.tofumaker.config.CacheWarmupProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheServiceWarmupTest {
+
+    @Mock
+    private CacheWarmupManifest warmupManifest;
+
+    @Mock
+    private ApplicationContext applicationContext;
+
+    @Mock
+    private BoardService boardService;
+
+    private CacheService cacheService;
+
+    @BeforeEach
+    void setUp() {
+        cacheService = new CacheService(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cacheService, "warmupProperties", new CacheWarmupProperties());
+        ReflectionTestUtils.setField(cacheService, "warmupManifest", warmupManifest);
+        ReflectionTestUtils.setField(cacheService, "applicationContext", applicationContext);
+    }
+
+    @Test
+    void warmupCache_ShouldSkipEntriesThatAreNotCacheable() {
+        // Given
+        CacheWarmupEntry delete = entry("deleteBoard");
+        CacheWarmupEntry load = entry("getBoardById");
+        when(warmupManifest.top(anyInt())).thenReturn(Arrays.asList(delete, load));
+        when(warmupManifest.decodeArguments(eq(load), any())).thenReturn(new Object[]{1L});
+        when(applicationContext.getBean(BoardService.class)).thenReturn(boardService);
+
+        // When
+        Map<String, Object> result = cacheService.warmupCache();
+
+        // Then
+        assertEquals(1, result.get("succeeded"));
+        assertEquals(1, result.get("skipped"));
+        assertEquals(0, result.get("failed"));
+        verify(boardService).getBoardById(1L);
+        verify(boardService, never()).deleteBoard(anyLong());
+        verify(warmupManifest, never()).decodeArguments(eq(delete), any());
+    }
+
+    private static CacheWarmupEntry entry(String methodName) {
+        return new CacheWarmupEntry("api-responses", BoardService.class.getName(), methodName,
+                Collections.singletonList(Long.class.getName()), Collections.singletonList(1L));
+    }
+}
@@ -0,0 +1,99 @@
+package com.tofumaker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DecayingTopKTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    @Test
+    void add_ShouldHalveScoreEveryHalfLife() {
+        // Given
+        DecayingTopK topK = new DecayingTopK(10, HOUR, 0);
+
+        // When
+        topK.add(1L, 8, 0);
+        double score = topK.top(1).get(0).getScore();
+
+        // Then
+        assertEquals(8.0, topK.decayed(score, 0), 1e-9);
+        assertEquals(4.0, topK.decayed(score, HOUR), 1e-9);
+        assertEquals(1.0, topK.decayed(score, 3 * HOUR), 1e-9);
+    }
+
+    @Test
+    void top_ShouldRankRecentEventsAboveOlderLargerOnes() {
+        // Given
+        DecayingTopK topK = new DecayingTopK(10, HOUR, 0);
+        topK.add(1L, 10, 0);
+        topK.add(2L, 3, 2 * HOUR);
+        topK.add(3L, 1, 2 * HOUR);
+
+        // When
+        List<DecayingTopK.Entry> top = topK.top(2);
+
+        // Then - 두 반감기 전 10 = 지금 2.5
+        assertEquals(2, top.size());
+        assertEquals(2L, top.get(0).getId());
+        assertEquals(1L, top.get(1).getId());
+        assertEquals(2.5, topK.decayed(top.get(1).getScore(), 2 * HOUR), 1e-9);
+    }
+
+    @Test
+    void addScaled_OverCapacity_ShouldKeepHighestScores() {
+        // Given
+        DecayingTopK topK = new DecayingTopK(3, HOUR, 0);
+
+        // When
+        for (long id = 1; id <= 7; id++) {
+            topK.addScaled(id, id);
+        }
+
+        // Then
+        assertTrue(topK.size() <= 6);
+        List<DecayingTopK.Entry> top = topK.top(3);
+        assertEquals(7L, top.get(0).getId());
+        assertEquals(6L, top.get(1).getId());
+        assertEquals(5L, top.get(2).getId());
+    }
+
+    @Test
+    void rebase_ShouldKeepDecayedScoresAndOrder() {
+        // Given
+        DecayingTopK topK = new DecayingTopK(10, HOUR, 0);
+        topK.add(1L, 4, HOUR);
+        topK.add(2L, 2, HOUR);
+
+        // When
+        topK.rebase(2 * HOUR);
+        List<DecayingTopK.Entry> top = topK.top(2);
+
+        // Then
+        assertEquals(2 * HOUR, topK.getEpoch());
+        assertEquals(1L, top.get(0).getId());
+        assertEquals(2.0, topK.decayed(top.get(0).getScore(), 2 * HOUR), 1e-9);
+        assertEquals(1.0, topK.decayed(top.get(1).getScore(), 2 * HOUR), 1e-9);
+    }
+
+    @Test
+    void replaceAll_ShouldDropEntriesMissingFromMergedScores() {
+        // Given
+        DecayingTopK topK = new DecayingTopK(10, HOUR, 0);
+        topK.addScaled(1L, 5);
+        Map<Long, Double> merged = new HashMap<>();
+        merged.put(2L, 9.0);
+
+        // When
+        topK.replaceAll(merged);
+
+        // Then
+        assertEquals(1, topK.size());
+        assertEquals(2L, topK.top(5).get(0).getId());
+    }
+}
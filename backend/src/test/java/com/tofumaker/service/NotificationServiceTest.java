@@ -75,7 +75,7 @@ class NotificationServiceTest {
         
         verify(notificationRepository).save(testNotification);
         verify(messagingTemplate, times(2)).convertAndSendToUser(anyString(), anyString(), any());
-        verify(messagingTemplate).convertAndSend(anyString(), any());
+        verify(messagingTemplate).convertAndSend(anyString(), (Object) any());
     }
 
     @Test
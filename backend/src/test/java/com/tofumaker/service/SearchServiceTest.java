@@ -55,7 +55,7 @@ class SearchServiceTest {
         testBoard.setAuthor("테스트 작성자");
         testBoard.setCreatedAt(LocalDateTime.now());
         testBoard.setUpdatedAt(LocalDateTime.now());
-        testBoard.setViewCount(10);
+        testBoard.setViewCount(10L);
         testBoard.setActive(true);
 
         // Test BoardDocument 생성
@@ -0,0 +1,30 @@
+package com.example.boardstack.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 게시글 조회수 지연 반영(write-behind) 설정 Properties
+ */
+@Component
+@ConfigurationProperties(prefix = "board.view-count")
+@Getter
+@Setter
+public class ViewCountProperties {
+
+    // 모아 둔 조회수를 DB에 반영하는 주기 (장애 시 잃을 수 있는 최대 시간)
+    private Duration flushInterval = Duration.ofSeconds(5);
+
+    // 반영 전 쌓인 조회수가 이 값을 넘으면 주기를 기다리지 않고 바로 반영 (장애 시 잃을 수 있는 최대 조회수)
+    private long maxPendingViews = 10000;
+
+    // UPDATE 한 문장에 담을 게시글 수
+    private int batchSize = 500;
+
+    // 반영 트랜잭션 제한 시간 (넘으면 롤백하고 다음 주기에 재시도)
+    private Duration flushTimeout = Duration.ofSeconds(10);
+}
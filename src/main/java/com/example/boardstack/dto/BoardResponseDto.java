@@ -19,6 +19,7 @@ public class BoardResponseDto {
     private Long id;
     private String title;
     private String content;
+    private String contentPreview;
     private String writer;
     private Long viewCount;
     private LocalDateTime createdAt;
@@ -37,15 +38,16 @@ public class BoardResponseDto {
                 .build();
     }
 
-    // 목록용 DTO (내용 제외)
-    public static BoardResponseDto fromForList(Board board) {
+    // 목록용 DTO (프로젝션 - 내용 대신 미리보기)
+    public static BoardResponseDto fromSummary(BoardSummary summary) {
         return BoardResponseDto.builder()
-                .id(board.getId())
-                .title(board.getTitle())
-                .writer(board.getWriter())
-                .viewCount(board.getViewCount())
-                .createdAt(board.getCreatedAt())
-                .updatedAt(board.getUpdatedAt())
+                .id(summary.getId())
+                .title(summary.getTitle())
+                .contentPreview(summary.getContentPreview())
+                .writer(summary.getWriter())
+                .viewCount(summary.getViewCount())
+                .createdAt(summary.getCreatedAt())
+                .updatedAt(summary.getUpdatedAt())
                 .build();
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,23 @@
+package com.example.boardstack.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 프로젝션 (본문 대신 앞부분 미리보기만 조회)
+ */
+public interface BoardSummary {
+
+    Long getId();
+
+    String getTitle();
+
+    String getWriter();
+
+    Long getViewCount();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    String getContentPreview();
+}
@@ -30,15 +30,11 @@ public class Board extends BaseEntity {
     @Column(name = "writer", nullable = false, length = 50)
     private String writer;
 
-    @Column(name = "view_count", nullable = false)
+    // 조회수는 ViewCountBuffer가 SQL로 더해 반영 - 엔티티 수정 시 덮어쓰지 않도록 UPDATE에서 제외
+    @Column(name = "view_count", nullable = false, updatable = false)
     @Builder.Default
     private Long viewCount = 0L;
 
-    // 조회수 증가 메서드
-    public void increaseViewCount() {
-        this.viewCount++;
-    }
-
     // 게시글 수정 메서드
     public void update(String title, String content) {
         this.title = title;
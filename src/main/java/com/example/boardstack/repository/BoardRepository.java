@@ -1,6 +1,8 @@
 package com.example.boardstack.repository;
 
+import com.example.boardstack.dto.BoardSummary;
 import com.example.boardstack.entity.Board;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,19 +13,34 @@ import java.util.List;
 @Repository
 public interface BoardRepository extends JpaRepository<Board, Long> {
 
-    // 제목으로 검색
-    List<Board> findByTitleContaining(String title);
+    // 목록 미리보기 길이 (글자 수)
+    int PREVIEW_LENGTH = 100;
 
-    // 작성자로 검색
-    List<Board> findByWriter(String writer);
+    // 목록 조회용 컬럼 (본문은 DB에서 앞부분만 잘라 읽음)
+    String SUMMARY_SELECT = "SELECT b.id AS id, b.title AS title, b.writer AS writer, b.viewCount AS viewCount, " +
+            "b.createdAt AS createdAt, b.updatedAt AS updatedAt, SUBSTRING(b.content, 1, " + PREVIEW_LENGTH + ") AS contentPreview FROM Board b";
 
-    // 제목 또는 내용으로 검색
-    @Query("SELECT b FROM Board b WHERE b.title LIKE %:keyword% OR b.content LIKE %:keyword%")
-    List<Board> findByTitleOrContentContaining(@Param("keyword") String keyword);
+    // 전체 게시글 목록 (프로젝션)
+    @Query(SUMMARY_SELECT)
+    List<BoardSummary> findAllSummaries();
 
-    // 조회수 기준 상위 게시글 조회
-    List<Board> findTop10ByOrderByViewCountDesc();
+    // 제목으로 검색 (프로젝션) - 검색어의 %, _는 문자 그대로 비교
+    @Query(SUMMARY_SELECT + " WHERE b.title LIKE %:#{escape(#title)}% ESCAPE :#{escapeCharacter()}")
+    List<BoardSummary> findSummariesByTitleContaining(@Param("title") String title);
 
-    // 최신 게시글 조회
-    List<Board> findTop10ByOrderByCreatedAtDesc();
-} 
\ No newline at end of file
+    // 작성자로 검색 (프로젝션)
+    @Query(SUMMARY_SELECT + " WHERE b.writer = :writer")
+    List<BoardSummary> findSummariesByWriter(@Param("writer") String writer);
+
+    // 제목 또는 내용으로 검색 (프로젝션)
+    @Query(SUMMARY_SELECT + " WHERE b.title LIKE %:keyword% OR b.content LIKE %:keyword%")
+    List<BoardSummary> findSummariesByTitleOrContentContaining(@Param("keyword") String keyword);
+
+    // 조회수 기준 상위 게시글 (프로젝션, 개수는 Pageable)
+    @Query(SUMMARY_SELECT + " ORDER BY b.viewCount DESC")
+    List<BoardSummary> findPopularSummaries(Pageable pageable);
+
+    // 최신 게시글 (프로젝션, 개수는 Pageable)
+    @Query(SUMMARY_SELECT + " ORDER BY b.createdAt DESC")
+    List<BoardSummary> findRecentSummaries(Pageable pageable);
+}
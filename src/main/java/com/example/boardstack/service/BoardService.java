@@ -6,6 +6,7 @@ import com.example.boardstack.entity.Board;
 import com.example.boardstack.repository.BoardRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +20,7 @@ import java.util.stream.Collectors;
 public class BoardService {
 
     private final BoardRepository boardRepository;
+    private final ViewCountBuffer viewCountBuffer;
 
     /**
      * 게시글 등록
@@ -35,31 +37,32 @@ public class BoardService {
     }
 
     /**
-     * 전체 게시글 목록 조회
+     * 전체 게시글 목록 조회 (목록 컬럼만 조회 - 본문은 미리보기만)
      */
     public List<BoardResponseDto> getAllBoards() {
         log.info("전체 게시글 목록 조회");
         
-        return boardRepository.findAll()
+        return boardRepository.findAllSummaries()
                 .stream()
-                .map(BoardResponseDto::fromForList)
+                .map(BoardResponseDto::fromSummary)
+                .map(this::withPendingViews)
                 .collect(Collectors.toList());
     }
 
     /**
      * 게시글 상세 조회 (조회수 증가)
+     * 조회수는 ViewCountBuffer에 모았다가 주기적으로 반영하므로 읽기 전용 트랜잭션으로 처리한다.
      */
-    @Transactional
     public BoardResponseDto getBoardById(Long id) {
         log.info("게시글 상세 조회: ID={}", id);
         
         Board board = boardRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다. ID: " + id));
         
-        // 조회수 증가
-        board.increaseViewCount();
+        // 조회수 증가 (지연 반영)
+        viewCountBuffer.increment(id);
         
-        return BoardResponseDto.from(board);
+        return withPendingViews(BoardResponseDto.from(board));
     }
 
     /**
@@ -76,7 +79,7 @@ public class BoardService {
         board.update(requestDto.getTitle(), requestDto.getContent());
         
         log.info("게시글 수정 완료: ID={}", id);
-        return BoardResponseDto.from(board);
+        return withPendingViews(BoardResponseDto.from(board));
     }
 
     /**
@@ -99,9 +102,10 @@ public class BoardService {
     public List<BoardResponseDto> searchByTitle(String title) {
         log.info("제목으로 게시글 검색: {}", title);
         
-        return boardRepository.findByTitleContaining(title)
+        return boardRepository.findSummariesByTitleContaining(title)
                 .stream()
-                .map(BoardResponseDto::fromForList)
+                .map(BoardResponseDto::fromSummary)
+                .map(this::withPendingViews)
                 .collect(Collectors.toList());
     }
 
@@ -111,9 +115,10 @@ public class BoardService {
     public List<BoardResponseDto> searchByWriter(String writer) {
         log.info("작성자로 게시글 검색: {}", writer);
         
-        return boardRepository.findByWriter(writer)
+        return boardRepository.findSummariesByWriter(writer)
                 .stream()
-                .map(BoardResponseDto::fromForList)
+                .map(BoardResponseDto::fromSummary)
+                .map(this::withPendingViews)
                 .collect(Collectors.toList());
     }
 
@@ -123,9 +128,10 @@ public class BoardService {
     public List<BoardResponseDto> searchByKeyword(String keyword) {
         log.info("키워드로 게시글 검색: {}", keyword);
         
-        return boardRepository.findByTitleOrContentContaining(keyword)
+        return boardRepository.findSummariesByTitleOrContentContaining(keyword)
                 .stream()
-                .map(BoardResponseDto::fromForList)
+                .map(BoardResponseDto::fromSummary)
+                .map(this::withPendingViews)
                 .collect(Collectors.toList());
     }
 
@@ -135,9 +141,10 @@ public class BoardService {
     public List<BoardResponseDto> getPopularBoards() {
         log.info("인기 게시글 조회");
         
-        return boardRepository.findTop10ByOrderByViewCountDesc()
+        return boardRepository.findPopularSummaries(PageRequest.of(0, 10))
                 .stream()
-                .map(BoardResponseDto::fromForList)
+                .map(BoardResponseDto::fromSummary)
+                .map(this::withPendingViews)
                 .collect(Collectors.toList());
     }
 
@@ -147,9 +154,18 @@ public class BoardService {
     public List<BoardResponseDto> getRecentBoards() {
         log.info("최신 게시글 조회");
         
-        return boardRepository.findTop10ByOrderByCreatedAtDesc()
+        return boardRepository.findRecentSummaries(PageRequest.of(0, 10))
                 .stream()
-                .map(BoardResponseDto::fromForList)
+                .map(BoardResponseDto::fromSummary)
+                .map(this::withPendingViews)
                 .collect(Collectors.toList());
     }
-} 
\ No newline at end of file
+
+    /**
+     * 표시 조회수 = 저장된 조회수 + 아직 반영되지 않은 조회수
+     */
+    private BoardResponseDto withPendingViews(BoardResponseDto dto) {
+        dto.setViewCount(dto.getViewCount() + viewCountBuffer.pendingDelta(dto.getId()));
+        return dto;
+    }
+}
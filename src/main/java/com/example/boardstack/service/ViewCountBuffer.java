@@ -0,0 +1,267 @@
+package com.example.boardstack.service;
+
+import com.example.boardstack.config.ViewCountProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 조회수 지연 반영 (write-behind)
+ *
+ * 조회마다 UPDATE 하지 않고 게시글별 LongAdder에 모았다가 주기적으로(또는 쌓인 조회수가 많으면 바로)
+ * 한 번의 UPDATE ... FROM (VALUES ...)로 반영한다. 반영 전 조회수는 프로세스가 비정상 종료되면 잃는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ViewCountBuffer {
+
+    // PostgreSQL - 여러 게시글의 증가분을 한 문장으로 반영
+    private static final String VALUES_UPDATE_PREFIX =
+            "UPDATE board AS b SET view_count = b.view_count + v.delta FROM (VALUES ";
+    private static final String VALUES_UPDATE_SUFFIX = ") AS v(id, delta) WHERE b.id = v.id";
+
+    // 그 외 DB (H2 등) - 행 단위 JDBC 배치
+    private static final String ROW_UPDATE = "UPDATE board SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ViewCountProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // 증가는 읽기 잠금(공유), 반영할 맵 교체만 쓰기 잠금 - 교체 후에는 이전 맵에 더하는 스레드가 없다
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // DB에 쓰는 중인 증가분 (커밋 전까지 표시 조회수에 포함)
+    private volatile Map<Long, Long> flushing = Collections.emptyMap();
+
+    private final AtomicLong pendingViews = new AtomicLong();
+    // 반영되지 않은 가장 오래된 조회 시각 (없으면 0)
+    private final AtomicLong oldestPendingAt = new AtomicLong();
+    private final AtomicBoolean flushQueued = new AtomicBoolean();
+    private final Object flushLock = new Object();
+
+    private ScheduledExecutorService scheduler;
+    private TransactionTemplate transactionTemplate;
+    private boolean valuesUpdateSupported;
+
+    private Timer flushTimer;
+    private Timer flushLagTimer;
+    private Counter flushedViewsCounter;
+    private Counter flushFailureCounter;
+
+    @PostConstruct
+    void start() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setTimeout((int) Math.max(1, properties.getFlushTimeout().getSeconds()));
+        valuesUpdateSupported = isPostgres();
+
+        flushTimer = Timer.builder("board_view_count_flush_duration_seconds")
+                .description("Time spent writing buffered view counts to the database")
+                .register(meterRegistry);
+        flushLagTimer = Timer.builder("board_view_count_flush_lag_seconds")
+                .description("Age of the oldest buffered view at flush (views lost on crash)")
+                .register(meterRegistry);
+        flushedViewsCounter = Counter.builder("board_view_count_flushed_total")
+                .description("Views written to the database")
+                .register(meterRegistry);
+        flushFailureCounter = Counter.builder("board_view_count_flush_failures_total")
+                .description("Failed view count flushes (views are kept for the next flush)")
+                .register(meterRegistry);
+        Gauge.builder("board_view_count_pending", pendingViews, AtomicLong::get)
+                .description("Buffered views not yet written")
+                .register(meterRegistry);
+        Gauge.builder("board_view_count_pending_boards", this, buffer -> buffer.pending.size())
+                .description("Boards with buffered views")
+                .register(meterRegistry);
+        Gauge.builder("board_view_count_pending_age_seconds", this, ViewCountBuffer::pendingAgeSeconds)
+                .description("Age of the oldest buffered view")
+                .register(meterRegistry);
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "view-count-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getFlushInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("조회수 지연 반영 시작: 주기={}ms, 최대 대기 조회수={}, UPDATE 방식={}",
+                interval, properties.getMaxPendingViews(), valuesUpdateSupported ? "VALUES" : "batch");
+    }
+
+    /**
+     * 정상 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    void stop() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    /**
+     * 조회수 1 증가 (DB에는 다음 반영 때 기록)
+     */
+    public void increment(Long boardId) {
+        long buffered;
+        Lock lock = swapLock.readLock();
+        lock.lock();
+        try {
+            pending.computeIfAbsent(boardId, id -> new LongAdder()).increment();
+            oldestPendingAt.compareAndSet(0, System.currentTimeMillis());
+            buffered = pendingViews.incrementAndGet();
+        } finally {
+            lock.unlock();
+        }
+        if (buffered >= properties.getMaxPendingViews() && !scheduler.isShutdown()
+                && flushQueued.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                // 종료 중 - 남은 조회수는 stop()의 마지막 반영이 처리
+                flushQueued.set(false);
+            }
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 (표시 조회수 = 저장된 값 + 이 값)
+     */
+    public long pendingDelta(Long boardId) {
+        LongAdder buffered = pending.get(boardId);
+        Long inFlight = flushing.get(boardId);
+        return (buffered != null ? buffered.sum() : 0) + (inFlight != null ? inFlight : 0);
+    }
+
+    /**
+     * 모은 조회수를 DB에 반영 - 실패하면 다음 반영 때 다시 시도
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            flushQueued.set(false);
+            // 게시글 ID 순으로 갱신해 여러 노드가 동시에 반영해도 행 잠금 순서가 같게 함
+            Map<Long, Long> deltas = new TreeMap<>();
+            long oldest;
+            long views = 0;
+            Lock lock = swapLock.writeLock();
+            lock.lock();
+            try {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+                    long delta = entry.getValue().sum();
+                    deltas.put(entry.getKey(), delta);
+                    views += delta;
+                }
+                pending = new ConcurrentHashMap<>();
+                flushing = deltas;
+                pendingViews.set(0);
+                oldest = oldestPendingAt.getAndSet(0);
+            } finally {
+                lock.unlock();
+            }
+
+            long started = System.nanoTime();
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(deltas));
+                flushedViewsCounter.increment(views);
+                flushLagTimer.record(System.currentTimeMillis() - oldest, TimeUnit.MILLISECONDS);
+                log.debug("조회수 반영 완료: 게시글 {}개, 조회수 {}", deltas.size(), views);
+            } catch (RuntimeException e) {
+                flushFailureCounter.increment();
+                log.warn("조회수 반영 실패 (다음 주기에 재시도): 게시글 {}개, 조회수 {} - {}", deltas.size(), views, e.getMessage());
+                requeue(deltas, views, oldest);
+            } finally {
+                flushing = Collections.emptyMap();
+                flushTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private void write(Map<Long, Long> deltas) {
+        if (!valuesUpdateSupported) {
+            List<Object[]> rows = new ArrayList<>(deltas.size());
+            for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+                rows.add(new Object[]{entry.getValue(), entry.getKey()});
+            }
+            jdbcTemplate.batchUpdate(ROW_UPDATE, rows);
+            return;
+        }
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+        int batchSize = Math.max(1, properties.getBatchSize());
+        for (int from = 0; from < entries.size(); from += batchSize) {
+            List<Map.Entry<Long, Long>> chunk = entries.subList(from, Math.min(from + batchSize, entries.size()));
+            StringBuilder sql = new StringBuilder(VALUES_UPDATE_PREFIX);
+            Object[] args = new Object[chunk.size() * 2];
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "(?, ?)" : ", (?, ?)");
+                args[i * 2] = chunk.get(i).getKey();
+                args[i * 2 + 1] = chunk.get(i).getValue();
+            }
+            jdbcTemplate.update(sql.append(VALUES_UPDATE_SUFFIX).toString(), args);
+        }
+    }
+
+    private void requeue(Map<Long, Long> deltas, long views, long oldest) {
+        Lock lock = swapLock.readLock();
+        lock.lock();
+        try {
+            for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+                pending.computeIfAbsent(entry.getKey(), id -> new LongAdder()).add(entry.getValue());
+            }
+            pendingViews.addAndGet(views);
+            oldestPendingAt.accumulateAndGet(oldest, (current, previous) -> current == 0 ? previous : Math.min(current, previous));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isPostgres() {
+        try {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            return "PostgreSQL".equalsIgnoreCase(product);
+        } catch (RuntimeException e) {
+            log.warn("DB 종류 확인 실패, 행 단위 배치로 반영: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private double pendingAgeSeconds() {
+        long oldest = oldestPendingAt.get();
+        return oldest == 0 ? 0 : (System.currentTimeMillis() - oldest) / 1000.0;
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.boardstack.integration;
+
+import com.example.boardstack.dto.BoardSummary;
+import com.example.boardstack.entity.Board;
+import com.example.boardstack.repository.BoardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(BoardSummaryQueryIntegrationTest.TestJpaConfig.class)
+public class BoardSummaryQueryIntegrationTest {
+
+    @TestConfiguration
+    @EnableJpaAuditing
+    static class TestJpaConfig {
+    }
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @BeforeEach
+    void setUp() {
+        boardRepository.deleteAll();
+    }
+
+    @Test
+    void testSummaryProjectionTruncatesContent() {
+        // Given
+        Board saved = save("긴 글", "writer1", "가".repeat(BoardRepository.PREVIEW_LENGTH + 50), 3L);
+
+        // When
+        List<BoardSummary> summaries = boardRepository.findAllSummaries();
+
+        // Then
+        assertThat(summaries).hasSize(1);
+        BoardSummary summary = summaries.get(0);
+        assertThat(summary.getId()).isEqualTo(saved.getId());
+        assertThat(summary.getTitle()).isEqualTo("긴 글");
+        assertThat(summary.getWriter()).isEqualTo("writer1");
+        assertThat(summary.getViewCount()).isEqualTo(3L);
+        assertThat(summary.getCreatedAt()).isNotNull();
+        assertThat(summary.getUpdatedAt()).isNotNull();
+        assertThat(summary.getContentPreview()).hasSize(BoardRepository.PREVIEW_LENGTH);
+    }
+
+    @Test
+    void testTitleSearchTreatsWildcardsLiterally() {
+        // Given
+        save("100% 환불", "writer1", "내용", 0L);
+        save("snake_case 정리", "writer2", "내용", 0L);
+        save("일반 글", "writer3", "내용", 0L);
+
+        // When & Then
+        assertThat(boardRepository.findSummariesByTitleContaining("%"))
+                .extracting(BoardSummary::getTitle).containsExactly("100% 환불");
+        assertThat(boardRepository.findSummariesByTitleContaining("_"))
+                .extracting(BoardSummary::getTitle).containsExactly("snake_case 정리");
+        assertThat(boardRepository.findSummariesByTitleContaining("글")).hasSize(1);
+    }
+
+    @Test
+    void testWriterAndKeywordSearch() {
+        // Given
+        save("공지", "admin", "캐시 설정 안내", 0L);
+        save("캐시 질문", "user1", "내용", 0L);
+
+        // When & Then
+        assertThat(boardRepository.findSummariesByWriter("admin")).hasSize(1);
+        assertThat(boardRepository.findSummariesByTitleOrContentContaining("캐시")).hasSize(2);
+    }
+
+    @Test
+    void testPopularAndRecentSummariesAreLimitedByPageable() {
+        // Given
+        save("조회 적음", "writer1", "내용", 1L);
+        save("조회 많음", "writer1", "내용", 50L);
+        save("조회 중간", "writer1", "내용", 10L);
+
+        // When
+        List<BoardSummary> popular = boardRepository.findPopularSummaries(PageRequest.of(0, 2));
+        List<BoardSummary> recent = boardRepository.findRecentSummaries(PageRequest.of(0, 2));
+
+        // Then
+        assertThat(popular).extracting(BoardSummary::getTitle).containsExactly("조회 많음", "조회 중간");
+        assertThat(recent).hasSize(2);
+    }
+
+    private Board save(String title, String writer, String content, Long viewCount) {
+        return boardRepository.save(Board.builder()
+                .title(title)
+                .content(content)
+                .writer(writer)
+                .viewCount(viewCount)
+                .build());
+    }
+}
@@ -8,11 +8,17 @@ import com.example.boardstack.repository.UserRepository;
 import com.example.boardstack.repository.RoleRepository;
 import com.example.boardstack.repository.PermissionRepository;
 import com.example.boardstack.repository.BoardRepository;
+import com.example.boardstack.config.ViewCountProperties;
+import com.example.boardstack.service.ViewCountBuffer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.test.context.ActiveProfiles;
@@ -26,12 +32,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DataJpaTest
 @ActiveProfiles("test")
 @Transactional
-@Import(DatabaseIntegrationTest.TestJpaConfig.class)
+@Import({DatabaseIntegrationTest.TestJpaConfig.class, ViewCountBuffer.class, ViewCountProperties.class})
 public class DatabaseIntegrationTest {
 
     @TestConfiguration
     @EnableJpaAuditing
     static class TestJpaConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
     }
 
     @Autowired
@@ -46,6 +57,12 @@ public class DatabaseIntegrationTest {
     @Autowired
     private BoardRepository boardRepository;
 
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
     @BeforeEach
     void setUp() {
         // 테스트 데이터 초기화
@@ -158,10 +175,15 @@ public class DatabaseIntegrationTest {
         assertThat(savedBoard.getCreatedAt()).isNotNull();
         assertThat(savedBoard.getUpdatedAt()).isNotNull();
         
-        // 조회수 증가 테스트
-        savedBoard.increaseViewCount();
-        Board updatedBoard = boardRepository.save(savedBoard);
+        // 조회수 증가 테스트 - 버퍼에 모은 뒤 반영하고 DB에서 다시 읽음
+        entityManager.flush();
+        viewCountBuffer.increment(savedBoard.getId());
+        assertThat(viewCountBuffer.pendingDelta(savedBoard.getId())).isEqualTo(1L);
+        viewCountBuffer.flush();
+        entityManager.clear();
+        Board updatedBoard = boardRepository.findById(savedBoard.getId()).orElseThrow();
         assertThat(updatedBoard.getViewCount()).isEqualTo(1L);
+        assertThat(viewCountBuffer.pendingDelta(savedBoard.getId())).isZero();
         
         // 게시글 수정 테스트
         savedBoard.update("수정된 제목", "수정된 내용");
@@ -0,0 +1,204 @@
+package com.example.boardstack.service;
+
+import com.example.boardstack.config.ViewCountProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * ViewCountBuffer 테스트 - H2 메모리 DB에 행 단위 배치로 반영
+ */
+class ViewCountBufferTest {
+
+    private EmbeddedDatabase dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private ViewCountProperties properties;
+    private ViewCountBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE board (id BIGINT PRIMARY KEY, view_count BIGINT NOT NULL)");
+        jdbcTemplate.update("INSERT INTO board (id, view_count) VALUES (1, 10), (2, 0)");
+
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new ViewCountProperties();
+        // 주기 반영이 테스트 중에 끼어들지 않도록 길게
+        properties.setFlushInterval(Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (buffer != null) {
+            buffer.stop();
+        }
+        dataSource.shutdown();
+    }
+
+    @Test
+    void flush_ShouldWriteSummedDeltas() {
+        // Given
+        buffer = startBuffer(jdbcTemplate);
+        buffer.increment(1L);
+        buffer.increment(1L);
+        buffer.increment(1L);
+        buffer.increment(2L);
+
+        // When
+        buffer.flush();
+
+        // Then
+        assertThat(viewCount(1L)).isEqualTo(13L);
+        assertThat(viewCount(2L)).isEqualTo(1L);
+        assertThat(buffer.pendingDelta(1L)).isZero();
+        assertThat(meterRegistry.get("board_view_count_flushed_total").counter().count()).isEqualTo(4.0);
+    }
+
+    @Test
+    void flush_WhenWriteFails_ShouldRequeueAndWriteOnNextFlush() {
+        // Given
+        buffer = startBuffer(jdbcTemplate);
+        buffer.increment(1L);
+        buffer.increment(1L);
+        jdbcTemplate.execute("ALTER TABLE board RENAME TO board_moved");
+
+        // When
+        buffer.flush();
+
+        // Then
+        assertThat(buffer.pendingDelta(1L)).isEqualTo(2L);
+        assertThat(meterRegistry.get("board_view_count_flush_failures_total").counter().count()).isEqualTo(1.0);
+
+        // When
+        jdbcTemplate.execute("ALTER TABLE board_moved RENAME TO board");
+        buffer.increment(1L);
+        buffer.flush();
+
+        // Then
+        assertThat(viewCount(1L)).isEqualTo(13L);
+        assertThat(buffer.pendingDelta(1L)).isZero();
+    }
+
+    @Test
+    void increment_WhenMaxPendingViewsReached_ShouldFlushEarly() throws InterruptedException {
+        // Given
+        properties.setMaxPendingViews(3);
+        buffer = startBuffer(jdbcTemplate);
+
+        // When
+        buffer.increment(2L);
+        buffer.increment(2L);
+        buffer.increment(2L);
+
+        // Then
+        long deadline = System.currentTimeMillis() + 5000;
+        while (viewCount(2L) < 3L && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(viewCount(2L)).isEqualTo(3L);
+    }
+
+    @Test
+    void pendingDelta_ShouldIncludeInFlightDeltasDuringFlush() throws Exception {
+        // Given
+        BlockingJdbcTemplate blocking = new BlockingJdbcTemplate(dataSource);
+        buffer = startBuffer(blocking);
+        buffer.increment(1L);
+        buffer.increment(1L);
+
+        // When
+        CompletableFuture<Void> flush = CompletableFuture.runAsync(buffer::flush);
+        assertThat(blocking.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        buffer.increment(1L);
+
+        // Then - 쓰는 중인 2 + 새로 모은 1
+        assertThat(buffer.pendingDelta(1L)).isEqualTo(3L);
+
+        blocking.release.countDown();
+        flush.get(5, TimeUnit.SECONDS);
+        assertThat(viewCount(1L)).isEqualTo(12L);
+        assertThat(buffer.pendingDelta(1L)).isEqualTo(1L);
+    }
+
+    @Test
+    void stop_ShouldFlushRemainingViews() {
+        // Given
+        buffer = startBuffer(jdbcTemplate);
+        buffer.increment(2L);
+        buffer.increment(2L);
+
+        // When
+        buffer.stop();
+
+        // Then
+        assertThat(viewCount(2L)).isEqualTo(2L);
+    }
+
+    @Test
+    void increment_AfterStop_ShouldNotRejectEarlyFlush() {
+        // Given
+        properties.setMaxPendingViews(1);
+        buffer = startBuffer(jdbcTemplate);
+        buffer.stop();
+
+        // When & Then
+        assertThatCode(() -> {
+            buffer.increment(1L);
+            buffer.increment(1L);
+        }).doesNotThrowAnyException();
+        assertThat(buffer.pendingDelta(1L)).isEqualTo(2L);
+    }
+
+    private ViewCountBuffer startBuffer(JdbcTemplate template) {
+        ViewCountBuffer started = new ViewCountBuffer(
+                template, new DataSourceTransactionManager(dataSource), properties, meterRegistry);
+        started.start();
+        return started;
+    }
+
+    private long viewCount(Long boardId) {
+        return jdbcTemplate.queryForObject("SELECT view_count FROM board WHERE id = ?", Long.class, boardId);
+    }
+
+    // 배치 UPDATE 직전에 멈춰 반영 중 상태를 만든다
+    private static class BlockingJdbcTemplate extends JdbcTemplate {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        BlockingJdbcTemplate(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.batchUpdate(sql, batchArgs);
+        }
+    }
+}